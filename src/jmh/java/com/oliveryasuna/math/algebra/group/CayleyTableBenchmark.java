@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group;
+
+import com.oliveryasuna.math.algebra.group.concrete.integers.IntegersModuloNAdditiveGroup;
+import com.oliveryasuna.math.algebra.group.concrete.integers.IntegersModuloNAdditiveGroupElement;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares products looked up in a compiled Cayley table against products computed by the group's operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CayleyTableBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int OPERAND_COUNT = 1 << 10;
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"256", "4096"})
+  public int order;
+
+  private IntegersModuloNAdditiveGroup group;
+
+  private CayleyTable<IntegersModuloNAdditiveGroupElement> table;
+
+  private IntegersModuloNAdditiveGroupElement[] operands;
+
+  private IntegersModuloNAdditiveGroupElement[] results;
+
+  private int[] indices;
+
+  private int[] resultIndices;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(order);
+
+    group = new IntegersModuloNAdditiveGroup(BigInteger.valueOf(order));
+    table = CayleyTable.compile(group);
+
+    operands = new IntegersModuloNAdditiveGroupElement[OPERAND_COUNT];
+    results = new IntegersModuloNAdditiveGroupElement[OPERAND_COUNT];
+    indices = new int[OPERAND_COUNT];
+    resultIndices = new int[OPERAND_COUNT];
+
+    for(int i = 0; i < OPERAND_COUNT; i++) {
+      indices[i] = random.nextInt(order);
+      operands[i] = table.element(indices[i]);
+    }
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public IntegersModuloNAdditiveGroupElement[] operation() {
+    group.operation().performAllRight(operands, operands[0], results);
+
+    return results;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public int[] table() {
+    final int multiplicand = indices[0];
+
+    for(int i = 0; i < OPERAND_COUNT; i++) {
+      resultIndices[i] = table.perform(indices[i], multiplicand);
+    }
+
+    return resultIndices;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public int[] tableBulk() {
+    table.performAll(indices, indices, resultIndices);
+
+    return resultIndices;
+  }
+
+  @Benchmark
+  public CayleyTable<IntegersModuloNAdditiveGroupElement> compile() {
+    return CayleyTable.compile(group, CayleyTable.DEFAULT_MAXIMUM_ORDER, ForkJoinPool.commonPool());
+  }
+
+}
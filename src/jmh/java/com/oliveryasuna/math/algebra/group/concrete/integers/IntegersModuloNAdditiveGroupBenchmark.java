@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.concrete.integers;
+
+import com.oliveryasuna.math.benchmark.OperandDistribution;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntegersModuloNAdditiveGroupBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int OPERAND_COUNT = 1 << 10;
+
+  private static final int OPERAND_MASK = OPERAND_COUNT - 1;
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"64", "256", "1024", "2048", "4096", "8192"})
+  public int bits;
+
+  @Param({"UNIFORM", "SMALL", "NEAR_BOUND"})
+  public OperandDistribution distribution;
+
+  private IntegersModuloNAdditiveGroup group;
+
+  private IntegersModuloNAdditiveGroupElement[] operands;
+
+  private IntegersModuloNAdditiveGroupElement[] results;
+
+  private int index;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(bits);
+
+    group = new IntegersModuloNAdditiveGroup(OperandDistribution.bound(bits, random));
+
+    final BigInteger[] values = distribution.next(group.getN(), OPERAND_COUNT, random);
+
+    operands = new IntegersModuloNAdditiveGroupElement[OPERAND_COUNT];
+    results = new IntegersModuloNAdditiveGroupElement[OPERAND_COUNT];
+
+    for(int i = 0; i < OPERAND_COUNT; i++) {
+      operands[i] = group.getElement(values[i]);
+    }
+  }
+
+  private IntegersModuloNAdditiveGroupElement next() {
+    return operands[index++ & OPERAND_MASK];
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  // Operation
+  //
+
+  @Benchmark
+  public IntegersModuloNAdditiveGroupElement perform() {
+    return group.operation().perform(next(), next());
+  }
+
+  @Benchmark
+  public IntegersModuloNAdditiveGroupElement inverse() {
+    return group.operation().inverse(next());
+  }
+
+  // Element
+  //
+
+  @Benchmark
+  public IntegersModuloNAdditiveGroupElement operate() {
+    return next().operate(next());
+  }
+
+  @Benchmark
+  public IntegersModuloNAdditiveGroupElement add() {
+    return next().add(next());
+  }
+
+  @Benchmark
+  public IntegersModuloNAdditiveGroupElement elementInverse() {
+    return next().inverse();
+  }
+
+  @Benchmark
+  public boolean isIdentity() {
+    return next().isIdentity();
+  }
+
+  // Structure
+  //
+
+  @Benchmark
+  public IntegersModuloNAdditiveGroupElement getElement() {
+    return group.getElement(next().getValue());
+  }
+
+  // Bulk
+  //
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public IntegersModuloNAdditiveGroupElement[] performAll() {
+    group.operation().performAll(operands, operands, results);
+
+    return results;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public IntegersModuloNAdditiveGroupElement[] performAllRight() {
+    group.operation().performAllRight(operands, operands[0], results);
+
+    return results;
+  }
+
+}
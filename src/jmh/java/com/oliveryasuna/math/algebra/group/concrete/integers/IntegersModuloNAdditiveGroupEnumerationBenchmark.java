@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.concrete.integers;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enumerates every element of a group of order \(2^{20}\), sequentially and in parallel.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntegersModuloNAdditiveGroupEnumerationBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final BigInteger ORDER = BigInteger.ONE.shiftLeft(20);
+
+  // Fields
+  //--------------------------------------------------
+
+  private IntegersModuloNAdditiveGroup group;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    group = new IntegersModuloNAdditiveGroup(ORDER);
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  @Benchmark
+  public long sequential() {
+    return group.elements()
+        .filter(element -> element.getValue().testBit(0))
+        .count();
+  }
+
+  @Benchmark
+  public long parallel() {
+    return group.elements()
+        .parallel()
+        .filter(element -> element.getValue().testBit(0))
+        .count();
+  }
+
+  @Benchmark
+  public long parallelRun() {
+    return group.elements(ORDER.shiftRight(2), ORDER.shiftRight(1))
+        .parallel()
+        .filter(element -> element.getValue().testBit(0))
+        .count();
+  }
+
+}
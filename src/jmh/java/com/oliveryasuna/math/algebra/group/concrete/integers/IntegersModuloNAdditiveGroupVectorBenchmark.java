@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.concrete.integers;
+
+import com.oliveryasuna.math.benchmark.OperandDistribution;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares bulk operations on an off-heap {@link IntegersModuloNAdditiveGroupVector} against the same operations on arrays of elements.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntegersModuloNAdditiveGroupVectorBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int OPERAND_COUNT = 1 << 20;
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"64", "256", "2048"})
+  public int bits;
+
+  private IntegersModuloNAdditiveGroup group;
+
+  private IntegersModuloNAdditiveGroupElement[] operands;
+
+  private IntegersModuloNAdditiveGroupElement[] results;
+
+  private IntegersModuloNAdditiveGroupVector<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> vectorOperands;
+
+  private IntegersModuloNAdditiveGroupVector<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> vectorResults;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(bits);
+
+    group = new IntegersModuloNAdditiveGroup(OperandDistribution.bound(bits, random));
+
+    final BigInteger[] values = OperandDistribution.UNIFORM.next(group.getN(), OPERAND_COUNT, random);
+
+    operands = new IntegersModuloNAdditiveGroupElement[OPERAND_COUNT];
+    results = new IntegersModuloNAdditiveGroupElement[OPERAND_COUNT];
+    vectorOperands = new IntegersModuloNAdditiveGroupVector<>(group, OPERAND_COUNT);
+    vectorResults = new IntegersModuloNAdditiveGroupVector<>(group, OPERAND_COUNT);
+
+    for(int i = 0; i < OPERAND_COUNT; i++) {
+      operands[i] = group.getElement(values[i]);
+      vectorOperands.set(i, operands[i]);
+    }
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  // Elements
+  //
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public IntegersModuloNAdditiveGroupElement[] performAll() {
+    group.operation().performAll(operands, operands, results);
+
+    return results;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public IntegersModuloNAdditiveGroupElement sum() {
+    IntegersModuloNAdditiveGroupElement sum = group.operation().identity();
+
+    for(final IntegersModuloNAdditiveGroupElement operand : operands) {
+      sum = group.operation().perform(sum, operand);
+    }
+
+    return sum;
+  }
+
+  // Vector
+  //
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public IntegersModuloNAdditiveGroupVector<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> vectorAddAll() {
+    vectorResults.addAll(vectorOperands, vectorOperands);
+
+    return vectorResults;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public IntegersModuloNAdditiveGroupElement vectorSum() {
+    return vectorOperands.sum();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public IntegersModuloNAdditiveGroupVector<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> vectorNegateAll() {
+    vectorResults.negateAll(vectorOperands);
+
+    return vectorResults;
+  }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.concrete.integers;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares small groups with and without a materialized element table.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MaterializedIntegersModuloNAdditiveGroupBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int OPERAND_COUNT = 1 << 10;
+
+  private static final int OPERAND_MASK = OPERAND_COUNT - 1;
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"16", "256", "65536"})
+  public int n;
+
+  @Param({"false", "true"})
+  public boolean materialized;
+
+  private IntegersModuloNAdditiveGroup group;
+
+  private IntegersModuloNAdditiveGroupElement[] operands;
+
+  private int index;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(n);
+
+    group = new IntegersModuloNAdditiveGroup(BigInteger.valueOf(n), (materialized ? n : 0));
+
+    operands = new IntegersModuloNAdditiveGroupElement[OPERAND_COUNT];
+
+    for(int i = 0; i < OPERAND_COUNT; i++) {
+      operands[i] = group.getElement(BigInteger.valueOf(random.nextInt(n)));
+    }
+  }
+
+  private IntegersModuloNAdditiveGroupElement next() {
+    return operands[index++ & OPERAND_MASK];
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  @Benchmark
+  public IntegersModuloNAdditiveGroupElement perform() {
+    return group.operation().perform(next(), next());
+  }
+
+  @Benchmark
+  public IntegersModuloNAdditiveGroupElement inverse() {
+    return group.operation().inverse(next());
+  }
+
+  @Benchmark
+  public IntegersModuloNAdditiveGroupElement getElementSafe() {
+    return group.getElementSafe(next().getValue());
+  }
+
+}
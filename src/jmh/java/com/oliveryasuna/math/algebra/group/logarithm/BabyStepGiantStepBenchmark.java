@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.logarithm;
+
+import com.oliveryasuna.math.algebra.group.concrete.integers.LongIntegersModuloNAdditiveGroup;
+import com.oliveryasuna.math.algebra.group.concrete.integers.LongIntegersModuloNAdditiveGroupElement;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures baby-step giant-step logarithms, with the table sized to \(\sqrt{order}\) and capped well below it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BabyStepGiantStepBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int OPERAND_COUNT = 1 << 4;
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"32", "40"})
+  public int bits;
+
+  @Param({"268435456", "4194304"})
+  public long maximumTableBytes;
+
+  private BabyStepGiantStep<LongIntegersModuloNAdditiveGroupElement> logarithm;
+
+  private LongIntegersModuloNAdditiveGroupElement[] operands;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(bits);
+    final BigInteger order = BigInteger.probablePrime(bits, random);
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(order.longValueExact());
+
+    logarithm = new BabyStepGiantStep<>(group.operation(), group.getElement(3), order, Object::hashCode, maximumTableBytes,
+        ForkJoinPool.commonPool());
+
+    operands = new LongIntegersModuloNAdditiveGroupElement[OPERAND_COUNT];
+
+    for(int i = 0; i < OPERAND_COUNT; i++) {
+      operands[i] = group.getElement(Math.floorMod(random.nextLong(), order.longValueExact()));
+    }
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public BigInteger log() {
+    BigInteger last = null;
+
+    for(final LongIntegersModuloNAdditiveGroupElement operand : operands) {
+      last = logarithm.log(operand);
+    }
+
+    return last;
+  }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.operation;
+
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRing;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRingElement;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multiplies {@code size} elements of \(\mathbb{Z}/(2^{61}-1)\mathbb{Z}\) sequentially and with {@link AssociativeReducer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssociativeReducerBenchmark {
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"65536", "1048576", "16777216"})
+  public int size;
+
+  private LongIntegersModuloNRing ring;
+
+  private LongIntegersModuloNRingElement[] elements;
+
+  private AssociativeReducer<LongIntegersModuloNRingElement> reducer;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(size);
+
+    ring = new LongIntegersModuloNRing((1L << 61) - 1);
+    elements = new LongIntegersModuloNRingElement[size];
+
+    for(int i = 0; i < size; i++) {
+      elements[i] = ring.getElement(1 + Math.floorMod(random.nextLong(), ring.getN() - 1));
+    }
+
+    reducer = AssociativeReducer.of(ring.operation2());
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  @Benchmark
+  public LongIntegersModuloNRingElement sequential() {
+    LongIntegersModuloNRingElement result = elements[0];
+
+    for(int i = 1; i < elements.length; i++) {
+      result = result.multiply(elements[i]);
+    }
+
+    return result;
+  }
+
+  @Benchmark
+  public LongIntegersModuloNRingElement reduceArray() {
+    return reducer.reduce(elements);
+  }
+
+  @Benchmark
+  public LongIntegersModuloNRingElement reduceStream() {
+    return reducer.reduce(Arrays.stream(elements));
+  }
+
+}
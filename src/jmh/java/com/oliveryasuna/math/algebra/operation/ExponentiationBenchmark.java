@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.operation;
+
+import com.oliveryasuna.math.algebra.group.concrete.integers.IntegersModuloNAdditiveGroup;
+import com.oliveryasuna.math.algebra.group.concrete.integers.IntegersModuloNAdditiveGroupElement;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRing;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRingElement;
+import com.oliveryasuna.math.benchmark.OperandDistribution;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the closed forms of {@code power} against the generic sliding-window and non-adjacent-form exponentiation they override.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExponentiationBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int OPERAND_COUNT = 1 << 10;
+
+  private static final int OPERAND_MASK = OPERAND_COUNT - 1;
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"64", "256", "2048"})
+  public int exponentBits;
+
+  private LongIntegersModuloNRing ring;
+
+  private LongIntegersModuloNRingElement[] ringOperands;
+
+  private IntegersModuloNAdditiveGroup group;
+
+  private IntegersModuloNAdditiveGroupElement[] groupOperands;
+
+  private BigInteger[] exponents;
+
+  private int index;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(exponentBits);
+
+    ring = new LongIntegersModuloNRing(OperandDistribution.bound(61, random).setBit(0).longValueExact());
+    group = new IntegersModuloNAdditiveGroup(OperandDistribution.bound(256, random));
+
+    ringOperands = new LongIntegersModuloNRingElement[OPERAND_COUNT];
+    groupOperands = new IntegersModuloNAdditiveGroupElement[OPERAND_COUNT];
+    exponents = new BigInteger[OPERAND_COUNT];
+
+    for(int i = 0; i < OPERAND_COUNT; i++) {
+      ringOperands[i] = ring.getElement(OperandDistribution.UNIFORM.next(BigInteger.valueOf(ring.getN()), random).longValueExact());
+      groupOperands[i] = group.getElement(OperandDistribution.UNIFORM.next(group.getN(), random));
+      exponents[i] = OperandDistribution.bound(exponentBits, random);
+    }
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  // Multiplicative
+  //
+
+  @Benchmark
+  public LongIntegersModuloNRingElement ringPowerClosedForm() {
+    final int i = index++ & OPERAND_MASK;
+
+    return ring.operation2().power(ringOperands[i], exponents[i]);
+  }
+
+  @Benchmark
+  public LongIntegersModuloNRingElement ringPowerSlidingWindow() {
+    final int i = index++ & OPERAND_MASK;
+
+    return Exponentiation.power(ring.operation2(), ring.operation2().identity(), ringOperands[i], exponents[i]);
+  }
+
+  // Additive
+  //
+
+  @Benchmark
+  public IntegersModuloNAdditiveGroupElement groupPowerClosedForm() {
+    final int i = index++ & OPERAND_MASK;
+
+    return group.operation().power(groupOperands[i], exponents[i]);
+  }
+
+  @Benchmark
+  public IntegersModuloNAdditiveGroupElement groupPowerNonAdjacentForm() {
+    final int i = index++ & OPERAND_MASK;
+
+    return Exponentiation.signedPower(group.operation(), group.operation().identity(), group.operation(), groupOperands[i], exponents[i]);
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.operation;
+
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRing;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRingElement;
+import com.oliveryasuna.math.algebra.ring.operation.CommutativeRingOperation2;
+import com.oliveryasuna.math.benchmark.OperandDistribution;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares comb tables of several sizes against sliding-window exponentiation of the same fixed base.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FixedBaseExponentiationBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int OPERAND_COUNT = 1 << 10;
+
+  private static final int OPERAND_MASK = OPERAND_COUNT - 1;
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"256"})
+  public int exponentBits;
+
+  @Param({"16", "256", "4096", "65536"})
+  public int maximumEntries;
+
+  private CommutativeRingOperation2<LongIntegersModuloNRingElement> operation;
+
+  private LongIntegersModuloNRingElement base;
+
+  private FixedBaseExponentiation<LongIntegersModuloNRingElement> fixedBase;
+
+  private BigInteger[] exponents;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(exponentBits);
+
+    final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(OperandDistribution.bound(61, random).setBit(0).longValueExact());
+
+    operation = ring.operation2();
+    base = ring.getElement(OperandDistribution.UNIFORM.next(BigInteger.valueOf(ring.getN()), random).longValueExact());
+
+    fixedBase = new FixedBaseExponentiation<>(operation, operation.identity(), null, base, exponentBits, maximumEntries);
+    fixedBase.precompute();
+
+    exponents = new BigInteger[OPERAND_COUNT];
+
+    for(int i = 0; i < OPERAND_COUNT; i++) {
+      exponents[i] = OperandDistribution.bound(exponentBits, random);
+    }
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  @Benchmark
+  public LongIntegersModuloNRingElement slidingWindow(final Cursor cursor) {
+    return Exponentiation.power(operation, operation.identity(), base, exponents[cursor.next()]);
+  }
+
+  @Benchmark
+  public LongIntegersModuloNRingElement comb(final Cursor cursor) {
+    return fixedBase.power(exponents[cursor.next()]);
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  @State(Scope.Thread)
+  public static class Cursor {
+
+    // Fields
+    //--------------------------------------------------
+
+    private int index;
+
+    // Methods
+    //--------------------------------------------------
+
+    public int next() {
+      return (index++ & OPERAND_MASK);
+    }
+
+  }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.operation;
+
+import com.oliveryasuna.math.algebra.group.concrete.integers.LongIntegersModuloNAdditiveGroup;
+import com.oliveryasuna.math.algebra.group.concrete.integers.LongIntegersModuloNAdditiveGroupElement;
+import com.oliveryasuna.math.algebra.group.operation.CommutativeGroupOperation;
+import com.oliveryasuna.math.benchmark.OperandDistribution;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares Straus' and Pippenger's algorithms against separate exponentiations followed by a product.
+ * <p>
+ * The generic algorithms are called directly, bypassing the closed form of the group.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MultiExponentiationBenchmark {
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"4", "64", "1024"})
+  public int terms;
+
+  @Param({"256"})
+  public int exponentBits;
+
+  private CommutativeGroupOperation<LongIntegersModuloNAdditiveGroupElement> operation;
+
+  private LongIntegersModuloNAdditiveGroupElement[] bases;
+
+  private BigInteger[] exponents;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(terms);
+
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(OperandDistribution.bound(61, random).longValueExact());
+
+    operation = group.operation();
+
+    bases = new LongIntegersModuloNAdditiveGroupElement[terms];
+    exponents = new BigInteger[terms];
+
+    for(int i = 0; i < terms; i++) {
+      bases[i] = group.getElement(OperandDistribution.UNIFORM.next(BigInteger.valueOf(group.getN()), random).longValueExact());
+      exponents[i] = OperandDistribution.bound(exponentBits, random);
+    }
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  @Benchmark
+  public LongIntegersModuloNAdditiveGroupElement separate() {
+    LongIntegersModuloNAdditiveGroupElement result = operation.identity();
+
+    for(int i = 0; i < terms; i++) {
+      result = operation.perform(result, Exponentiation.signedPower(operation, operation.identity(), operation, bases[i], exponents[i]));
+    }
+
+    return result;
+  }
+
+  @Benchmark
+  public LongIntegersModuloNAdditiveGroupElement straus() {
+    return MultiExponentiation.straus(operation, operation.identity(), operation, bases, exponents);
+  }
+
+  @Benchmark
+  public LongIntegersModuloNAdditiveGroupElement pippenger() {
+    return MultiExponentiation.pippenger(operation, operation.identity(), operation, bases, exponents, ForkJoinPool.commonPool());
+  }
+
+  @Benchmark
+  public LongIntegersModuloNAdditiveGroupElement multiPower() {
+    return MultiExponentiation.multiPower(operation, operation.identity(), operation, bases, exponents);
+  }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.operation;
+
+import com.oliveryasuna.math.arithmetic.ModularArithmetic;
+import com.oliveryasuna.math.benchmark.OperandDistribution;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares inverting residues modulo a prime one at a time against Montgomery's trick, sequentially and chunked across the common pool.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimultaneousInversionBenchmark {
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"256", "2048"})
+  public int bits;
+
+  @Param({"1024", "1048576"})
+  public int count;
+
+  private ModularArithmetic arithmetic;
+
+  private int[][] operands;
+
+  private int[][] results;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(bits);
+
+    final BigInteger p = BigInteger.probablePrime(bits, random);
+
+    arithmetic = ModularArithmetic.of(p);
+
+    final BigInteger[] values = OperandDistribution.UNIFORM.next(p.subtract(BigInteger.ONE), count, random);
+
+    operands = new int[count][];
+    results = new int[count][];
+
+    for(int i = 0; i < count; i++) {
+      operands[i] = arithmetic.toResidue(values[i].add(BigInteger.ONE));
+    }
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  @Benchmark
+  public int[][] inverseEach() {
+    for(int i = 0; i < count; i++) {
+      results[i] = arithmetic.inverse(operands[i]);
+    }
+
+    return results;
+  }
+
+  @Benchmark
+  public int[][] inverseAll() {
+    arithmetic.inverseAll(operands, results);
+
+    return results;
+  }
+
+  @Benchmark
+  public int[][] inverseAllParallel() {
+    arithmetic.inverseAll(operands, results, ForkJoinPool.commonPool());
+
+    return results;
+  }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.fields;
+
+import com.oliveryasuna.math.arithmetic.BinaryFieldArithmetic;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Region products compare the table kernels against one {@link BinaryFieldArithmetic#multiply(int, int)} per element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BinaryExtensionFieldBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int OPERAND_COUNT = 1 << 10;
+
+  private static final int OPERAND_MASK = OPERAND_COUNT - 1;
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"8", "16"})
+  public int degree;
+
+  @Param({"256", "65536"})
+  public int regionLength;
+
+  private BinaryExtensionField field;
+
+  private BinaryFieldArithmetic arithmetic;
+
+  private BinaryExtensionFieldElement[] operands;
+
+  private int[] rawOperands;
+
+  private byte[] source;
+
+  private byte[] destination;
+
+  private int constant;
+
+  private int index;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(degree);
+
+    field = new BinaryExtensionField(degree);
+    arithmetic = field.getArithmetic();
+
+    operands = new BinaryExtensionFieldElement[OPERAND_COUNT];
+    rawOperands = new int[OPERAND_COUNT];
+
+    for(int i = 0; i < OPERAND_COUNT; i++) {
+      // Non-zero, so that every operand is invertible.
+      rawOperands[i] = 1 + random.nextInt(arithmetic.getSize() - 1);
+      operands[i] = field.getElement(rawOperands[i]);
+    }
+
+    source = new byte[regionLength];
+    destination = new byte[regionLength];
+
+    random.nextBytes(source);
+
+    constant = rawOperands[0];
+  }
+
+  private int next() {
+    return (index++ & OPERAND_MASK);
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  // Element
+  //
+
+  @Benchmark
+  public BinaryExtensionFieldElement multiply() {
+    return operands[next()].multiply(operands[next()]);
+  }
+
+  @Benchmark
+  public BinaryExtensionFieldElement inverse() {
+    return operands[next()].inverse();
+  }
+
+  // Kernels
+  //
+
+  @Benchmark
+  public int multiplyKernel() {
+    return arithmetic.multiply(rawOperands[next()], rawOperands[next()]);
+  }
+
+  @Benchmark
+  public int inverseKernel() {
+    return arithmetic.inverse(rawOperands[next()]);
+  }
+
+  // Regions
+  //
+
+  @Benchmark
+  public byte[] multiplyAllRegion() {
+    arithmetic.multiplyAll(constant, source, destination);
+
+    return destination;
+  }
+
+  @Benchmark
+  public byte[] multiplyAddAllRegion() {
+    arithmetic.multiplyAddAll(constant, source, destination);
+
+    return destination;
+  }
+
+  @Benchmark
+  public byte[] multiplyAddAllRegionPerElement() {
+    if(arithmetic.getBytesPerElement() == 1) {
+      for(int i = 0; i < regionLength; i++) {
+        destination[i] ^= (byte)arithmetic.multiply(constant, source[i] & 0xFF);
+      }
+    } else {
+      for(int i = 0; i < regionLength; i += 2) {
+        final int product = arithmetic.multiply(constant, (source[i] & 0xFF) | ((source[i + 1] & 0xFF) << 8));
+
+        destination[i] ^= (byte)product;
+        destination[i + 1] ^= (byte)(product >>> 8);
+      }
+    }
+
+    return destination;
+  }
+
+}
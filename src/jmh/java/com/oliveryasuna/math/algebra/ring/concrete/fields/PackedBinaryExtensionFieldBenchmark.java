@@ -0,0 +1,147 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.fields;
+
+import com.oliveryasuna.math.arithmetic.PackedBinaryFieldArithmetic;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The degrees are those of the NIST binary curves, with their trinomial or pentanomial moduli.
+ * {@code inversePowerKernel} is the square-and-multiply baseline \(a^{2^n-2}\) for Itoh-Tsujii inversion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PackedBinaryExtensionFieldBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int OPERAND_COUNT = 1 << 8;
+
+  private static final int OPERAND_MASK = OPERAND_COUNT - 1;
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"163", "233", "283", "409", "571"})
+  public int degree;
+
+  private PackedBinaryExtensionField field;
+
+  private PackedBinaryFieldArithmetic arithmetic;
+
+  private PackedBinaryExtensionFieldElement[] operands;
+
+  private long[][] rawOperands;
+
+  private BigInteger inverseExponent;
+
+  private int index;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(degree);
+
+    field = new PackedBinaryExtensionField(exponents(degree));
+    arithmetic = field.getArithmetic();
+
+    operands = new PackedBinaryExtensionFieldElement[OPERAND_COUNT];
+    rawOperands = new long[OPERAND_COUNT][];
+
+    for(int i = 0; i < OPERAND_COUNT; i++) {
+      // Odd, so that every operand is non-zero.
+      operands[i] = field.getElement(new BigInteger(degree, random).setBit(0));
+      rawOperands[i] = operands[i].getWords();
+    }
+
+    inverseExponent = BigInteger.ONE.shiftLeft(degree).subtract(BigInteger.TWO);
+  }
+
+  private static int[] exponents(final int degree) {
+    switch(degree) {
+      case 163:
+        return new int[] {163, 7, 6, 3, 0};
+      case 233:
+        return new int[] {233, 74, 0};
+      case 283:
+        return new int[] {283, 12, 7, 5, 0};
+      case 409:
+        return new int[] {409, 87, 0};
+      case 571:
+        return new int[] {571, 10, 5, 2, 0};
+      default:
+        throw new IllegalArgumentException("No NIST modulus of degree " + degree + ".");
+    }
+  }
+
+  private int next() {
+    return (index++ & OPERAND_MASK);
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  // Element
+  //
+
+  @Benchmark
+  public PackedBinaryExtensionFieldElement multiply() {
+    return operands[next()].multiply(operands[next()]);
+  }
+
+  @Benchmark
+  public PackedBinaryExtensionFieldElement inverse() {
+    return operands[next()].inverse();
+  }
+
+  // Kernels
+  //
+
+  @Benchmark
+  public long[] multiplyKernel() {
+    return arithmetic.multiply(rawOperands[next()], rawOperands[next()]);
+  }
+
+  @Benchmark
+  public long[] squareKernel() {
+    return arithmetic.square(rawOperands[next()]);
+  }
+
+  @Benchmark
+  public long[] inverseKernel() {
+    return arithmetic.inverse(rawOperands[next()]);
+  }
+
+  @Benchmark
+  public long[] inversePowerKernel() {
+    return arithmetic.pow(rawOperands[next()], inverseExponent);
+  }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.fields;
+
+import com.oliveryasuna.math.arithmetic.BinaryInversion;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the binary GCD inversion against {@link BigInteger#modInverse(BigInteger)} and Fermat exponentiation \(a^{p-2}\).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimeFieldBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int OPERAND_COUNT = 1 << 8;
+
+  private static final int OPERAND_MASK = OPERAND_COUNT - 1;
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"61", "256", "1024"})
+  public int bits;
+
+  private BigInteger p;
+
+  private BigInteger pMinusTwo;
+
+  private LongPrimeField longField;
+
+  private PrimeField field;
+
+  private LongPrimeFieldElement[] longOperands;
+
+  private PrimeFieldElement[] operands;
+
+  private BigInteger[] values;
+
+  private int index;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(bits);
+
+    p = BigInteger.probablePrime(bits, random);
+    pMinusTwo = p.subtract(BigInteger.TWO);
+
+    field = new PrimeField(p);
+    longField = (bits < Long.SIZE ? new LongPrimeField(p.longValueExact()) : null);
+
+    operands = new PrimeFieldElement[OPERAND_COUNT];
+    longOperands = new LongPrimeFieldElement[OPERAND_COUNT];
+    values = new BigInteger[OPERAND_COUNT];
+
+    for(int i = 0; i < OPERAND_COUNT; i++) {
+      BigInteger value;
+
+      do {
+        value = new BigInteger(bits, random).mod(p);
+      } while(value.signum() == 0);
+
+      values[i] = value;
+      operands[i] = field.getElement(value);
+
+      if(longField != null) longOperands[i] = longField.getElement(value.longValueExact());
+    }
+  }
+
+  private int next() {
+    return (index++ & OPERAND_MASK);
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  // Element
+  //
+
+  @Benchmark
+  public PrimeFieldElement inverse() {
+    return operands[next()].inverse();
+  }
+
+  @Benchmark
+  public LongPrimeFieldElement longInverse() {
+    return (longField != null ? longOperands[next()].inverse() : null);
+  }
+
+  // Kernels
+  //
+
+  @Benchmark
+  public BigInteger binaryInversionKernel() {
+    return BinaryInversion.inverse(values[next()], p);
+  }
+
+  @Benchmark
+  public BigInteger modInverseKernel() {
+    return values[next()].modInverse(p);
+  }
+
+  @Benchmark
+  public BigInteger fermatKernel() {
+    return values[next()].modPow(pMinusTwo, p);
+  }
+
+}
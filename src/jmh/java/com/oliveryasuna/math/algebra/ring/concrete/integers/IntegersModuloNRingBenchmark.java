@@ -0,0 +1,186 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.integers;
+
+import com.oliveryasuna.math.arithmetic.ModularReduction;
+import com.oliveryasuna.math.benchmark.OperandDistribution;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reductions on an odd modulus.
+ * The {@code BigInteger} benchmarks are the baseline of reducing every product with {@link BigInteger#mod(BigInteger)}.
+ * The {@code mixed} benchmarks model workloads that convert each value in, add a few times, multiply once and convert out, where Barrett
+ * reduction avoids the conversions that Montgomery form costs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntegersModuloNRingBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int OPERAND_COUNT = 1 << 8;
+
+  private static final int OPERAND_MASK = OPERAND_COUNT - 1;
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"256", "1024", "2048", "4096"})
+  public int bits;
+
+  @Param({"MONTGOMERY", "BARRETT", "DIVISION"})
+  public ModularReduction reduction;
+
+  private IntegersModuloNRing ring;
+
+  private BigInteger n;
+
+  private IntegersModuloNRingElement[] operands;
+
+  private BigInteger[] rawOperands;
+
+  private int[][] residues;
+
+  private BigInteger exponent;
+
+  private int index;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(bits);
+
+    final BigInteger bound = OperandDistribution.bound(bits, random);
+
+    n = bound.setBit(0);
+    ring = new IntegersModuloNRing(n, reduction);
+
+    rawOperands = OperandDistribution.UNIFORM.next(n, OPERAND_COUNT, random);
+    operands = new IntegersModuloNRingElement[OPERAND_COUNT];
+    residues = new int[OPERAND_COUNT][];
+
+    for(int i = 0; i < OPERAND_COUNT; i++) {
+      operands[i] = ring.getElement(rawOperands[i]);
+      residues[i] = ring.getArithmetic().toResidue(rawOperands[i]);
+    }
+
+    exponent = new BigInteger(bits, random);
+  }
+
+  private IntegersModuloNRingElement next() {
+    return operands[index++ & OPERAND_MASK];
+  }
+
+  private BigInteger nextRaw() {
+    return rawOperands[index++ & OPERAND_MASK];
+  }
+
+  private int[] nextResidue() {
+    return residues[index++ & OPERAND_MASK];
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  // Operations
+  //
+
+  @Benchmark
+  public IntegersModuloNRingElement additionPerform() {
+    return ring.operation1().perform(next(), next());
+  }
+
+  @Benchmark
+  public IntegersModuloNRingElement multiplicationPerform() {
+    return ring.operation2().perform(next(), next());
+  }
+
+  @Benchmark
+  public IntegersModuloNRingElement multiplicationPower() {
+    return ring.operation2().power(next(), exponent);
+  }
+
+  // Kernels
+  //
+
+  @Benchmark
+  public int[] multiplyKernel() {
+    return ring.getArithmetic().multiply(nextResidue(), nextResidue());
+  }
+
+  @Benchmark
+  public BigInteger multiplyBigInteger() {
+    return nextRaw().multiply(nextRaw()).mod(n);
+  }
+
+  @Benchmark
+  public BigInteger powBigInteger() {
+    return nextRaw().modPow(exponent, n);
+  }
+
+  // Conversion
+  //
+
+  @Benchmark
+  public IntegersModuloNRingElement getElement() {
+    return ring.getElement(nextRaw());
+  }
+
+  @Benchmark
+  public BigInteger getValue() {
+    return ring.getArithmetic().toBigInteger(nextResidue());
+  }
+
+  // Mixed
+  //
+
+  @Benchmark
+  public BigInteger mixed() {
+    final IntegersModuloNRingElement a = ring.getElement(nextRaw());
+    final IntegersModuloNRingElement b = ring.getElement(nextRaw());
+    final IntegersModuloNRingElement c = ring.getElement(nextRaw());
+
+    final IntegersModuloNRingElement sum = ring.operation1().perform(ring.operation1().perform(a, b), c);
+
+    return ring.operation2().perform(sum, a).getValue();
+  }
+
+  @Benchmark
+  public BigInteger mixedBigInteger() {
+    final BigInteger a = nextRaw();
+    final BigInteger b = nextRaw();
+    final BigInteger c = nextRaw();
+
+    final BigInteger sum = a.add(b).add(c).mod(n);
+
+    return sum.multiply(a).mod(n);
+  }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.integers;
+
+import com.oliveryasuna.math.benchmark.OperandDistribution;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Odd moduli above 32 bits exercise Montgomery multiplication; {@code evenModulus} exercises the shift-subtract fallback.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LongIntegersModuloNRingBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int OPERAND_COUNT = 1 << 10;
+
+  private static final int OPERAND_MASK = OPERAND_COUNT - 1;
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"16", "31", "32", "61", "63"})
+  public int bits;
+
+  @Param({"UNIFORM", "SMALL", "NEAR_BOUND"})
+  public OperandDistribution distribution;
+
+  @Param({"false", "true"})
+  public boolean evenModulus;
+
+  private LongIntegersModuloNRing ring;
+
+  private LongIntegersModuloNRingElement[] operands;
+
+  private LongIntegersModuloNRingElement[] results;
+
+  private long[] rawOperands;
+
+  private long[] rawResults;
+
+  private int index;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(bits);
+
+    final BigInteger n = OperandDistribution.bound(bits, random);
+
+    ring = new LongIntegersModuloNRing((evenModulus ? n.clearBit(0) : n.setBit(0)).longValueExact());
+
+    final BigInteger[] values = distribution.next(BigInteger.valueOf(ring.getN()), OPERAND_COUNT, random);
+
+    operands = new LongIntegersModuloNRingElement[OPERAND_COUNT];
+    results = new LongIntegersModuloNRingElement[OPERAND_COUNT];
+
+    for(int i = 0; i < OPERAND_COUNT; i++) {
+      operands[i] = ring.getElement(values[i].longValueExact());
+    }
+
+    rawOperands = new long[OPERAND_COUNT];
+    rawResults = new long[OPERAND_COUNT];
+
+    for(int i = 0; i < OPERAND_COUNT; i++) {
+      rawOperands[i] = operands[i].getValue();
+    }
+  }
+
+  private LongIntegersModuloNRingElement next() {
+    return operands[index++ & OPERAND_MASK];
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  // Operations
+  //
+
+  @Benchmark
+  public LongIntegersModuloNRingElement additionPerform() {
+    return ring.operation1().perform(next(), next());
+  }
+
+  @Benchmark
+  public LongIntegersModuloNRingElement multiplicationPerform() {
+    return ring.operation2().perform(next(), next());
+  }
+
+  @Benchmark
+  public long multiplyKernel() {
+    return ring.getArithmetic().multiply(next().getValue(), next().getValue());
+  }
+
+  // Element
+  //
+
+  @Benchmark
+  public LongIntegersModuloNRingElement add() {
+    return next().add(next());
+  }
+
+  @Benchmark
+  public LongIntegersModuloNRingElement multiply() {
+    return next().multiply(next());
+  }
+
+  @Benchmark
+  public LongIntegersModuloNRingElement negate() {
+    return next().negate();
+  }
+
+  // Bulk
+  //
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public LongIntegersModuloNRingElement[] performAll() {
+    ring.operation2().performAll(operands, operands, results);
+
+    return results;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public LongIntegersModuloNRingElement[] performAllRight() {
+    ring.operation2().performAllRight(operands, operands[0], results);
+
+    return results;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public long[] multiplyAllKernel() {
+    ring.getArithmetic().multiplyAll(rawOperands, rawOperands, rawResults);
+
+    return rawResults;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public long[] multiplyAllScalarKernel() {
+    ring.getArithmetic().multiplyAll(rawOperands, rawOperands[0], rawResults);
+
+    return rawResults;
+  }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.matrices;
+
+import com.oliveryasuna.math.algebra.ring.concrete.integers.IntegersModuloNRing;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.IntegersModuloNRingElement;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRing;
+import com.oliveryasuna.math.arithmetic.LongMatrixArithmetic;
+import com.oliveryasuna.math.arithmetic.LongModularArithmetic;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares ways of multiplying matrices over \(\mathbb{Z}/n\mathbb{Z}\), at a prime below \(2^{30}\), whose products are summed unreduced, and at
+ * \(2^{63}-1\), which is reduced by Montgomery multiplication.
+ * <p>
+ * The primitive ring is {@link LongIntegersModuloNMatrixRing}.
+ * The baselines are a triple loop reducing every term, and the generic {@link MatrixRing} over {@link IntegersModuloNRing}, whose entries are
+ * objects; both are only measured up to dimension {@value #BASELINE_LIMIT}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixRingBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int BASELINE_LIMIT = 256;
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"998244353", "9223372036854775807"})
+  public long n;
+
+  @Param({"64", "256", "1024"})
+  public int dimension;
+
+  private LongIntegersModuloNMatrixRing ring;
+
+  private LongIntegersModuloNMatrixRingElement multiplier;
+
+  private LongIntegersModuloNMatrixRingElement multiplicand;
+
+  private LongMatrixArithmetic tiledArithmetic;
+
+  private MatrixRing<IntegersModuloNRing, IntegersModuloNRingElement> genericRing;
+
+  private MatrixRingElement<IntegersModuloNRing, IntegersModuloNRingElement> genericMultiplier;
+
+  private MatrixRingElement<IntegersModuloNRing, IntegersModuloNRingElement> genericMultiplicand;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(dimension);
+    final LongIntegersModuloNRing baseRing = new LongIntegersModuloNRing(n);
+
+    ring = new LongIntegersModuloNMatrixRing(baseRing, dimension);
+    multiplier = ring.getElement(values(random));
+    multiplicand = ring.getElement(values(random));
+
+    tiledArithmetic = new LongMatrixArithmetic(baseRing.getArithmetic(), Integer.MAX_VALUE);
+
+    if(dimension <= BASELINE_LIMIT) {
+      final IntegersModuloNRing genericBaseRing = new IntegersModuloNRing(BigInteger.valueOf(n));
+
+      genericRing = new MatrixRing<>(genericBaseRing, dimension);
+      genericMultiplier = genericRing.getElement(entries(genericBaseRing, multiplier.values));
+      genericMultiplicand = genericRing.getElement(entries(genericBaseRing, multiplicand.values));
+    }
+  }
+
+  private long[] values(final Random random) {
+    final long[] values = new long[dimension * dimension];
+
+    for(int i = 0; i < values.length; i++) {
+      values[i] = Math.floorMod(random.nextLong(), n);
+    }
+
+    return values;
+  }
+
+  private static IntegersModuloNRingElement[] entries(final IntegersModuloNRing ring, final long[] values) {
+    final IntegersModuloNRingElement[] entries = new IntegersModuloNRingElement[values.length];
+
+    for(int i = 0; i < values.length; i++) {
+      entries[i] = ring.getElement(BigInteger.valueOf(values[i]));
+    }
+
+    return entries;
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  // Primitive
+  //
+
+  @Benchmark
+  public LongIntegersModuloNMatrixRingElement multiply() {
+    return ring.operation2().perform(multiplier, multiplicand);
+  }
+
+  @Benchmark
+  public LongIntegersModuloNMatrixRingElement multiplySequentially() {
+    return ring.multiplySequentially(multiplier, multiplicand);
+  }
+
+  @Benchmark
+  public long[] tiled() {
+    return tiledArithmetic.multiply(multiplier.values, multiplicand.values, dimension);
+  }
+
+  // Baselines
+  //
+
+  @Benchmark
+  public long[] naive() {
+    if(dimension > BASELINE_LIMIT) return null;
+
+    final LongModularArithmetic arithmetic = ring.getBaseRing().getArithmetic();
+    final long[] a = multiplier.values;
+    final long[] b = multiplicand.values;
+    final long[] product = new long[a.length];
+
+    for(int i = 0; i < dimension; i++) {
+      for(int j = 0; j < dimension; j++) {
+        long sum = 0;
+
+        for(int k = 0; k < dimension; k++) {
+          sum = arithmetic.add(sum, arithmetic.multiply(a[i * dimension + k], b[k * dimension + j]));
+        }
+
+        product[i * dimension + j] = sum;
+      }
+    }
+
+    return product;
+  }
+
+  @Benchmark
+  public MatrixRingElement<IntegersModuloNRing, IntegersModuloNRingElement> generic() {
+    return (dimension <= BASELINE_LIMIT ? genericRing.multiplySequentially(genericMultiplier, genericMultiplicand) : null);
+  }
+
+}
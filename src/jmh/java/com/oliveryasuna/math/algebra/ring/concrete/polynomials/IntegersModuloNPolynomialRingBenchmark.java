@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.polynomials;
+
+import com.oliveryasuna.math.arithmetic.PolynomialMultiplication;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the algorithms for multiplying polynomials over \(\mathbb{Z}/n\mathbb{Z}\), at moduli of 128 and 1024 bits, which need five and
+ * 34 transform primes at degree \(2^{12}\).
+ * <p>
+ * The schoolbook and Karatsuba methods are quadratic and near-quadratic, so they are only measured up to degree \(2^{12}\).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntegersModuloNPolynomialRingBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int QUADRATIC_LIMIT = 1 << 12;
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"128", "1024"})
+  public int bits;
+
+  @Param({"64", "1024", "4096", "65536"})
+  public int degree;
+
+  private BigInteger n;
+
+  private IntegersModuloNPolynomialRing ring;
+
+  private IntegersModuloNPolynomialRingElement multiplier;
+
+  private IntegersModuloNPolynomialRingElement multiplicand;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(degree);
+
+    n = BigInteger.ONE.shiftLeft(bits).subtract(BigInteger.valueOf(159L));
+    ring = new IntegersModuloNPolynomialRing(n);
+    multiplier = ring.getElement(coefficients(random));
+    multiplicand = ring.getElement(coefficients(random));
+  }
+
+  private BigInteger[] coefficients(final Random random) {
+    final BigInteger[] coefficients = new BigInteger[degree + 1];
+
+    for(int i = 0; i < coefficients.length; i++) {
+      coefficients[i] = new BigInteger(bits + 8, random).mod(n);
+    }
+
+    coefficients[degree] = BigInteger.ONE;
+
+    return coefficients;
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  @Benchmark
+  public IntegersModuloNPolynomialRingElement multiply() {
+    return ring.operation2().perform(multiplier, multiplicand);
+  }
+
+  @Benchmark
+  public IntegersModuloNPolynomialRingElement multiplyParallel() {
+    return ring.multiply(multiplier, multiplicand, ForkJoinPool.commonPool());
+  }
+
+  @Benchmark
+  public BigInteger[] schoolbook() {
+    return (degree <= QUADRATIC_LIMIT ? multiply(PolynomialMultiplication.SCHOOLBOOK) : null);
+  }
+
+  @Benchmark
+  public BigInteger[] karatsuba() {
+    return (degree <= QUADRATIC_LIMIT ? multiply(PolynomialMultiplication.KARATSUBA) : null);
+  }
+
+  @Benchmark
+  public BigInteger[] numberTheoreticTransform() {
+    return multiply(PolynomialMultiplication.NUMBER_THEORETIC_TRANSFORM);
+  }
+
+  private BigInteger[] multiply(final PolynomialMultiplication method) {
+    return ring.getArithmetic().multiply(multiplier.coefficients, multiplicand.coefficients, method);
+  }
+
+}
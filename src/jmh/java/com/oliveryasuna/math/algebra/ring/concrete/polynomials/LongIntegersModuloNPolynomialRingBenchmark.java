@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.polynomials;
+
+import com.oliveryasuna.math.arithmetic.PolynomialMultiplication;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the algorithms for multiplying polynomials over \(\mathbb{Z}/n\mathbb{Z}\), at a word-size prime modulus, which needs two
+ * transform primes, and at \(2^{63}-1\), which needs three.
+ * <p>
+ * The schoolbook and Karatsuba methods are quadratic and near-quadratic, so they are only measured up to degree \(2^{12}\).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LongIntegersModuloNPolynomialRingBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int QUADRATIC_LIMIT = 1 << 12;
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"998244353", "9223372036854775807"})
+  public long n;
+
+  @Param({"64", "1024", "4096", "1000000"})
+  public int degree;
+
+  private LongIntegersModuloNPolynomialRing ring;
+
+  private LongIntegersModuloNPolynomialRingElement multiplier;
+
+  private LongIntegersModuloNPolynomialRingElement multiplicand;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Random random = new Random(degree);
+
+    ring = new LongIntegersModuloNPolynomialRing(n);
+    multiplier = ring.getElement(coefficients(random));
+    multiplicand = ring.getElement(coefficients(random));
+  }
+
+  private long[] coefficients(final Random random) {
+    final long[] coefficients = new long[degree + 1];
+
+    for(int i = 0; i < coefficients.length; i++) {
+      coefficients[i] = Math.floorMod(random.nextLong(), n);
+    }
+
+    coefficients[degree] = 1;
+
+    return coefficients;
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  @Benchmark
+  public LongIntegersModuloNPolynomialRingElement multiply() {
+    return ring.operation2().perform(multiplier, multiplicand);
+  }
+
+  @Benchmark
+  public LongIntegersModuloNPolynomialRingElement multiplyParallel() {
+    return ring.multiply(multiplier, multiplicand, ForkJoinPool.commonPool());
+  }
+
+  @Benchmark
+  public long[] schoolbook() {
+    return (degree <= QUADRATIC_LIMIT ? multiply(PolynomialMultiplication.SCHOOLBOOK) : null);
+  }
+
+  @Benchmark
+  public long[] karatsuba() {
+    return (degree <= QUADRATIC_LIMIT ? multiply(PolynomialMultiplication.KARATSUBA) : null);
+  }
+
+  @Benchmark
+  public long[] numberTheoreticTransform() {
+    return multiply(PolynomialMultiplication.NUMBER_THEORETIC_TRANSFORM);
+  }
+
+  private long[] multiply(final PolynomialMultiplication method) {
+    return ring.getArithmetic().multiply(multiplier.coefficients, multiplicand.coefficients, method);
+  }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.benchmark;
+
+import com.oliveryasuna.commons.language.exception.UnsupportedInstantiationException;
+import com.oliveryasuna.commons.language.marker.Utility;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point of the benchmark jar.
+ * <p>
+ * Accepts the usual JMH command line.
+ * Unless overridden on the command line, every selected benchmark is run
+ * <ul>
+ *   <li>once per thread count in the {@code benchmark.threads} system property (default {@code 1,<available processors>}),</li>
+ *   <li>in throughput mode (ops/s) and in sample-time mode (latency percentiles, ns/op), and</li>
+ *   <li>with the GC profiler attached ({@code gc.alloc.rate.norm} is the number of bytes allocated per operation).</li>
+ * </ul>
+ *
+ * @author Oliver Yasuna
+ */
+@Utility
+public final class BenchmarkRunner {
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+    final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+    final int[] threadCounts = (commandLineOptions.getThreads().hasValue()
+        ? new int[] {commandLineOptions.getThreads().get()}
+        : threadCounts());
+
+    for(final int threadCount : threadCounts) {
+      if(commandLineOptions.getBenchModes().isEmpty()) {
+        run(commandLineOptions, threadCount, Mode.Throughput, TimeUnit.SECONDS);
+        run(commandLineOptions, threadCount, Mode.SampleTime, TimeUnit.NANOSECONDS);
+      } else {
+        run(commandLineOptions, threadCount, null, null);
+      }
+    }
+  }
+
+  private static void run(final CommandLineOptions parent, final int threadCount, final Mode mode, final TimeUnit timeUnit) throws RunnerException {
+    final ChainedOptionsBuilder options = new OptionsBuilder()
+        .parent(parent)
+        .threads(threadCount);
+
+    if(mode != null) options.mode(mode).timeUnit(timeUnit);
+    if(parent.getProfilers().isEmpty()) options.addProfiler(GCProfiler.class);
+
+    new Runner(options.build()).run();
+  }
+
+  private static int[] threadCounts() {
+    final String property = System.getProperty("benchmark.threads");
+
+    if(property == null) {
+      final int processors = Runtime.getRuntime().availableProcessors();
+
+      return (processors == 1 ? new int[] {1} : new int[] {1, processors});
+    }
+
+    return Arrays.stream(property.split(","))
+        .map(String::trim)
+        .mapToInt(Integer::parseInt)
+        .toArray();
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private BenchmarkRunner() {
+    super();
+
+    throw new UnsupportedInstantiationException();
+  }
+
+}
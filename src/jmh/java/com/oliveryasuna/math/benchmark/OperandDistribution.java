@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.benchmark;
+
+import com.oliveryasuna.math.util.BigIntegerUtils;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+/**
+ * Distributions from which benchmark operands are drawn.
+ *
+ * @author Oliver Yasuna
+ */
+public enum OperandDistribution {
+
+  // Values
+  //--------------------------------------------------
+
+  /**
+   * Uniform over \([0,n)\).
+   */
+  UNIFORM {
+    @Override
+    public BigInteger next(final BigInteger bound, final Random random) {
+      return BigIntegerUtils.random(bound, random);
+    }
+  },
+
+  /**
+   * Uniform over \([0,2^{32})\), clamped to \([0,n)\).
+   * Exercises the single-word fast paths of {@link BigInteger}.
+   */
+  SMALL {
+    @Override
+    public BigInteger next(final BigInteger bound, final Random random) {
+      return BigIntegerUtils.random(bound.min(SMALL_BOUND), random);
+    }
+  },
+
+  /**
+   * Uniform over the top \(2^{32}\) values below \(n\).
+   * Sums of two such operands always wrap around the modulus.
+   */
+  NEAR_BOUND {
+    @Override
+    public BigInteger next(final BigInteger bound, final Random random) {
+      return bound.subtract(BigInteger.ONE).subtract(BigIntegerUtils.random(bound.min(SMALL_BOUND), random));
+    }
+  };
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final BigInteger SMALL_BOUND = BigInteger.ONE.shiftLeft(32);
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Creates a positive integer with exactly {@code bits} bits.
+   *
+   * @param bits   The bit-length.
+   * @param random The source of randomness.
+   *
+   * @return A positive integer with exactly {@code bits} bits.
+   */
+  public static BigInteger bound(final int bits, final Random random) {
+    return new BigInteger(bits, random).setBit(bits - 1);
+  }
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Draws an operand in \([0,bound)\).
+   *
+   * @param bound  The exclusive upper bound.
+   * @param random The source of randomness.
+   *
+   * @return The operand.
+   */
+  public abstract BigInteger next(BigInteger bound, Random random);
+
+  /**
+   * Draws {@code count} operands in \([0,bound)\).
+   *
+   * @param bound  The exclusive upper bound.
+   * @param count  The number of operands.
+   * @param random The source of randomness.
+   *
+   * @return The operands.
+   */
+  public BigInteger[] next(final BigInteger bound, final int count, final Random random) {
+    final BigInteger[] operands = new BigInteger[count];
+
+    for(int i = 0; i < count; i++) {
+      operands[i] = next(bound, random);
+    }
+
+    return operands;
+  }
+
+}
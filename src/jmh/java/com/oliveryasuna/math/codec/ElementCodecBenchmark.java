@@ -0,0 +1,275 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.codec;
+
+import com.oliveryasuna.math.algebra.group.concrete.integers.IntegersModuloNAdditiveGroup;
+import com.oliveryasuna.math.algebra.group.concrete.integers.IntegersModuloNAdditiveGroupElement;
+import com.oliveryasuna.math.algebra.group.concrete.integers.IntegersModuloNAdditiveGroupVector;
+import com.oliveryasuna.math.benchmark.OperandDistribution;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ElementWriter} and {@link ElementReader}, on arrays of elements and on vectors, against length-prefixed
+ * {@link BigInteger#toByteArray()} over data streams.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ElementCodecBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int OPERAND_COUNT = 1 << 18;
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"64", "256", "2048"})
+  public int bits;
+
+  private IntegersModuloNAdditiveGroup group;
+
+  private IntegersModuloNAdditiveGroupCodec codec;
+
+  private IntegersModuloNAdditiveGroupElement[] operands;
+
+  private IntegersModuloNAdditiveGroupElement[] results;
+
+  private IntegersModuloNAdditiveGroupVector<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> vector;
+
+  private BufferChannel encoded;
+
+  private ByteArrayOutputStream dataBytes;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    final Random random = new Random(bits);
+
+    group = new IntegersModuloNAdditiveGroup(OperandDistribution.bound(bits, random));
+    codec = new IntegersModuloNAdditiveGroupCodec();
+
+    final BigInteger[] values = OperandDistribution.UNIFORM.next(group.getN(), OPERAND_COUNT, random);
+
+    operands = new IntegersModuloNAdditiveGroupElement[OPERAND_COUNT];
+    results = new IntegersModuloNAdditiveGroupElement[OPERAND_COUNT];
+    vector = new IntegersModuloNAdditiveGroupVector<>(group, OPERAND_COUNT);
+
+    for(int i = 0; i < OPERAND_COUNT; i++) {
+      operands[i] = group.getElement(values[i]);
+      vector.set(i, operands[i]);
+    }
+
+    encoded = new BufferChannel(OPERAND_COUNT * codec.fixedWidth(group) + (1 << 12));
+    dataBytes = new ByteArrayOutputStream(OPERAND_COUNT * (codec.fixedWidth(group) + Integer.BYTES + 1));
+
+    writeElements();
+    dataStreamWrite();
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  // Elements
+  //
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public BufferChannel writeElements() throws IOException {
+    encoded.clear();
+
+    final ElementWriter<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> writer = new ElementWriter<>(encoded, codec, group);
+
+    writer.writeAll(operands);
+    writer.flush();
+
+    return encoded;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public IntegersModuloNAdditiveGroupElement[] readElements() throws IOException {
+    encoded.rewind();
+
+    new ElementReader<>(encoded, codec, group).readAll(results);
+
+    return results;
+  }
+
+  // Vector
+  //
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public BufferChannel writeVector() throws IOException {
+    encoded.clear();
+
+    final ElementWriter<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> writer = new ElementWriter<>(encoded, codec, group);
+
+    writer.write(vector, 0, OPERAND_COUNT);
+    writer.flush();
+
+    return encoded;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public IntegersModuloNAdditiveGroupVector<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> readVector() throws IOException {
+    encoded.rewind();
+
+    new ElementReader<>(encoded, codec, group).readInto(vector, 0, OPERAND_COUNT);
+
+    return vector;
+  }
+
+  // Data streams
+  //
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public ByteArrayOutputStream dataStreamWrite() throws IOException {
+    dataBytes.reset();
+
+    final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(dataBytes));
+
+    for(final IntegersModuloNAdditiveGroupElement operand : operands) {
+      final byte[] bytes = operand.getValue().toByteArray();
+
+      output.writeInt(bytes.length);
+      output.write(bytes);
+    }
+
+    output.flush();
+
+    return dataBytes;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPERAND_COUNT)
+  public IntegersModuloNAdditiveGroupElement[] dataStreamRead() throws IOException {
+    final DataInputStream input = new DataInputStream(new BufferedInputStream(new ByteArrayInputStream(dataBytes.toByteArray())));
+
+    for(int i = 0; i < OPERAND_COUNT; i++) {
+      final byte[] bytes = new byte[input.readInt()];
+
+      input.readFully(bytes);
+      final BigInteger value = new BigInteger(bytes);
+
+      if(!group.hasElementSafe(value)) throw new IllegalArgumentException("The group does not contain the element.");
+
+      results[i] = group.getElementSafe(value);
+    }
+
+    return results;
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  /**
+   * An in-memory channel, so that the benchmarks measure encoding rather than I/O.
+   */
+  public static final class BufferChannel implements ReadableByteChannel, WritableByteChannel {
+
+    // Constructors
+    //--------------------------------------------------
+
+    BufferChannel(final int capacity) {
+      super();
+
+      this.buffer = ByteBuffer.allocateDirect(capacity);
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final ByteBuffer buffer;
+
+    private int written;
+
+    // Methods
+    //--------------------------------------------------
+
+    void clear() {
+      buffer.clear();
+    }
+
+    void rewind() {
+      if(buffer.limit() == buffer.capacity()) written = buffer.position();
+
+      buffer.limit(written).position(0);
+    }
+
+    // Overrides
+    //--------------------------------------------------
+
+    // Channel
+    //
+
+    @Override
+    public int read(final ByteBuffer destination) {
+      if(!buffer.hasRemaining()) return -1;
+
+      final ByteBuffer source = buffer.duplicate();
+
+      source.limit(source.position() + Math.min(source.remaining(), destination.remaining()));
+      destination.put(source);
+
+      final int count = source.position() - buffer.position();
+
+      buffer.position(source.position());
+
+      return count;
+    }
+
+    @Override
+    public int write(final ByteBuffer source) {
+      final int count = source.remaining();
+
+      buffer.put(source);
+
+      return count;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() {
+    }
+
+  }
+
+}
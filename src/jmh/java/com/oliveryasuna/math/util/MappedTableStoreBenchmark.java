@@ -0,0 +1,117 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.util;
+
+import com.oliveryasuna.math.algebra.group.CayleyTable;
+import com.oliveryasuna.math.algebra.group.concrete.integers.LongIntegersModuloNAdditiveGroup;
+import com.oliveryasuna.math.algebra.group.concrete.integers.LongIntegersModuloNAdditiveGroupElement;
+import com.oliveryasuna.math.algebra.group.logarithm.BabyStepGiantStep;
+import com.oliveryasuna.math.algebra.group.logarithm.StableFingerprint;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building tables against mapping them from a {@link MappedTableStore} that already holds them, as on a restart.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MappedTableStoreBenchmark {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final StableFingerprint<LongIntegersModuloNAdditiveGroupElement> FINGERPRINT = StableFingerprint.of("value",
+      LongIntegersModuloNAdditiveGroupElement::getValue);
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"40"})
+  public int bits;
+
+  @Param({"1024"})
+  public int cayleyOrder;
+
+  private MappedTableStore store;
+
+  private LongIntegersModuloNAdditiveGroup group;
+
+  private MappedTableStore.Key groupKey;
+
+  private LongIntegersModuloNAdditiveGroup cayleyGroup;
+
+  private MappedTableStore.Key cayleyKey;
+
+  // Setup
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    store = new MappedTableStore(Files.createTempDirectory("tables"));
+
+    group = new LongIntegersModuloNAdditiveGroup((1L << bits) - 87);
+    groupKey = MappedTableStore.Key.of(LongIntegersModuloNAdditiveGroup.class.getName(), group.getN(), "generator");
+
+    cayleyGroup = new LongIntegersModuloNAdditiveGroup(cayleyOrder);
+    cayleyKey = MappedTableStore.Key.of(LongIntegersModuloNAdditiveGroup.class.getName(), cayleyGroup.getN());
+
+    babyStepGiantStepMapped();
+    cayleyTableMapped();
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  // Baby-step giant-step
+  //
+
+  @Benchmark
+  public BabyStepGiantStep<LongIntegersModuloNAdditiveGroupElement> babyStepGiantStepBuilt() {
+    return new BabyStepGiantStep<>(group.operation(), group.generator(), group.order(), FINGERPRINT,
+        BabyStepGiantStep.DEFAULT_MAXIMUM_TABLE_BYTES, ForkJoinPool.commonPool());
+  }
+
+  @Benchmark
+  public BabyStepGiantStep<LongIntegersModuloNAdditiveGroupElement> babyStepGiantStepMapped() throws IOException {
+    return BabyStepGiantStep.mapped(store, groupKey, group.operation(), group.generator(), group.order(), FINGERPRINT,
+        BabyStepGiantStep.DEFAULT_MAXIMUM_TABLE_BYTES, ForkJoinPool.commonPool());
+  }
+
+  // Cayley table
+  //
+
+  @Benchmark
+  public CayleyTable<LongIntegersModuloNAdditiveGroupElement> cayleyTableBuilt() {
+    return CayleyTable.compile(cayleyGroup);
+  }
+
+  @Benchmark
+  public CayleyTable<LongIntegersModuloNAdditiveGroupElement> cayleyTableMapped() throws IOException {
+    return CayleyTable.compile(cayleyGroup, CayleyTable.DEFAULT_MAXIMUM_ORDER, ForkJoinPool.commonPool(), store, cayleyKey);
+  }
+
+}
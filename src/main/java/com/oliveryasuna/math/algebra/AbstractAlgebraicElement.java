@@ -20,8 +20,6 @@ package com.oliveryasuna.math.algebra;
 
 import com.oliveryasuna.commons.language.condition.Arguments;
 import com.oliveryasuna.commons.language.marker.Immutable;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 @Immutable
@@ -64,16 +62,16 @@ public abstract class AbstractAlgebraicElement<E extends AlgebraicElement<E, S>,
 
     final AbstractAlgebraicElement<?, ?> otherCasted = (AbstractAlgebraicElement<?, ?>)other;
 
-    return new EqualsBuilder()
-        .append(getStructure(), otherCasted.getStructure())
-        .isEquals();
+    return getStructure().equals(otherCasted.getStructure());
   }
 
+  /**
+   * @implNote Only accounts for the structure.
+   *     Subclasses holding a value must combine it with this, otherwise every element of a structure shares one hash code.
+   */
   @Override
   public int hashCode() {
-    return new HashCodeBuilder(17, 37)
-        .append(getStructure())
-        .toHashCode();
+    return getStructure().hashCode();
   }
 
   @Override
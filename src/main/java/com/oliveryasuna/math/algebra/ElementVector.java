@@ -0,0 +1,334 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A fixed-size vector of elements of one structure, whose values are stored outside the Java heap in direct buffers.
+ * <p>
+ * Each value takes a fixed number of little-endian 64-bit limbs, and values are laid out one after another, so a vector costs
+ * {@code 8 * limbCount} bytes per element, rather than an element, a structure pointer and a boxed value on the heap each.
+ * The buffers are split into chunks of at most \(2^{27}\) limbs, so that vectors larger than one buffer can be addressed.
+ * <p>
+ * Elements are only created when read by {@link #get(int)} or {@link #stream()}.
+ * Subclasses provide bulk operations, which work on the limbs directly.
+ * A new vector holds the value whose limbs are all zero.
+ * <p>
+ * The limbs are little-endian on every platform, so {@link #storage(int, int)} exposes them in the layout of a fixed-width stream, and they can
+ * be read from or written to a channel without conversion.
+ * <p>
+ * Vectors are not thread-safe, but disjoint ranges of indices may be written by different threads.
+ *
+ * @param <S> The type of structure.
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public abstract class ElementVector<S extends AlgebraicStructure<S, E>, E extends AlgebraicElement<E, S>> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int CHUNK_LIMB_BITS = 27;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Converts little-endian 64-bit limbs to a non-negative integer.
+   *
+   * @param limbs The limbs.
+   *
+   * @return The integer.
+   */
+  protected static BigInteger toBigInteger(final long[] limbs) {
+    final byte[] bytes = new byte[limbs.length * Long.BYTES + 1];
+
+    for(int limb = 0; limb < limbs.length; limb++) {
+      final int position = bytes.length - (limb + 1) * Long.BYTES;
+
+      for(int b = 0; b < Long.BYTES; b++) {
+        bytes[position + b] = (byte)(limbs[limb] >>> ((Long.BYTES - 1 - b) * Byte.SIZE));
+      }
+    }
+
+    return new BigInteger(bytes);
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param structure The structure of the elements.
+   * @param size      The number of elements.
+   * @param limbCount The number of 64-bit limbs per value.
+   */
+  protected ElementVector(final S structure, final int size, final int limbCount) {
+    super();
+
+    Arguments.requireNotNull(structure);
+    Arguments.requireTrue(size >= 0, "The size must be non-negative.");
+    Arguments.requireTrue(limbCount > 0 && limbCount <= (1 << CHUNK_LIMB_BITS), "Invalid number of limbs per value: " + limbCount + ".");
+
+    this.structure = structure;
+    this.size = size;
+    this.limbCount = limbCount;
+
+    // A power of two values per chunk, so that no value straddles two chunks.
+    this.chunkBits = 31 - Integer.numberOfLeadingZeros((1 << CHUNK_LIMB_BITS) / limbCount);
+    this.chunkMask = (1 << chunkBits) - 1;
+
+    final int chunkCount = (int)(((long)size + chunkMask) >>> chunkBits);
+
+    this.byteChunks = new ByteBuffer[chunkCount];
+    this.chunks = new LongBuffer[chunkCount];
+
+    for(int i = 0; i < chunkCount; i++) {
+      final int chunkValues = Math.min(size - (i << chunkBits), 1 << chunkBits);
+
+      byteChunks[i] = ByteBuffer.allocateDirect(chunkValues * limbCount * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+      chunks[i] = byteChunks[i].asLongBuffer();
+    }
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  protected final S structure;
+
+  protected final int size;
+
+  protected final int limbCount;
+
+  private final int chunkBits;
+
+  private final int chunkMask;
+
+  private final ByteBuffer[] byteChunks;
+
+  private final LongBuffer[] chunks;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Elements
+  //
+
+  /**
+   * Creates the element at an index.
+   *
+   * @param index The index.
+   *
+   * @return The element.
+   */
+  public abstract E get(int index);
+
+  /**
+   * Stores the value of an element at an index.
+   *
+   * @param index   The index.
+   * @param element The element, which must belong to the structure of the vector.
+   */
+  public abstract void set(int index, E element);
+
+  /**
+   * Checks that stored values are values of elements, such as after they were written through {@link #storage(int, int)}.
+   *
+   * @param from  The first index.
+   * @param count The number of values.
+   *
+   * @throws IllegalArgumentException If a value is not the value of an element.
+   */
+  public abstract void checkValues(int from, int count);
+
+  /**
+   * Streams the elements, creating each as it is reached.
+   *
+   * @return The elements, in order.
+   */
+  public Stream<E> stream() {
+    return IntStream.range(0, size).mapToObj(this::get);
+  }
+
+  // Storage
+  //
+
+  /**
+   * Gets a view of the limbs of consecutive values, which must lie in one chunk.
+   * <p>
+   * Writing through the view bypasses the checks of {@link #set(int, AlgebraicElement)}, so writers must call {@link #checkValues(int, int)}
+   * afterward.
+   *
+   * @param from  The first index.
+   * @param count The number of values, at most {@link #contiguousValues(int)}.
+   *
+   * @return A little-endian view of {@code 8 * limbCount * count} bytes.
+   */
+  public ByteBuffer storage(final int from, final int count) {
+    Arguments.requireTrue(count >= 0 && count <= contiguousValues(from), "The values do not lie in one chunk.");
+
+    // From the end of the last chunk, there is no chunk to view.
+    if(count == 0) return ByteBuffer.allocateDirect(0).order(ByteOrder.LITTLE_ENDIAN);
+
+    final ByteBuffer view = byteChunks[from >>> chunkBits].duplicate();
+    final int offset = offset(from) * Long.BYTES;
+
+    view.limit(offset + count * limbCount * Long.BYTES).position(offset);
+
+    return view.slice().order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * Gets the number of values from an index to the end of its chunk, or of the vector.
+   *
+   * @param from The index, in \([0,size]\).
+   *
+   * @return The number of values that {@link #storage(int, int)} can view at once from {@code from}.
+   */
+  public int contiguousValues(final int from) {
+    if(from < 0 || from > size) throw new IndexOutOfBoundsException("Index " + from + " out of bounds for size " + size + ".");
+
+    return (int)Math.min(size, ((long)(from >>> chunkBits) + 1) << chunkBits) - from;
+  }
+
+  /**
+   * Gets the chunk holding the value at an index.
+   *
+   * @param index The index.
+   *
+   * @return The chunk, whose limbs for the value start at {@link #offset(int)}.
+   */
+  protected final LongBuffer chunk(final int index) {
+    return chunks[index >>> chunkBits];
+  }
+
+  /**
+   * Gets the position of the first limb of the value at an index within its {@linkplain #chunk(int) chunk}.
+   *
+   * @param index The index.
+   *
+   * @return The position.
+   */
+  protected final int offset(final int index) {
+    return (index & chunkMask) * limbCount;
+  }
+
+  protected final void checkIndex(final int index) {
+    if(index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size + ".");
+  }
+
+  protected final void checkSameShape(final ElementVector<?, ?> other) {
+    Arguments.requireNotNull(other);
+    Arguments.requireTrue(other.structure.equals(structure), "The vectors belong to different structures.");
+    if(other.size != size) throw new IllegalArgumentException("The vectors differ in size: " + size + " and " + other.size + ".");
+  }
+
+  /**
+   * Copies the limbs of the value at an index.
+   *
+   * @param index The index.
+   * @param limbs The array of {@link #getLimbCount()} limbs to which the value is copied.
+   */
+  protected final void readLimbs(final int index, final long[] limbs) {
+    final LongBuffer chunk = chunk(index);
+    final int offset = offset(index);
+
+    for(int limb = 0; limb < limbCount; limb++) {
+      limbs[limb] = chunk.get(offset + limb);
+    }
+  }
+
+  /**
+   * Stores limbs as the value at an index.
+   *
+   * @param index The index.
+   * @param limbs The {@link #getLimbCount()} limbs.
+   */
+  protected final void writeLimbs(final int index, final long[] limbs) {
+    final LongBuffer chunk = chunk(index);
+    final int offset = offset(index);
+
+    for(int limb = 0; limb < limbCount; limb++) {
+      chunk.put(offset + limb, limbs[limb]);
+    }
+  }
+
+  /**
+   * Reads the value at an index as a non-negative integer.
+   *
+   * @param index The index.
+   *
+   * @return The value.
+   */
+  protected final BigInteger readBigInteger(final int index) {
+    final long[] limbs = new long[limbCount];
+
+    readLimbs(index, limbs);
+
+    return toBigInteger(limbs);
+  }
+
+  /**
+   * Writes a non-negative integer that fits in {@link #getLimbCount()} limbs as the value at an index.
+   *
+   * @param index The index.
+   * @param value The value.
+   */
+  protected final void writeBigInteger(final int index, final BigInteger value) {
+    final LongBuffer chunk = chunk(index);
+    final int offset = offset(index);
+
+    for(int limb = 0; limb < limbCount; limb++) {
+      chunk.put(offset + limb, value.shiftRight(limb * Long.SIZE).longValue());
+    }
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public S getStructure() {
+    return structure;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int getLimbCount() {
+    return limbCount;
+  }
+
+  /**
+   * Gets the number of bytes of storage, outside the Java heap.
+   *
+   * @return The number of bytes.
+   */
+  public long getSizeInBytes() {
+    return (long)size * limbCount * Long.BYTES;
+  }
+
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.group.operation.GroupOperation;
+import com.oliveryasuna.math.util.ArrayUtils;
+import com.oliveryasuna.math.util.MappedTableStore;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * The Cayley table of a small finite group, compiled to indices.
+ * <p>
+ * Elements are numbered \(0,1,\ldots,order-1\) in the order of {@link FiniteGroup#elements()}.
+ * The product of every pair of indices is stored in one flat array of the narrowest type that holds an index, {@code byte[]} up to order
+ * \(2^8\) and {@code short[]} beyond, so {@link #perform(int, int)} is a single array lookup.
+ * <p>
+ * The table has \(order^2\) cells, so orders are capped at {@link #MAXIMUM_ORDER}, the largest whose table fits in one array.
+ * <p>
+ * The indices can be persisted in a {@link MappedTableStore}, so that a restart only enumerates the elements and copies the stored cells,
+ * rather than performing \(order^2\) operations.
+ *
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class CayleyTable<E extends GroupElement<E, ?>> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The largest order whose table fits in one array.
+   */
+  public static final int MAXIMUM_ORDER = 46340;
+
+  /**
+   * The default maximum order, for which a table takes at most \(32\) MiB.
+   */
+  public static final int DEFAULT_MAXIMUM_ORDER = 1 << 12;
+
+  /**
+   * The kind of table in a {@link MappedTableStore}.
+   */
+  public static final String TABLE_KIND = "cayley";
+
+  /**
+   * The version of the stored table layout: the identity and the inverses, as {@code int}s, then the cells.
+   */
+  public static final int TABLE_VERSION = 1;
+
+  private static final int BYTE_ORDER = 1 << Byte.SIZE;
+
+  // Static initialization methods
+  //--------------------------------------------------
+
+  /**
+   * Compiles the Cayley table of a group of order at most {@link #DEFAULT_MAXIMUM_ORDER} on the common pool.
+   *
+   * @param group The group.
+   * @param <S>   The type of group.
+   * @param <E>   The type of elements.
+   *
+   * @return The table.
+   *
+   * @throws IllegalArgumentException If the order of the group exceeds {@link #DEFAULT_MAXIMUM_ORDER}.
+   */
+  public static <S extends FiniteGroup<S, E>, E extends GroupElement<E, S>> CayleyTable<E> compile(final FiniteGroup<S, E> group) {
+    return compile(group, DEFAULT_MAXIMUM_ORDER, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Compiles the Cayley table of a group, filling rows in parallel.
+   *
+   * @param group        The group.
+   * @param maximumOrder The largest order to compile, at most {@link #MAXIMUM_ORDER}.
+   * @param pool         The pool on which to fill rows.
+   * @param <S>          The type of group.
+   * @param <E>          The type of elements.
+   *
+   * @return The table.
+   *
+   * @throws IllegalArgumentException If the order of the group exceeds {@code maximumOrder}.
+   */
+  public static <S extends FiniteGroup<S, E>, E extends GroupElement<E, S>> CayleyTable<E> compile(final FiniteGroup<S, E> group,
+      final int maximumOrder, final ForkJoinPool pool) {
+    Arguments.requireNotNull(group);
+    Arguments.requireNotNull(pool);
+    Arguments.requireTrue(maximumOrder > 0 && maximumOrder <= MAXIMUM_ORDER, "The maximum order must be in [1," + MAXIMUM_ORDER + "].");
+    Arguments.requireTrue(group.order().compareTo(BigInteger.valueOf(maximumOrder)) <= 0,
+        "The order of the group, " + group.order() + ", exceeds " + maximumOrder + ".");
+
+    final Object[] elements = group.elements().toArray();
+
+    return new CayleyTable<>(group.operation(), elements, pool);
+  }
+
+  /**
+   * Maps the Cayley table of a group from a store, compiling and storing it first if it is absent.
+   * <p>
+   * The stored table only holds indices, so {@code key} must identify the group, and {@link FiniteGroup#elements()} must enumerate its elements in
+   * the same order every time.
+   * The order is appended to the key.
+   *
+   * @param group        The group.
+   * @param maximumOrder The largest order to compile, at most {@link #MAXIMUM_ORDER}.
+   * @param pool         The pool on which to fill rows, if the table is compiled.
+   * @param store        The store.
+   * @param key          Identifies the group.
+   * @param <S>          The type of group.
+   * @param <E>          The type of elements.
+   *
+   * @return The table.
+   *
+   * @throws IllegalArgumentException If the order of the group exceeds {@code maximumOrder}, or the stored table is corrupt.
+   * @throws IOException              If the table cannot be read or stored.
+   */
+  public static <S extends FiniteGroup<S, E>, E extends GroupElement<E, S>> CayleyTable<E> compile(final FiniteGroup<S, E> group,
+      final int maximumOrder, final ForkJoinPool pool, final MappedTableStore store, final MappedTableStore.Key key) throws IOException {
+    Arguments.requireNotNull(group);
+    Arguments.requireNotNull(store);
+    Arguments.requireNotNull(key);
+    Arguments.requireTrue(maximumOrder > 0 && maximumOrder <= MAXIMUM_ORDER, "The maximum order must be in [1," + MAXIMUM_ORDER + "].");
+    Arguments.requireTrue(group.order().compareTo(BigInteger.valueOf(maximumOrder)) <= 0,
+        "The order of the group, " + group.order() + ", exceeds " + maximumOrder + ".");
+
+    final MappedTableStore.Key orderKey = key.append(group.order());
+    final Optional<ByteBuffer> stored = store.find(TABLE_KIND, TABLE_VERSION, orderKey);
+
+    if(stored.isPresent()) return new CayleyTable<>(group.elements().toArray(), stored.get());
+
+    final CayleyTable<E> table = compile(group, maximumOrder, pool);
+
+    store.computeIfAbsent(TABLE_KIND, TABLE_VERSION, orderKey, table.storedSizeInBytes(), table::store);
+
+    return table;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private CayleyTable(final GroupOperation<E> operation, final Object[] elements, final ForkJoinPool pool) {
+    super();
+
+    this.elements = elements;
+    this.order = elements.length;
+    this.indices = indices();
+
+    final int order = this.order;
+
+    if(order <= BYTE_ORDER) {
+      final byte[] bytes = new byte[order * order];
+
+      fillRows(pool, order, row -> {
+        for(int column = 0; column < order; column++) {
+          bytes[row * order + column] = (byte)indexOf(operation.perform(element(row), element(column)));
+        }
+      });
+
+      this.bytes = bytes;
+      this.shorts = null;
+    } else {
+      final short[] shorts = new short[order * order];
+
+      fillRows(pool, order, row -> {
+        for(int column = 0; column < order; column++) {
+          shorts[row * order + column] = (short)indexOf(operation.perform(element(row), element(column)));
+        }
+      });
+
+      this.bytes = null;
+      this.shorts = shorts;
+    }
+
+    this.identity = indexOf(operation.identity());
+    this.inverses = new int[order];
+
+    for(int i = 0; i < order; i++) {
+      inverses[i] = indexOf(operation.inverse(element(i)));
+    }
+  }
+
+  private CayleyTable(final Object[] elements, final ByteBuffer payload) {
+    super();
+
+    this.elements = elements;
+    this.order = elements.length;
+    this.indices = indices();
+
+    final ByteBuffer buffer = payload.duplicate().order(payload.order());
+    final int cellBytes = (order <= BYTE_ORDER ? Byte.BYTES : Short.BYTES);
+
+    Arguments.requireTrue(buffer.remaining() == Integer.BYTES * (1 + order) + cellBytes * order * order,
+        "The stored table does not match the order of the group, " + order + ".");
+
+    this.identity = requireIndex(buffer.getInt());
+    this.inverses = new int[order];
+
+    buffer.asIntBuffer().get(inverses);
+    buffer.position(buffer.position() + Integer.BYTES * order);
+
+    for(final int inverse : inverses) {
+      requireIndex(inverse);
+    }
+
+    // Indices are read unsigned, so only the upper bound needs checking.
+    if(cellBytes == Byte.BYTES) {
+      this.bytes = new byte[order * order];
+      this.shorts = null;
+
+      buffer.get(bytes);
+
+      for(final byte cell : bytes) {
+        requireIndex(cell & 0xFF);
+      }
+    } else {
+      this.bytes = null;
+      this.shorts = new short[order * order];
+
+      buffer.asShortBuffer().get(shorts);
+
+      for(final short cell : shorts) {
+        requireIndex(cell & 0xFFFF);
+      }
+    }
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Object[] elements;
+
+  private final Map<E, Integer> indices;
+
+  private final int order;
+
+  /**
+   * The table, if the order is at most \(2^8\); otherwise, {@code null}.
+   * Indices are stored unsigned.
+   */
+  private final byte[] bytes;
+
+  /**
+   * The table, if the order exceeds \(2^8\); otherwise, {@code null}.
+   * Indices are stored unsigned.
+   */
+  private final short[] shorts;
+
+  private final int identity;
+
+  private final int[] inverses;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Gets the index of the product of two elements.
+   *
+   * @param multiplier   The index of the multiplier.
+   * @param multiplicand The index of the multiplicand.
+   *
+   * @return The index of their product.
+   */
+  public int perform(final int multiplier, final int multiplicand) {
+    final int cell = multiplier * order + multiplicand;
+
+    return (bytes != null ? bytes[cell] & 0xFF : shorts[cell] & 0xFFFF);
+  }
+
+  /**
+   * Gets the product of two elements.
+   *
+   * @param multiplier   The multiplier.
+   * @param multiplicand The multiplicand.
+   *
+   * @return Their product.
+   *
+   * @throws IllegalArgumentException If either element is not in the group.
+   */
+  public E perform(final E multiplier, final E multiplicand) {
+    return element(perform(indexOf(multiplier), indexOf(multiplicand)));
+  }
+
+  /**
+   * Multiplies indices element-wise: {@code products[i] = perform(multipliers[i], multiplicands[i])}.
+   *
+   * @param multipliers   The indices of the multipliers.
+   * @param multiplicands The indices of the multiplicands.
+   * @param products      The array to which the indices of the products are written.
+   *
+   * @throws IllegalArgumentException If the arrays differ in length.
+   */
+  public void performAll(final int[] multipliers, final int[] multiplicands, final int[] products) {
+    ArrayUtils.requireSameLength(multipliers.length, multiplicands.length, products.length);
+
+    final int order = this.order;
+
+    if(bytes != null) {
+      final byte[] bytes = this.bytes;
+
+      for(int i = 0; i < products.length; i++) {
+        products[i] = bytes[multipliers[i] * order + multiplicands[i]] & 0xFF;
+      }
+    } else {
+      final short[] shorts = this.shorts;
+
+      for(int i = 0; i < products.length; i++) {
+        products[i] = shorts[multipliers[i] * order + multiplicands[i]] & 0xFFFF;
+      }
+    }
+  }
+
+  /**
+   * Gets the index of the inverse of an element.
+   *
+   * @param index The index of the element.
+   *
+   * @return The index of its inverse.
+   */
+  public int inverse(final int index) {
+    return inverses[index];
+  }
+
+  /**
+   * Gets the element at an index.
+   *
+   * @param index The index.
+   *
+   * @return The element.
+   */
+  @SuppressWarnings("unchecked")
+  public E element(final int index) {
+    // Every element was enumerated from a group of E.
+    return (E)elements[index];
+  }
+
+  /**
+   * Gets the index of an element.
+   *
+   * @param element The element.
+   *
+   * @return The index.
+   *
+   * @throws IllegalArgumentException If the element is not in the group.
+   */
+  public int indexOf(final E element) {
+    final Integer index = indices.get(element);
+
+    Arguments.requireTrue(index != null, "The element is not in the group: " + element + ".");
+
+    return index;
+  }
+
+  /**
+   * Writes the layout of {@link #TABLE_VERSION} into a buffer of {@link #storedSizeInBytes()} bytes.
+   */
+  private void store(final ByteBuffer buffer) {
+    buffer.putInt(identity);
+    buffer.asIntBuffer().put(inverses);
+    buffer.position(buffer.position() + Integer.BYTES * order);
+
+    if(bytes != null) {
+      buffer.put(bytes);
+    } else {
+      buffer.asShortBuffer().put(shorts);
+    }
+  }
+
+  private long storedSizeInBytes() {
+    return Integer.BYTES * (1L + order) + (long)(bytes != null ? Byte.BYTES : Short.BYTES) * order * order;
+  }
+
+  /**
+   * Checks that a stored index is an element of the group, so a corrupt table fails when it is loaded rather than when it is read.
+   */
+  private int requireIndex(final int index) {
+    Arguments.requireTrue(index >= 0 && index < order, "The stored table holds an index outside the group of order " + order + ": " + index + ".");
+
+    return index;
+  }
+
+  private Map<E, Integer> indices() {
+    final Map<E, Integer> indices = new HashMap<>(order * 2);
+
+    for(int i = 0; i < order; i++) {
+      indices.put(element(i), i);
+    }
+
+    return indices;
+  }
+
+  private static void fillRows(final ForkJoinPool pool, final int rows, final IntConsumer fillRow) {
+    pool.submit(() -> IntStream.range(0, rows).parallel().forEach(fillRow)).join();
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public int getOrder() {
+    return order;
+  }
+
+  /**
+   * Gets the index of the identity.
+   *
+   * @return The index of the identity.
+   */
+  public int getIdentity() {
+    return identity;
+  }
+
+}
@@ -20,6 +20,8 @@ package com.oliveryasuna.math.algebra.group;
 
 import com.oliveryasuna.math.algebra.group.operation.CommutativeGroupOperation;
 
+import java.math.BigInteger;
+
 /**
  * Represents a commutative group.
  *
@@ -33,4 +35,18 @@ public interface CommutativeGroup<S extends CommutativeGroup<S, E>, E extends Co
   @Override
   CommutativeGroupOperation<E> operation();
 
+  /**
+   * Computes the product of powers \(\prod_i bases_i^{exponents_i}\) under this group's operation.
+   *
+   * @param bases     The bases.
+   * @param exponents The exponents, which may be negative.
+   *
+   * @return The product of powers.
+   *
+   * @see CommutativeGroupOperation#multiPower(CommutativeGroupElement[], BigInteger[])
+   */
+  default E multiPower(final E[] bases, final BigInteger[] exponents) {
+    return operation().multiPower(bases, exponents);
+  }
+
 }
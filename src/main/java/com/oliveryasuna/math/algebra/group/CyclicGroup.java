@@ -18,6 +18,10 @@
 
 package com.oliveryasuna.math.algebra.group;
 
+import com.oliveryasuna.math.algebra.operation.FixedBaseExponentiation;
+
+import java.math.BigInteger;
+
 /**
  * Represents a cyclic group.
  *
@@ -35,4 +39,19 @@ public interface CyclicGroup<S extends CyclicGroup<S, E>, E extends GroupElement
    */
   E generator();
 
+  /**
+   * Computes a power of the generator.
+   *
+   * @param exponent The exponent.
+   *
+   * @return \(generator^{exponent}\).
+   *
+   * @implNote By default, returns {@code operation().power(generator(), exponent)}.
+   *     Groups without a closed form for powers, whose generator is raised to many different exponents, should override this with a
+   *     {@link FixedBaseExponentiation} held by the group.
+   */
+  default E generatorPower(final BigInteger exponent) {
+    return operation().power(generator(), exponent);
+  }
+
 }
@@ -18,6 +18,8 @@
 
 package com.oliveryasuna.math.algebra.group;
 
+import com.oliveryasuna.commons.language.condition.Arguments;
+
 import java.math.BigInteger;
 import java.util.stream.Stream;
 
@@ -43,6 +45,17 @@ public interface FiniteGroup<S extends FiniteGroup<S, E>, E extends GroupElement
     return elementCount();
   }
 
+  /**
+   * Gets whether every element of this group was created up front, in which case equal elements are the same instance.
+   *
+   * @return {@code true}, if the elements are materialized; {@code false}, otherwise.
+   *
+   * @implNote By default, returns {@code false}.
+   */
+  default boolean isMaterialized() {
+    return false;
+  }
+
   /**
    * @implSpec Since a finite group has a finite set of elements, this method must be implemented and must not throw a
    *     {@link UnsupportedOperationException}.
@@ -50,6 +63,33 @@ public interface FiniteGroup<S extends FiniteGroup<S, E>, E extends GroupElement
   @Override
   Stream<E> elements();
 
+  /**
+   * Gets a contiguous run of the elements, in the order of {@link #elements()}.
+   * <p>
+   * Disjoint runs can be enumerated independently, for example, one per machine or per core.
+   *
+   * @param offset The index of the first element.
+   * @param count  The number of elements.
+   *
+   * @return The elements at indices \([offset,offset+count)\).
+   *
+   * @throws IllegalArgumentException If the run is not within \([0,order)\).
+   * @implSpec Implementations should return a stream whose spliterator is {@link java.util.Spliterator#SIZED} and
+   *     {@link java.util.Spliterator#SUBSIZED}, and splits by index, so that parallel streams divide the run evenly.
+   * @implNote By default, skips the first {@code offset} elements of {@link #elements()}, which does not scale and requires the run to be
+   *     within the first \(2^{63}\) elements.
+   */
+  default Stream<E> elements(final BigInteger offset, final BigInteger count) {
+    Arguments.requireNotNull(offset);
+    Arguments.requireNotNull(count);
+    Arguments.requireTrue(offset.signum() >= 0 && count.signum() >= 0 && offset.add(count).compareTo(order()) <= 0,
+        "The run [" + offset + "," + offset.add(count) + ") is not within the group.");
+
+    return elements()
+        .skip(offset.longValueExact())
+        .limit(count.longValueExact());
+  }
+
   /**
    * @implSpec Since a finite group has a finite set of elements, this method must be implemented and must not throw a
    *     {@link UnsupportedOperationException}.
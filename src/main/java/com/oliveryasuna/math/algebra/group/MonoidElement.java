@@ -18,6 +18,8 @@
 
 package com.oliveryasuna.math.algebra.group;
 
+import java.math.BigInteger;
+
 /**
  * Represents an element of a monoid.
  *
@@ -28,4 +30,31 @@ package com.oliveryasuna.math.algebra.group;
  */
 public interface MonoidElement<E extends MonoidElement<E, S>, S extends Monoid<S, E>> extends UnitalMagmaElement<E, S>, SemigroupElement<E, S> {
 
+  /**
+   * Operates this element with itself {@code exponent} times.
+   *
+   * @param exponent The exponent, which may be negative only in a group.
+   *
+   * @return \(this^{exponent}\).
+   *
+   * @implSpec Implementations must use the structure's operation, as the operation is defined by the structure, not an element.
+   */
+  // By the bound on E, this is an E.
+  @SuppressWarnings("unchecked")
+  default E pow(final BigInteger exponent) {
+    return getStructure().operation()
+        .power((E)this, exponent);
+  }
+
+  /**
+   * See {@link #pow(BigInteger)}.
+   *
+   * @param exponent The exponent, which may be negative only in a group.
+   *
+   * @return \(this^{exponent}\).
+   */
+  default E pow(final long exponent) {
+    return pow(BigInteger.valueOf(exponent));
+  }
+
 }
@@ -24,6 +24,7 @@ import com.oliveryasuna.math.algebra.CommonAlgebraicStructure;
 import com.oliveryasuna.math.algebra.group.CommutativeGroup;
 import com.oliveryasuna.math.algebra.group.CyclicGroup;
 import com.oliveryasuna.math.algebra.group.operation.CommutativeGroupOperation;
+import com.oliveryasuna.math.util.ArrayUtils;
 
 import java.math.BigInteger;
 
@@ -118,6 +119,26 @@ public abstract class IntegersAdditiveGroupBase<S extends IntegersAdditiveGroupB
       return IntegersAdditiveGroupBase.this.getElementSafe(augend.getValue().add(addend.getValue()));
     }
 
+    @Override
+    public void performAll(final E[] augends, final E[] addends, final E[] sums) {
+      ArrayUtils.requireSameLength(augends.length, addends.length, sums.length);
+
+      for(int i = 0; i < sums.length; i++) {
+        sums[i] = IntegersAdditiveGroupBase.this.getElementSafe(augends[i].getValue().add(addends[i].getValue()));
+      }
+    }
+
+    @Override
+    public void performAllRight(final E[] augends, final E addend, final E[] sums) {
+      ArrayUtils.requireSameLength(augends.length, sums.length);
+
+      final BigInteger addendValue = addend.getValue();
+
+      for(int i = 0; i < sums.length; i++) {
+        sums[i] = IntegersAdditiveGroupBase.this.getElementSafe(augends[i].getValue().add(addendValue));
+      }
+    }
+
     // Identity
     //
 
@@ -134,6 +155,30 @@ public abstract class IntegersAdditiveGroupBase<S extends IntegersAdditiveGroupB
       return IntegersAdditiveGroupBase.this.getElementSafe(element.getValue().negate());
     }
 
+    // MonoidOperation
+    //
+
+    @Override
+    public E power(final E base, final BigInteger exponent) {
+      return IntegersAdditiveGroupBase.this.getElementSafe(base.getValue().multiply(exponent));
+    }
+
+    // CommutativeGroupOperation
+    //
+
+    @Override
+    public E multiPower(final E[] bases, final BigInteger[] exponents) {
+      ArrayUtils.requireSameLength(bases.length, exponents.length);
+
+      BigInteger sum = BigInteger.ZERO;
+
+      for(int i = 0; i < bases.length; i++) {
+        sum = sum.add(bases[i].getValue().multiply(exponents[i]));
+      }
+
+      return IntegersAdditiveGroupBase.this.getElementSafe(sum);
+    }
+
     // TODO: Object methods
     //--------------------------------------------------
 
@@ -22,6 +22,7 @@ import com.oliveryasuna.commons.language.marker.Immutable;
 import com.oliveryasuna.math.algebra.AbstractAlgebraicElement;
 import com.oliveryasuna.math.algebra.group.CommutativeGroupElement;
 import com.oliveryasuna.math.algebra.group.helper.AdditiveMagmaElement;
+import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.math.BigInteger;
 
@@ -48,6 +49,11 @@ public class IntegersAdditiveGroupElementBase<E extends IntegersAdditiveGroupEle
 
   protected final BigInteger value;
 
+  /**
+   * The cached hash code, or {@code 0} if not yet computed.
+   */
+  private int hash;
+
   // Getters
   //--------------------------------------------------s
 
@@ -55,7 +61,38 @@ public class IntegersAdditiveGroupElementBase<E extends IntegersAdditiveGroupEle
     return value;
   }
 
-  // TODO: Object methods
+  // Object methods
   //--------------------------------------------------
 
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(!super.equals(other)) return false;
+
+    final IntegersAdditiveGroupElementBase<?, ?> otherCasted = (IntegersAdditiveGroupElementBase<?, ?>)other;
+
+    return value.equals(otherCasted.value);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = hash;
+
+    if(result == 0) {
+      result = 31 * super.hashCode() + value.hashCode();
+
+      hash = result;
+    }
+
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .appendSuper(super.toString())
+        .append("value", value)
+        .toString();
+  }
+
 }
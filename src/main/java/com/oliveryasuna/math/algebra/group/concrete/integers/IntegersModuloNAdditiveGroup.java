@@ -30,7 +30,11 @@ public class IntegersModuloNAdditiveGroup extends IntegersModuloNAdditiveGroupBa
   //--------------------------------------------------
 
   public IntegersModuloNAdditiveGroup(final BigInteger n) {
-    super(n);
+    super(n, IntegersModuloNAdditiveGroupElement::new);
+  }
+
+  public IntegersModuloNAdditiveGroup(final BigInteger n, final int materializationBound) {
+    super(n, materializationBound, IntegersModuloNAdditiveGroupElement::new);
   }
 
   // Overrides
@@ -41,7 +45,9 @@ public class IntegersModuloNAdditiveGroup extends IntegersModuloNAdditiveGroupBa
 
   @Override
   public IntegersModuloNAdditiveGroupElement getElementSafe(final BigInteger value) {
-    return new IntegersModuloNAdditiveGroupElement(value, this);
+    final IntegersModuloNAdditiveGroupElement element = getMaterializedElement(value);
+
+    return (element != null ? element : new IntegersModuloNAdditiveGroupElement(value, this));
   }
 
 }
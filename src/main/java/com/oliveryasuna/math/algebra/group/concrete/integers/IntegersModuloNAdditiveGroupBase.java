@@ -25,10 +25,15 @@ import com.oliveryasuna.math.algebra.group.CommutativeGroup;
 import com.oliveryasuna.math.algebra.group.CyclicGroup;
 import com.oliveryasuna.math.algebra.group.FiniteGroup;
 import com.oliveryasuna.math.algebra.group.operation.CommutativeGroupOperation;
+import com.oliveryasuna.math.util.ArrayUtils;
 import com.oliveryasuna.math.util.BigIntegerUtils;
+import com.oliveryasuna.math.util.RangeSpliterators;
 
 import java.math.BigInteger;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 // TODO: Javadoc.
 @Immutable
@@ -39,17 +44,38 @@ public abstract class IntegersModuloNAdditiveGroupBase
   // Constructors
   //--------------------------------------------------
 
-  protected IntegersModuloNAdditiveGroupBase(final BigInteger n) {
+  protected IntegersModuloNAdditiveGroupBase(final BigInteger n, final BiFunction<BigInteger, S, E> elementFactory) {
+    this(n, 0, elementFactory);
+  }
+
+  /**
+   * Creates the group, materializing its elements if {@code n} does not exceed {@code materializationBound}.
+   * <p>
+   * A materialized group creates all \(n\) elements once, and {@link #getElementSafe(Object)} and the operation return those shared instances
+   * instead of allocating.
+   * <p>
+   * The elements created here, the materialized ones, the identity and the generator, are created by {@code elementFactory} rather than by
+   * {@link #getElementSafe(Object)}, which a subclass may override to read fields not yet initialized.
+   *
+   * @param n                    The modulo.
+   * @param materializationBound The largest modulo for which elements are materialized.
+   * @param elementFactory       Creates the element with a value in \([0,n)\) of a structure.
+   */
+  protected IntegersModuloNAdditiveGroupBase(final BigInteger n, final int materializationBound, final BiFunction<BigInteger, S, E> elementFactory) {
     super();
 
     Arguments.requireNotNull(n, "The group requires a modulo. Thus, it cannot be null.");
     Arguments.requireGreater(n.compareTo(BigInteger.ZERO), "The group requires a positive modulo.");
-
-    this.operation = new AdditionOperation();
+    Arguments.requireTrue(materializationBound >= 0, "The materialization bound cannot be negative.");
+    Arguments.requireNotNull(elementFactory, "The group requires an element factory. Thus, it cannot be null.");
 
     this.n = n;
 
-    this.generator = getElement(this.n); // TODO: Is this right?
+    this.elementTable = (n.compareTo(BigInteger.valueOf(materializationBound)) <= 0 ? createElementTable(n.intValue(), elementFactory) : null);
+
+    this.operation = new AdditionOperation(createElement(BigInteger.ZERO, elementFactory));
+
+    this.generator = createElement(BigInteger.ONE.mod(this.n), elementFactory);
   }
 
   // Fields
@@ -59,8 +85,72 @@ public abstract class IntegersModuloNAdditiveGroupBase
 
   protected final BigInteger n;
 
+  /**
+   * The element with value \(i\) at index \(i\), if materialized; otherwise, {@code null}.
+   * Read through {@link #elementAt(int)}.
+   */
+  private final Object[] elementTable;
+
   protected final E generator;
 
+  // Methods
+  //--------------------------------------------------
+
+  // Elements
+  //
+
+  private Object[] createElementTable(final int size, final BiFunction<BigInteger, S, E> elementFactory) {
+    final Object[] table = new Object[size];
+
+    for(int i = 0; i < size; i++) {
+      table[i] = elementFactory.apply(BigInteger.valueOf(i), self());
+    }
+
+    return table;
+  }
+
+  /**
+   * Creates an element during construction, taking it from the element table if materialized.
+   */
+  private E createElement(final BigInteger value, final BiFunction<BigInteger, S, E> elementFactory) {
+    return (elementTable != null ? elementAt(value.intValue()) : elementFactory.apply(value, self()));
+  }
+
+  /**
+   * Reads an entry of the element table.
+   * <p>
+   * This is the only place its entries are cast back; all were created by the element factory, so are {@code E}.
+   *
+   * @param index The index, in \([0,n)\).
+   *
+   * @return The element with value {@code index}.
+   */
+  @SuppressWarnings("unchecked")
+  private E elementAt(final int index) {
+    return (E)elementTable[index];
+  }
+
+  @SuppressWarnings("unchecked")
+  private S self() {
+    return (S)this;
+  }
+
+  /**
+   * Gets the shared instance of an element, if the elements are materialized.
+   * Implementations of {@link #getElementSafe(Object)} should return it when it is not {@code null}.
+   *
+   * @param value The value.
+   *
+   * @return The shared instance, or {@code null} if the elements are not materialized or {@code value} does not belong to this group.
+   */
+  protected E getMaterializedElement(final BigInteger value) {
+    if(elementTable == null || value.signum() < 0 || value.bitLength() >= Integer.SIZE) return null;
+
+    final int index = value.intValue();
+
+    return (index < elementTable.length ? elementAt(index) : null);
+  }
+
   // Overrides
   //--------------------------------------------------
 
@@ -83,10 +173,28 @@ public abstract class IntegersModuloNAdditiveGroupBase
   // FiniteGroup
   //
 
+  @Override
+  public boolean isMaterialized() {
+    return (elementTable != null);
+  }
+
   @Override
   public Stream<E> elements() {
-    return Stream.iterate(BigInteger.ZERO, i -> i.compareTo(getN()) < 0, BigIntegerUtils::increment) // TODO: Is this right?
-        .map(this::getElementSafe);
+    if(elementTable != null) return IntStream.range(0, elementTable.length).mapToObj(this::elementAt);
+
+    return StreamSupport.stream(RangeSpliterators.of(BigInteger.ZERO, getN(), this::getElementSafe), false);
+  }
+
+  @Override
+  public Stream<E> elements(final BigInteger offset, final BigInteger count) {
+    Arguments.requireNotNull(offset);
+    Arguments.requireNotNull(count);
+    Arguments.requireTrue(offset.signum() >= 0 && count.signum() >= 0 && offset.add(count).compareTo(getN()) <= 0,
+        "The run [" + offset + "," + offset.add(count) + ") is not within the group.");
+
+    if(elementTable != null) return IntStream.range(offset.intValue(), offset.add(count).intValue()).mapToObj(this::elementAt);
+
+    return StreamSupport.stream(RangeSpliterators.of(offset, offset.add(count), this::getElementSafe), false);
   }
 
   @Override
@@ -120,10 +228,10 @@ public abstract class IntegersModuloNAdditiveGroupBase
     // Constructors
     //--------------------------------------------------
 
-    protected AdditionOperation() {
+    protected AdditionOperation(final E identity) {
       super();
 
-      this.identity = IntegersModuloNAdditiveGroupBase.this.getElement(BigInteger.ZERO);
+      this.identity = identity;
     }
 
     // Fields
@@ -139,9 +247,56 @@ public abstract class IntegersModuloNAdditiveGroupBase
 
     @Override
     public E perform(final E augend, final E addend) {
+      if(elementTable != null) {
+        final int sum = augend.getValue().intValue() + addend.getValue().intValue();
+
+        // The sum may wrap past Integer.MAX_VALUE, in which case subtracting n wraps it back to the residue.
+        return elementAt(sum < 0 || sum >= elementTable.length ? sum - elementTable.length : sum);
+      }
+
       return IntegersModuloNAdditiveGroupBase.this.getElement(augend.getValue().add(addend.getValue()).mod(IntegersModuloNAdditiveGroupBase.this.getN()));
     }
 
+    @Override
+    public void performAll(final E[] augends, final E[] addends, final E[] sums) {
+      if(elementTable != null) {
+        CommutativeGroupOperation.super.performAll(augends, addends, sums);
+
+        return;
+      }
+
+      ArrayUtils.requireSameLength(augends.length, addends.length, sums.length);
+
+      final BigInteger n = IntegersModuloNAdditiveGroupBase.this.getN();
+
+      for(int i = 0; i < sums.length; i++) {
+        // Both values are in [0,n), so a conditional subtraction replaces mod.
+        final BigInteger sum = augends[i].getValue().add(addends[i].getValue());
+
+        sums[i] = IntegersModuloNAdditiveGroupBase.this.getElementSafe(sum.compareTo(n) >= 0 ? sum.subtract(n) : sum);
+      }
+    }
+
+    @Override
+    public void performAllRight(final E[] augends, final E addend, final E[] sums) {
+      if(elementTable != null) {
+        CommutativeGroupOperation.super.performAllRight(augends, addend, sums);
+
+        return;
+      }
+
+      ArrayUtils.requireSameLength(augends.length, sums.length);
+
+      final BigInteger n = IntegersModuloNAdditiveGroupBase.this.getN();
+      final BigInteger addendValue = addend.getValue();
+
+      for(int i = 0; i < sums.length; i++) {
+        final BigInteger sum = augends[i].getValue().add(addendValue);
+
+        sums[i] = IntegersModuloNAdditiveGroupBase.this.getElementSafe(sum.compareTo(n) >= 0 ? sum.subtract(n) : sum);
+      }
+    }
+
     // Identity
     //
 
@@ -155,7 +310,42 @@ public abstract class IntegersModuloNAdditiveGroupBase
 
     @Override
     public E inverse(final E element) {
-      return IntegersModuloNAdditiveGroupBase.this.getElementSafe(element.getValue().modInverse(IntegersModuloNAdditiveGroupBase.this.getN()));
+      if(elementTable != null) {
+        final int value = element.getValue().intValue();
+
+        return elementAt(value == 0 ? 0 : elementTable.length - value);
+      }
+
+      return IntegersModuloNAdditiveGroupBase.this.getElementSafe(element.getValue().negate().mod(IntegersModuloNAdditiveGroupBase.this.getN()));
+    }
+
+    // MonoidOperation
+    //
+
+    @Override
+    public E power(final E base, final BigInteger exponent) {
+      final BigInteger n = IntegersModuloNAdditiveGroupBase.this.getN();
+
+      // Reducing the multiplier first bounds the product by n^2, however large the multiplier.
+      return IntegersModuloNAdditiveGroupBase.this.getElementSafe(exponent.mod(n).multiply(base.getValue()).mod(n));
+    }
+
+    // CommutativeGroupOperation
+    //
+
+    @Override
+    public E multiPower(final E[] bases, final BigInteger[] exponents) {
+      ArrayUtils.requireSameLength(bases.length, exponents.length);
+
+      final BigInteger n = IntegersModuloNAdditiveGroupBase.this.getN();
+
+      BigInteger sum = BigInteger.ZERO;
+
+      for(int i = 0; i < bases.length; i++) {
+        sum = sum.add(exponents[i].mod(n).multiply(bases[i].getValue()));
+      }
+
+      return IntegersModuloNAdditiveGroupBase.this.getElementSafe(sum.mod(n));
     }
 
     // TODO: Object methods
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.concrete.integers;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.math.algebra.ElementVector;
+
+import java.math.BigInteger;
+
+/**
+ * A vector of elements of the additive group of integers modulo \(n\), stored off-heap in \(\lceil\log_2 n/64\rceil\) limbs per element.
+ * <p>
+ * Bulk operations add, subtract and compare limbs in place, without creating elements or {@link BigInteger}s.
+ *
+ * @param <S> The type of group.
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public final class IntegersModuloNAdditiveGroupVector<S extends IntegersModuloNAdditiveGroupBase<S, E>, E extends IntegersModuloNAdditiveGroupElementBase<E, S>>
+    extends ElementVector<S, E> {
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static int limbCount(final IntegersModuloNAdditiveGroupBase<?, ?> group) {
+    Arguments.requireNotNull(group);
+
+    return Math.max(1, (group.getN().bitLength() + Long.SIZE - 1) / Long.SIZE);
+  }
+
+  /**
+   * Computes {@code x += y} modulo \(n\), for \(x,y\lt n\).
+   */
+  private static void addInPlace(final long[] x, final long[] y, final long[] n) {
+    long carry = 0;
+
+    for(int i = 0; i < x.length; i++) {
+      final long partial = x[i] + y[i];
+      final long sum = partial + carry;
+
+      carry = ((Long.compareUnsigned(partial, x[i]) < 0 || Long.compareUnsigned(sum, partial) < 0) ? 1 : 0);
+      x[i] = sum;
+    }
+
+    if(carry != 0 || compare(x, n) >= 0) subtractInPlace(x, n);
+  }
+
+  /**
+   * Computes {@code x -= y}, ignoring the borrow out.
+   */
+  private static void subtractInPlace(final long[] x, final long[] y) {
+    long borrow = 0;
+
+    for(int i = 0; i < x.length; i++) {
+      final long partial = x[i] - y[i];
+      final long difference = partial - borrow;
+
+      borrow = ((Long.compareUnsigned(x[i], y[i]) < 0 || Long.compareUnsigned(partial, borrow) < 0) ? 1 : 0);
+      x[i] = difference;
+    }
+  }
+
+  private static int compare(final long[] x, final long[] y) {
+    for(int i = x.length - 1; i >= 0; i--) {
+      if(x[i] != y[i]) return Long.compareUnsigned(x[i], y[i]);
+    }
+
+    return 0;
+  }
+
+  private static boolean isZero(final long[] x) {
+    for(final long limb : x) {
+      if(limb != 0) return false;
+    }
+
+    return true;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates a vector of identity elements.
+   *
+   * @param group The group.
+   * @param size  The number of elements.
+   */
+  public IntegersModuloNAdditiveGroupVector(final S group, final int size) {
+    super(group, size, limbCount(group));
+
+    this.nLimbs = new long[limbCount];
+
+    for(int i = 0; i < limbCount; i++) {
+      nLimbs[i] = group.getN().shiftRight(i * Long.SIZE).longValue();
+    }
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final long[] nLimbs;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Values
+  //
+
+  public BigInteger getValue(final int index) {
+    checkIndex(index);
+
+    return readBigInteger(index);
+  }
+
+  public void setValue(final int index, final BigInteger value) {
+    checkIndex(index);
+    if(!structure.hasElement(value)) throw new IllegalArgumentException("The group does not contain the element: " + value + ".");
+
+    writeBigInteger(index, value);
+  }
+
+  // Bulk
+  //
+
+  /**
+   * Sets each element to the sum of the elements at the same index of two vectors, which may be this vector.
+   *
+   * @param augends The augends.
+   * @param addends The addends.
+   *
+   * @throws IllegalArgumentException If the vectors differ in structure or size.
+   */
+  public void addAll(final IntegersModuloNAdditiveGroupVector<S, E> augends, final IntegersModuloNAdditiveGroupVector<S, E> addends) {
+    checkSameShape(augends);
+    checkSameShape(addends);
+
+    final long[] x = new long[limbCount];
+    final long[] y = new long[limbCount];
+
+    for(int i = 0; i < size; i++) {
+      augends.readLimbs(i, x);
+      addends.readLimbs(i, y);
+      addInPlace(x, y, nLimbs);
+      writeLimbs(i, x);
+    }
+  }
+
+  /**
+   * Sets each element to the inverse of the element at the same index of a vector, which may be this vector.
+   *
+   * @param elements The elements.
+   *
+   * @throws IllegalArgumentException If the vectors differ in structure or size.
+   */
+  public void negateAll(final IntegersModuloNAdditiveGroupVector<S, E> elements) {
+    checkSameShape(elements);
+
+    final long[] x = new long[limbCount];
+    final long[] negation = new long[limbCount];
+
+    for(int i = 0; i < size; i++) {
+      elements.readLimbs(i, x);
+
+      if(isZero(x)) {
+        writeLimbs(i, x);
+      } else {
+        System.arraycopy(nLimbs, 0, negation, 0, limbCount);
+        subtractInPlace(negation, x);
+        writeLimbs(i, negation);
+      }
+    }
+  }
+
+  /**
+   * Sums the elements.
+   *
+   * @return The sum, which is the identity if the vector is empty.
+   */
+  public E sum() {
+    final long[] sum = new long[limbCount];
+    final long[] x = new long[limbCount];
+
+    for(int i = 0; i < size; i++) {
+      readLimbs(i, x);
+      addInPlace(sum, x, nLimbs);
+    }
+
+    return structure.getElementSafe(toBigInteger(sum));
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // ElementVector
+  //
+
+  @Override
+  public E get(final int index) {
+    return structure.getElementSafe(getValue(index));
+  }
+
+  @Override
+  public void checkValues(final int from, final int count) {
+    if(from < 0 || count < 0 || from > size - count) {
+      throw new IllegalArgumentException("Invalid range: [" + from + "," + ((long)from + count) + ").");
+    }
+
+    final long[] x = new long[limbCount];
+
+    for(int i = from; i < from + count; i++) {
+      readLimbs(i, x);
+
+      if(compare(x, nLimbs) >= 0) throw new IllegalArgumentException("The group does not contain the element at index " + i + ": " + toBigInteger(x) + ".");
+    }
+  }
+
+  @Override
+  public void set(final int index, final E element) {
+    checkIndex(index);
+    Arguments.requireNotNull(element);
+    Arguments.requireTrue(element.getStructure().equals(structure), "The element belongs to a different group.");
+
+    writeBigInteger(index, element.getValue());
+  }
+
+}
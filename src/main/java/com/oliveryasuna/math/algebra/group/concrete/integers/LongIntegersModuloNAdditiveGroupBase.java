@@ -0,0 +1,257 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.concrete.integers;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.CommonAlgebraicStructure;
+import com.oliveryasuna.math.algebra.group.CommutativeGroup;
+import com.oliveryasuna.math.algebra.group.CyclicGroup;
+import com.oliveryasuna.math.algebra.group.FiniteGroup;
+import com.oliveryasuna.math.algebra.group.operation.CommutativeGroupOperation;
+import com.oliveryasuna.math.arithmetic.LongModularArithmetic;
+import com.oliveryasuna.math.util.ArrayUtils;
+
+import java.math.BigInteger;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Abstract representation of the group of integers modulo \(n\) under addition, for \(0\lt n\lt 2^{63}\).
+ * <p>
+ * Mathematically defined as \(\left(\mathbb{Z}/n\mathbb{Z},+\right)\).
+ * <p>
+ * Unlike {@link IntegersModuloNAdditiveGroupBase}, residues are stored as primitive {@code long}s.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public abstract class LongIntegersModuloNAdditiveGroupBase
+    <S extends LongIntegersModuloNAdditiveGroupBase<S, E>, E extends LongIntegersModuloNAdditiveGroupElementBase<E, S>>
+    extends CommonAlgebraicStructure<S, E, Long> implements CommutativeGroup<S, E>, FiniteGroup<S, E>, CyclicGroup<S, E> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  protected LongIntegersModuloNAdditiveGroupBase(final long n) {
+    super();
+
+    Arguments.requireTrue(n > 0, "The group requires a positive modulo.");
+
+    this.arithmetic = new LongModularArithmetic(n);
+
+    this.operation = new AdditionOperation();
+
+    this.generator = getElement(arithmetic.getOne());
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  protected final LongModularArithmetic arithmetic;
+
+  protected final CommutativeGroupOperation<E> operation;
+
+  protected final E generator;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Elements
+  //
+
+  public abstract E getElementSafe(long value);
+
+  public E getElement(final long value) {
+    Arguments.requireTrue(hasElementSafe(value), "The structure does not contain the element: " + value + ".");
+
+    return getElementSafe(value);
+  }
+
+  public boolean hasElementSafe(final long value) {
+    return arithmetic.isResidue(value);
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // CommonAlgebraicStructure
+  //
+
+  @Override
+  public E getElementSafe(final Long value) {
+    return getElementSafe(value.longValue());
+  }
+
+  @Override
+  public boolean hasElementSafe(final Long value) {
+    return hasElementSafe(value.longValue());
+  }
+
+  // CommutativeGroup
+  //
+
+  @Override
+  public CommutativeGroupOperation<E> operation() {
+    return operation;
+  }
+
+  // FiniteGroup
+  //
+
+  @Override
+  public Stream<E> elements() {
+    return LongStream.range(0, getN())
+        .mapToObj(this::getElementSafe);
+  }
+
+  @Override
+  public Stream<E> elements(final BigInteger offset, final BigInteger count) {
+    Arguments.requireNotNull(offset);
+    Arguments.requireNotNull(count);
+    Arguments.requireTrue(offset.signum() >= 0 && count.signum() >= 0 && offset.add(count).compareTo(elementCount()) <= 0,
+        "The run [" + offset + "," + offset.add(count) + ") is not within the group.");
+
+    return LongStream.range(offset.longValue(), offset.add(count).longValue())
+        .mapToObj(this::getElementSafe);
+  }
+
+  @Override
+  public BigInteger elementCount() {
+    return BigInteger.valueOf(getN());
+  }
+
+  // CyclicGroup
+  //
+
+  @Override
+  public E generator() {
+    return generator;
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public long getN() {
+    return arithmetic.getN();
+  }
+
+  public LongModularArithmetic getArithmetic() {
+    return arithmetic;
+  }
+
+  // TODO: Object methods
+  //--------------------------------------------------
+
+  // Nested
+  //--------------------------------------------------
+
+  protected class AdditionOperation implements CommutativeGroupOperation<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    protected AdditionOperation() {
+      super();
+
+      this.identity = LongIntegersModuloNAdditiveGroupBase.this.getElement(0L);
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    protected final E identity;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // BinaryOperation
+    //
+
+    @Override
+    public E perform(final E augend, final E addend) {
+      return LongIntegersModuloNAdditiveGroupBase.this.getElementSafe(arithmetic.add(augend.getValue(), addend.getValue()));
+    }
+
+    @Override
+    public void performAll(final E[] augends, final E[] addends, final E[] sums) {
+      ArrayUtils.requireSameLength(augends.length, addends.length, sums.length);
+
+      for(int i = 0; i < sums.length; i++) {
+        sums[i] = LongIntegersModuloNAdditiveGroupBase.this.getElementSafe(arithmetic.add(augends[i].getValue(), addends[i].getValue()));
+      }
+    }
+
+    @Override
+    public void performAllRight(final E[] augends, final E addend, final E[] sums) {
+      ArrayUtils.requireSameLength(augends.length, sums.length);
+
+      final long addendValue = addend.getValue();
+
+      for(int i = 0; i < sums.length; i++) {
+        sums[i] = LongIntegersModuloNAdditiveGroupBase.this.getElementSafe(arithmetic.add(augends[i].getValue(), addendValue));
+      }
+    }
+
+    // Identity
+    //
+
+    @Override
+    public E identity() {
+      return identity;
+    }
+
+    // Inverse
+    //
+
+    @Override
+    public E inverse(final E element) {
+      return LongIntegersModuloNAdditiveGroupBase.this.getElementSafe(arithmetic.negate(element.getValue()));
+    }
+
+    // MonoidOperation
+    //
+
+    @Override
+    public E power(final E base, final BigInteger exponent) {
+      return LongIntegersModuloNAdditiveGroupBase.this.getElementSafe(arithmetic.multiply(base.getValue(), arithmetic.reduce(exponent)));
+    }
+
+    // CommutativeGroupOperation
+    //
+
+    @Override
+    public E multiPower(final E[] bases, final BigInteger[] exponents) {
+      ArrayUtils.requireSameLength(bases.length, exponents.length);
+
+      long sum = 0L;
+
+      for(int i = 0; i < bases.length; i++) {
+        sum = arithmetic.add(sum, arithmetic.multiply(bases[i].getValue(), arithmetic.reduce(exponents[i])));
+      }
+
+      return LongIntegersModuloNAdditiveGroupBase.this.getElementSafe(sum);
+    }
+
+    // TODO: Object methods
+    //--------------------------------------------------
+
+  }
+
+}
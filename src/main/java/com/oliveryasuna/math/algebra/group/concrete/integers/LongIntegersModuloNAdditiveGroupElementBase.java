@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.concrete.integers;
+
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.AbstractAlgebraicElement;
+import com.oliveryasuna.math.algebra.group.CommutativeGroupElement;
+import com.oliveryasuna.math.algebra.group.helper.AdditiveMagmaElement;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Abstract representation of an element of the group of integers modulo \(n\) under addition, for \(0\lt n\lt 2^{63}\).
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public class LongIntegersModuloNAdditiveGroupElementBase
+    <E extends LongIntegersModuloNAdditiveGroupElementBase<E, S>, S extends LongIntegersModuloNAdditiveGroupBase<S, E>> extends AbstractAlgebraicElement<E, S>
+    implements CommutativeGroupElement<E, S>, AdditiveMagmaElement<E, S> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  protected LongIntegersModuloNAdditiveGroupElementBase(final long value, final S structure) {
+    super(structure);
+
+    this.value = value;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  protected final long value;
+
+  // Getters
+  //--------------------------------------------------
+
+  public long getValue() {
+    return value;
+  }
+
+  // Object methods
+  //--------------------------------------------------
+
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(!super.equals(other)) return false;
+
+    final LongIntegersModuloNAdditiveGroupElementBase<?, ?> otherCasted = (LongIntegersModuloNAdditiveGroupElementBase<?, ?>)other;
+
+    return (value == otherCasted.value);
+  }
+
+  /**
+   * @implNote Not cached, as it is cheap to compute and a cache field would grow every element.
+   */
+  @Override
+  public int hashCode() {
+    return 31 * super.hashCode() + Long.hashCode(value);
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .appendSuper(super.toString())
+        .append("value", value)
+        .toString();
+  }
+
+}
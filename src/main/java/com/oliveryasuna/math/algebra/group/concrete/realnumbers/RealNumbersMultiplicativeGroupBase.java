@@ -23,6 +23,7 @@ import com.oliveryasuna.commons.language.marker.Immutable;
 import com.oliveryasuna.math.algebra.CommonAlgebraicStructure;
 import com.oliveryasuna.math.algebra.group.CommutativeGroup;
 import com.oliveryasuna.math.algebra.group.operation.CommutativeGroupOperation;
+import com.oliveryasuna.math.util.ArrayUtils;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -119,6 +120,30 @@ public abstract class RealNumbersMultiplicativeGroupBase
       return RealNumbersMultiplicativeGroupBase.this.getElement(multiplier.getValue().multiply(multiplicand.getValue()));
     }
 
+    /**
+     * @implNote Skips the membership check of {@link #perform(RealNumbersMultiplicativeGroupElementBase, RealNumbersMultiplicativeGroupElementBase)},
+     *     as the product of non-zero numbers is non-zero.
+     */
+    @Override
+    public void performAll(final E[] multipliers, final E[] multiplicands, final E[] products) {
+      ArrayUtils.requireSameLength(multipliers.length, multiplicands.length, products.length);
+
+      for(int i = 0; i < products.length; i++) {
+        products[i] = RealNumbersMultiplicativeGroupBase.this.getElementSafe(multipliers[i].getValue().multiply(multiplicands[i].getValue()));
+      }
+    }
+
+    @Override
+    public void performAllRight(final E[] multipliers, final E multiplicand, final E[] products) {
+      ArrayUtils.requireSameLength(multipliers.length, products.length);
+
+      final BigDecimal multiplicandValue = multiplicand.getValue();
+
+      for(int i = 0; i < products.length; i++) {
+        products[i] = RealNumbersMultiplicativeGroupBase.this.getElementSafe(multipliers[i].getValue().multiply(multiplicandValue));
+      }
+    }
+
     // Identity
     //
 
@@ -22,6 +22,7 @@ import com.oliveryasuna.commons.language.marker.Immutable;
 import com.oliveryasuna.math.algebra.AbstractAlgebraicElement;
 import com.oliveryasuna.math.algebra.group.CommutativeGroupElement;
 import com.oliveryasuna.math.algebra.group.helper.MultiplicativeMagmaElement;
+import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.math.BigDecimal;
 
@@ -48,6 +49,11 @@ public class RealNumbersMultiplicativeGroupElementBase<E extends RealNumbersMult
 
   protected final BigDecimal value;
 
+  /**
+   * The cached hash code, or {@code 0} if not yet computed.
+   */
+  private int hash;
+
   // Getters
   //--------------------------------------------------
 
@@ -55,7 +61,41 @@ public class RealNumbersMultiplicativeGroupElementBase<E extends RealNumbersMult
     return value;
   }
 
-  // TODO: Object methods
+  // Object methods
   //--------------------------------------------------
 
+  /**
+   * Two elements are equal if they belong to equal structures and their values are numerically equal, regardless of scale.
+   */
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(!super.equals(other)) return false;
+
+    final RealNumbersMultiplicativeGroupElementBase<?, ?> otherCasted = (RealNumbersMultiplicativeGroupElementBase<?, ?>)other;
+
+    return value.compareTo(otherCasted.value) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = hash;
+
+    if(result == 0) {
+      result = 31 * super.hashCode() + value.stripTrailingZeros().hashCode();
+
+      hash = result;
+    }
+
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .appendSuper(super.toString())
+        .append("value", value)
+        .toString();
+  }
+
 }
@@ -0,0 +1,358 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.logarithm;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.group.CyclicGroup;
+import com.oliveryasuna.math.algebra.group.FiniteGroup;
+import com.oliveryasuna.math.algebra.group.GroupElement;
+import com.oliveryasuna.math.algebra.group.operation.GroupOperation;
+import com.oliveryasuna.math.util.MappedTableStore;
+import com.oliveryasuna.math.util.OffHeapLongIntMultimap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Shanks' baby-step giant-step algorithm.
+ * <p>
+ * With \(m\) baby steps, the table maps \(base^j\mapsto j\) for \(j\in[0,m)\), and the giant steps walk \(h\cdot base^{-im}\) for
+ * \(i\in[0,\lceil order/m\rceil)\) until one is in the table, giving \(x=im+j\).
+ * Ideally, \(m=\lceil\sqrt{order}\rceil\).
+ * <p>
+ * The table is an {@link OffHeapLongIntMultimap} keyed by a 64-bit fingerprint of each element, so it costs \(12\) bytes per slot off the heap
+ * regardless of the size of elements.
+ * A fingerprint match is confirmed by recomputing \(base^j\), so fingerprints need not be unique, though collisions cost an exponentiation each.
+ * <p>
+ * The table is capped at a number of bytes.
+ * If \(\sqrt{order}\) baby steps do not fit, fewer are taken, and the giant steps increase proportionally.
+ * <p>
+ * Giant steps are split into contiguous blocks, searched in parallel.
+ * Each block starts from its own \(h\cdot base^{-im}\), and all blocks stop once one finds the logarithm.
+ * <p>
+ * The table depends only on the base, the order and the fingerprint, so it can be persisted in a {@link MappedTableStore} by
+ * {@link #mapped(MappedTableStore, MappedTableStore.Key, GroupOperation, GroupElement, BigInteger, StableFingerprint, long, ForkJoinPool)}, and
+ * mapped back without being rebuilt, provided the fingerprint is the same in every process.
+ *
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class BabyStepGiantStep<E extends GroupElement<E, ?>> implements DiscreteLogarithm<E> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The default cap on the size of the table, \(256\) MiB.
+   */
+  public static final long DEFAULT_MAXIMUM_TABLE_BYTES = 1L << 28;
+
+  private static final int BLOCKS_PER_WORKER = 4;
+
+  /**
+   * The kind of table in a {@link MappedTableStore}.
+   */
+  public static final String TABLE_KIND = "baby-step-giant-step";
+
+  /**
+   * The version of the stored table layout.
+   */
+  public static final int TABLE_VERSION = 1;
+
+  /**
+   * The number of giant steps below which they are not split.
+   */
+  private static final long PARALLEL_THRESHOLD = 1L << 12;
+
+  /**
+   * The number of giant steps between checks of whether another block has finished.
+   */
+  private static final int CANCELLATION_INTERVAL = 1 << 10;
+
+  // Static initialization methods
+  //--------------------------------------------------
+
+  /**
+   * Creates a solver for the generator of a finite cyclic group, fingerprinting elements by their hash code.
+   * <p>
+   * Hash codes differ between processes, so the table is built in memory and cannot be {@linkplain #mapped mapped}.
+   *
+   * @param group The group.
+   * @param <S>   The type of group.
+   * @param <E>   The type of elements.
+   *
+   * @return The solver.
+   */
+  public static <S extends CyclicGroup<S, E> & FiniteGroup<S, E>, E extends GroupElement<E, S>> BabyStepGiantStep<E> of(final S group) {
+    Arguments.requireNotNull(group);
+
+    return new BabyStepGiantStep<>(group.operation(), group.generator(), group.order(), Object::hashCode, DEFAULT_MAXIMUM_TABLE_BYTES,
+        ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a solver whose table is mapped from a store, building and storing it first if it is absent.
+   * <p>
+   * The identifier of the fingerprint, the order and the number of baby steps are appended to {@code key}, which must identify the group and the
+   * base.
+   * A mapped table is checked against a few baby steps recomputed with {@code fingerprint}, so one built by another base, or by a fingerprint that
+   * was not stable, is rejected rather than failing to find logarithms.
+   *
+   * @param store             The store.
+   * @param key               Identifies the group and the base.
+   * @param operation         The operation of the group.
+   * @param base              The base.
+   * @param order             The order of the base, or a multiple of it.
+   * @param fingerprint       Maps elements to fingerprints from their values alone, such that equal elements have equal fingerprints in every
+   *                          process.
+   * @param maximumTableBytes The cap on the size of the table, which must leave it small enough for one mapping.
+   * @param pool              The pool on which giant steps are searched.
+   * @param <E>               The type of elements.
+   *
+   * @return The solver.
+   *
+   * @throws IOException If the table cannot be read or stored, or the stored table does not match the base and the fingerprint.
+   */
+  public static <E extends GroupElement<E, ?>> BabyStepGiantStep<E> mapped(final MappedTableStore store, final MappedTableStore.Key key,
+      final GroupOperation<E> operation, final E base, final BigInteger order, final StableFingerprint<? super E> fingerprint,
+      final long maximumTableBytes, final ForkJoinPool pool) throws IOException {
+    Arguments.requireNotNull(store);
+    Arguments.requireNotNull(key);
+    Arguments.requireNotNull(fingerprint);
+
+    try {
+      return new BabyStepGiantStep<>(operation, base, order, fingerprint, maximumTableBytes, pool, store, key.append(fingerprint.identifier()));
+    } catch(final UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param operation         The operation of the group.
+   * @param base              The base.
+   * @param order             The order of the base, or a multiple of it.
+   * @param fingerprint       Maps elements to fingerprints, such that equal elements have equal fingerprints.
+   * @param maximumTableBytes The cap on the size of the table.
+   * @param pool              The pool on which giant steps are searched.
+   */
+  public BabyStepGiantStep(final GroupOperation<E> operation, final E base, final BigInteger order, final ToLongFunction<? super E> fingerprint,
+      final long maximumTableBytes, final ForkJoinPool pool) {
+    this(operation, base, order, fingerprint, maximumTableBytes, pool, null, null);
+  }
+
+  private BabyStepGiantStep(final GroupOperation<E> operation, final E base, final BigInteger order, final ToLongFunction<? super E> fingerprint,
+      final long maximumTableBytes, final ForkJoinPool pool, final MappedTableStore store, final MappedTableStore.Key key) {
+    super();
+
+    Arguments.requireNotNull(operation);
+    Arguments.requireNotNull(base);
+    Arguments.requireNotNull(order);
+    Arguments.requireNotNull(fingerprint);
+    Arguments.requireNotNull(pool);
+    Arguments.requireTrue(order.signum() > 0, "The order must be positive.");
+
+    this.operation = operation;
+    this.base = base;
+    this.order = order;
+    this.fingerprint = fingerprint;
+    this.pool = pool;
+
+    this.babySteps = babySteps(order, maximumTableBytes);
+
+    final BigInteger[] giantSteps = order.divideAndRemainder(BigInteger.valueOf(babySteps));
+
+    Arguments.requireTrue(giantSteps[0].bitLength() < Long.SIZE - 1, "The table cap leaves too many giant steps: " + giantSteps[0] + ".");
+
+    this.giantSteps = giantSteps[0].longValue() + (giantSteps[1].signum() == 0 ? 0 : 1);
+    this.giantStride = operation.power(base, BigInteger.valueOf(babySteps).negate());
+
+    this.table = (store == null ? fill(new OffHeapLongIntMultimap(babySteps)) : map(store, key));
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final GroupOperation<E> operation;
+
+  private final E base;
+
+  private final BigInteger order;
+
+  private final ToLongFunction<? super E> fingerprint;
+
+  private final ForkJoinPool pool;
+
+  private final int babySteps;
+
+  private final long giantSteps;
+
+  /**
+   * \(base^{-m}\).
+   */
+  private final E giantStride;
+
+  private final OffHeapLongIntMultimap table;
+
+  // Methods
+  //--------------------------------------------------
+
+  private static int babySteps(final BigInteger order, final long maximumTableBytes) {
+    Arguments.requireTrue(maximumTableBytes >= 16L * OffHeapLongIntMultimap.SLOT_BYTES, "The table cap is too small.");
+
+    final BigInteger root = order.sqrt();
+    final BigInteger ceilingRoot = (root.multiply(root).equals(order) ? root : root.add(BigInteger.ONE));
+
+    // The largest number of entries whose capacity fits in the cap.
+    final long entries = Long.highestOneBit(maximumTableBytes / OffHeapLongIntMultimap.SLOT_BYTES) >>> 1;
+
+    return (int)Math.min(Math.min(entries, Integer.MAX_VALUE), ceilingRoot.min(BigInteger.valueOf(Integer.MAX_VALUE)).longValue());
+  }
+
+  private OffHeapLongIntMultimap fill(final OffHeapLongIntMultimap table) {
+    E power = operation.identity();
+
+    for(int j = 0; j < babySteps; j++) {
+      table.put(fingerprint.applyAsLong(power), j);
+      power = operation.perform(power, base);
+    }
+
+    return table;
+  }
+
+  private OffHeapLongIntMultimap map(final MappedTableStore store, final MappedTableStore.Key key) {
+    final MappedTableStore.Key tableKey = key.append(order, babySteps);
+
+    try {
+      final ByteBuffer payload = store.computeIfAbsent(TABLE_KIND, TABLE_VERSION, tableKey, OffHeapLongIntMultimap.serializedSizeFor(babySteps),
+          buffer -> fill(OffHeapLongIntMultimap.create(babySteps, buffer)));
+      final OffHeapLongIntMultimap table = OffHeapLongIntMultimap.wrap(payload);
+
+      // The first, second and last baby steps.
+      if(!holds(table, 0) || !holds(table, Math.min(1, babySteps - 1)) || !holds(table, babySteps - 1)) {
+        throw new IOException("The stored table was not built from this base and fingerprint: " + store.path(TABLE_KIND, tableKey) + ".");
+      }
+
+      return table;
+    } catch(final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Checks whether a table maps the fingerprint of \(base^j\) to \(j\).
+   */
+  private boolean holds(final OffHeapLongIntMultimap table, final int j) {
+    return table.forEach(fingerprint.applyAsLong(operation.power(base, BigInteger.valueOf(j))), value -> value == j);
+  }
+
+  private void search(final E element, final long from, final long to, final AtomicReference<BigInteger> result) {
+    E giant = operation.perform(element, operation.power(giantStride, BigInteger.valueOf(from)));
+
+    for(long i = from; i < to; i++) {
+      if((i & (CANCELLATION_INTERVAL - 1)) == 0 && result.get() != null) return;
+
+      final E current = giant;
+      final long step = i;
+
+      if(table.forEach(fingerprint.applyAsLong(current), j -> operation.power(base, BigInteger.valueOf(j)).equals(current)
+          && result.compareAndSet(null, BigInteger.valueOf(step).multiply(BigInteger.valueOf(babySteps)).add(BigInteger.valueOf(j)).mod(order)))) {
+        return;
+      }
+
+      giant = operation.perform(giant, giantStride);
+    }
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // DiscreteLogarithm
+  //
+
+  @Override
+  public BigInteger log(final E element) {
+    Arguments.requireNotNull(element);
+
+    final AtomicReference<BigInteger> result = new AtomicReference<>();
+
+    final int blocks = (int)(giantSteps < PARALLEL_THRESHOLD ? 1 : Math.min(giantSteps, (long)pool.getParallelism() * BLOCKS_PER_WORKER));
+
+    if(blocks == 1) {
+      search(element, 0, giantSteps, result);
+    } else {
+      final long blockSize = giantSteps / blocks;
+      final long remainder = giantSteps % blocks;
+
+      pool.submit(() -> IntStream.range(0, blocks).parallel().forEach(block -> {
+        final long from = block * blockSize + Math.min(block, remainder);
+        final long to = from + blockSize + (block < remainder ? 1 : 0);
+
+        search(element, from, to, result);
+      })).join();
+    }
+
+    if(result.get() == null) throw new NoSuchElementException("The element is not a power of the base: " + element + ".");
+
+    return result.get();
+  }
+
+  @Override
+  public E getBase() {
+    return base;
+  }
+
+  @Override
+  public BigInteger getOrder() {
+    return order;
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public int getBabySteps() {
+    return babySteps;
+  }
+
+  public long getGiantSteps() {
+    return giantSteps;
+  }
+
+  /**
+   * Gets the number of bytes the table takes outside the heap.
+   *
+   * @return The number of bytes.
+   */
+  public long getTableSizeInBytes() {
+    return table.getSizeInBytes();
+  }
+
+}
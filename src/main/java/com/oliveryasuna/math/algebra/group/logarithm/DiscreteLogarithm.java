@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.logarithm;
+
+import java.math.BigInteger;
+import java.util.NoSuchElementException;
+
+/**
+ * Solves discrete logarithms to a fixed base: given \(h\), finds \(x\) such that \(base^x=h\).
+ *
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public interface DiscreteLogarithm<E> {
+
+  /**
+   * Computes the discrete logarithm of an element.
+   *
+   * @param element The element \(h\).
+   *
+   * @return An \(x\in[0,order)\) such that \(base^x=h\), which is unique if the order is exact.
+   *
+   * @throws NoSuchElementException If {@code element} is not a power of the base.
+   */
+  BigInteger log(E element);
+
+  /**
+   * Gets the base.
+   *
+   * @return The base.
+   */
+  E getBase();
+
+  /**
+   * Gets the order of the base.
+   *
+   * @return The order of the base, or a multiple of it.
+   */
+  BigInteger getOrder();
+
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.logarithm;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.group.CyclicGroup;
+import com.oliveryasuna.math.algebra.group.FiniteGroup;
+import com.oliveryasuna.math.algebra.group.GroupElement;
+import com.oliveryasuna.math.algebra.group.operation.GroupOperation;
+import com.oliveryasuna.math.arithmetic.IntegerFactorization;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * The Pohlig-Hellman algorithm, which reduces a logarithm in a group of order \(N=\prod p_i^{e_i}\) to logarithms in subgroups of prime order.
+ * <p>
+ * For each \(p^e\), the logarithm modulo \(p^e\) is found one base-\(p\) digit at a time, each by a logarithm to \(base^{N/p}\), which has
+ * order \(p\).
+ * The prime powers are solved in parallel, and combined by the Chinese remainder theorem.
+ * The cost is about \(\sum e_i\sqrt{p_i}\), rather than \(\sqrt{N}\), so smooth orders are cheap.
+ * <p>
+ * One solver per prime is created up front and reused by every logarithm.
+ * By default, primes of up to {@value #BABY_STEP_GIANT_STEP_BITS} bits use {@link BabyStepGiantStep}, and larger primes use {@link PollardRho}.
+ *
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class PohligHellman<E extends GroupElement<E, ?>> implements DiscreteLogarithm<E> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The bit-length of the largest prime solved by {@link BabyStepGiantStep} by default, whose table then takes at most about \(24\) MiB.
+   */
+  public static final int BABY_STEP_GIANT_STEP_BITS = 40;
+
+  // Static initialization methods
+  //--------------------------------------------------
+
+  /**
+   * Creates a solver for the generator of a finite cyclic group on the common pool, fingerprinting elements by their hash code.
+   * <p>
+   * Hash codes differ between processes, so the tables of the solver are only held in memory.
+   * To persist them, map {@link BabyStepGiantStep} solvers with a {@link StableFingerprint} and pass them as the solvers for prime-order
+   * subgroups.
+   *
+   * @param group The group.
+   * @param <S>   The type of group.
+   * @param <E>   The type of elements.
+   *
+   * @return The solver.
+   */
+  public static <S extends CyclicGroup<S, E> & FiniteGroup<S, E>, E extends GroupElement<E, S>> PohligHellman<E> of(final S group) {
+    Arguments.requireNotNull(group);
+
+    return new PohligHellman<>(group.operation(), group.generator(), group.order(), Object::hashCode, ForkJoinPool.commonPool());
+  }
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Gets the default solvers for prime-order subgroups: {@link BabyStepGiantStep} up to {@value #BABY_STEP_GIANT_STEP_BITS} bits, and
+   * {@link PollardRho} beyond.
+   *
+   * @param operation   The operation of the group.
+   * @param fingerprint Maps elements to fingerprints, such that equal elements have equal fingerprints.
+   * @param pool        The pool on which the solvers run.
+   * @param <E>         The type of elements.
+   *
+   * @return Creates a solver from a base and its prime order.
+   */
+  public static <E extends GroupElement<E, ?>> BiFunction<E, BigInteger, DiscreteLogarithm<E>> defaultSolvers(final GroupOperation<E> operation,
+      final ToLongFunction<? super E> fingerprint, final ForkJoinPool pool) {
+    return (base, prime) -> (prime.bitLength() <= BABY_STEP_GIANT_STEP_BITS
+        ? new BabyStepGiantStep<>(operation, base, prime, fingerprint, BabyStepGiantStep.DEFAULT_MAXIMUM_TABLE_BYTES, pool)
+        : new PollardRho<>(operation, base, prime, fingerprint, PollardRho.defaultDistinguishedBits(prime), pool));
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates a solver with the {@linkplain #defaultSolvers(GroupOperation, ToLongFunction, ForkJoinPool) default solvers} for prime-order
+   * subgroups.
+   *
+   * @param operation   The operation of the group.
+   * @param base        The base.
+   * @param order       The exact order of the base.
+   * @param fingerprint Maps elements to fingerprints, such that equal elements have equal fingerprints.
+   * @param pool        The pool on which prime powers are solved.
+   */
+  public PohligHellman(final GroupOperation<E> operation, final E base, final BigInteger order, final ToLongFunction<? super E> fingerprint,
+      final ForkJoinPool pool) {
+    this(operation, base, order, IntegerFactorization.factor(order), defaultSolvers(operation, fingerprint, pool), pool);
+  }
+
+  /**
+   * @param operation     The operation of the group.
+   * @param base          The base.
+   * @param order         The exact order of the base.
+   * @param factorization The prime factors of {@code order}, mapped to their multiplicities.
+   * @param solvers       Creates a solver from a base and its prime order.
+   * @param pool          The pool on which prime powers are solved.
+   */
+  public PohligHellman(final GroupOperation<E> operation, final E base, final BigInteger order, final Map<BigInteger, Integer> factorization,
+      final BiFunction<E, BigInteger, DiscreteLogarithm<E>> solvers, final ForkJoinPool pool) {
+    super();
+
+    Arguments.requireNotNull(operation);
+    Arguments.requireNotNull(base);
+    Arguments.requireNotNull(order);
+    Arguments.requireNotNull(factorization);
+    Arguments.requireNotNull(solvers);
+    Arguments.requireNotNull(pool);
+    Arguments.requireTrue(order.signum() > 0, "The order must be positive.");
+
+    this.operation = operation;
+    this.base = base;
+    this.order = order;
+    this.pool = pool;
+
+    BigInteger product = BigInteger.ONE;
+
+    for(final Map.Entry<BigInteger, Integer> factor : factorization.entrySet()) {
+      product = product.multiply(factor.getKey().pow(factor.getValue()));
+    }
+
+    Arguments.requireTrue(product.equals(order), "The factorization does not multiply to the order: " + factorization + ".");
+
+    final List<PrimePower<E>> primePowers = new ArrayList<>(factorization.size());
+
+    for(final Map.Entry<BigInteger, Integer> factor : factorization.entrySet()) {
+      final BigInteger prime = factor.getKey();
+      final int exponent = factor.getValue();
+      final BigInteger modulus = prime.pow(exponent);
+      final BigInteger cofactor = order.divide(modulus);
+
+      final E subgroupBase = operation.power(base, cofactor);
+      final E primeBase = operation.power(subgroupBase, modulus.divide(prime));
+
+      primePowers.add(new PrimePower<>(prime, exponent, modulus, cofactor, subgroupBase, solvers.apply(primeBase, prime)));
+    }
+
+    this.primePowers = List.copyOf(primePowers);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final GroupOperation<E> operation;
+
+  private final E base;
+
+  private final BigInteger order;
+
+  private final ForkJoinPool pool;
+
+  private final List<PrimePower<E>> primePowers;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Computes the logarithm modulo one prime power \(p^e\).
+   */
+  private BigInteger log(final PrimePower<E> primePower, final E element) {
+    final E subgroupElement = operation.power(element, primePower.cofactor);
+
+    BigInteger digitWeight = BigInteger.ONE;
+    BigInteger residue = BigInteger.ZERO;
+    BigInteger remainingCofactor = primePower.modulus.divide(primePower.prime);
+
+    for(int k = 0; k < primePower.exponent; k++) {
+      // (subgroupBase^-residue * subgroupElement)^(p^(e-1-k)) = primeBase^digit.
+      final E shifted = operation.perform(operation.power(primePower.subgroupBase, residue.negate()), subgroupElement);
+      final BigInteger digit = primePower.solver.log(operation.power(shifted, remainingCofactor));
+
+      residue = residue.add(digit.multiply(digitWeight));
+      digitWeight = digitWeight.multiply(primePower.prime);
+      remainingCofactor = remainingCofactor.divide(primePower.prime);
+    }
+
+    return residue;
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // DiscreteLogarithm
+  //
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws NoSuchElementException If {@code element} is not a power of the base.
+   */
+  @Override
+  public BigInteger log(final E element) {
+    Arguments.requireNotNull(element);
+
+    final BigInteger[] residues = pool.submit(() -> primePowers.parallelStream()
+        .map(primePower -> log(primePower, element))
+        .toArray(BigInteger[]::new)).join();
+
+    BigInteger result = BigInteger.ZERO;
+
+    for(int i = 0; i < residues.length; i++) {
+      final PrimePower<E> primePower = primePowers.get(i);
+
+      // x = sum(x_i * M_i * (M_i^-1 mod m_i)), with M_i = N / m_i.
+      result = result.add(residues[i].multiply(primePower.cofactor).multiply(primePower.cofactor.modInverse(primePower.modulus)));
+    }
+
+    result = result.mod(order);
+
+    if(!operation.power(base, result).equals(element)) {
+      throw new NoSuchElementException("The element is not a power of the base: " + element + ".");
+    }
+
+    return result;
+  }
+
+  @Override
+  public E getBase() {
+    return base;
+  }
+
+  @Override
+  public BigInteger getOrder() {
+    return order;
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  private static final class PrimePower<E extends GroupElement<E, ?>> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private PrimePower(final BigInteger prime, final int exponent, final BigInteger modulus, final BigInteger cofactor, final E subgroupBase,
+        final DiscreteLogarithm<E> solver) {
+      super();
+
+      this.prime = prime;
+      this.exponent = exponent;
+      this.modulus = modulus;
+      this.cofactor = cofactor;
+      this.subgroupBase = subgroupBase;
+      this.solver = solver;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final BigInteger prime;
+
+    private final int exponent;
+
+    /**
+     * \(p^e\).
+     */
+    private final BigInteger modulus;
+
+    /**
+     * \(N/p^e\).
+     */
+    private final BigInteger cofactor;
+
+    /**
+     * \(base^{N/p^e}\), of order \(p^e\).
+     */
+    private final E subgroupBase;
+
+    /**
+     * Solves logarithms to \(base^{N/p}\), of order \(p\).
+     */
+    private final DiscreteLogarithm<E> solver;
+
+  }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.logarithm;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.group.CyclicGroup;
+import com.oliveryasuna.math.algebra.group.FiniteGroup;
+import com.oliveryasuna.math.algebra.group.GroupElement;
+import com.oliveryasuna.math.algebra.group.operation.GroupOperation;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Pollard's rho algorithm, parallelized by distinguished points, after van Oorschot and Wiener.
+ * <p>
+ * Each walker repeatedly walks an \(r\)-adding walk from a random \(base^{a}h^{b}\) until it reaches a distinguished point, whose fingerprint
+ * has a number of low zero bits, and adds it to a shared store.
+ * Walks that meet reach the same distinguished point, and the two representations of that point give the logarithm.
+ * Walkers share nothing but the store, which sees one point per \(2^{bits}\) steps, so throughput grows linearly with walkers.
+ * <p>
+ * Only \(O(\sqrt{order})\) steps and \(O(\sqrt{order}/2^{bits})\) stored points are expected, which suits groups too large for
+ * {@link BabyStepGiantStep}.
+ * The order should be prime, or have only small common factors with the coefficients of collisions; {@link PohligHellman} reduces any order to
+ * prime orders.
+ * <p>
+ * Walkers may also run in other processes; see {@link PollardRhoCoordinator}.
+ *
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class PollardRho<E extends GroupElement<E, ?>> implements DiscreteLogarithm<E> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The largest number of distinguishing bits.
+   */
+  public static final int MAXIMUM_DISTINGUISHED_BITS = 30;
+
+  // Static initialization methods
+  //--------------------------------------------------
+
+  /**
+   * Creates a solver for the generator of a finite cyclic group on the common pool, fingerprinting elements by their hash code.
+   *
+   * @param group The group.
+   * @param <S>   The type of group.
+   * @param <E>   The type of elements.
+   *
+   * @return The solver.
+   */
+  public static <S extends CyclicGroup<S, E> & FiniteGroup<S, E>, E extends GroupElement<E, S>> PollardRho<E> of(final S group) {
+    Arguments.requireNotNull(group);
+
+    return new PollardRho<>(group.operation(), group.generator(), group.order(), Object::hashCode, defaultDistinguishedBits(group.order()),
+        ForkJoinPool.commonPool());
+  }
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Gets the default number of distinguishing bits for an order, about \(\log_2(order)/4\), so that about \(order^{1/4}\) points are stored.
+   *
+   * @param order The order.
+   *
+   * @return The number of distinguishing bits.
+   */
+  public static int defaultDistinguishedBits(final BigInteger order) {
+    Arguments.requireNotNull(order);
+
+    return Math.min(order.bitLength() / 4, MAXIMUM_DISTINGUISHED_BITS);
+  }
+
+  static void requireDistinguishedBits(final int distinguishedBits) {
+    Arguments.requireTrue(distinguishedBits >= 0 && distinguishedBits <= MAXIMUM_DISTINGUISHED_BITS,
+        "The number of distinguishing bits must be in [0," + MAXIMUM_DISTINGUISHED_BITS + "].");
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param operation         The operation of the group.
+   * @param base              The base.
+   * @param order             The order of the base, or a multiple of it.
+   * @param fingerprint       Maps elements to fingerprints, such that equal elements have equal fingerprints.
+   * @param distinguishedBits The number of low zero bits of the fingerprint of a distinguished point.
+   * @param pool              The pool on which to walk, with one walker per unit of parallelism.
+   */
+  public PollardRho(final GroupOperation<E> operation, final E base, final BigInteger order, final ToLongFunction<? super E> fingerprint,
+      final int distinguishedBits, final ForkJoinPool pool) {
+    super();
+
+    Arguments.requireNotNull(operation);
+    Arguments.requireNotNull(base);
+    Arguments.requireNotNull(order);
+    Arguments.requireNotNull(fingerprint);
+    Arguments.requireNotNull(pool);
+    Arguments.requireTrue(order.signum() > 0, "The order must be positive.");
+    requireDistinguishedBits(distinguishedBits);
+
+    this.operation = operation;
+    this.base = base;
+    this.order = order;
+    this.fingerprint = fingerprint;
+    this.distinguishedBits = distinguishedBits;
+    this.pool = pool;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final GroupOperation<E> operation;
+
+  private final E base;
+
+  private final BigInteger order;
+
+  private final ToLongFunction<? super E> fingerprint;
+
+  private final int distinguishedBits;
+
+  private final ForkJoinPool pool;
+
+  // Overrides
+  //--------------------------------------------------
+
+  // DiscreteLogarithm
+  //
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws java.util.NoSuchElementException If no collision solves the logarithm within many times the expected number of steps, which
+   *                                          likely means that {@code element} is not a power of the base.
+   */
+  @Override
+  public BigInteger log(final E element) {
+    Arguments.requireNotNull(element);
+
+    final BigInteger exhaustive = RhoSearch.exhaustive(operation, base, element, order);
+
+    if(exhaustive != null) return exhaustive;
+
+    final int walkers = pool.getParallelism();
+    final SplittableRandom seeds = new SplittableRandom();
+
+    final RhoWalk<E> walk = RhoWalk.random(operation, base, element, order, fingerprint, distinguishedBits, new Random(seeds.nextLong()));
+    final RhoSearch<E> search = new RhoSearch<>(operation, base, element, order, RhoSearch.maximumPoints(order, distinguishedBits, walkers));
+
+    final long[] walkerSeeds = seeds.longs(walkers).toArray();
+
+    pool.submit(() -> IntStream.range(0, walkers).parallel()
+        .forEach(walker -> walk.run(new Random(walkerSeeds[walker]), search::isDone, search::offer))).join();
+
+    return search.result();
+  }
+
+  @Override
+  public E getBase() {
+    return base;
+  }
+
+  @Override
+  public BigInteger getOrder() {
+    return order;
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public int getDistinguishedBits() {
+    return distinguishedBits;
+  }
+
+}
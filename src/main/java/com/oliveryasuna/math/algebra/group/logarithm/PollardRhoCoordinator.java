@@ -0,0 +1,277 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.logarithm;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.math.algebra.group.GroupElement;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+/**
+ * Coordinates a {@link PollardRho} search across processes on one machine.
+ * <p>
+ * The coordinator listens on a loopback port.
+ * Each {@link PollardRhoWorker} that connects receives the problem, the walk and a seed, and sends back the distinguished points it finds, which
+ * go to the same store as those of the coordinator's own walkers.
+ * Points are keyed by fingerprints, so a worker refuses to walk unless it fingerprints the base and the element as the coordinator does.
+ * Once the logarithm is found, the coordinator closes every connection, which stops the workers.
+ * <p>
+ * A coordinator solves one problem.
+ *
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public final class PollardRhoCoordinator<E extends GroupElement<E, ?>> implements Closeable {
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Opens a coordinator on an ephemeral loopback port.
+   *
+   * @param problem           The problem.
+   * @param distinguishedBits The number of low zero bits of the fingerprint of a distinguished point.
+   * @param pool              The pool on which to walk in this process, with one walker per unit of parallelism, or {@code null} to leave
+   *                          all walking to workers.
+   *
+   * @throws IOException If the port cannot be opened.
+   */
+  public PollardRhoCoordinator(final RhoProblem<E> problem, final int distinguishedBits, final ForkJoinPool pool) throws IOException {
+    super();
+
+    Arguments.requireNotNull(problem);
+    Arguments.requireTrue(problem.order().signum() > 0, "The order must be positive.");
+    PollardRho.requireDistinguishedBits(distinguishedBits);
+
+    this.problem = problem;
+    this.distinguishedBits = distinguishedBits;
+    this.pool = pool;
+
+    this.server = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final RhoProblem<E> problem;
+
+  private final int distinguishedBits;
+
+  private final ForkJoinPool pool;
+
+  private final ServerSocket server;
+
+  private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+  private boolean started;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Creates a process builder for a worker JVM on this machine, with the class path of this JVM.
+   *
+   * @param walkers The number of walkers in the worker.
+   *
+   * @return The process builder.
+   */
+  public ProcessBuilder workerProcess(final int walkers) {
+    Arguments.requireTrue(walkers > 0, "The number of walkers must be positive.");
+
+    final String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+
+    return new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), PollardRhoWorker.class.getName(),
+        server.getInetAddress().getHostAddress(), Integer.toString(getPort()), Integer.toString(walkers));
+  }
+
+  /**
+   * Solves the problem, with the walkers of this process and of every worker that connects.
+   * Blocks until solved, so if there are no local walkers, workers must be started separately.
+   *
+   * @return The logarithm.
+   *
+   * @throws InterruptedException            If interrupted while waiting, in which case the search is stopped and every worker disconnected.
+   * @throws java.util.NoSuchElementException If no collision solves the logarithm within many times the expected number of steps.
+   * @throws IllegalStateException           If already called.
+   */
+  public BigInteger log() throws InterruptedException {
+    synchronized(this) {
+      if(started) throw new IllegalStateException("The coordinator has already solved its problem.");
+
+      started = true;
+    }
+
+    final BigInteger exhaustive = RhoSearch.exhaustive(problem.operation(), problem.base(), problem.element(), problem.order());
+
+    if(exhaustive != null) {
+      close();
+
+      return exhaustive;
+    }
+
+    final int localWalkers = (pool != null ? pool.getParallelism() : 0);
+    final SplittableRandom seeds = new SplittableRandom();
+
+    final RhoWalk<E> walk = RhoWalk.random(problem.operation(), problem.base(), problem.element(), problem.order(), problem::fingerprint,
+        distinguishedBits, new Random(seeds.nextLong()));
+    final RhoSearch<E> search = new RhoSearch<>(problem.operation(), problem.base(), problem.element(), problem.order(),
+        RhoSearch.maximumPoints(problem.order(), distinguishedBits, Math.max(localWalkers, 1)));
+
+    final Thread acceptor = new Thread(() -> accept(walk, search, seeds.split()), "pollard-rho-coordinator-" + getPort());
+
+    acceptor.setDaemon(true);
+    acceptor.start();
+
+    ForkJoinTask<?> local = null;
+
+    if(localWalkers > 0) {
+      final long[] walkerSeeds = seeds.longs(localWalkers).toArray();
+
+      local = pool.submit(() -> IntStream.range(0, localWalkers).parallel()
+          .forEach(walker -> walk.run(new Random(walkerSeeds[walker]), search::isDone, search::offer)));
+    }
+
+    try {
+      return search.await();
+    } finally {
+      // If interrupted, the search has not ended; cancelling it stops the local walkers and the connections, so the join is prompt.
+      search.cancel();
+      close();
+
+      if(local != null) local.join();
+    }
+  }
+
+  private void accept(final RhoWalk<E> walk, final RhoSearch<E> search, final SplittableRandom seeds) {
+    while(!server.isClosed()) {
+      final Socket socket;
+
+      try {
+        socket = server.accept();
+      } catch(final IOException e) {
+        // Closed.
+        return;
+      }
+
+      final long seed;
+
+      synchronized(seeds) {
+        seed = seeds.nextLong();
+      }
+
+      connections.add(socket);
+
+      // The search may have ended, and connections been closed, since the accept; drop the connection rather than serve it.
+      if(search.isDone()) {
+        connections.remove(socket);
+        closeQuietly(socket);
+
+        continue;
+      }
+
+      final Thread connection = new Thread(() -> serve(socket, walk, search, seed), "pollard-rho-connection-" + socket.getPort());
+
+      connection.setDaemon(true);
+      connection.start();
+    }
+  }
+
+  private void serve(final Socket socket, final RhoWalk<E> walk, final RhoSearch<E> search, final long seed) {
+    try(socket) {
+      final ObjectOutputStream output = new ObjectOutputStream(socket.getOutputStream());
+
+      output.writeObject(problem);
+      output.writeObject(walk.getBaseSteps());
+      output.writeObject(walk.getElementSteps());
+      output.writeInt(walk.getDistinguishedBits());
+      output.writeLong(seed);
+      output.writeLong(problem.fingerprint(problem.base()));
+      output.writeLong(problem.fingerprint(problem.element()));
+      output.flush();
+
+      final DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+      while(!search.isDone()) {
+        final long key = input.readLong();
+        final BigInteger baseExponent = PollardRhoWorker.readBigInteger(input);
+        final BigInteger elementExponent = PollardRhoWorker.readBigInteger(input);
+
+        search.offer(key, baseExponent, elementExponent);
+      }
+    } catch(final EOFException e) {
+      // The worker left.
+    } catch(final IOException e) {
+      // The worker failed, or the connection was closed once the search ended.
+    } finally {
+      connections.remove(socket);
+    }
+  }
+
+  private static void closeQuietly(final Closeable closeable) {
+    try {
+      closeable.close();
+    } catch(final IOException e) {
+      // Nothing to do.
+    }
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // Closeable
+  //
+
+  /**
+   * Stops listening and closes every connection, which stops the workers.
+   */
+  @Override
+  public void close() {
+    closeQuietly(server);
+
+    for(final Socket connection : connections) {
+      closeQuietly(connection);
+    }
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public int getPort() {
+    return server.getLocalPort();
+  }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.logarithm;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.exception.UnsupportedInstantiationException;
+import com.oliveryasuna.commons.language.marker.Utility;
+import com.oliveryasuna.math.algebra.group.GroupElement;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.math.BigInteger;
+import java.net.Socket;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+/**
+ * A worker process for a {@link PollardRhoCoordinator}.
+ * <p>
+ * The worker connects to the coordinator, receives the problem and the walk, and walks with a number of threads, sending each distinguished
+ * point back as it is found.
+ * It stops once the coordinator closes the connection.
+ * <p>
+ * The worker deserializes the problem it receives, so it must only connect to a trusted coordinator.
+ *
+ * @author Oliver Yasuna
+ */
+@Utility
+public final class PollardRhoWorker {
+
+  // Entry point
+  //--------------------------------------------------
+
+  /**
+   * Runs a worker.
+   *
+   * @param arguments The host and port of the coordinator, and the number of walkers.
+   *
+   * @throws IOException            If the connection fails before walking starts.
+   * @throws ClassNotFoundException If the class of the problem is not on the class path.
+   */
+  public static void main(final String[] arguments) throws IOException, ClassNotFoundException {
+    Arguments.requireTrue(arguments.length == 3, "Usage: PollardRhoWorker <host> <port> <walkers>");
+
+    run(arguments[0], Integer.parseInt(arguments[1]), Integer.parseInt(arguments[2]));
+  }
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Connects to a coordinator and walks until it closes the connection.
+   *
+   * @param host    The host of the coordinator.
+   * @param port    The port of the coordinator.
+   * @param walkers The number of walkers.
+   *
+   * @throws IOException            If the connection fails before walking starts.
+   * @throws ClassNotFoundException If the class of the problem is not on the class path.
+   */
+  public static void run(final String host, final int port, final int walkers) throws IOException, ClassNotFoundException {
+    Arguments.requireNotNull(host);
+    Arguments.requireTrue(walkers > 0, "The number of walkers must be positive.");
+
+    try(final Socket socket = new Socket(host, port)) {
+      final ObjectInputStream input = new ObjectInputStream(socket.getInputStream());
+
+      final RhoProblem<?> problem = (RhoProblem<?>)input.readObject();
+      final BigInteger[] baseSteps = (BigInteger[])input.readObject();
+      final BigInteger[] elementSteps = (BigInteger[])input.readObject();
+      final int distinguishedBits = input.readInt();
+      final long seed = input.readLong();
+      final long baseFingerprint = input.readLong();
+      final long elementFingerprint = input.readLong();
+
+      requireSameFingerprints(problem, baseFingerprint, elementFingerprint);
+
+      final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+      final AtomicBoolean stopped = new AtomicBoolean();
+
+      // The coordinator never sends anything more, so the end of the input is the signal to stop.
+      final Thread listener = new Thread(() -> {
+        try {
+          while(input.read() >= 0) {
+            // Ignore.
+          }
+        } catch(final IOException e) {
+          // Closed.
+        } finally {
+          stopped.set(true);
+        }
+      }, "pollard-rho-worker-listener");
+
+      listener.setDaemon(true);
+      listener.start();
+
+      walk(problem, baseSteps, elementSteps, distinguishedBits, seed, walkers, stopped, output);
+    }
+  }
+
+  private static <E extends GroupElement<E, ?>> void walk(final RhoProblem<E> problem, final BigInteger[] baseSteps,
+      final BigInteger[] elementSteps, final int distinguishedBits, final long seed, final int walkers, final AtomicBoolean stopped,
+      final DataOutputStream output) {
+    final RhoWalk<E> walk = new RhoWalk<>(problem.operation(), problem.base(), problem.element(), problem.order(), problem::fingerprint,
+        baseSteps, elementSteps, distinguishedBits);
+
+    final long[] walkerSeeds = new SplittableRandom(seed).longs(walkers).toArray();
+
+    final RhoWalk.PointSink sink = (key, baseExponent, elementExponent) -> {
+      synchronized(output) {
+        try {
+          output.writeLong(key);
+          writeBigInteger(output, baseExponent);
+          writeBigInteger(output, elementExponent);
+          output.flush();
+        } catch(final IOException e) {
+          stopped.set(true);
+        }
+      }
+    };
+
+    final ForkJoinPool pool = new ForkJoinPool(walkers);
+
+    try {
+      pool.submit(() -> IntStream.range(0, walkers).parallel()
+          .forEach(walker -> walk.run(new Random(walkerSeeds[walker]), stopped::get, sink))).join();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Checks that this process fingerprints the base and the element as the coordinator does, as otherwise its points would never match.
+   */
+  private static <E extends GroupElement<E, ?>> void requireSameFingerprints(final RhoProblem<E> problem, final long baseFingerprint,
+      final long elementFingerprint) throws IOException {
+    if(problem.fingerprint(problem.base()) != baseFingerprint || problem.fingerprint(problem.element()) != elementFingerprint) {
+      throw new IOException("The fingerprint of " + problem.getClass().getName() + " differs between processes.");
+    }
+  }
+
+  static void writeBigInteger(final DataOutputStream output, final BigInteger value) throws IOException {
+    final byte[] bytes = value.toByteArray();
+
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  static BigInteger readBigInteger(final DataInputStream input) throws IOException {
+    final int length = input.readInt();
+
+    if(length <= 0 || length > (1 << 20)) throw new IOException("Invalid length: " + length + ".");
+
+    final byte[] bytes = new byte[length];
+
+    input.readFully(bytes);
+
+    return new BigInteger(bytes);
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private PollardRhoWorker() {
+    super();
+
+    throw new UnsupportedInstantiationException();
+  }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.logarithm;
+
+import com.oliveryasuna.math.algebra.group.GroupElement;
+import com.oliveryasuna.math.algebra.group.operation.GroupOperation;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+
+/**
+ * A discrete logarithm problem \(base^x=h\), described so that it can be sent to worker processes.
+ * <p>
+ * Group elements and operations are generally not serializable, so an implementation should hold only what is needed to rebuild them, such as a
+ * modulus and the values of the elements, and its class must be on the class path of the workers.
+ *
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public interface RhoProblem<E extends GroupElement<E, ?>> extends Serializable {
+
+  /**
+   * Gets the operation of the group.
+   *
+   * @return The operation.
+   */
+  GroupOperation<E> operation();
+
+  /**
+   * Gets the base.
+   *
+   * @return The base.
+   */
+  E base();
+
+  /**
+   * Gets the element \(h\).
+   *
+   * @return The element.
+   */
+  E element();
+
+  /**
+   * Gets the order of the base.
+   *
+   * @return The order of the base, or a multiple of it.
+   */
+  BigInteger order();
+
+  /**
+   * Maps an element to a fingerprint, such that equal elements have equal fingerprints in every process.
+   * <p>
+   * The fingerprint must be computed from the value of the element alone, for example, from {@code getValue()}.
+   * Hash codes generally do not qualify, as that of an element includes that of its structure, which may be an identity hash code.
+   *
+   * @param element The element.
+   *
+   * @return The fingerprint.
+   */
+  long fingerprint(E element);
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.logarithm;
+
+import com.oliveryasuna.math.algebra.group.GroupElement;
+import com.oliveryasuna.math.algebra.group.operation.GroupOperation;
+
+import java.math.BigInteger;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The shared store of distinguished points of a Pollard rho search, which solves the logarithm from the first useful collision.
+ * <p>
+ * Two points \(base^{a_1}h^{b_1}=base^{a_2}h^{b_2}\) give \((b_2-b_1)x\equiv a_1-a_2\pmod{order}\).
+ * If \(d=\gcd(b_2-b_1,order)\gt 1\), there are \(d\) solutions, each of which is tested, as long as \(d\) is small.
+ * Because points are keyed by fingerprints, which may collide for distinct elements, every solution is verified before it is accepted.
+ * <p>
+ * The search gives up after a budget of points, which is many times the number expected, as the element is then likely not a power of the base.
+ *
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+final class RhoSearch<E extends GroupElement<E, ?>> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The largest number of solutions of a collision that are tested.
+   */
+  private static final int MAXIMUM_CANDIDATES = 1 << 16;
+
+  private static final long BUDGET_FACTOR = 64;
+
+  /**
+   * The largest order searched exhaustively, as walks in small groups mostly meet themselves.
+   */
+  private static final int EXHAUSTIVE_ORDER = 1 << 12;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Gets the budget of points for a search, about {@value BUDGET_FACTOR} times the number expected.
+   */
+  static long maximumPoints(final BigInteger order, final int distinguishedBits, final int walkers) {
+    final BigInteger expected = order.sqrt().shiftRight(distinguishedBits).add(BigInteger.valueOf(walkers)).add(BigInteger.ONE);
+
+    return expected.multiply(BigInteger.valueOf(BUDGET_FACTOR)).min(BigInteger.valueOf(Long.MAX_VALUE)).longValue();
+  }
+
+  /**
+   * Solves the logarithm by trying every exponent, if the order is small.
+   *
+   * @return The logarithm, or {@code null} if the order is not small.
+   *
+   * @throws NoSuchElementException If the order is small and the element is not a power of the base.
+   */
+  static <E extends GroupElement<E, ?>> BigInteger exhaustive(final GroupOperation<E> operation, final E base, final E element,
+      final BigInteger order) {
+    if(order.compareTo(BigInteger.valueOf(EXHAUSTIVE_ORDER)) > 0) return null;
+
+    E power = operation.identity();
+
+    for(int x = 0; x < order.intValue(); x++) {
+      if(power.equals(element)) return BigInteger.valueOf(x);
+
+      power = operation.perform(power, base);
+    }
+
+    throw new NoSuchElementException("The element is not a power of the base: " + element + ".");
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  RhoSearch(final GroupOperation<E> operation, final E base, final E element, final BigInteger order, final long maximumPoints) {
+    super();
+
+    this.operation = operation;
+    this.base = base;
+    this.element = element;
+    this.order = order;
+    this.maximumPoints = maximumPoints;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final GroupOperation<E> operation;
+
+  private final E base;
+
+  private final E element;
+
+  private final BigInteger order;
+
+  private final long maximumPoints;
+
+  private final ConcurrentHashMap<Long, BigInteger[]> points = new ConcurrentHashMap<>();
+
+  private final AtomicLong pointCount = new AtomicLong();
+
+  private final AtomicReference<BigInteger> result = new AtomicReference<>();
+
+  private final CountDownLatch done = new CountDownLatch(1);
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Adds a distinguished point, ending the search if it solves the logarithm or exhausts the budget.
+   *
+   * @param key             The mixed fingerprint of the point.
+   * @param baseExponent    The exponent of the base.
+   * @param elementExponent The exponent of the element.
+   */
+  void offer(final long key, final BigInteger baseExponent, final BigInteger elementExponent) {
+    if(isDone()) return;
+
+    final BigInteger[] previous = points.putIfAbsent(key, new BigInteger[] {baseExponent, elementExponent});
+
+    if(previous != null && !(previous[0].equals(baseExponent) && previous[1].equals(elementExponent))) {
+      final BigInteger solution = solve(previous[0], previous[1], baseExponent, elementExponent);
+
+      if(solution != null && result.compareAndSet(null, solution)) {
+        done.countDown();
+
+        return;
+      }
+    }
+
+    if(pointCount.incrementAndGet() > maximumPoints) done.countDown();
+  }
+
+  private BigInteger solve(final BigInteger a1, final BigInteger b1, final BigInteger a2, final BigInteger b2) {
+    final BigInteger db = b2.subtract(b1).mod(order);
+    final BigInteger da = a1.subtract(a2).mod(order);
+    final BigInteger d = db.gcd(order);
+
+    if(d.bitLength() > Integer.SIZE - 1 || d.intValue() > MAXIMUM_CANDIDATES || da.mod(d).signum() != 0) return null;
+
+    final BigInteger reducedOrder = order.divide(d);
+    final BigInteger first = (reducedOrder.equals(BigInteger.ONE)
+        ? BigInteger.ZERO
+        : da.divide(d).multiply(db.divide(d).modInverse(reducedOrder)).mod(reducedOrder));
+
+    BigInteger candidate = first;
+
+    for(int i = 0; i < d.intValue(); i++) {
+      if(operation.power(base, candidate).equals(element)) return candidate;
+
+      candidate = candidate.add(reducedOrder);
+    }
+
+    return null;
+  }
+
+  boolean isDone() {
+    return (done.getCount() == 0);
+  }
+
+  /**
+   * Ends the search without a result, which stops every walker and connection that checks {@link #isDone()}.
+   */
+  void cancel() {
+    done.countDown();
+  }
+
+  /**
+   * Waits for the search to end.
+   *
+   * @return The logarithm.
+   *
+   * @throws InterruptedException   If interrupted while waiting.
+   * @throws NoSuchElementException If the budget was exhausted.
+   */
+  BigInteger await() throws InterruptedException {
+    done.await();
+
+    return result();
+  }
+
+  /**
+   * Gets the logarithm, once the search has ended.
+   *
+   * @return The logarithm.
+   *
+   * @throws NoSuchElementException If the budget was exhausted.
+   */
+  BigInteger result() {
+    final BigInteger result = this.result.get();
+
+    if(result == null) {
+      throw new NoSuchElementException("No collision solved the logarithm within " + maximumPoints + " distinguished points; "
+          + "the element is likely not a power of the base: " + element + ".");
+    }
+
+    return result;
+  }
+
+}
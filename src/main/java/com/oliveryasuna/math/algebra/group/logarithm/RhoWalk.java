@@ -0,0 +1,249 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.logarithm;
+
+import com.oliveryasuna.math.algebra.group.GroupElement;
+import com.oliveryasuna.math.algebra.group.operation.GroupOperation;
+import com.oliveryasuna.math.util.BigIntegerUtils;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * An \(r\)-adding walk for Pollard's rho method, reporting distinguished points.
+ * <p>
+ * Each of the \(r\) partitions has a multiplier \(M_k=base^{a_k}h^{b_k}\).
+ * A walk starts at a random \(x=base^{a}h^{b}\) and steps \(x\mapsto xM_{s(x)}\), where \(s\) depends only on \(x\), so two walks that
+ * meet follow the same path from then on.
+ * A point is distinguished if the low bits of its mixed fingerprint are zero; the walk reports it, with its coefficients, and restarts.
+ * <p>
+ * Only the number of steps taken through each partition is counted per step, and the coefficients are computed at distinguished points.
+ *
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+final class RhoWalk<E extends GroupElement<E, ?>> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int PARTITION_BITS = 5;
+
+  /**
+   * The number of partitions \(r\).
+   */
+  private static final int PARTITIONS = 1 << PARTITION_BITS;
+
+  /**
+   * A walk that has not found a distinguished point after this many times the expected number of steps is abandoned, as it is likely in a cycle.
+   */
+  private static final long MAXIMUM_LENGTH_FACTOR = 20;
+
+  /**
+   * The number of steps between checks of whether to stop.
+   */
+  private static final int STOP_INTERVAL = 1 << 10;
+
+  // Static initialization methods
+  //--------------------------------------------------
+
+  /**
+   * Creates a walk with random multipliers.
+   */
+  static <E extends GroupElement<E, ?>> RhoWalk<E> random(final GroupOperation<E> operation, final E base, final E element, final BigInteger order,
+      final ToLongFunction<? super E> fingerprint, final int distinguishedBits, final Random random) {
+    final BigInteger[] baseSteps = new BigInteger[PARTITIONS];
+    final BigInteger[] elementSteps = new BigInteger[PARTITIONS];
+
+    for(int k = 0; k < PARTITIONS; k++) {
+      baseSteps[k] = BigIntegerUtils.random(order, random);
+      elementSteps[k] = BigIntegerUtils.random(order, random);
+    }
+
+    return new RhoWalk<>(operation, base, element, order, fingerprint, baseSteps, elementSteps, distinguishedBits);
+  }
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static long mix(long fingerprint) {
+    // The finalizer of MurmurHash3, so that both the low bits and the high bits depend on every bit of the fingerprint.
+    fingerprint ^= fingerprint >>> 33;
+    fingerprint *= 0xFF51AFD7ED558CCDL;
+    fingerprint ^= fingerprint >>> 33;
+    fingerprint *= 0xC4CEB9FE1A85EC53L;
+    fingerprint ^= fingerprint >>> 33;
+
+    return fingerprint;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  RhoWalk(final GroupOperation<E> operation, final E base, final E element, final BigInteger order, final ToLongFunction<? super E> fingerprint,
+      final BigInteger[] baseSteps, final BigInteger[] elementSteps, final int distinguishedBits) {
+    super();
+
+    this.operation = operation;
+    this.base = base;
+    this.element = element;
+    this.order = order;
+    this.fingerprint = fingerprint;
+    this.baseSteps = baseSteps;
+    this.elementSteps = elementSteps;
+    this.distinguishedBits = distinguishedBits;
+
+    this.distinguishedMask = (1L << distinguishedBits) - 1;
+    this.maximumLength = MAXIMUM_LENGTH_FACTOR << distinguishedBits;
+
+    this.multipliers = new Object[PARTITIONS];
+
+    for(int k = 0; k < PARTITIONS; k++) {
+      multipliers[k] = operation.perform(operation.power(base, baseSteps[k]), operation.power(element, elementSteps[k]));
+    }
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final GroupOperation<E> operation;
+
+  private final E base;
+
+  private final E element;
+
+  private final BigInteger order;
+
+  private final ToLongFunction<? super E> fingerprint;
+
+  /**
+   * \(a_k\).
+   */
+  private final BigInteger[] baseSteps;
+
+  /**
+   * \(b_k\).
+   */
+  private final BigInteger[] elementSteps;
+
+  private final int distinguishedBits;
+
+  private final long distinguishedMask;
+
+  private final long maximumLength;
+
+  /**
+   * \(M_k\).
+   */
+  private final Object[] multipliers;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Walks from random starting points until stopped.
+   *
+   * @param random  The source of starting points.
+   * @param stopped Whether to stop.
+   * @param sink    Receives distinguished points.
+   */
+  void run(final Random random, final BooleanSupplier stopped, final PointSink sink) {
+    final long[] counts = new long[PARTITIONS];
+
+    while(!stopped.getAsBoolean()) {
+      final BigInteger baseStart = BigIntegerUtils.random(order, random);
+      final BigInteger elementStart = BigIntegerUtils.random(order, random);
+
+      E point = operation.perform(operation.power(base, baseStart), operation.power(element, elementStart));
+
+      Arrays.fill(counts, 0L);
+
+      for(long length = 0; length < maximumLength; length++) {
+        final long mixed = mix(fingerprint.applyAsLong(point));
+
+        if((mixed & distinguishedMask) == 0) {
+          sink.accept(mixed, coefficient(baseStart, baseSteps, counts), coefficient(elementStart, elementSteps, counts));
+
+          break;
+        }
+
+        if((length & (STOP_INTERVAL - 1)) == STOP_INTERVAL - 1 && stopped.getAsBoolean()) return;
+
+        final int partition = (int)(mixed >>> (Long.SIZE - PARTITION_BITS));
+
+        point = operation.perform(point, multiplier(partition));
+        counts[partition]++;
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private E multiplier(final int partition) {
+    // Every multiplier is a product of elements.
+    return (E)multipliers[partition];
+  }
+
+  private BigInteger coefficient(final BigInteger start, final BigInteger[] steps, final long[] counts) {
+    BigInteger coefficient = start;
+
+    for(int k = 0; k < PARTITIONS; k++) {
+      if(counts[k] != 0) coefficient = coefficient.add(steps[k].multiply(BigInteger.valueOf(counts[k])));
+    }
+
+    return coefficient.mod(order);
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  BigInteger[] getBaseSteps() {
+    return baseSteps;
+  }
+
+  BigInteger[] getElementSteps() {
+    return elementSteps;
+  }
+
+  int getDistinguishedBits() {
+    return distinguishedBits;
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  /**
+   * Receives distinguished points \(x=base^{a}h^{b}\).
+   */
+  @FunctionalInterface
+  interface PointSink {
+
+    /**
+     * @param key             The mixed fingerprint of \(x\).
+     * @param baseExponent    \(a\).
+     * @param elementExponent \(b\).
+     */
+    void accept(long key, BigInteger baseExponent, BigInteger elementExponent);
+
+  }
+
+}
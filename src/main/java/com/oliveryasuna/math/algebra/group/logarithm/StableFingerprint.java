@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.logarithm;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * A fingerprint of elements that is the same in every process, so that it can key tables persisted across restarts.
+ * <p>
+ * The fingerprint must be computed from the value of an element alone, for example, from {@code getValue()}.
+ * Hash codes do not qualify, because those of elements include the identity hash code of their structure.
+ * <p>
+ * The identifier names the function, and is stored with the tables it keys, so it must change whenever the function does.
+ *
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public interface StableFingerprint<E> extends ToLongFunction<E> {
+
+  /**
+   * Names a value-based function as a stable fingerprint.
+   *
+   * @param identifier The identifier of the function.
+   * @param function   Maps elements to fingerprints from their values alone.
+   * @param <E>        The type of elements.
+   *
+   * @return The fingerprint.
+   */
+  static <E> StableFingerprint<E> of(final String identifier, final ToLongFunction<? super E> function) {
+    Arguments.requireNotNull(identifier);
+    Arguments.requireNotNull(function);
+
+    return new StableFingerprint<>() {
+      @Override
+      public String identifier() {
+        return identifier;
+      }
+
+      @Override
+      public long applyAsLong(final E element) {
+        return function.applyAsLong(element);
+      }
+    };
+  }
+
+  /**
+   * Gets the identifier of the function, which is stored with the tables it keys.
+   *
+   * @return The identifier.
+   */
+  String identifier();
+
+}
@@ -19,8 +19,11 @@
 package com.oliveryasuna.math.algebra.group.operation;
 
 import com.oliveryasuna.math.algebra.group.CommutativeGroupElement;
+import com.oliveryasuna.math.algebra.operation.MultiExponentiation;
 import com.oliveryasuna.math.algebra.property.Commutative;
 
+import java.math.BigInteger;
+
 /**
  * Represents the operation of a commutative group.
  *
@@ -30,4 +33,20 @@ import com.oliveryasuna.math.algebra.property.Commutative;
  */
 public interface CommutativeGroupOperation<E extends CommutativeGroupElement<E, ?>> extends GroupOperation<E>, Commutative {
 
+  /**
+   * Computes the product of powers \(\prod_i bases_i^{exponents_i}\).
+   *
+   * @param bases     The bases.
+   * @param exponents The exponents, which may be negative.
+   *
+   * @return The product of powers, or the identity if there are no terms.
+   *
+   * @throws IllegalArgumentException If the arrays differ in length.
+   * @implNote By default, uses Straus' interleaving for few terms and Pippenger's bucket method, parallelized on the common pool, for many.
+   *     Either shares one chain of squarings across all terms.
+   */
+  default E multiPower(final E[] bases, final BigInteger[] exponents) {
+    return MultiExponentiation.multiPower(this, identity(), this, bases, exponents);
+  }
+
 }
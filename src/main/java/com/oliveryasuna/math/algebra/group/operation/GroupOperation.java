@@ -19,6 +19,9 @@
 package com.oliveryasuna.math.algebra.group.operation;
 
 import com.oliveryasuna.math.algebra.group.GroupElement;
+import com.oliveryasuna.math.algebra.operation.Exponentiation;
+
+import java.math.BigInteger;
 
 /**
  * Represents the operation of a group.
@@ -29,4 +32,19 @@ import com.oliveryasuna.math.algebra.group.GroupElement;
  */
 public interface GroupOperation<E extends GroupElement<E, ?>> extends LoopOperation<E>, InverseSemigroupOperation<E>, MonoidOperation<E> {
 
+  /**
+   * Computes \(base^{exponent}\), where a negative exponent means \(\left(base^{-1}\right)^{-exponent}\).
+   *
+   * @param base     The base.
+   * @param exponent The exponent.
+   *
+   * @return \(base^{exponent}\), or the identity if {@code exponent} is zero.
+   *
+   * @implNote By default, uses sliding-window exponentiation, and computes an inverse only for a negative exponent.
+   */
+  @Override
+  default E power(final E base, final BigInteger exponent) {
+    return Exponentiation.power(this, identity(), this, base, exponent);
+  }
+
 }
@@ -28,4 +28,29 @@ import com.oliveryasuna.math.algebra.operation.BinaryOperation;
  */
 public interface MagmaOperation<E extends MagmaElement<E, ?>> extends BinaryOperation<E, E, E> {
 
+  /**
+   * Performs the operation element-wise, replacing each operand: {@code operands[i] = perform(operands[i], others[i])}.
+   *
+   * @param operands The first operands, to which the results are written.
+   * @param others   The second operands.
+   *
+   * @throws IllegalArgumentException If the arrays differ in length.
+   * @implNote By default, calls {@link #performAll(Object[], Object[], Object[])}.
+   */
+  default void performAllInPlace(final E[] operands, final E[] others) {
+    performAll(operands, others, operands);
+  }
+
+  /**
+   * Performs the operation with a fixed second operand, replacing each operand: {@code operands[i] = perform(operands[i], other)}.
+   *
+   * @param operands The first operands, to which the results are written.
+   * @param other    The second operand.
+   *
+   * @implNote By default, calls {@link #performAllRight(Object[], Object, Object[])}.
+   */
+  default void performAllInPlace(final E[] operands, final E other) {
+    performAllRight(operands, other, operands);
+  }
+
 }
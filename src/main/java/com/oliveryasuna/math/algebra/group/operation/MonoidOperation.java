@@ -19,6 +19,9 @@
 package com.oliveryasuna.math.algebra.group.operation;
 
 import com.oliveryasuna.math.algebra.group.MonoidElement;
+import com.oliveryasuna.math.algebra.operation.Exponentiation;
+
+import java.math.BigInteger;
 
 /**
  * Represents the operation of a monoid.
@@ -29,4 +32,20 @@ import com.oliveryasuna.math.algebra.group.MonoidElement;
  */
 public interface MonoidOperation<E extends MonoidElement<E, ?>> extends UnitalMagmaOperation<E>, SemigroupOperation<E> {
 
+  /**
+   * Computes \(base^{exponent}\), i.e. {@code base} operated with itself {@code exponent} times.
+   *
+   * @param base     The base.
+   * @param exponent The non-negative exponent.
+   *
+   * @return \(base^{exponent}\), or the identity if {@code exponent} is zero.
+   *
+   * @throws IllegalArgumentException If {@code exponent} is negative.
+   * @implNote By default, uses sliding-window exponentiation.
+   *     Structures with a closed form, such as a multiple of an integer, should override this.
+   */
+  default E power(final E base, final BigInteger exponent) {
+    return Exponentiation.power(this, identity(), base, exponent);
+  }
+
 }
@@ -0,0 +1,385 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.operation;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.property.Associative;
+import com.oliveryasuna.math.algebra.property.Associativity;
+import com.oliveryasuna.math.algebra.property.Commutative;
+import com.oliveryasuna.math.algebra.property.Identity;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+/**
+ * Folds elements with an associative operation in parallel on a {@link ForkJoinPool}.
+ * <p>
+ * Associativity allows the elements to be split into contiguous partitions that are folded independently and then combined.
+ * The properties of the operation refine this:
+ * <ul>
+ *   <li>If it is {@link Commutative}, partial results are combined in whatever order the partitions finish, without waiting on their neighbors.</li>
+ *   <li>If it has an {@link Identity}, reducing no elements yields the identity; otherwise, it fails.</li>
+ * </ul>
+ * <p>
+ * Partitions are split in halves until they hold at most
+ * \(\max\left(minimumThreshold,\lceil size/(8\cdot parallelism)\rceil\right)\) elements, so that small inputs are not over-split and large inputs
+ * produce enough tasks to balance load.
+ *
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class AssociativeReducer<E> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  public static final int DEFAULT_MINIMUM_THRESHOLD = 1 << 10;
+
+  private static final int TASKS_PER_WORKER = 8;
+
+  // Static initialization methods
+  //--------------------------------------------------
+
+  /**
+   * Creates a reducer on the common pool with the default minimum threshold.
+   *
+   * @param operation The associative operation.
+   * @param <E>       The type of elements.
+   * @param <O>       The type of operation.
+   *
+   * @return The reducer.
+   */
+  public static <E, O extends BinaryOperation<E, E, E> & Associative> AssociativeReducer<E> of(final O operation) {
+    return new AssociativeReducer<>(operation, ForkJoinPool.commonPool(), DEFAULT_MINIMUM_THRESHOLD);
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param operation        The associative operation.
+   * @param pool             The pool on which to run.
+   * @param minimumThreshold The number of elements below which a partition is folded sequentially.
+   * @param <O>              The type of operation.
+   */
+  public <O extends BinaryOperation<E, E, E> & Associative> AssociativeReducer(final O operation, final ForkJoinPool pool, final int minimumThreshold) {
+    super();
+
+    Arguments.requireNotNull(operation);
+    Arguments.requireNotNull(pool);
+    Arguments.requireTrue(operation.associativity() == Associativity.ASSOCIATIVE, "The operation must be both left and right associative.");
+    Arguments.requireTrue(minimumThreshold > 0, "The minimum threshold must be positive.");
+
+    this.operation = operation;
+    this.pool = pool;
+    this.minimumThreshold = minimumThreshold;
+
+    this.commutative = (operation instanceof Commutative);
+
+    if(operation instanceof Identity) {
+      // The operation is on E, so its identity is an E.
+      @SuppressWarnings("unchecked")
+      final Identity<E> identityOperation = (Identity<E>)operation;
+
+      this.identity = identityOperation.identity();
+    } else {
+      this.identity = null;
+    }
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final BinaryOperation<E, E, E> operation;
+
+  private final ForkJoinPool pool;
+
+  private final int minimumThreshold;
+
+  private final boolean commutative;
+
+  /**
+   * The identity, or {@code null} if the operation has none.
+   */
+  private final E identity;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Folds all elements.
+   *
+   * @param elements The elements.
+   *
+   * @return \(e_0\cdot e_1\cdot\ldots\cdot e_{n-1}\).
+   *
+   * @throws NoSuchElementException If there are no elements and the operation has no identity.
+   */
+  public E reduce(final E[] elements) {
+    Arguments.requireNotNull(elements);
+
+    return reduce(elements, 0, elements.length);
+  }
+
+  /**
+   * Folds the elements in \([from,to)\).
+   *
+   * @param elements The elements.
+   * @param from     The first index, inclusive.
+   * @param to       The last index, exclusive.
+   *
+   * @return \(e_{from}\cdot\ldots\cdot e_{to-1}\).
+   *
+   * @throws NoSuchElementException If the range is empty and the operation has no identity.
+   */
+  public E reduce(final E[] elements, final int from, final int to) {
+    Arguments.requireNotNull(elements);
+    Arguments.requireTrue(0 <= from && from <= to && to <= elements.length, "Invalid range: [" + from + "," + to + ").");
+
+    final int size = to - from;
+
+    if(size == 0) return emptyResult();
+
+    final int threshold = threshold(size);
+
+    if(size <= threshold) return fold(elements, from, to);
+
+    if(commutative) {
+      final ConcurrentHashMap<Long, E> partials = new ConcurrentHashMap<>();
+
+      pool.invoke(new UnorderedTask(elements, from, to, threshold, partials));
+
+      E result = null;
+
+      for(final E partial : partials.values()) {
+        result = (result == null ? partial : operation.perform(result, partial));
+      }
+
+      return result;
+    }
+
+    return pool.invoke(new OrderedTask(elements, from, to, threshold));
+  }
+
+  /**
+   * Folds all elements of a list.
+   * The list is copied to an array first, so that partitions can be split by index.
+   *
+   * @param elements The elements.
+   *
+   * @return \(e_0\cdot e_1\cdot\ldots\cdot e_{n-1}\).
+   *
+   * @throws NoSuchElementException If there are no elements and the operation has no identity.
+   */
+  public E reduce(final List<E> elements) {
+    Arguments.requireNotNull(elements);
+
+    // The array is only read, and only as E, so an Object[] suffices.
+    @SuppressWarnings("unchecked")
+    final E[] array = (E[])elements.toArray();
+
+    return reduce(array);
+  }
+
+  /**
+   * Folds all elements of a stream on this reducer's pool.
+   * <p>
+   * The stream is made parallel and, if the operation is commutative, unordered.
+   * Splitting is left to the stream's spliterator.
+   *
+   * @param elements The elements.
+   *
+   * @return \(e_0\cdot e_1\cdot\ldots\cdot e_{n-1}\).
+   *
+   * @throws NoSuchElementException If there are no elements and the operation has no identity.
+   */
+  public E reduce(final Stream<E> elements) {
+    Arguments.requireNotNull(elements);
+
+    final Stream<E> stream = (commutative ? elements.parallel().unordered() : elements.parallel());
+
+    // A parallel stream runs on the pool of the task that starts its terminal operation.
+    return pool.submit(() -> (identity != null
+            ? stream.reduce(identity, operation::perform)
+            : stream.reduce(operation::perform).orElseThrow(() -> new NoSuchElementException("Nothing to reduce, and the operation has no identity."))))
+        .join();
+  }
+
+  private int threshold(final int size) {
+    final int tasks = pool.getParallelism() * TASKS_PER_WORKER;
+
+    return Math.max(minimumThreshold, (size + tasks - 1) / tasks);
+  }
+
+  private E fold(final E[] elements, final int from, final int to) {
+    E result = elements[from];
+
+    for(int i = from + 1; i < to; i++) {
+      result = operation.perform(result, elements[i]);
+    }
+
+    return result;
+  }
+
+  private E emptyResult() {
+    if(identity == null) throw new NoSuchElementException("Nothing to reduce, and the operation has no identity.");
+
+    return identity;
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public BinaryOperation<E, E, E> getOperation() {
+    return operation;
+  }
+
+  public ForkJoinPool getPool() {
+    return pool;
+  }
+
+  public int getMinimumThreshold() {
+    return minimumThreshold;
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  private final class OrderedTask extends RecursiveTask<E> {
+
+    // Static fields
+    //--------------------------------------------------
+
+    private static final long serialVersionUID = 1L;
+
+    // Constructors
+    //--------------------------------------------------
+
+    private OrderedTask(final E[] elements, final int from, final int to, final int threshold) {
+      super();
+
+      this.elements = elements;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final E[] elements;
+
+    private final int from;
+
+    private final int to;
+
+    private final int threshold;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // RecursiveTask
+    //
+
+    @Override
+    protected E compute() {
+      if(to - from <= threshold) return fold(elements, from, to);
+
+      final int middle = (from + to) >>> 1;
+
+      final OrderedTask left = new OrderedTask(elements, from, middle, threshold);
+      left.fork();
+
+      final E right = new OrderedTask(elements, middle, to, threshold).compute();
+
+      return operation.perform(left.join(), right);
+    }
+
+  }
+
+  /**
+   * Merges each partition into a per-thread partial result as soon as it is folded.
+   * Only the owning thread merges into its entry, so merging never contends.
+   */
+  private final class UnorderedTask extends RecursiveAction {
+
+    // Static fields
+    //--------------------------------------------------
+
+    private static final long serialVersionUID = 1L;
+
+    // Constructors
+    //--------------------------------------------------
+
+    private UnorderedTask(final E[] elements, final int from, final int to, final int threshold, final ConcurrentHashMap<Long, E> partials) {
+      super();
+
+      this.elements = elements;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+      this.partials = partials;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final E[] elements;
+
+    private final int from;
+
+    private final int to;
+
+    private final int threshold;
+
+    private final ConcurrentHashMap<Long, E> partials;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // RecursiveAction
+    //
+
+    @Override
+    protected void compute() {
+      if(to - from <= threshold) {
+        partials.merge(Thread.currentThread().getId(), fold(elements, from, to), operation::perform);
+
+        return;
+      }
+
+      final int middle = (from + to) >>> 1;
+
+      invokeAll(
+          new UnorderedTask(elements, from, middle, threshold, partials),
+          new UnorderedTask(elements, middle, to, threshold, partials)
+      );
+    }
+
+  }
+
+}
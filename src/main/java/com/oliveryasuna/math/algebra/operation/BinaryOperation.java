@@ -18,6 +18,8 @@
 
 package com.oliveryasuna.math.algebra.operation;
 
+import com.oliveryasuna.math.util.ArrayUtils;
+
 /**
  * Represents a binary operation.
  *
@@ -39,4 +41,65 @@ public interface BinaryOperation<O1, O2, R> {
    */
   R perform(O1 o1, O2 o2);
 
+  /**
+   * Performs the operation element-wise: {@code results[i] = perform(o1s[i], o2s[i])}.
+   * <p>
+   * {@code results} may be the same array as {@code o1s} or {@code o2s}.
+   *
+   * @param o1s     The first operands.
+   * @param o2s     The second operands.
+   * @param results The array to which the results are written.
+   *
+   * @throws IllegalArgumentException If the arrays differ in length.
+   * @implNote By default, calls {@link #perform(Object, Object)} for each index.
+   *     Implementations backed by primitive or numeric values should override this with a loop over those values.
+   */
+  default void performAll(final O1[] o1s, final O2[] o2s, final R[] results) {
+    ArrayUtils.requireSameLength(o1s.length, o2s.length, results.length);
+
+    for(int i = 0; i < results.length; i++) {
+      results[i] = perform(o1s[i], o2s[i]);
+    }
+  }
+
+  /**
+   * Performs the operation with a fixed first operand: {@code results[i] = perform(o1, o2s[i])}.
+   * <p>
+   * {@code results} may be the same array as {@code o2s}.
+   *
+   * @param o1      The first operand.
+   * @param o2s     The second operands.
+   * @param results The array to which the results are written.
+   *
+   * @throws IllegalArgumentException If the arrays differ in length.
+   * @implNote By default, calls {@link #perform(Object, Object)} for each index.
+   */
+  default void performAllLeft(final O1 o1, final O2[] o2s, final R[] results) {
+    ArrayUtils.requireSameLength(o2s.length, results.length);
+
+    for(int i = 0; i < results.length; i++) {
+      results[i] = perform(o1, o2s[i]);
+    }
+  }
+
+  /**
+   * Performs the operation with a fixed second operand: {@code results[i] = perform(o1s[i], o2)}.
+   * <p>
+   * {@code results} may be the same array as {@code o1s}.
+   *
+   * @param o1s     The first operands.
+   * @param o2      The second operand.
+   * @param results The array to which the results are written.
+   *
+   * @throws IllegalArgumentException If the arrays differ in length.
+   * @implNote By default, calls {@link #perform(Object, Object)} for each index.
+   */
+  default void performAllRight(final O1[] o1s, final O2 o2, final R[] results) {
+    ArrayUtils.requireSameLength(o1s.length, results.length);
+
+    for(int i = 0; i < results.length; i++) {
+      results[i] = perform(o1s[i], o2);
+    }
+  }
+
 }
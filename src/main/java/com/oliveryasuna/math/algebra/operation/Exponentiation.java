@@ -0,0 +1,307 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.operation;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.exception.UnsupportedInstantiationException;
+import com.oliveryasuna.commons.language.marker.Utility;
+import com.oliveryasuna.math.algebra.property.Inverse;
+
+import java.math.BigInteger;
+
+/**
+ * Repeated application of an associative operation, i.e. \(x^k=x\cdot x\cdot\ldots\cdot x\) (\(k\) times).
+ * <p>
+ * In additive notation, this is the scalar multiple \(kx\).
+ *
+ * @author Oliver Yasuna
+ */
+@Utility
+public final class Exponentiation {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * Exponent bit-lengths at which the window grows by one bit, i.e. window size \(w\) is used below {@code WINDOW_THRESHOLDS[w - 1]}.
+   */
+  private static final int[] WINDOW_THRESHOLDS = {7, 25, 81, 241, 673, 1793, Integer.MAX_VALUE};
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Computes \(base^{exponent}\) by left-to-right sliding-window exponentiation.
+   * <p>
+   * Precomputes the \(2^{w-1}\) odd powers \(base,base^3,\ldots,base^{2^w-1}\), then performs one squaring per exponent bit and one multiplication per
+   * window.
+   *
+   * @param operation The associative operation.
+   * @param identity  The identity of the operation, returned for a zero exponent.
+   * @param base      The base.
+   * @param exponent  The non-negative exponent.
+   * @param <E>       The type of elements.
+   *
+   * @return \(base^{exponent}\).
+   */
+  public static <E> E power(final BinaryOperation<E, E, E> operation, final E identity, final E base, final BigInteger exponent) {
+    Arguments.requireNotNull(operation);
+    Arguments.requireNotNull(base);
+    Arguments.requireNotNull(exponent);
+    Arguments.requireTrue(exponent.signum() >= 0, "Without inverses, the exponent must be non-negative.");
+
+    if(exponent.signum() == 0) return identity;
+
+    final int bitLength = exponent.bitLength();
+    final int windowSize = windowSize(bitLength);
+    final Object[] oddPowers = oddPowers(operation, base, 1 << (windowSize - 1));
+
+    E result = null;
+
+    for(int i = bitLength - 1; i >= 0; ) {
+      if(!exponent.testBit(i)) {
+        result = square(operation, result);
+        i--;
+
+        continue;
+      }
+
+      // The window [i,j] is the longest one, of at most windowSize bits, that ends in a set bit.
+      int j = Math.max(i - windowSize + 1, 0);
+
+      while(!exponent.testBit(j)) j++;
+
+      int window = 0;
+
+      for(int l = i; l >= j; l--) {
+        result = square(operation, result);
+        window = (window << 1) | (exponent.testBit(l) ? 1 : 0);
+      }
+
+      result = multiply(operation, result, at(oddPowers, window >>> 1));
+      i = j - 1;
+    }
+
+    return result;
+  }
+
+  /**
+   * Computes \(base^{exponent}\), for any integer exponent, by {@linkplain #power(BinaryOperation, Object, Object, BigInteger) sliding-window
+   * exponentiation}.
+   * <p>
+   * The inverse is computed only for a negative exponent, as \(\left(base^{-1}\right)^{-exponent}\).
+   * So, unlike {@link #signedPower(BinaryOperation, Object, Inverse, Object, BigInteger)}, it suits inverses that are costly, inexact, or undefined for
+   * some bases, such as zero in a field.
+   *
+   * @param operation The associative operation.
+   * @param identity  The identity of the operation, returned for a zero exponent.
+   * @param inverse   The inverse of the operation.
+   * @param base      The base.
+   * @param exponent  The exponent.
+   * @param <E>       The type of elements.
+   *
+   * @return \(base^{exponent}\).
+   */
+  public static <E> E power(final BinaryOperation<E, E, E> operation, final E identity, final Inverse<E> inverse, final E base,
+      final BigInteger exponent) {
+    Arguments.requireNotNull(inverse);
+    Arguments.requireNotNull(base);
+    Arguments.requireNotNull(exponent);
+
+    if(exponent.signum() >= 0) return power(operation, identity, base, exponent);
+
+    return power(operation, identity, inverse.inverse(base), exponent.negate());
+  }
+
+  /**
+   * Computes \(base^{exponent}\), for any integer exponent, using the width-\(w\) non-adjacent form of the exponent.
+   * <p>
+   * Negative digits are served from odd powers of \(base^{-1}\), so only one inverse is computed.
+   * Compared to {@link #power(BinaryOperation, Object, Object, BigInteger)}, the same density of multiplications is reached with half the
+   * precomputation.
+   * <p>
+   * Positive exponents have negative digits too, so the inverse is computed for any non-zero exponent, and must be exact and defined for
+   * {@code base}; e.g., negation.
+   * Otherwise, use {@link #power(BinaryOperation, Object, Inverse, Object, BigInteger)}.
+   *
+   * @param operation The associative operation.
+   * @param identity  The identity of the operation, returned for a zero exponent.
+   * @param inverse   The inverse of the operation.
+   * @param base      The base.
+   * @param exponent  The exponent.
+   * @param <E>       The type of elements.
+   *
+   * @return \(base^{exponent}\).
+   */
+  public static <E> E signedPower(final BinaryOperation<E, E, E> operation, final E identity, final Inverse<E> inverse, final E base,
+      final BigInteger exponent) {
+    Arguments.requireNotNull(operation);
+    Arguments.requireNotNull(inverse);
+    Arguments.requireNotNull(base);
+    Arguments.requireNotNull(exponent);
+
+    if(exponent.signum() == 0) return identity;
+
+    final E inverseBase = inverse.inverse(base);
+
+    if(exponent.signum() < 0) return signedPower(operation, identity, inverseBase, base, exponent.negate());
+
+    return signedPower(operation, identity, base, inverseBase, exponent);
+  }
+
+  private static <E> E signedPower(final BinaryOperation<E, E, E> operation, final E identity, final E base, final E inverseBase,
+      final BigInteger exponent) {
+    final int width = windowSize(exponent.bitLength()) + 1;
+    final byte[] digits = nonAdjacentForm(exponent, width);
+    final int tableSize = 1 << (width - 2);
+
+    final Object[] positive = oddPowers(operation, base, tableSize);
+    final Object[] negative = oddPowers(operation, inverseBase, tableSize);
+
+    E result = null;
+
+    for(int i = digits.length - 1; i >= 0; i--) {
+      result = square(operation, result);
+
+      final int digit = digits[i];
+
+      if(digit > 0) {
+        result = multiply(operation, result, at(positive, digit >>> 1));
+      } else if(digit < 0) {
+        result = multiply(operation, result, at(negative, (-digit) >>> 1));
+      }
+    }
+
+    return (result == null ? identity : result);
+  }
+
+  /**
+   * Gets the window size suited to an exponent of a given bit-length.
+   *
+   * @param bitLength The bit-length of the exponent.
+   *
+   * @return The window size, in \([1,7]\).
+   */
+  public static int windowSize(final int bitLength) {
+    int windowSize = 1;
+
+    while(bitLength >= WINDOW_THRESHOLDS[windowSize - 1]) windowSize++;
+
+    return windowSize;
+  }
+
+  /**
+   * Computes the width-\(w\) non-adjacent form of a positive integer.
+   * <p>
+   * Each digit is zero or odd with absolute value below \(2^{w-1}\), and among any \(w\) consecutive digits at most one is non-zero.
+   *
+   * @param value The positive integer.
+   * @param width The width \(w\), in \([2,8]\).
+   *
+   * @return The digits, least significant first.
+   */
+  public static byte[] nonAdjacentForm(final BigInteger value, final int width) {
+    Arguments.requireTrue(value.signum() > 0, "The value must be positive.");
+    Arguments.requireTrue(width >= 2 && width <= 8, "The width must be in [2,8].");
+
+    final int modulus = 1 << width;
+    final int half = modulus >>> 1;
+
+    final byte[] digits = new byte[value.bitLength() + 1];
+    BigInteger remaining = value;
+    int length = 0;
+
+    while(remaining.signum() > 0) {
+      if(remaining.testBit(0)) {
+        int digit = remaining.intValue() & (modulus - 1);
+
+        if(digit >= half) digit -= modulus;
+
+        digits[length] = (byte)digit;
+        remaining = remaining.subtract(BigInteger.valueOf(digit));
+      }
+
+      remaining = remaining.shiftRight(1);
+      length++;
+    }
+
+    final byte[] trimmed = new byte[length];
+    System.arraycopy(digits, 0, trimmed, 0, length);
+
+    return trimmed;
+  }
+
+  /**
+   * Computes \(base^1,base^3,\ldots,base^{2\cdot count-1}\).
+   */
+  static <E> Object[] oddPowers(final BinaryOperation<E, E, E> operation, final E base, final int count) {
+    final Object[] oddPowers = new Object[count];
+    oddPowers[0] = base;
+
+    if(count > 1) {
+      final E square = operation.perform(base, base);
+
+      for(int i = 1; i < count; i++) {
+        oddPowers[i] = operation.perform(Exponentiation.<E>at(oddPowers, i - 1), square);
+      }
+    }
+
+    return oddPowers;
+  }
+
+  /**
+   * Reads an entry of a table of elements.
+   * <p>
+   * Tables are {@code Object[]}, as arrays of a type parameter cannot be created, and this is the only place their entries are cast back.
+   *
+   * @param table The table, whose non-{@code null} entries are all {@code E}.
+   * @param index The index.
+   * @param <E>   The type of elements.
+   *
+   * @return The entry.
+   */
+  @SuppressWarnings("unchecked")
+  static <E> E at(final Object[] table, final int index) {
+    return (E)table[index];
+  }
+
+  /**
+   * Squares, treating {@code null} as the identity.
+   */
+  static <E> E square(final BinaryOperation<E, E, E> operation, final E value) {
+    return (value == null ? null : operation.perform(value, value));
+  }
+
+  /**
+   * Multiplies, treating a {@code null} multiplier as the identity.
+   */
+  static <E> E multiply(final BinaryOperation<E, E, E> operation, final E multiplier, final E multiplicand) {
+    return (multiplier == null ? multiplicand : operation.perform(multiplier, multiplicand));
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private Exponentiation() {
+    super();
+
+    throw new UnsupportedInstantiationException();
+  }
+
+}
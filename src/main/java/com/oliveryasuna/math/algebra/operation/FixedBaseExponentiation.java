@@ -0,0 +1,281 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.operation;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.property.Inverse;
+
+import java.math.BigInteger;
+
+/**
+ * Exponentiation of one fixed base, such as a generator, by the comb method of Lim and Lee.
+ * <p>
+ * An exponent of at most \(b\) bits is written as \(h\) rows ("teeth") of \(d=\lceil b/h\rceil\) bits.
+ * The table holds, for each of the \(2^h-1\) non-zero columns \(c\), the product \(\prod_{j:c_j=1}base^{2^{jd}}\), so an exponentiation costs
+ * \(d-1\) squarings and at most \(d\) multiplications, instead of \(b-1\) squarings.
+ * <p>
+ * The table is built on first use, once, even under concurrent use.
+ * Its size, and therefore \(h\), is bounded by a budget of entries.
+ *
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class FixedBaseExponentiation<E> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The default budget of table entries.
+   */
+  public static final int DEFAULT_MAXIMUM_ENTRIES = 1 << 8;
+
+  private static final int MAXIMUM_TEETH = 24;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Validates an order before the delegating constructor reads its bit-length.
+   */
+  private static int orderBitLength(final BigInteger order) {
+    Arguments.requireNotNull(order);
+    Arguments.requireTrue(order.signum() > 0, "The order must be positive.");
+
+    return order.bitLength();
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates an exponentiation of a base of known order, in which case exponents of any size and sign are first reduced modulo the order.
+   *
+   * @param operation      The associative operation.
+   * @param identity       The identity of the operation.
+   * @param base           The fixed base.
+   * @param order          The order of {@code base}, or a multiple of it.
+   * @param maximumEntries The budget of table entries.
+   */
+  public FixedBaseExponentiation(final BinaryOperation<E, E, E> operation, final E identity, final E base, final BigInteger order,
+      final int maximumEntries) {
+    this(operation, identity, null, base, order, orderBitLength(order), maximumEntries);
+  }
+
+  /**
+   * Creates an exponentiation of a base of unknown order.
+   * Exponents longer than {@code maximumBits} fall back to {@link Exponentiation}.
+   *
+   * @param operation      The associative operation.
+   * @param identity       The identity of the operation.
+   * @param inverse        The inverse of the operation, or {@code null} if exponents are non-negative.
+   * @param base           The fixed base.
+   * @param maximumBits    The bit-length of the longest exponent served by the table.
+   * @param maximumEntries The budget of table entries.
+   */
+  public FixedBaseExponentiation(final BinaryOperation<E, E, E> operation, final E identity, final Inverse<E> inverse, final E base,
+      final int maximumBits, final int maximumEntries) {
+    this(operation, identity, inverse, base, null, maximumBits, maximumEntries);
+  }
+
+  private FixedBaseExponentiation(final BinaryOperation<E, E, E> operation, final E identity, final Inverse<E> inverse, final E base,
+      final BigInteger order, final int maximumBits, final int maximumEntries) {
+    super();
+
+    Arguments.requireNotNull(operation);
+    Arguments.requireNotNull(base);
+    Arguments.requireTrue(maximumBits > 0, "The maximum bit-length must be positive.");
+    Arguments.requireTrue(maximumEntries >= 2, "The table needs at least two entries.");
+
+    this.operation = operation;
+    this.identity = identity;
+    this.inverse = inverse;
+    this.base = base;
+    this.order = order;
+    this.maximumBits = maximumBits;
+
+    this.teeth = Math.min(Math.min(31 - Integer.numberOfLeadingZeros(maximumEntries), MAXIMUM_TEETH), maximumBits);
+    this.spacing = (maximumBits + teeth - 1) / teeth;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final BinaryOperation<E, E, E> operation;
+
+  private final E identity;
+
+  private final Inverse<E> inverse;
+
+  private final E base;
+
+  /**
+   * The order of the base, or {@code null} if unknown.
+   */
+  private final BigInteger order;
+
+  private final int maximumBits;
+
+  /**
+   * The number of rows \(h\).
+   */
+  private final int teeth;
+
+  /**
+   * The number of columns \(d\).
+   */
+  private final int spacing;
+
+  /**
+   * The comb table, indexed by column, or {@code null} until first use.
+   */
+  private volatile Object[] table;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Computes \(base^{exponent}\).
+   *
+   * @param exponent The exponent.
+   *
+   * @return \(base^{exponent}\).
+   *
+   * @throws IllegalArgumentException If {@code exponent} is negative, the order is unknown, and there is no inverse.
+   */
+  public E power(final BigInteger exponent) {
+    Arguments.requireNotNull(exponent);
+
+    final BigInteger reduced = (order != null ? exponent.mod(order) : exponent);
+
+    if(reduced.signum() == 0) return identity;
+
+    if(reduced.bitLength() > maximumBits) {
+      return (inverse != null
+          ? Exponentiation.power(operation, identity, inverse, base, reduced)
+          : Exponentiation.power(operation, identity, base, reduced));
+    }
+
+    if(reduced.signum() < 0) {
+      Arguments.requireTrue(inverse != null, "Without inverses, the exponent must be non-negative.");
+
+      return inverse.inverse(comb(reduced.negate()));
+    }
+
+    return comb(reduced);
+  }
+
+  /**
+   * Builds the table now, rather than on first use.
+   */
+  public void precompute() {
+    table();
+  }
+
+  private E comb(final BigInteger exponent) {
+    final Object[] table = table();
+
+    E result = null;
+
+    for(int column = spacing - 1; column >= 0; column--) {
+      result = Exponentiation.square(operation, result);
+
+      int index = 0;
+
+      for(int tooth = teeth - 1; tooth >= 0; tooth--) {
+        index = (index << 1) | (exponent.testBit(tooth * spacing + column) ? 1 : 0);
+      }
+
+      if(index != 0) result = Exponentiation.multiply(operation, result, Exponentiation.<E>at(table, index));
+    }
+
+    return (result == null ? identity : result);
+  }
+
+  private Object[] table() {
+    Object[] table = this.table;
+
+    if(table == null) {
+      synchronized(this) {
+        table = this.table;
+
+        if(table == null) {
+          table = buildTable();
+          this.table = table;
+        }
+      }
+    }
+
+    return table;
+  }
+
+  private Object[] buildTable() {
+    final Object[] table = new Object[1 << teeth];
+
+    // table[2^j] = base^(2^(j * spacing)).
+    E power = base;
+
+    for(int tooth = 0; tooth < teeth; tooth++) {
+      if(tooth > 0) {
+        for(int i = 0; i < spacing; i++) {
+          power = operation.perform(power, power);
+        }
+      }
+
+      table[1 << tooth] = power;
+    }
+
+    // Every other column combines its highest tooth with a column already built.
+    for(int index = 3; index < table.length; index++) {
+      final int highest = Integer.highestOneBit(index);
+
+      if(index != highest) table[index] = operation.perform(Exponentiation.<E>at(table, index ^ highest), Exponentiation.<E>at(table, highest));
+    }
+
+    return table;
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public E getBase() {
+    return base;
+  }
+
+  public int getMaximumBits() {
+    return maximumBits;
+  }
+
+  public int getTeeth() {
+    return teeth;
+  }
+
+  /**
+   * Gets the number of table entries, including the unused entry for the zero column.
+   *
+   * @return \(2^h\).
+   */
+  public int getEntryCount() {
+    return (1 << teeth);
+  }
+
+}
@@ -0,0 +1,414 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.operation;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.exception.UnsupportedInstantiationException;
+import com.oliveryasuna.commons.language.marker.Utility;
+import com.oliveryasuna.math.algebra.property.Inverse;
+import com.oliveryasuna.math.util.ArrayUtils;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Products of powers \(g_1^{k_1}\cdot g_2^{k_2}\cdot\ldots\cdot g_m^{k_m}\) under a commutative, associative operation.
+ * <p>
+ * Computing the \(m\) powers separately costs \(m\) chains of squarings.
+ * Both algorithms here share one chain of squarings across all terms:
+ * <ul>
+ *   <li>
+ *     Straus' interleaving precomputes a small window table per base and walks all exponents in lockstep.
+ *     Its cost grows with \(m\) times the table size, so it suits few terms.
+ *   </li>
+ *   <li>
+ *     Pippenger's bucket method cuts the exponents into \(c\)-bit windows and, per window, sorts the bases into \(2^c-1\) buckets by digit.
+ *     Each base costs one multiplication per window, independent of the digit, so it suits many terms.
+ *     Windows are independent of each other and are accumulated in parallel.
+ *   </li>
+ * </ul>
+ * {@link #multiPower(BinaryOperation, Object, Inverse, Object[], BigInteger[])} picks whichever has the lower estimated cost.
+ *
+ * @author Oliver Yasuna
+ */
+@Utility
+public final class MultiExponentiation {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int MAXIMUM_BUCKET_BITS = 16;
+
+  /**
+   * The number of multiplications below which Pippenger's windows are accumulated sequentially.
+   */
+  private static final long PARALLEL_THRESHOLD = 1L << 12;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Computes \(\prod_i bases_i^{exponents_i}\) on the common pool, choosing between Straus' and Pippenger's algorithms.
+   *
+   * @param operation The commutative, associative operation.
+   * @param identity  The identity of the operation, returned for an empty product.
+   * @param inverse   The inverse of the operation, or {@code null} if exponents are non-negative.
+   * @param bases     The bases.
+   * @param exponents The exponents.
+   * @param <E>       The type of elements.
+   *
+   * @return The product of powers.
+   *
+   * @throws IllegalArgumentException If the arrays differ in length, or if an exponent is negative and there is no inverse.
+   */
+  public static <E> E multiPower(final BinaryOperation<E, E, E> operation, final E identity, final Inverse<E> inverse, final E[] bases,
+      final BigInteger[] exponents) {
+    return multiPower(operation, identity, inverse, bases, exponents, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Computes \(\prod_i bases_i^{exponents_i}\), choosing between Straus' and Pippenger's algorithms.
+   *
+   * @param operation The commutative, associative operation.
+   * @param identity  The identity of the operation, returned for an empty product.
+   * @param inverse   The inverse of the operation, or {@code null} if exponents are non-negative.
+   * @param bases     The bases.
+   * @param exponents The exponents.
+   * @param pool      The pool on which Pippenger's windows are accumulated.
+   * @param <E>       The type of elements.
+   *
+   * @return The product of powers.
+   *
+   * @throws IllegalArgumentException If the arrays differ in length, or if an exponent is negative and there is no inverse.
+   */
+  public static <E> E multiPower(final BinaryOperation<E, E, E> operation, final E identity, final Inverse<E> inverse, final E[] bases,
+      final BigInteger[] exponents, final ForkJoinPool pool) {
+    Arguments.requireNotNull(operation);
+    Arguments.requireNotNull(bases);
+    Arguments.requireNotNull(exponents);
+    Arguments.requireNotNull(pool);
+    ArrayUtils.requireSameLength(bases.length, exponents.length);
+
+    final Terms<E> terms = Terms.of(inverse, bases, exponents);
+
+    if(terms.size == 0) return identity;
+
+    final int parallelism = pool.getParallelism();
+
+    if(strausCost(terms.size, terms.bitLength) <= pippengerCost(terms.size, terms.bitLength, parallelism)) {
+      return straus(operation, identity, terms);
+    }
+
+    return pippenger(operation, identity, terms, bucketBits(terms.size, terms.bitLength, parallelism), pool);
+  }
+
+  /**
+   * Computes \(\prod_i bases_i^{exponents_i}\) with Straus' interleaved sliding windows.
+   *
+   * @param operation The commutative, associative operation.
+   * @param identity  The identity of the operation, returned for an empty product.
+   * @param inverse   The inverse of the operation, or {@code null} if exponents are non-negative.
+   * @param bases     The bases.
+   * @param exponents The exponents.
+   * @param <E>       The type of elements.
+   *
+   * @return The product of powers.
+   */
+  public static <E> E straus(final BinaryOperation<E, E, E> operation, final E identity, final Inverse<E> inverse, final E[] bases,
+      final BigInteger[] exponents) {
+    Arguments.requireNotNull(operation);
+    Arguments.requireNotNull(bases);
+    Arguments.requireNotNull(exponents);
+    ArrayUtils.requireSameLength(bases.length, exponents.length);
+
+    final Terms<E> terms = Terms.of(inverse, bases, exponents);
+
+    return (terms.size == 0 ? identity : straus(operation, identity, terms));
+  }
+
+  /**
+   * Computes \(\prod_i bases_i^{exponents_i}\) with Pippenger's bucket method.
+   *
+   * @param operation The commutative, associative operation.
+   * @param identity  The identity of the operation, returned for an empty product.
+   * @param inverse   The inverse of the operation, or {@code null} if exponents are non-negative.
+   * @param bases     The bases.
+   * @param exponents The exponents.
+   * @param pool      The pool on which windows are accumulated.
+   * @param <E>       The type of elements.
+   *
+   * @return The product of powers.
+   */
+  public static <E> E pippenger(final BinaryOperation<E, E, E> operation, final E identity, final Inverse<E> inverse, final E[] bases,
+      final BigInteger[] exponents, final ForkJoinPool pool) {
+    Arguments.requireNotNull(operation);
+    Arguments.requireNotNull(bases);
+    Arguments.requireNotNull(exponents);
+    Arguments.requireNotNull(pool);
+    ArrayUtils.requireSameLength(bases.length, exponents.length);
+
+    final Terms<E> terms = Terms.of(inverse, bases, exponents);
+
+    if(terms.size == 0) return identity;
+
+    return pippenger(operation, identity, terms, bucketBits(terms.size, terms.bitLength, pool.getParallelism()), pool);
+  }
+
+  private static <E> E straus(final BinaryOperation<E, E, E> operation, final E identity, final Terms<E> terms) {
+    final int windowSize = Exponentiation.windowSize(terms.bitLength);
+    final int tableSize = 1 << (windowSize - 1);
+
+    final Object[][] tables = new Object[terms.size][];
+    final int[][] digits = new int[terms.size][];
+
+    for(int j = 0; j < terms.size; j++) {
+      tables[j] = Exponentiation.oddPowers(operation, terms.base(j), tableSize);
+      digits[j] = slidingWindowDigits(terms.exponents[j], windowSize, terms.bitLength);
+    }
+
+    E result = null;
+
+    for(int i = terms.bitLength - 1; i >= 0; i--) {
+      result = Exponentiation.square(operation, result);
+
+      for(int j = 0; j < terms.size; j++) {
+        final int digit = digits[j][i];
+
+        if(digit != 0) result = Exponentiation.multiply(operation, result, Exponentiation.<E>at(tables[j], digit >>> 1));
+      }
+    }
+
+    return (result == null ? identity : result);
+  }
+
+  private static <E> E pippenger(final BinaryOperation<E, E, E> operation, final E identity, final Terms<E> terms, final int bucketBits,
+      final ForkJoinPool pool) {
+    final int windowCount = (terms.bitLength + bucketBits - 1) / bucketBits;
+    final Object[] windowSums = new Object[windowCount];
+
+    final IntStream windows = IntStream.range(0, windowCount);
+
+    if(windowCount > 1 && (long)windowCount * terms.size >= PARALLEL_THRESHOLD && pool.getParallelism() > 1) {
+      pool.submit(() -> windows.parallel().forEach(window -> windowSums[window] = windowSum(operation, terms, bucketBits, window))).join();
+    } else {
+      windows.forEach(window -> windowSums[window] = windowSum(operation, terms, bucketBits, window));
+    }
+
+    E result = null;
+
+    for(int window = windowCount - 1; window >= 0; window--) {
+      for(int i = 0; i < bucketBits; i++) {
+        result = Exponentiation.square(operation, result);
+      }
+
+      if(windowSums[window] != null) result = Exponentiation.multiply(operation, result, Exponentiation.<E>at(windowSums, window));
+    }
+
+    return (result == null ? identity : result);
+  }
+
+  /**
+   * Computes \(\sum_{d}d\cdot B_d\) (written additively), where bucket \(B_d\) holds the bases whose exponent has digit \(d\) in the window, using
+   * the running sum \(B_{2^c-1},B_{2^c-1}+B_{2^c-2},\ldots\), which needs no multiplication by \(d\).
+   *
+   * @return The window sum, or {@code null} for the identity.
+   */
+  private static <E> E windowSum(final BinaryOperation<E, E, E> operation, final Terms<E> terms, final int bucketBits, final int window) {
+    final Object[] buckets = new Object[1 << bucketBits];
+    final int offset = window * bucketBits;
+
+    for(int j = 0; j < terms.size; j++) {
+      final int digit = digit(terms.exponents[j], offset, bucketBits);
+
+      if(digit != 0) buckets[digit] = Exponentiation.multiply(operation, Exponentiation.<E>at(buckets, digit), terms.base(j));
+    }
+
+    E runningSum = null;
+    E windowSum = null;
+
+    for(int digit = buckets.length - 1; digit > 0; digit--) {
+      if(buckets[digit] != null) runningSum = Exponentiation.multiply(operation, runningSum, Exponentiation.<E>at(buckets, digit));
+      if(runningSum != null) windowSum = Exponentiation.multiply(operation, windowSum, runningSum);
+    }
+
+    return windowSum;
+  }
+
+  /**
+   * Decomposes an exponent into sliding windows, placing each window's (odd) value at the index of its lowest bit.
+   */
+  private static int[] slidingWindowDigits(final BigInteger exponent, final int windowSize, final int length) {
+    final int[] digits = new int[length];
+
+    for(int i = exponent.bitLength() - 1; i >= 0; ) {
+      if(!exponent.testBit(i)) {
+        i--;
+
+        continue;
+      }
+
+      int j = Math.max(i - windowSize + 1, 0);
+
+      while(!exponent.testBit(j)) j++;
+
+      digits[j] = digit(exponent, j, i - j + 1);
+      i = j - 1;
+    }
+
+    return digits;
+  }
+
+  private static int digit(final BigInteger exponent, final int offset, final int bits) {
+    int digit = 0;
+
+    for(int i = offset + bits - 1; i >= offset; i--) {
+      digit = (digit << 1) | (exponent.testBit(i) ? 1 : 0);
+    }
+
+    return digit;
+  }
+
+  /**
+   * Estimates the number of operations of Straus' algorithm: one squaring per bit, plus, per term, its table and one multiplication per window.
+   */
+  private static double strausCost(final int size, final int bitLength) {
+    final int windowSize = Exponentiation.windowSize(bitLength);
+
+    return bitLength + (double)size * ((1 << (windowSize - 1)) + (double)bitLength / (windowSize + 1));
+  }
+
+  /**
+   * Estimates the number of operations of Pippenger's algorithm, with windows spread over the pool.
+   */
+  private static double pippengerCost(final int size, final int bitLength, final int parallelism) {
+    return pippengerCost(size, bitLength, parallelism, bucketBits(size, bitLength, parallelism));
+  }
+
+  private static double pippengerCost(final int size, final int bitLength, final int parallelism, final int bucketBits) {
+    final int windowCount = (bitLength + bucketBits - 1) / bucketBits;
+    final int rounds = (windowCount + parallelism - 1) / parallelism;
+
+    // Per window: one multiplication per term, and two per bucket for the running sums.
+    return bitLength + (double)rounds * (size + 2.0 * (1 << bucketBits));
+  }
+
+  private static int bucketBits(final int size, final int bitLength, final int parallelism) {
+    int best = 1;
+    double bestCost = Double.MAX_VALUE;
+
+    for(int bucketBits = 1; bucketBits <= MAXIMUM_BUCKET_BITS; bucketBits++) {
+      final double cost = pippengerCost(size, bitLength, parallelism, bucketBits);
+
+      if(cost < bestCost) {
+        best = bucketBits;
+        bestCost = cost;
+      }
+    }
+
+    return best;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private MultiExponentiation() {
+    super();
+
+    throw new UnsupportedInstantiationException();
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  /**
+   * Terms with non-zero, non-negative exponents; negative exponents are folded into inverted bases.
+   */
+  private static final class Terms<E> {
+
+    // Static initialization methods
+    //--------------------------------------------------
+
+    private static <E> Terms<E> of(final Inverse<E> inverse, final E[] bases, final BigInteger[] exponents) {
+      final Object[] termBases = new Object[bases.length];
+      final BigInteger[] termExponents = new BigInteger[bases.length];
+      int size = 0;
+      int bitLength = 0;
+
+      for(int i = 0; i < bases.length; i++) {
+        final BigInteger exponent = exponents[i];
+
+        Arguments.requireNotNull(bases[i]);
+        Arguments.requireNotNull(exponent);
+
+        if(exponent.signum() == 0) continue;
+
+        if(exponent.signum() < 0) {
+          Arguments.requireTrue(inverse != null, "Without inverses, exponents must be non-negative.");
+
+          termBases[size] = inverse.inverse(bases[i]);
+          termExponents[size] = exponent.negate();
+        } else {
+          termBases[size] = bases[i];
+          termExponents[size] = exponent;
+        }
+
+        bitLength = Math.max(bitLength, termExponents[size].bitLength());
+        size++;
+      }
+
+      return new Terms<>(termBases, termExponents, size, bitLength);
+    }
+
+    // Constructors
+    //--------------------------------------------------
+
+    private Terms(final Object[] bases, final BigInteger[] exponents, final int size, final int bitLength) {
+      super();
+
+      this.bases = bases;
+      this.exponents = exponents;
+      this.size = size;
+      this.bitLength = bitLength;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    /**
+     * The bases, each an {@code E}.
+     */
+    private final Object[] bases;
+
+    private final BigInteger[] exponents;
+
+    private final int size;
+
+    private final int bitLength;
+
+    // Methods
+    //--------------------------------------------------
+
+    private E base(final int index) {
+      return Exponentiation.at(bases, index);
+    }
+
+  }
+
+}
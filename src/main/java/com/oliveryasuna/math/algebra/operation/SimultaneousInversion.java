@@ -0,0 +1,168 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.operation;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.exception.UnsupportedInstantiationException;
+import com.oliveryasuna.commons.language.marker.Utility;
+import com.oliveryasuna.math.algebra.property.Inverse;
+import com.oliveryasuna.math.util.ArrayUtils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Inversion of many elements at once by Montgomery's trick, which trades all but one inversion for multiplications.
+ * <p>
+ * With prefix products \(p_i=x_0x_1\cdots x_i\), only \(p_{n-1}\) is inverted, and then, from the last element back,
+ * \(x_i^{-1}=p_i^{-1}p_{i-1}\) and \(p_{i-1}^{-1}=x_ip_i^{-1}\).
+ * This takes one inversion and \(3(n-1)\) multiplications, so it pays off wherever an inversion costs more than three multiplications, as an
+ * extended GCD or a division does.
+ * The order of the factors is kept, so the operation need not be commutative.
+ *
+ * @author Oliver Yasuna
+ */
+@Utility
+public final class SimultaneousInversion {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The smallest number of elements given to one task, each of which costs one inversion.
+   */
+  private static final int MINIMUM_CHUNK_SIZE = 1 << 10;
+
+  /**
+   * The number of chunks per thread, so that uneven threads can balance.
+   */
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Inverts every element: {@code results[i] = inverse.inverse(elements[i])}.
+   * <p>
+   * {@code results} may be the same array as {@code elements}.
+   *
+   * @param operation The associative operation.
+   * @param inverse   Inverts one element with respect to {@code operation}.
+   * @param elements  The elements.
+   * @param results   The array to which the inverses are written.
+   * @param <E>       The type of elements.
+   *
+   * @throws IllegalArgumentException If the arrays differ in length.
+   * @implNote Prefix products are kept apart from {@code results}, and their inverse is taken before anything is written.
+   *     So if any element, such as zero, has no inverse, neither does the product of all of them: this fails however {@code inverse} does,
+   *     and {@code results} is left unchanged.
+   */
+  public static <E> void inverseAll(final BinaryOperation<E, E, E> operation, final Inverse<E> inverse, final E[] elements, final E[] results) {
+    Arguments.requireNotNull(operation);
+    Arguments.requireNotNull(inverse);
+    ArrayUtils.requireSameLength(elements.length, results.length);
+
+    inverseRange(operation, inverse, elements, results, 0, elements.length);
+  }
+
+  /**
+   * Inverts every element, splitting the elements into chunks that are each inverted by Montgomery's trick on {@code pool}.
+   * <p>
+   * Each chunk costs one inversion, and there are a few chunks per thread of {@code pool}, but no fewer than
+   * {@value #MINIMUM_CHUNK_SIZE} elements per chunk.
+   *
+   * @param operation The associative operation, which must be thread-safe.
+   * @param inverse   Inverts one element with respect to {@code operation}, which must be thread-safe.
+   * @param elements  The elements.
+   * @param results   The array to which the inverses are written, which may be the same array as {@code elements}.
+   * @param pool      The pool on which chunks are inverted.
+   * @param <E>       The type of elements.
+   *
+   * @throws IllegalArgumentException If the arrays differ in length.
+   * @implNote Only the chunk holding an element with no inverse fails before writing.
+   *     Other chunks may already have written their inverses, or may still be writing them when this throws, so the contents of
+   *     {@code results} are then unspecified.
+   * @see #inverseAll(BinaryOperation, Inverse, Object[], Object[])
+   */
+  public static <E> void inverseAll(final BinaryOperation<E, E, E> operation, final Inverse<E> inverse, final E[] elements, final E[] results,
+      final ForkJoinPool pool) {
+    Arguments.requireNotNull(operation);
+    Arguments.requireNotNull(inverse);
+    Arguments.requireNotNull(pool);
+    ArrayUtils.requireSameLength(elements.length, results.length);
+
+    final int length = elements.length;
+    final int chunkSize = Math.max(MINIMUM_CHUNK_SIZE, (int)((length + (long)pool.getParallelism() * CHUNKS_PER_THREAD - 1)
+        / ((long)pool.getParallelism() * CHUNKS_PER_THREAD)));
+    final int chunkCount = (int)((length + (long)chunkSize - 1) / chunkSize);
+
+    if(chunkCount <= 1) {
+      inverseRange(operation, inverse, elements, results, 0, length);
+
+      return;
+    }
+
+    pool.submit(() -> IntStream.range(0, chunkCount).parallel().forEach(chunk -> inverseRange(operation, inverse, elements, results,
+        chunk * chunkSize, (int)Math.min(length, (long)(chunk + 1) * chunkSize)))).join();
+  }
+
+  /**
+   * Inverts {@code elements[from, to)} into {@code results[from, to)}.
+   */
+  private static <E> void inverseRange(final BinaryOperation<E, E, E> operation, final Inverse<E> inverse, final E[] elements, final E[] results,
+      final int from, final int to) {
+    if(from == to) return;
+
+    // p_i, for i in [from, to).
+    final Object[] prefixes = new Object[to - from];
+
+    E prefix = elements[from];
+
+    prefixes[0] = prefix;
+
+    for(int i = from + 1; i < to; i++) {
+      prefix = operation.perform(prefix, elements[i]);
+      prefixes[i - from] = prefix;
+    }
+
+    // p_i^-1, walking i down.
+    E prefixInverse = inverse.inverse(prefix);
+
+    for(int i = to - 1; i > from; i--) {
+      @SuppressWarnings("unchecked")
+      final E previousPrefix = (E)prefixes[i - 1 - from];
+      final E element = elements[i];
+
+      results[i] = operation.perform(prefixInverse, previousPrefix);
+      prefixInverse = operation.perform(element, prefixInverse);
+    }
+
+    results[from] = prefixInverse;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private SimultaneousInversion() {
+    super();
+
+    throw new UnsupportedInstantiationException();
+  }
+
+}
@@ -18,6 +18,12 @@
 
 package com.oliveryasuna.math.algebra.property;
 
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.math.util.ArrayUtils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
 /**
  * The inverse property.
  *
@@ -27,4 +33,44 @@ public interface Inverse<T> {
 
   T inverse(T t);
 
+  /**
+   * Inverts element-wise: {@code results[i] = inverse(ts[i])}.
+   * <p>
+   * {@code results} may be the same array as {@code ts}.
+   *
+   * @param ts      The elements.
+   * @param results The array to which the inverses are written.
+   *
+   * @throws IllegalArgumentException If the arrays differ in length.
+   * @implNote By default, calls {@link #inverse(Object)} for each index.
+   *     Implementations that also multiply should override this with
+   *     {@link com.oliveryasuna.math.algebra.operation.SimultaneousInversion}, if an inversion costs more than three multiplications.
+   */
+  default void inverseAll(final T[] ts, final T[] results) {
+    ArrayUtils.requireSameLength(ts.length, results.length);
+
+    for(int i = 0; i < results.length; i++) {
+      results[i] = inverse(ts[i]);
+    }
+  }
+
+  /**
+   * Inverts element-wise on a pool: {@code results[i] = inverse(ts[i])}.
+   * <p>
+   * {@code results} may be the same array as {@code ts}.
+   *
+   * @param ts      The elements.
+   * @param results The array to which the inverses are written.
+   * @param pool    The pool on which the elements are inverted.
+   *
+   * @throws IllegalArgumentException If the arrays differ in length.
+   * @implNote By default, calls {@link #inverse(Object)} for each index, in parallel.
+   */
+  default void inverseAll(final T[] ts, final T[] results, final ForkJoinPool pool) {
+    Arguments.requireNotNull(pool);
+    ArrayUtils.requireSameLength(ts.length, results.length);
+
+    pool.submit(() -> IntStream.range(0, results.length).parallel().forEach(i -> results[i] = inverse(ts[i]))).join();
+  }
+
 }
@@ -18,8 +18,26 @@
 
 package com.oliveryasuna.math.algebra.ring;
 
+import com.oliveryasuna.math.algebra.operation.FixedBaseExponentiation;
+
+import java.math.BigInteger;
+
 public interface CyclicRing<S extends CyclicRing<S, E>, E extends CommutativeRingElement<E, S>> extends CommutativeRing<S, E> {
 
   E generator();
 
+  /**
+   * Computes a multiple of the (additive) generator.
+   *
+   * @param multiplier The multiplier.
+   *
+   * @return \(multiplier\cdot generator\).
+   *
+   * @implNote By default, returns {@code operation1().power(generator(), multiplier)}.
+   *     Rings without a closed form should override this with a {@link FixedBaseExponentiation} held by the ring.
+   */
+  default E generatorPower(final BigInteger multiplier) {
+    return operation1().power(generator(), multiplier);
+  }
+
 }
@@ -0,0 +1,365 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.fields;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.CommonAlgebraicStructure;
+import com.oliveryasuna.math.algebra.property.Distributivity;
+import com.oliveryasuna.math.algebra.ring.Field;
+import com.oliveryasuna.math.algebra.ring.operation.FieldOperation2;
+import com.oliveryasuna.math.algebra.ring.operation.RingOperation1;
+import com.oliveryasuna.math.arithmetic.BinaryFieldArithmetic;
+import com.oliveryasuna.math.util.ArrayUtils;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Abstract representation of the binary extension field of order \(2^k\), for \(1\le k\le 16\).
+ * <p>
+ * Mathematically defined as \(\left(\mathbb{F}_{2^k},+,\times\right)\), the polynomials over \(\mathbb{F}_2\) modulo an irreducible \(f\) of
+ * degree \(k\).
+ * <p>
+ * Elements are stored as primitive {@code int}s, whose bits are the coefficients.
+ * See {@link BinaryFieldArithmetic} for the tables behind multiplication and inversion, and for bulk products of {@code byte[]} regions.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public abstract class BinaryExtensionFieldBase<S extends BinaryExtensionFieldBase<S, E>, E extends BinaryExtensionFieldElementBase<E, S>>
+    extends CommonAlgebraicStructure<S, E, Integer> implements Field<S, E> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  protected BinaryExtensionFieldBase(final BinaryFieldArithmetic arithmetic) {
+    super();
+
+    Arguments.requireNotNull(arithmetic);
+
+    this.arithmetic = arithmetic;
+
+    this.operation1 = new AdditionOperation();
+    this.operation2 = new MultiplicationOperation();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  protected final BinaryFieldArithmetic arithmetic;
+
+  protected final RingOperation1<E> operation1;
+
+  protected final FieldOperation2<E> operation2;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Elements
+  //
+
+  public abstract E getElementSafe(int value);
+
+  public E getElement(final int value) {
+    Arguments.requireTrue(hasElementSafe(value), "The structure does not contain the element: " + value + ".");
+
+    return getElementSafe(value);
+  }
+
+  public boolean hasElementSafe(final int value) {
+    return arithmetic.isElement(value);
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // CommonAlgebraicStructure
+  //
+
+  @Override
+  public E getElementSafe(final Integer value) {
+    return getElementSafe(value.intValue());
+  }
+
+  @Override
+  public boolean hasElementSafe(final Integer value) {
+    return hasElementSafe(value.intValue());
+  }
+
+  // AlgebraicStructure
+  //
+
+  @Override
+  public Stream<E> elements() {
+    return IntStream.range(0, arithmetic.getSize())
+        .mapToObj(this::getElementSafe);
+  }
+
+  @Override
+  public BigInteger elementCount() {
+    return BigInteger.valueOf(arithmetic.getSize());
+  }
+
+  // Semiring
+  //
+
+  @Override
+  public RingOperation1<E> operation1() {
+    return operation1;
+  }
+
+  @Override
+  public FieldOperation2<E> operation2() {
+    return operation2;
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  /**
+   * @return \(k\).
+   */
+  public int getDegree() {
+    return arithmetic.getDegree();
+  }
+
+  public int getPolynomial() {
+    return arithmetic.getPolynomial();
+  }
+
+  public BinaryFieldArithmetic getArithmetic() {
+    return arithmetic;
+  }
+
+  // TODO: Object methods
+  //--------------------------------------------------
+
+  // Nested
+  //--------------------------------------------------
+
+  protected class AdditionOperation implements RingOperation1<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    protected AdditionOperation() {
+      super();
+
+      this.identity = BinaryExtensionFieldBase.this.getElement(0);
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    protected final E identity;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // BinaryOperation
+    //
+
+    @Override
+    public E perform(final E augend, final E addend) {
+      return BinaryExtensionFieldBase.this.getElementSafe(augend.getValue() ^ addend.getValue());
+    }
+
+    @Override
+    public void performAll(final E[] augends, final E[] addends, final E[] sums) {
+      ArrayUtils.requireSameLength(augends.length, addends.length, sums.length);
+
+      for(int i = 0; i < sums.length; i++) {
+        sums[i] = BinaryExtensionFieldBase.this.getElementSafe(augends[i].getValue() ^ addends[i].getValue());
+      }
+    }
+
+    @Override
+    public void performAllRight(final E[] augends, final E addend, final E[] sums) {
+      ArrayUtils.requireSameLength(augends.length, sums.length);
+
+      final int addendValue = addend.getValue();
+
+      for(int i = 0; i < sums.length; i++) {
+        sums[i] = BinaryExtensionFieldBase.this.getElementSafe(augends[i].getValue() ^ addendValue);
+      }
+    }
+
+    // Identity
+    //
+
+    @Override
+    public E identity() {
+      return identity;
+    }
+
+    // Inverse
+    //
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The characteristic is \(2\), so every element is its own negative.
+     */
+    @Override
+    public E inverse(final E element) {
+      return element;
+    }
+
+    // SemiringOperation1
+    //
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The characteristic is \(2\), so only the parity of {@code exponent} matters.
+     */
+    @Override
+    public E power(final E base, final BigInteger exponent) {
+      return (exponent.testBit(0) ? base : identity);
+    }
+
+    // TODO: Object methods
+    //--------------------------------------------------
+
+  }
+
+  protected class MultiplicationOperation implements FieldOperation2<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    protected MultiplicationOperation() {
+      super();
+
+      this.distributivity = Distributivity.over(BinaryExtensionFieldBase.this.operation1());
+
+      this.identity = BinaryExtensionFieldBase.this.getElement(1);
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    protected final Distributivity distributivity;
+
+    protected final E identity;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // BinaryOperation
+    //
+
+    @Override
+    public E perform(final E multiplier, final E multiplicand) {
+      return BinaryExtensionFieldBase.this.getElementSafe(arithmetic.multiply(multiplier.getValue(), multiplicand.getValue()));
+    }
+
+    @Override
+    public void performAll(final E[] multipliers, final E[] multiplicands, final E[] products) {
+      ArrayUtils.requireSameLength(multipliers.length, multiplicands.length, products.length);
+
+      for(int i = 0; i < products.length; i++) {
+        products[i] = BinaryExtensionFieldBase.this.getElementSafe(arithmetic.multiply(multipliers[i].getValue(), multiplicands[i].getValue()));
+      }
+    }
+
+    @Override
+    public void performAllRight(final E[] multipliers, final E multiplicand, final E[] products) {
+      ArrayUtils.requireSameLength(multipliers.length, products.length);
+
+      final int multiplicandValue = multiplicand.getValue();
+
+      for(int i = 0; i < products.length; i++) {
+        products[i] = BinaryExtensionFieldBase.this.getElementSafe(arithmetic.multiply(multipliers[i].getValue(), multiplicandValue));
+      }
+    }
+
+    // Distributive
+    //
+
+    @Override
+    public Distributivity distributivity() {
+      return distributivity;
+    }
+
+    // Identity
+    //
+
+    @Override
+    public E identity() {
+      return identity;
+    }
+
+    // Inverse
+    //
+
+    @Override
+    public E inverse(final E element) {
+      return BinaryExtensionFieldBase.this.getElementSafe(arithmetic.inverse(element.getValue()));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote An inverse is one lookup, so each element is inverted directly rather than by Montgomery's trick.
+     */
+    @Override
+    public void inverseAll(final E[] elements, final E[] results) {
+      ArrayUtils.requireSameLength(elements.length, results.length);
+
+      for(int i = 0; i < results.length; i++) {
+        results[i] = inverse(elements[i]);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote An inverse is one lookup, so each element is inverted directly rather than by Montgomery's trick.
+     */
+    @Override
+    public void inverseAll(final E[] elements, final E[] results, final ForkJoinPool pool) {
+      Arguments.requireNotNull(pool);
+      ArrayUtils.requireSameLength(elements.length, results.length);
+
+      pool.submit(() -> IntStream.range(0, results.length).parallel().forEach(i -> results[i] = inverse(elements[i]))).join();
+    }
+
+    // SemiringOperation2
+    //
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote One multiplication of logarithms, whatever the exponent.
+     */
+    @Override
+    public E power(final E base, final BigInteger exponent) {
+      return BinaryExtensionFieldBase.this.getElementSafe(arithmetic.pow(base.getValue(), exponent));
+    }
+
+    // TODO: Object methods
+    //--------------------------------------------------
+
+  }
+
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.fields;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.CommonAlgebraicStructure;
+import com.oliveryasuna.math.algebra.property.Distributivity;
+import com.oliveryasuna.math.algebra.ring.Field;
+import com.oliveryasuna.math.algebra.ring.operation.FieldOperation2;
+import com.oliveryasuna.math.algebra.ring.operation.RingOperation1;
+import com.oliveryasuna.math.arithmetic.PackedBinaryFieldArithmetic;
+import com.oliveryasuna.math.util.RangeSpliterators;
+
+import java.math.BigInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Abstract representation of the binary extension field of order \(2^n\), for a sparse irreducible modulus of any degree \(n\ge 2\).
+ * <p>
+ * Mathematically defined as \(\left(\mathbb{F}_{2^n},+,\times\right)\), the polynomials over \(\mathbb{F}_2\) modulo an irreducible \(f\) of
+ * degree \(n\).
+ * <p>
+ * Elements are stored as packed {@code long[]} words, whose bits are the coefficients.
+ * See {@link PackedBinaryFieldArithmetic} for how products, squares and inverses are computed.
+ * For \(n\le 16\), {@link BinaryExtensionFieldBase} is faster.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public abstract class PackedBinaryExtensionFieldBase<S extends PackedBinaryExtensionFieldBase<S, E>, E extends PackedBinaryExtensionFieldElementBase<E, S>>
+    extends CommonAlgebraicStructure<S, E, BigInteger> implements Field<S, E> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  protected PackedBinaryExtensionFieldBase(final PackedBinaryFieldArithmetic arithmetic) {
+    super();
+
+    Arguments.requireNotNull(arithmetic);
+
+    this.arithmetic = arithmetic;
+
+    this.operation1 = new AdditionOperation();
+    this.operation2 = new MultiplicationOperation();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  protected final PackedBinaryFieldArithmetic arithmetic;
+
+  protected final RingOperation1<E> operation1;
+
+  protected final FieldOperation2<E> operation2;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Elements
+  //
+
+  /**
+   * Creates an element from words in the form of the arithmetic.
+   * The words are not copied, so they must not be modified afterward.
+   *
+   * @param words The words.
+   *
+   * @return The element.
+   */
+  protected abstract E getElementFromWords(long[] words);
+
+  public E getElementSafe(final long[] words) {
+    return getElementFromWords(words.clone());
+  }
+
+  public E getElement(final long[] words) {
+    Arguments.requireTrue(hasElement(words), "The structure does not contain the element.");
+
+    return getElementSafe(words);
+  }
+
+  public boolean hasElementSafe(final long[] words) {
+    return arithmetic.isElement(words);
+  }
+
+  public boolean hasElement(final long[] words) {
+    return (words != null && hasElementSafe(words));
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // CommonAlgebraicStructure
+  //
+
+  @Override
+  public E getElementSafe(final BigInteger value) {
+    return getElementFromWords(arithmetic.toWords(value));
+  }
+
+  @Override
+  public boolean hasElementSafe(final BigInteger value) {
+    return arithmetic.isElement(value);
+  }
+
+  // AlgebraicStructure
+  //
+
+  @Override
+  public Stream<E> elements() {
+    return StreamSupport.stream(RangeSpliterators.of(BigInteger.ZERO, elementCount(), this::getElementSafe), false);
+  }
+
+  @Override
+  public BigInteger elementCount() {
+    return BigInteger.ONE.shiftLeft(getDegree());
+  }
+
+  // Semiring
+  //
+
+  @Override
+  public RingOperation1<E> operation1() {
+    return operation1;
+  }
+
+  @Override
+  public FieldOperation2<E> operation2() {
+    return operation2;
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  /**
+   * @return \(n\).
+   */
+  public int getDegree() {
+    return arithmetic.getDegree();
+  }
+
+  public PackedBinaryFieldArithmetic getArithmetic() {
+    return arithmetic;
+  }
+
+  // TODO: Object methods
+  //--------------------------------------------------
+
+  // Nested
+  //--------------------------------------------------
+
+  protected class AdditionOperation implements RingOperation1<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    protected AdditionOperation() {
+      super();
+
+      this.identity = PackedBinaryExtensionFieldBase.this.getElementFromWords(arithmetic.zero());
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    protected final E identity;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // BinaryOperation
+    //
+
+    @Override
+    public E perform(final E augend, final E addend) {
+      return PackedBinaryExtensionFieldBase.this.getElementFromWords(arithmetic.add(augend.words, addend.words));
+    }
+
+    // Identity
+    //
+
+    @Override
+    public E identity() {
+      return identity;
+    }
+
+    // Inverse
+    //
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The characteristic is \(2\), so every element is its own negative.
+     */
+    @Override
+    public E inverse(final E element) {
+      return element;
+    }
+
+    // SemiringOperation1
+    //
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The characteristic is \(2\), so only the parity of {@code exponent} matters.
+     */
+    @Override
+    public E power(final E base, final BigInteger exponent) {
+      return (exponent.testBit(0) ? base : identity);
+    }
+
+    // TODO: Object methods
+    //--------------------------------------------------
+
+  }
+
+  protected class MultiplicationOperation implements FieldOperation2<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    protected MultiplicationOperation() {
+      super();
+
+      this.distributivity = Distributivity.over(PackedBinaryExtensionFieldBase.this.operation1());
+
+      this.identity = PackedBinaryExtensionFieldBase.this.getElementFromWords(arithmetic.one());
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    protected final Distributivity distributivity;
+
+    protected final E identity;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // BinaryOperation
+    //
+
+    @Override
+    public E perform(final E multiplier, final E multiplicand) {
+      return PackedBinaryExtensionFieldBase.this.getElementFromWords(arithmetic.multiply(multiplier.words, multiplicand.words));
+    }
+
+    // Distributive
+    //
+
+    @Override
+    public Distributivity distributivity() {
+      return distributivity;
+    }
+
+    // Identity
+    //
+
+    @Override
+    public E identity() {
+      return identity;
+    }
+
+    // Inverse
+    //
+
+    @Override
+    public E inverse(final E element) {
+      return PackedBinaryExtensionFieldBase.this.getElementFromWords(arithmetic.inverse(element.words));
+    }
+
+    // SemiringOperation2
+    //
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Squares and multiplies by the exponent modulo \(2^n-1\), so a negative exponent needs no inversion.
+     */
+    @Override
+    public E power(final E base, final BigInteger exponent) {
+      return PackedBinaryExtensionFieldBase.this.getElementFromWords(arithmetic.pow(base.words, exponent));
+    }
+
+    // TODO: Object methods
+    //--------------------------------------------------
+
+  }
+
+}
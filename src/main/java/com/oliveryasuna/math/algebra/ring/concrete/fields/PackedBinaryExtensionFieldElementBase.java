@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.fields;
+
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.AbstractAlgebraicElement;
+import com.oliveryasuna.math.algebra.ring.FieldElement;
+import com.oliveryasuna.math.algebra.ring.helper.AdditiveMultiplicativeFieldElement;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Abstract representation of an element of the binary extension field of order \(2^n\), for a sparse irreducible modulus of any degree
+ * \(n\ge 2\).
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public class PackedBinaryExtensionFieldElementBase<E extends PackedBinaryExtensionFieldElementBase<E, S>, S extends PackedBinaryExtensionFieldBase<S, E>>
+    extends AbstractAlgebraicElement<E, S> implements FieldElement<E, S>, AdditiveMultiplicativeFieldElement<E, S> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  protected PackedBinaryExtensionFieldElementBase(final long[] words, final S structure) {
+    super(structure);
+
+    this.words = words;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  /**
+   * The coefficients of the polynomial, least significant word first.
+   * Never modified.
+   */
+  protected final long[] words;
+
+  /**
+   * The cached hash code, or {@code 0} if not yet computed.
+   */
+  private int hash;
+
+  // Getters
+  //--------------------------------------------------
+
+  /**
+   * @return A copy of the words.
+   */
+  public long[] getWords() {
+    return words.clone();
+  }
+
+  /**
+   * @return The coefficients as an integer, bit \(i\) that of \(x^i\).
+   */
+  public BigInteger getValue() {
+    return getStructure().getArithmetic().toBigInteger(words);
+  }
+
+  // Object methods
+  //--------------------------------------------------
+
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(!super.equals(other)) return false;
+
+    final PackedBinaryExtensionFieldElementBase<?, ?> otherCasted = (PackedBinaryExtensionFieldElementBase<?, ?>)other;
+
+    return Arrays.equals(words, otherCasted.words);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = hash;
+
+    if(result == 0) {
+      result = 31 * super.hashCode() + Arrays.hashCode(words);
+
+      hash = result;
+    }
+
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .appendSuper(super.toString())
+        .append("value", getValue().toString(16))
+        .toString();
+  }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.fields;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.ring.Field;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.IntegersModuloNRingBase;
+import com.oliveryasuna.math.algebra.ring.operation.FieldOperation2;
+import com.oliveryasuna.math.arithmetic.BinaryInversion;
+import com.oliveryasuna.math.arithmetic.ModularArithmetic;
+import com.oliveryasuna.math.arithmetic.ModularReduction;
+import com.oliveryasuna.math.arithmetic.Primality;
+
+import java.math.BigInteger;
+
+/**
+ * Abstract representation of the prime field of order \(p\), for a prime \(p\) of any size.
+ * <p>
+ * Mathematically defined as \(\left(\mathbb{F}_p,+,\times\right)\), the integers modulo \(p\).
+ * <p>
+ * Elements are the limb residues of {@link IntegersModuloNRingBase}, and share its arithmetic.
+ * Inverses are computed by {@link BinaryInversion} on the canonical value, in a number of steps that depends only on \(p\).
+ * The order is tested for primality when the field is created; see {@link Primality#isPrime(BigInteger)}.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public abstract class PrimeFieldBase<S extends PrimeFieldBase<S, E>, E extends PrimeFieldElementBase<E, S>>
+    extends IntegersModuloNRingBase<S, E> implements Field<S, E> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param p The order, a prime.
+   */
+  protected PrimeFieldBase(final BigInteger p) {
+    this(ModularArithmetic.of(p));
+  }
+
+  /**
+   * @param p         The order, a prime.
+   * @param reduction The reduction, which must not be {@link ModularReduction#MONTGOMERY} if \(p=2\).
+   */
+  protected PrimeFieldBase(final BigInteger p, final ModularReduction reduction) {
+    this(ModularArithmetic.of(p, reduction));
+  }
+
+  /**
+   * @param arithmetic The arithmetic modulo the order, a prime.
+   */
+  protected PrimeFieldBase(final ModularArithmetic arithmetic) {
+    super(arithmetic);
+
+    Arguments.requireTrue(Primality.isPrime(arithmetic.getN()), "The order must be prime: " + arithmetic.getN() + ".");
+  }
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Computes an inverse.
+   *
+   * @param value A non-zero canonical value.
+   *
+   * @return The inverse, in the internal form of the arithmetic.
+   *
+   * @throws ArithmeticException If {@code value} is zero.
+   */
+  protected int[] inverse(final BigInteger value) {
+    final BigInteger p = getN();
+
+    // 2 is the only even prime, and 1 its only unit.
+    if(!p.testBit(0)) {
+      if(value.signum() == 0) throw new ArithmeticException("Zero is not invertible.");
+
+      return arithmetic.toResidue(value);
+    }
+
+    return arithmetic.toResidue(BinaryInversion.inverse(value, p));
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // IntegersModuloNRingBase
+  //
+
+  @Override
+  protected FieldOperation2<E> createOperation2() {
+    return new FieldMultiplicationOperation();
+  }
+
+  // Semiring
+  //
+
+  @Override
+  public FieldOperation2<E> operation2() {
+    // createOperation2 created it.
+    return (FieldOperation2<E>)operation2;
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public BigInteger getP() {
+    return getN();
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  protected class FieldMultiplicationOperation extends MultiplicationOperation implements FieldOperation2<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    protected FieldMultiplicationOperation() {
+      super();
+    }
+
+    // Overrides
+    //--------------------------------------------------
+
+    // Inverse
+    //
+
+    @Override
+    public E inverse(final E element) {
+      return PrimeFieldBase.this.getElementFromResidue(PrimeFieldBase.this.inverse(element.getValue()));
+    }
+
+    // SemiringOperation2
+    //
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote A negative exponent inverts the base first.
+     */
+    @Override
+    public E power(final E base, final BigInteger exponent) {
+      return (exponent.signum() >= 0 ? super.power(base, exponent) : super.power(inverse(base), exponent.negate()));
+    }
+
+    // TODO: Object methods
+    //--------------------------------------------------
+
+  }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.integers;
+
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.arithmetic.ModularArithmetic;
+import com.oliveryasuna.math.arithmetic.ModularReduction;
+
+import java.math.BigInteger;
+
+/**
+ * Represents the ring of integers modulo \(n\), for any \(n\gt 0\).
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public class IntegersModuloNRing extends IntegersModuloNRingBase<IntegersModuloNRing, IntegersModuloNRingElement> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public IntegersModuloNRing(final BigInteger n) {
+    super(n);
+  }
+
+  public IntegersModuloNRing(final BigInteger n, final ModularReduction reduction) {
+    super(n, reduction);
+  }
+
+  public IntegersModuloNRing(final ModularArithmetic arithmetic) {
+    super(arithmetic);
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // IntegersModuloNRingBase
+  //
+
+  @Override
+  protected IntegersModuloNRingElement getElementFromResidue(final int[] residue) {
+    return new IntegersModuloNRingElement(residue, this);
+  }
+
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.integers;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.CommonAlgebraicStructure;
+import com.oliveryasuna.math.algebra.property.Distributivity;
+import com.oliveryasuna.math.algebra.ring.CyclicRing;
+import com.oliveryasuna.math.algebra.ring.operation.CommutativeRingOperation2;
+import com.oliveryasuna.math.algebra.ring.operation.RingOperation1;
+import com.oliveryasuna.math.arithmetic.ModularArithmetic;
+import com.oliveryasuna.math.arithmetic.ModularReduction;
+import com.oliveryasuna.math.util.BigIntegerUtils;
+import com.oliveryasuna.math.util.RangeSpliterators;
+
+import java.math.BigInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Abstract representation of the ring of integers modulo \(n\), for any \(n\gt 0\).
+ * <p>
+ * Mathematically defined as \(\left(\mathbb{Z}/n\mathbb{Z},+,\times\right)\).
+ * <p>
+ * Residues are stored as {@code int[]} limbs in the internal form of a {@link ModularArithmetic}.
+ * By default, that is Montgomery form for odd \(n\), and any {@link ModularReduction} can be chosen per ring.
+ * Operations stay in that form, and values are only converted at {@link #getElementSafe(BigInteger)} and
+ * {@link IntegersModuloNRingElementBase#getValue()}.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public abstract class IntegersModuloNRingBase<S extends IntegersModuloNRingBase<S, E>, E extends IntegersModuloNRingElementBase<E, S>>
+    extends CommonAlgebraicStructure<S, E, BigInteger> implements CyclicRing<S, E> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  protected IntegersModuloNRingBase(final BigInteger n) {
+    this(ModularArithmetic.of(n));
+  }
+
+  protected IntegersModuloNRingBase(final BigInteger n, final ModularReduction reduction) {
+    this(ModularArithmetic.of(n, reduction));
+  }
+
+  protected IntegersModuloNRingBase(final ModularArithmetic arithmetic) {
+    super();
+
+    Arguments.requireNotNull(arithmetic);
+
+    this.arithmetic = arithmetic;
+
+    this.operation1 = new AdditionOperation();
+    this.operation2 = createOperation2();
+
+    this.generator = getElementFromResidue(arithmetic.one());
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  protected final ModularArithmetic arithmetic;
+
+  protected final RingOperation1<E> operation1;
+
+  protected final CommutativeRingOperation2<E> operation2;
+
+  protected final E generator;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Elements
+  //
+
+  /**
+   * Creates an element from a residue in the internal form of the arithmetic.
+   * The residue is not copied, so it must not be modified afterward.
+   *
+   * @param residue The residue.
+   *
+   * @return The element.
+   */
+  protected abstract E getElementFromResidue(int[] residue);
+
+  /**
+   * Creates the multiplication.
+   * <p>
+   * Called once, by the constructor, so an override must not read fields of its own class.
+   *
+   * @return The multiplication.
+   */
+  protected CommutativeRingOperation2<E> createOperation2() {
+    return new MultiplicationOperation();
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // CommonAlgebraicStructure
+  //
+
+  @Override
+  public E getElementSafe(final BigInteger value) {
+    return getElementFromResidue(arithmetic.toResidue(value));
+  }
+
+  @Override
+  public boolean hasElementSafe(final BigInteger value) {
+    return BigIntegerUtils.isInRange(value, BigInteger.ZERO, getN());
+  }
+
+  // AlgebraicStructure
+  //
+
+  @Override
+  public Stream<E> elements() {
+    return StreamSupport.stream(RangeSpliterators.of(BigInteger.ZERO, getN(), this::getElementSafe), false);
+  }
+
+  @Override
+  public BigInteger elementCount() {
+    return getN();
+  }
+
+  // Semiring
+  //
+
+  @Override
+  public RingOperation1<E> operation1() {
+    return operation1;
+  }
+
+  @Override
+  public CommutativeRingOperation2<E> operation2() {
+    return operation2;
+  }
+
+  // CyclicRing
+  //
+
+  @Override
+  public E generator() {
+    return generator;
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public BigInteger getN() {
+    return arithmetic.getN();
+  }
+
+  public ModularArithmetic getArithmetic() {
+    return arithmetic;
+  }
+
+  // TODO: Object methods
+  //--------------------------------------------------
+
+  // Nested
+  //--------------------------------------------------
+
+  protected class AdditionOperation implements RingOperation1<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    protected AdditionOperation() {
+      super();
+
+      this.identity = IntegersModuloNRingBase.this.getElementFromResidue(arithmetic.zero());
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    protected final E identity;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // BinaryOperation
+    //
+
+    @Override
+    public E perform(final E augend, final E addend) {
+      return IntegersModuloNRingBase.this.getElementFromResidue(arithmetic.add(augend.residue, addend.residue));
+    }
+
+    // Identity
+    //
+
+    @Override
+    public E identity() {
+      return identity;
+    }
+
+    // Inverse
+    //
+
+    @Override
+    public E inverse(final E element) {
+      return IntegersModuloNRingBase.this.getElementFromResidue(arithmetic.negate(element.residue));
+    }
+
+    // SemiringOperation1
+    //
+
+    @Override
+    public E power(final E base, final BigInteger exponent) {
+      // k * a is the product of a and the residue of k, in any internal form.
+      final int[] multiplier = arithmetic.toResidue(exponent.mod(getN()));
+
+      return IntegersModuloNRingBase.this.getElementFromResidue(arithmetic.multiply(base.residue, multiplier));
+    }
+
+    // TODO: Object methods
+    //--------------------------------------------------
+
+  }
+
+  protected class MultiplicationOperation implements CommutativeRingOperation2<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    protected MultiplicationOperation() {
+      super();
+
+      this.distributivity = Distributivity.over(IntegersModuloNRingBase.this.operation1());
+
+      this.identity = IntegersModuloNRingBase.this.getElementFromResidue(arithmetic.one());
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    protected final Distributivity distributivity;
+
+    protected final E identity;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // BinaryOperation
+    //
+
+    @Override
+    public E perform(final E multiplier, final E multiplicand) {
+      return IntegersModuloNRingBase.this.getElementFromResidue(arithmetic.multiply(multiplier.residue, multiplicand.residue));
+    }
+
+    // Distributive
+    //
+
+    @Override
+    public Distributivity distributivity() {
+      return distributivity;
+    }
+
+    // Identity
+    //
+
+    @Override
+    public E identity() {
+      return identity;
+    }
+
+    // SemiringOperation2
+    //
+
+    @Override
+    public E power(final E base, final BigInteger exponent) {
+      return IntegersModuloNRingBase.this.getElementFromResidue(arithmetic.pow(base.residue, exponent));
+    }
+
+    // TODO: Object methods
+    //--------------------------------------------------
+
+  }
+
+}
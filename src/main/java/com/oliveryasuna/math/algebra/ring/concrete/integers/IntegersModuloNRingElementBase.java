@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.integers;
+
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.AbstractAlgebraicElement;
+import com.oliveryasuna.math.algebra.ring.CommutativeRingElement;
+import com.oliveryasuna.math.algebra.ring.helper.AdditiveMultiplicativeNearRingElement;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Abstract representation of an element of the ring of integers modulo \(n\), for any \(n\gt 0\).
+ * <p>
+ * The residue is held in the internal form of the ring's arithmetic, and converted to a {@link BigInteger} on the first call to
+ * {@link #getValue()}.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public class IntegersModuloNRingElementBase<E extends IntegersModuloNRingElementBase<E, S>, S extends IntegersModuloNRingBase<S, E>>
+    extends AbstractAlgebraicElement<E, S> implements CommutativeRingElement<E, S>, AdditiveMultiplicativeNearRingElement<E, S> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  protected IntegersModuloNRingElementBase(final int[] residue, final S structure) {
+    super(structure);
+
+    this.residue = residue;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  /**
+   * The residue, in the internal form of the arithmetic.
+   * Never modified.
+   */
+  protected final int[] residue;
+
+  /**
+   * The cached canonical value, or {@code null} if not yet computed.
+   */
+  private BigInteger value;
+
+  /**
+   * The cached hash code, or {@code 0} if not yet computed.
+   */
+  private int hash;
+
+  // Getters
+  //--------------------------------------------------
+
+  public BigInteger getValue() {
+    BigInteger result = value;
+
+    if(result == null) {
+      result = getStructure().getArithmetic().toBigInteger(residue);
+
+      value = result;
+    }
+
+    return result;
+  }
+
+  // Object methods
+  //--------------------------------------------------
+
+  /**
+   * @implNote Compares residues in internal form, which is unique, so no conversion is needed.
+   */
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(!super.equals(other)) return false;
+
+    final IntegersModuloNRingElementBase<?, ?> otherCasted = (IntegersModuloNRingElementBase<?, ?>)other;
+
+    return Arrays.equals(residue, otherCasted.residue);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = hash;
+
+    if(result == 0) {
+      result = 31 * super.hashCode() + Arrays.hashCode(residue);
+
+      hash = result;
+    }
+
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .appendSuper(super.toString())
+        .append("value", getValue())
+        .toString();
+  }
+
+}
@@ -25,6 +25,7 @@ import com.oliveryasuna.math.algebra.property.Distributivity;
 import com.oliveryasuna.math.algebra.ring.CyclicRing;
 import com.oliveryasuna.math.algebra.ring.operation.CommutativeRingOperation2;
 import com.oliveryasuna.math.algebra.ring.operation.RingOperation1;
+import com.oliveryasuna.math.util.ArrayUtils;
 
 import java.math.BigInteger;
 
@@ -120,6 +121,26 @@ public abstract class IntegersRingBase<S extends IntegersRingBase<S, E>, E exten
       return IntegersRingBase.this.getElementSafe(augend.getValue().add(addend.getValue()));
     }
 
+    @Override
+    public void performAll(final E[] augends, final E[] addends, final E[] sums) {
+      ArrayUtils.requireSameLength(augends.length, addends.length, sums.length);
+
+      for(int i = 0; i < sums.length; i++) {
+        sums[i] = IntegersRingBase.this.getElementSafe(augends[i].getValue().add(addends[i].getValue()));
+      }
+    }
+
+    @Override
+    public void performAllRight(final E[] augends, final E addend, final E[] sums) {
+      ArrayUtils.requireSameLength(augends.length, sums.length);
+
+      final BigInteger addendValue = addend.getValue();
+
+      for(int i = 0; i < sums.length; i++) {
+        sums[i] = IntegersRingBase.this.getElementSafe(augends[i].getValue().add(addendValue));
+      }
+    }
+
     // Identity
     //
 
@@ -136,6 +157,14 @@ public abstract class IntegersRingBase<S extends IntegersRingBase<S, E>, E exten
       return IntegersRingBase.this.getElementSafe(element.getValue().negate());
     }
 
+    // SemiringOperation1
+    //
+
+    @Override
+    public E power(final E base, final BigInteger exponent) {
+      return IntegersRingBase.this.getElementSafe(base.getValue().multiply(exponent));
+    }
+
     // TODO: Object methods
     //--------------------------------------------------
 
@@ -151,7 +180,7 @@ public abstract class IntegersRingBase<S extends IntegersRingBase<S, E>, E exten
 
       this.distributivity = Distributivity.over(IntegersRingBase.this.operation1());
 
-      this.identity = IntegersRingBase.this.getElement(BigInteger.ZERO);
+      this.identity = IntegersRingBase.this.getElement(BigInteger.ONE);
     }
 
     // Fields
@@ -168,8 +197,28 @@ public abstract class IntegersRingBase<S extends IntegersRingBase<S, E>, E exten
     //
 
     @Override
-    public E perform(final E augend, final E addend) {
-      return IntegersRingBase.this.getElementSafe(augend.getValue().add(addend.getValue()));
+    public E perform(final E multiplier, final E multiplicand) {
+      return IntegersRingBase.this.getElementSafe(multiplier.getValue().multiply(multiplicand.getValue()));
+    }
+
+    @Override
+    public void performAll(final E[] multipliers, final E[] multiplicands, final E[] products) {
+      ArrayUtils.requireSameLength(multipliers.length, multiplicands.length, products.length);
+
+      for(int i = 0; i < products.length; i++) {
+        products[i] = IntegersRingBase.this.getElementSafe(multipliers[i].getValue().multiply(multiplicands[i].getValue()));
+      }
+    }
+
+    @Override
+    public void performAllRight(final E[] multipliers, final E multiplicand, final E[] products) {
+      ArrayUtils.requireSameLength(multipliers.length, products.length);
+
+      final BigInteger multiplicandValue = multiplicand.getValue();
+
+      for(int i = 0; i < products.length; i++) {
+        products[i] = IntegersRingBase.this.getElementSafe(multipliers[i].getValue().multiply(multiplicandValue));
+      }
     }
 
     // Distributive
@@ -188,6 +237,27 @@ public abstract class IntegersRingBase<S extends IntegersRingBase<S, E>, E exten
       return identity;
     }
 
+    // SemiringOperation2
+    //
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ArithmeticException If {@code exponent} does not fit in an {@code int}, in which case the power would not fit in a {@link BigInteger}
+     *                             unless {@code base} is \(-1\), \(0\), or \(1\).
+     */
+    @Override
+    public E power(final E base, final BigInteger exponent) {
+      Arguments.requireTrue(exponent.signum() >= 0, "The exponent must be non-negative.");
+
+      final BigInteger value = base.getValue();
+
+      if(value.signum() == 0 || value.equals(BigInteger.ONE)) return (exponent.signum() == 0 ? identity : base);
+      if(value.equals(BigInteger.ONE.negate())) return (exponent.testBit(0) ? base : identity);
+
+      return IntegersRingBase.this.getElementSafe(value.pow(exponent.intValueExact()));
+    }
+
     // TODO: Object methods
     //--------------------------------------------------
 
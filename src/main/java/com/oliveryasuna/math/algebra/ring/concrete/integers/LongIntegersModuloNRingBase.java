@@ -0,0 +1,370 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.integers;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.CommonAlgebraicStructure;
+import com.oliveryasuna.math.algebra.property.Distributivity;
+import com.oliveryasuna.math.algebra.ring.CyclicRing;
+import com.oliveryasuna.math.algebra.ring.operation.CommutativeRingOperation2;
+import com.oliveryasuna.math.algebra.ring.operation.RingOperation1;
+import com.oliveryasuna.math.arithmetic.LongModularArithmetic;
+import com.oliveryasuna.math.util.ArrayUtils;
+
+import java.math.BigInteger;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Abstract representation of the ring of integers modulo \(n\), for \(0\lt n\lt 2^{63}\).
+ * <p>
+ * Mathematically defined as \(\left(\mathbb{Z}/n\mathbb{Z},+,\times\right)\).
+ * <p>
+ * Residues are stored as primitive {@code long}s in the internal form of a {@link LongModularArithmetic}, which is Montgomery form when
+ * products are reduced by Montgomery's method.
+ * Operations stay in that form, and values are only converted at {@link #getElementSafe(long)} and
+ * {@link LongIntegersModuloNRingElementBase#getValue()}.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public abstract class LongIntegersModuloNRingBase<S extends LongIntegersModuloNRingBase<S, E>, E extends LongIntegersModuloNRingElementBase<E, S>>
+    extends CommonAlgebraicStructure<S, E, Long> implements CyclicRing<S, E> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  protected LongIntegersModuloNRingBase(final long n) {
+    super();
+
+    Arguments.requireTrue(n > 0, "The ring requires a positive modulo.");
+
+    this.arithmetic = new LongModularArithmetic(n);
+
+    this.operation1 = new AdditionOperation();
+    this.operation2 = createOperation2();
+
+    this.generator = getElement(arithmetic.getOne());
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  protected final LongModularArithmetic arithmetic;
+
+  protected final RingOperation1<E> operation1;
+
+  protected final CommutativeRingOperation2<E> operation2;
+
+  protected final E generator;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Elements
+  //
+
+  /**
+   * Creates an element from a residue in the internal form of the arithmetic.
+   *
+   * @param residue The residue.
+   *
+   * @return The element.
+   */
+  protected abstract E getElementFromResidue(long residue);
+
+  /**
+   * Creates the multiplication.
+   * <p>
+   * Called once, by the constructor, so an override must not read fields of its own class.
+   *
+   * @return The multiplication.
+   */
+  protected CommutativeRingOperation2<E> createOperation2() {
+    return new MultiplicationOperation();
+  }
+
+  public E getElementSafe(final long value) {
+    return getElementFromResidue(arithmetic.toInternal(value));
+  }
+
+  public E getElement(final long value) {
+    Arguments.requireTrue(hasElementSafe(value), "The structure does not contain the element: " + value + ".");
+
+    return getElementSafe(value);
+  }
+
+  public boolean hasElementSafe(final long value) {
+    return arithmetic.isResidue(value);
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // CommonAlgebraicStructure
+  //
+
+  @Override
+  public E getElementSafe(final Long value) {
+    return getElementSafe(value.longValue());
+  }
+
+  @Override
+  public boolean hasElementSafe(final Long value) {
+    return hasElementSafe(value.longValue());
+  }
+
+  // AlgebraicStructure
+  //
+
+  @Override
+  public Stream<E> elements() {
+    return LongStream.range(0, getN())
+        .mapToObj(this::getElementSafe);
+  }
+
+  @Override
+  public BigInteger elementCount() {
+    return BigInteger.valueOf(getN());
+  }
+
+  // Semiring
+  //
+
+  @Override
+  public RingOperation1<E> operation1() {
+    return operation1;
+  }
+
+  @Override
+  public CommutativeRingOperation2<E> operation2() {
+    return operation2;
+  }
+
+  // CyclicRing
+  //
+
+  @Override
+  public E generator() {
+    return generator;
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public long getN() {
+    return arithmetic.getN();
+  }
+
+  public LongModularArithmetic getArithmetic() {
+    return arithmetic;
+  }
+
+  // TODO: Object methods
+  //--------------------------------------------------
+
+  // Nested
+  //--------------------------------------------------
+
+  protected class AdditionOperation implements RingOperation1<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    protected AdditionOperation() {
+      super();
+
+      this.identity = LongIntegersModuloNRingBase.this.getElement(0L);
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    protected final E identity;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // BinaryOperation
+    //
+
+    @Override
+    public E perform(final E augend, final E addend) {
+      return LongIntegersModuloNRingBase.this.getElementFromResidue(arithmetic.add(augend.residue, addend.residue));
+    }
+
+    @Override
+    public void performAll(final E[] augends, final E[] addends, final E[] sums) {
+      ArrayUtils.requireSameLength(augends.length, addends.length, sums.length);
+
+      for(int i = 0; i < sums.length; i++) {
+        sums[i] = LongIntegersModuloNRingBase.this.getElementFromResidue(arithmetic.add(augends[i].residue, addends[i].residue));
+      }
+    }
+
+    @Override
+    public void performAllRight(final E[] augends, final E addend, final E[] sums) {
+      ArrayUtils.requireSameLength(augends.length, sums.length);
+
+      final long addendResidue = addend.residue;
+
+      for(int i = 0; i < sums.length; i++) {
+        sums[i] = LongIntegersModuloNRingBase.this.getElementFromResidue(arithmetic.add(augends[i].residue, addendResidue));
+      }
+    }
+
+    // Identity
+    //
+
+    @Override
+    public E identity() {
+      return identity;
+    }
+
+    // Inverse
+    //
+
+    @Override
+    public E inverse(final E element) {
+      return LongIntegersModuloNRingBase.this.getElementFromResidue(arithmetic.negate(element.residue));
+    }
+
+    // SemiringOperation1
+    //
+
+    @Override
+    public E power(final E base, final BigInteger exponent) {
+      // k * a is the product of a and the canonical residue of k, in any internal form.
+      return LongIntegersModuloNRingBase.this.getElementFromResidue(arithmetic.multiply(base.residue, arithmetic.reduce(exponent)));
+    }
+
+    // TODO: Object methods
+    //--------------------------------------------------
+
+  }
+
+  protected class MultiplicationOperation implements CommutativeRingOperation2<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    protected MultiplicationOperation() {
+      super();
+
+      this.distributivity = Distributivity.over(LongIntegersModuloNRingBase.this.operation1());
+
+      this.identity = LongIntegersModuloNRingBase.this.getElement(arithmetic.getOne());
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    protected final Distributivity distributivity;
+
+    protected final E identity;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // BinaryOperation
+    //
+
+    @Override
+    public E perform(final E multiplier, final E multiplicand) {
+      return LongIntegersModuloNRingBase.this.getElementFromResidue(arithmetic.multiplyInternal(multiplier.residue, multiplicand.residue));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Gathers the residues and multiplies them with {@link LongModularArithmetic#multiplyAllInternal(long[], long[], long[])}, so
+     *     the reduction strategy is chosen once rather than per product.
+     */
+    @Override
+    public void performAll(final E[] multipliers, final E[] multiplicands, final E[] products) {
+      ArrayUtils.requireSameLength(multipliers.length, multiplicands.length, products.length);
+
+      final long[] residues = new long[products.length];
+      final long[] multiplicandResidues = new long[products.length];
+
+      for(int i = 0; i < products.length; i++) {
+        residues[i] = multipliers[i].residue;
+        multiplicandResidues[i] = multiplicands[i].residue;
+      }
+
+      arithmetic.multiplyAllInternal(residues, multiplicandResidues, residues);
+
+      for(int i = 0; i < products.length; i++) {
+        products[i] = LongIntegersModuloNRingBase.this.getElementFromResidue(residues[i]);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Gathers the residues and multiplies them with {@link LongModularArithmetic#multiplyAllInternal(long[], long, long[])}.
+     */
+    @Override
+    public void performAllRight(final E[] multipliers, final E multiplicand, final E[] products) {
+      ArrayUtils.requireSameLength(multipliers.length, products.length);
+
+      final long[] residues = new long[products.length];
+
+      for(int i = 0; i < products.length; i++) {
+        residues[i] = multipliers[i].residue;
+      }
+
+      arithmetic.multiplyAllInternal(residues, multiplicand.residue, residues);
+
+      for(int i = 0; i < products.length; i++) {
+        products[i] = LongIntegersModuloNRingBase.this.getElementFromResidue(residues[i]);
+      }
+    }
+
+    // Distributive
+    //
+
+    @Override
+    public Distributivity distributivity() {
+      return distributivity;
+    }
+
+    // Identity
+    //
+
+    @Override
+    public E identity() {
+      return identity;
+    }
+
+    // SemiringOperation2
+    //
+
+    @Override
+    public E power(final E base, final BigInteger exponent) {
+      return LongIntegersModuloNRingBase.this.getElementFromResidue(arithmetic.powInternal(base.residue, exponent));
+    }
+
+    // TODO: Object methods
+    //--------------------------------------------------
+
+  }
+
+}
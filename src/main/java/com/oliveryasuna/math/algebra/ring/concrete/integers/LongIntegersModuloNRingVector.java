@@ -0,0 +1,224 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.integers;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.math.algebra.ElementVector;
+import com.oliveryasuna.math.arithmetic.LongModularArithmetic;
+
+/**
+ * A vector of elements of the ring of integers modulo \(n\lt 2^{63}\), stored off-heap in one {@code long} per element.
+ * <p>
+ * Bulk operations apply the ring's {@link LongModularArithmetic} to the stored residues, without creating elements.
+ *
+ * @param <S> The type of ring.
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public final class LongIntegersModuloNRingVector<S extends LongIntegersModuloNRingBase<S, E>, E extends LongIntegersModuloNRingElementBase<E, S>>
+    extends ElementVector<S, E> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates a vector of zeros.
+   *
+   * @param ring The ring.
+   * @param size The number of elements.
+   */
+  public LongIntegersModuloNRingVector(final S ring, final int size) {
+    super(ring, size, 1);
+
+    this.arithmetic = ring.getArithmetic();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final LongModularArithmetic arithmetic;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Values
+  //
+
+  public long getValue(final int index) {
+    checkIndex(index);
+
+    return at(index);
+  }
+
+  public void setValue(final int index, final long value) {
+    checkIndex(index);
+    if(!arithmetic.isResidue(value)) throw new IllegalArgumentException("The ring does not contain the element: " + value + ".");
+
+    put(index, value);
+  }
+
+  // Bulk
+  //
+
+  /**
+   * Sets each element to the sum of the elements at the same index of two vectors, which may be this vector.
+   *
+   * @param augends The augends.
+   * @param addends The addends.
+   *
+   * @throws IllegalArgumentException If the vectors differ in structure or size.
+   */
+  public void addAll(final LongIntegersModuloNRingVector<S, E> augends, final LongIntegersModuloNRingVector<S, E> addends) {
+    checkSameShape(augends);
+    checkSameShape(addends);
+
+    for(int i = 0; i < size; i++) {
+      put(i, arithmetic.add(augends.at(i), addends.at(i)));
+    }
+  }
+
+  /**
+   * Sets each element to the additive inverse of the element at the same index of a vector, which may be this vector.
+   *
+   * @param elements The elements.
+   *
+   * @throws IllegalArgumentException If the vectors differ in structure or size.
+   */
+  public void negateAll(final LongIntegersModuloNRingVector<S, E> elements) {
+    checkSameShape(elements);
+
+    for(int i = 0; i < size; i++) {
+      put(i, arithmetic.negate(elements.at(i)));
+    }
+  }
+
+  /**
+   * Sets each element to the product of the elements at the same index of two vectors, which may be this vector.
+   *
+   * @param multipliers   The multipliers.
+   * @param multiplicands The multiplicands.
+   *
+   * @throws IllegalArgumentException If the vectors differ in structure or size.
+   */
+  public void multiplyAll(final LongIntegersModuloNRingVector<S, E> multipliers, final LongIntegersModuloNRingVector<S, E> multiplicands) {
+    checkSameShape(multipliers);
+    checkSameShape(multiplicands);
+
+    for(int i = 0; i < size; i++) {
+      put(i, arithmetic.multiply(multipliers.at(i), multiplicands.at(i)));
+    }
+  }
+
+  /**
+   * Sets each element to the product of the element at the same index of a vector, which may be this vector, and a fixed element.
+   *
+   * @param multipliers  The multipliers.
+   * @param multiplicand The multiplicand.
+   *
+   * @throws IllegalArgumentException If the vectors differ in structure or size.
+   */
+  public void multiplyAll(final LongIntegersModuloNRingVector<S, E> multipliers, final E multiplicand) {
+    checkSameShape(multipliers);
+    Arguments.requireNotNull(multiplicand);
+
+    // With Montgomery reduction, (a)(bR)R^-1 = ab, so each product costs a single reduction.
+    final long internalMultiplicand = arithmetic.toInternal(multiplicand.getValue());
+
+    for(int i = 0; i < size; i++) {
+      put(i, arithmetic.multiplyInternal(multipliers.at(i), internalMultiplicand));
+    }
+  }
+
+  /**
+   * Sums the elements.
+   *
+   * @return The sum, which is zero if the vector is empty.
+   */
+  public E sum() {
+    long sum = 0;
+
+    for(int i = 0; i < size; i++) {
+      sum = arithmetic.add(sum, at(i));
+    }
+
+    return structure.getElementSafe(sum);
+  }
+
+  /**
+   * Computes the sum of the products of the elements at the same index of this and another vector.
+   *
+   * @param other The other vector.
+   *
+   * @return The dot product.
+   *
+   * @throws IllegalArgumentException If the vectors differ in structure or size.
+   */
+  public E dot(final LongIntegersModuloNRingVector<S, E> other) {
+    checkSameShape(other);
+
+    long sum = 0;
+
+    for(int i = 0; i < size; i++) {
+      sum = arithmetic.add(sum, arithmetic.multiply(at(i), other.at(i)));
+    }
+
+    return structure.getElementSafe(sum);
+  }
+
+  private long at(final int index) {
+    return chunk(index).get(offset(index));
+  }
+
+  private void put(final int index, final long value) {
+    chunk(index).put(offset(index), value);
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // ElementVector
+  //
+
+  @Override
+  public E get(final int index) {
+    return structure.getElementSafe(getValue(index));
+  }
+
+  @Override
+  public void checkValues(final int from, final int count) {
+    if(from < 0 || count < 0 || from > size - count) {
+      throw new IllegalArgumentException("Invalid range: [" + from + "," + ((long)from + count) + ").");
+    }
+
+    for(int i = from; i < from + count; i++) {
+      if(!arithmetic.isResidue(at(i))) throw new IllegalArgumentException("The ring does not contain the element at index " + i + ": " + at(i) + ".");
+    }
+  }
+
+  @Override
+  public void set(final int index, final E element) {
+    checkIndex(index);
+    Arguments.requireNotNull(element);
+    Arguments.requireTrue(element.getStructure().equals(structure), "The element belongs to a different ring.");
+
+    put(index, element.getValue());
+  }
+
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.oliveryasuna.math.algebra.ring.concrete.matrices;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.CommonAlgebraicStructure;
+import com.oliveryasuna.math.algebra.property.Distributivity;
+import com.oliveryasuna.math.algebra.ring.Ring;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRingBase;
+import com.oliveryasuna.math.algebra.ring.operation.RingOperation1;
+import com.oliveryasuna.math.algebra.ring.operation.SemiringOperation2;
+import com.oliveryasuna.math.arithmetic.LongMatrixArithmetic;
+import com.oliveryasuna.math.arithmetic.MatrixArithmetic;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Abstract representation of the ring of \(d\times d\) matrices over the integers modulo \(n\), for \(0\lt n\lt 2^{63}\).
+ * <p>
+ * Mathematically defined as \(\left(M_{d}(\mathbb{Z}/n\mathbb{Z}),+,\times\right)\), with entry-wise addition and matrix multiplication, which
+ * is not commutative for \(d\gt 1\).
+ * <p>
+ * The value is a row-major {@code long[]} of the \(d^2\) canonical residues, multiplied by {@link LongMatrixArithmetic}.
+ * Products are tiled, computed in parallel on the pool of the ring, and use the Strassen-Winograd algorithm from the Strassen threshold; see
+ * {@link MatrixArithmetic}.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public abstract class LongIntegersModuloNMatrixRingBase
+    <S extends LongIntegersModuloNMatrixRingBase<S, E>, E extends LongIntegersModuloNMatrixRingElementBase<E, S>>
+    extends CommonAlgebraicStructure<S, E, long[]> implements Ring<S, E> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param baseRing          The ring of the entries.
+   * @param dimension         The number of rows and columns, at most {@link MatrixRingBase#MAXIMUM_DIMENSION}.
+   * @param strassenThreshold The size from which the Strassen-Winograd algorithm is used, at least \(2\).
+   * @param pool              The pool on which products are computed.
+   */
+  protected LongIntegersModuloNMatrixRingBase(final LongIntegersModuloNRingBase<?, ?> baseRing, final int dimension, final int strassenThreshold,
+      final ForkJoinPool pool) {
+    super();
+
+    Arguments.requireNotNull(baseRing);
+    Arguments.requireTrue(dimension > 0 && dimension <= MatrixRingBase.MAXIMUM_DIMENSION, "Invalid dimension: " + dimension + ".");
+    Arguments.requireNotNull(pool);
+
+    this.baseRing = baseRing;
+    this.dimension = dimension;
+    this.pool = pool;
+    this.arithmetic = new LongMatrixArithmetic(baseRing.getArithmetic(), strassenThreshold);
+
+    this.operation1 = new AdditionOperation();
+    this.operation2 = new MultiplicationOperation();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  protected final LongIntegersModuloNRingBase<?, ?> baseRing;
+
+  protected final int dimension;
+
+  protected final ForkJoinPool pool;
+
+  protected final LongMatrixArithmetic arithmetic;
+
+  protected final RingOperation1<E> operation1;
+
+  protected final SemiringOperation2<E> operation2;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Elements
+  //
+
+  /**
+   * Creates an element from canonical residues.
+   * The residues are not copied, so they must not be modified afterward.
+   *
+   * @param values The row-major residues.
+   *
+   * @return The element.
+   */
+  protected abstract E getElementFromValues(long[] values);
+
+  // Arithmetic
+  //
+
+  /**
+   * Multiplies matrices on a given pool.
+   *
+   * @param multiplier   The multiplier.
+   * @param multiplicand The multiplicand.
+   * @param pool         The pool.
+   *
+   * @return The product.
+   */
+  public E multiply(final E multiplier, final E multiplicand, final ForkJoinPool pool) {
+    Arguments.requireNotNull(pool);
+
+    return getElementFromValues(arithmetic.multiply(multiplier.values, multiplicand.values, dimension, pool));
+  }
+
+  /**
+   * Multiplies matrices on the calling thread.
+   *
+   * @param multiplier   The multiplier.
+   * @param multiplicand The multiplicand.
+   *
+   * @return The product.
+   */
+  public E multiplySequentially(final E multiplier, final E multiplicand) {
+    return getElementFromValues(arithmetic.multiply(multiplier.values, multiplicand.values, dimension));
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // CommonAlgebraicStructure
+  //
+
+  @Override
+  public E getElementSafe(final long[] value) {
+    return getElementFromValues(value.clone());
+  }
+
+  /**
+   * Checks whether residues are the entries of an element.
+   *
+   * @param value The row-major residues.
+   *
+   * @return {@code true}, if there are \(d^2\) canonical residues; {@code false}, otherwise.
+   */
+  @Override
+  public boolean hasElementSafe(final long[] value) {
+    if(value.length != dimension * dimension) return false;
+
+    for(final long entry : value) {
+      if(!baseRing.hasElementSafe(entry)) return false;
+    }
+
+    return true;
+  }
+
+  // Semiring
+  //
+
+  @Override
+  public RingOperation1<E> operation1() {
+    return operation1;
+  }
+
+  @Override
+  public SemiringOperation2<E> operation2() {
+    return operation2;
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public LongIntegersModuloNRingBase<?, ?> getBaseRing() {
+    return baseRing;
+  }
+
+  public int getDimension() {
+    return dimension;
+  }
+
+  public ForkJoinPool getPool() {
+    return pool;
+  }
+
+  public LongMatrixArithmetic getArithmetic() {
+    return arithmetic;
+  }
+
+  // TODO: Object methods
+  //--------------------------------------------------
+
+  // Nested
+  //--------------------------------------------------
+
+  protected class AdditionOperation implements RingOperation1<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    protected AdditionOperation() {
+      super();
+
+      this.identity = LongIntegersModuloNMatrixRingBase.this.getElementFromValues(arithmetic.zero(dimension));
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    protected final E identity;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // BinaryOperation
+    //
+
+    @Override
+    public E perform(final E augend, final E addend) {
+      return LongIntegersModuloNMatrixRingBase.this.getElementFromValues(arithmetic.add(augend.values, addend.values, dimension));
+    }
+
+    // Identity
+    //
+
+    @Override
+    public E identity() {
+      return identity;
+    }
+
+    // Inverse
+    //
+
+    @Override
+    public E inverse(final E element) {
+      return LongIntegersModuloNMatrixRingBase.this.getElementFromValues(arithmetic.negate(element.values, dimension));
+    }
+
+    // SemiringOperation1
+    //
+
+    @Override
+    public E power(final E base, final BigInteger exponent) {
+      // k * M multiplies every entry by k.
+      return LongIntegersModuloNMatrixRingBase.this.getElementFromValues(arithmetic.scale(base.values, arithmetic.getArithmetic().reduce(exponent)));
+    }
+
+    // TODO: Object methods
+    //--------------------------------------------------
+
+  }
+
+  protected class MultiplicationOperation implements SemiringOperation2<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    protected MultiplicationOperation() {
+      super();
+
+      this.distributivity = Distributivity.over(LongIntegersModuloNMatrixRingBase.this.operation1());
+
+      this.identity = LongIntegersModuloNMatrixRingBase.this.getElementFromValues(arithmetic.identity(dimension));
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    protected final Distributivity distributivity;
+
+    protected final E identity;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // BinaryOperation
+    //
+
+    @Override
+    public E perform(final E multiplier, final E multiplicand) {
+      return LongIntegersModuloNMatrixRingBase.this.multiply(multiplier, multiplicand, pool);
+    }
+
+    // Distributive
+    //
+
+    @Override
+    public Distributivity distributivity() {
+      return distributivity;
+    }
+
+    // Identity
+    //
+
+    @Override
+    public E identity() {
+      return identity;
+    }
+
+    // TODO: Object methods
+    //--------------------------------------------------
+
+  }
+
+}
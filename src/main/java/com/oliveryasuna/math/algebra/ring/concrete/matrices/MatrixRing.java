@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.matrices;
+
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.ring.Ring;
+import com.oliveryasuna.math.algebra.ring.RingElement;
+import com.oliveryasuna.math.arithmetic.MatrixArithmetic;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Represents the ring of \(d\times d\) matrices over a ring.
+ *
+ * @param <R> The type of the base ring.
+ * @param <C> The type of the entries.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public class MatrixRing<R extends Ring<R, C>, C extends RingElement<C, R>> extends MatrixRingBase<MatrixRing<R, C>, MatrixRingElement<R, C>, R, C> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates a ring whose products are computed on the common pool.
+   *
+   * @param baseRing  The ring of the entries.
+   * @param dimension The number of rows and columns.
+   */
+  public MatrixRing(final R baseRing, final int dimension) {
+    this(baseRing, dimension, MatrixArithmetic.DEFAULT_STRASSEN_THRESHOLD, ForkJoinPool.commonPool());
+  }
+
+  public MatrixRing(final R baseRing, final int dimension, final int strassenThreshold, final ForkJoinPool pool) {
+    super(baseRing, dimension, strassenThreshold, pool);
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // MatrixRingBase
+  //
+
+  @Override
+  protected MatrixRingElement<R, C> getElementFromEntries(final Object[] entries) {
+    return new MatrixRingElement<>(entries, this);
+  }
+
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.matrices;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.CommonAlgebraicStructure;
+import com.oliveryasuna.math.algebra.property.Distributivity;
+import com.oliveryasuna.math.algebra.ring.Ring;
+import com.oliveryasuna.math.algebra.ring.RingElement;
+import com.oliveryasuna.math.algebra.ring.operation.RingOperation1;
+import com.oliveryasuna.math.algebra.ring.operation.SemiringOperation2;
+import com.oliveryasuna.math.arithmetic.MatrixArithmetic;
+import com.oliveryasuna.math.arithmetic.RingMatrixArithmetic;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Abstract representation of the ring of \(d\times d\) matrices over a ring.
+ * <p>
+ * Mathematically defined as \(\left(M_{d}(R),+,\times\right)\), with entry-wise addition and matrix multiplication, which is not commutative
+ * for \(d\gt 1\).
+ * <p>
+ * The value is a row-major array of the \(d^2\) entries, which are stored as elements and multiplied by {@link RingMatrixArithmetic}.
+ * Products are tiled, computed in parallel on the pool of the ring, and use the Strassen-Winograd algorithm from the Strassen threshold; see
+ * {@link MatrixArithmetic}.
+ * <p>
+ * Over the integers modulo \(n\lt 2^{63}\), {@link LongIntegersModuloNMatrixRingBase} stores primitive residues instead, and multiplies them
+ * with primitive kernels.
+ *
+ * @param <R> The type of the base ring.
+ * @param <C> The type of the entries.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public abstract class MatrixRingBase
+    <S extends MatrixRingBase<S, E, R, C>, E extends MatrixRingElementBase<E, S, R, C>, R extends Ring<R, C>, C extends RingElement<C, R>>
+    extends CommonAlgebraicStructure<S, E, C[]> implements Ring<S, E> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The largest dimension, so that the \(d^2\) entries fit in an array.
+   */
+  public static final int MAXIMUM_DIMENSION = 46340;
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param baseRing          The ring of the entries.
+   * @param dimension         The number of rows and columns.
+   * @param strassenThreshold The size from which the Strassen-Winograd algorithm is used, at least \(2\).
+   * @param pool              The pool on which products are computed.
+   */
+  protected MatrixRingBase(final R baseRing, final int dimension, final int strassenThreshold, final ForkJoinPool pool) {
+    super();
+
+    Arguments.requireNotNull(baseRing);
+    Arguments.requireTrue(dimension > 0 && dimension <= MAXIMUM_DIMENSION, "Invalid dimension: " + dimension + ".");
+    Arguments.requireNotNull(pool);
+
+    this.baseRing = baseRing;
+    this.dimension = dimension;
+    this.pool = pool;
+
+    this.arithmetic = new RingMatrixArithmetic<>(baseRing.operation1(), baseRing.operation2(), strassenThreshold);
+
+    this.operation1 = new AdditionOperation();
+    this.operation2 = new MultiplicationOperation();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  protected final R baseRing;
+
+  protected final int dimension;
+
+  protected final ForkJoinPool pool;
+
+  protected final RingMatrixArithmetic<C> arithmetic;
+
+  protected final RingOperation1<E> operation1;
+
+  protected final SemiringOperation2<E> operation2;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Elements
+  //
+
+  /**
+   * Creates an element from entries of the base ring.
+   * The entries are not copied, so they must not be modified afterward.
+   *
+   * @param entries The row-major entries.
+   *
+   * @return The element.
+   */
+  protected abstract E getElementFromEntries(Object[] entries);
+
+  // Arithmetic
+  //
+
+  /**
+   * Multiplies matrices on a given pool.
+   *
+   * @param multiplier   The multiplier.
+   * @param multiplicand The multiplicand.
+   * @param pool         The pool.
+   *
+   * @return The product.
+   */
+  public E multiply(final E multiplier, final E multiplicand, final ForkJoinPool pool) {
+    Arguments.requireNotNull(pool);
+
+    return getElementFromEntries(arithmetic.multiply(multiplier.entries, multiplicand.entries, dimension, pool));
+  }
+
+  /**
+   * Multiplies matrices on the calling thread.
+   *
+   * @param multiplier   The multiplier.
+   * @param multiplicand The multiplicand.
+   *
+   * @return The product.
+   */
+  public E multiplySequentially(final E multiplier, final E multiplicand) {
+    return getElementFromEntries(arithmetic.multiply(multiplier.entries, multiplicand.entries, dimension));
+  }
+
+  /**
+   * Gets an entry as an element of the base ring.
+   * <p>
+   * The entries of elements are elements of the base ring, so the cast is safe.
+   *
+   * @param element The element, of this ring.
+   * @param index   The row-major index.
+   *
+   * @return The entry.
+   */
+  @SuppressWarnings("unchecked")
+  protected C entry(final MatrixRingElementBase<?, ?, ?, ?> element, final int index) {
+    return (C)element.entries[index];
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // CommonAlgebraicStructure
+  //
+
+  @Override
+  public E getElementSafe(final C[] value) {
+    return getElementFromEntries(Arrays.copyOf(value, value.length, Object[].class));
+  }
+
+  @Override
+  public boolean hasElementSafe(final C[] value) {
+    if(value.length != dimension * dimension) return false;
+
+    for(final C entry : value) {
+      if(entry == null || !baseRing.equals(entry.getStructure())) return false;
+    }
+
+    return true;
+  }
+
+  // Semiring
+  //
+
+  @Override
+  public RingOperation1<E> operation1() {
+    return operation1;
+  }
+
+  @Override
+  public SemiringOperation2<E> operation2() {
+    return operation2;
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public R getBaseRing() {
+    return baseRing;
+  }
+
+  public int getDimension() {
+    return dimension;
+  }
+
+  public ForkJoinPool getPool() {
+    return pool;
+  }
+
+  public RingMatrixArithmetic<C> getArithmetic() {
+    return arithmetic;
+  }
+
+  // TODO: Object methods
+  //--------------------------------------------------
+
+  // Nested
+  //--------------------------------------------------
+
+  protected class AdditionOperation implements RingOperation1<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    protected AdditionOperation() {
+      super();
+
+      this.identity = MatrixRingBase.this.getElementFromEntries(arithmetic.zero(dimension));
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    protected final E identity;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // BinaryOperation
+    //
+
+    @Override
+    public E perform(final E augend, final E addend) {
+      return MatrixRingBase.this.getElementFromEntries(arithmetic.add(augend.entries, addend.entries, dimension));
+    }
+
+    // Identity
+    //
+
+    @Override
+    public E identity() {
+      return identity;
+    }
+
+    // Inverse
+    //
+
+    @Override
+    public E inverse(final E element) {
+      return MatrixRingBase.this.getElementFromEntries(arithmetic.negate(element.entries, dimension));
+    }
+
+    // SemiringOperation1
+    //
+
+    @Override
+    public E power(final E base, final BigInteger exponent) {
+      // k * M multiplies every entry by k.
+      final RingOperation1<C> addition = baseRing.operation1();
+      final Object[] entries = new Object[base.entries.length];
+
+      for(int i = 0; i < entries.length; i++) {
+        entries[i] = addition.power(entry(base, i), exponent);
+      }
+
+      return MatrixRingBase.this.getElementFromEntries(entries);
+    }
+
+    // TODO: Object methods
+    //--------------------------------------------------
+
+  }
+
+  protected class MultiplicationOperation implements SemiringOperation2<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    protected MultiplicationOperation() {
+      super();
+
+      this.distributivity = Distributivity.over(MatrixRingBase.this.operation1());
+
+      this.identity = MatrixRingBase.this.getElementFromEntries(arithmetic.identity(dimension));
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    protected final Distributivity distributivity;
+
+    protected final E identity;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // BinaryOperation
+    //
+
+    @Override
+    public E perform(final E multiplier, final E multiplicand) {
+      return MatrixRingBase.this.multiply(multiplier, multiplicand, pool);
+    }
+
+    // Distributive
+    //
+
+    @Override
+    public Distributivity distributivity() {
+      return distributivity;
+    }
+
+    // Identity
+    //
+
+    @Override
+    public E identity() {
+      return identity;
+    }
+
+    // TODO: Object methods
+    //--------------------------------------------------
+
+  }
+
+}
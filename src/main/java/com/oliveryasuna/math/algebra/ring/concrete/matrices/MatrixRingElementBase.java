@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.matrices;
+
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.AbstractAlgebraicElement;
+import com.oliveryasuna.math.algebra.ring.Ring;
+import com.oliveryasuna.math.algebra.ring.RingElement;
+import com.oliveryasuna.math.algebra.ring.helper.AdditiveMultiplicativeNearRingElement;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Arrays;
+
+/**
+ * Abstract representation of an element of the ring of \(d\times d\) matrices over a ring.
+ *
+ * @param <R> The type of the base ring.
+ * @param <C> The type of the entries.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public class MatrixRingElementBase
+    <E extends MatrixRingElementBase<E, S, R, C>, S extends MatrixRingBase<S, E, R, C>, R extends Ring<R, C>, C extends RingElement<C, R>>
+    extends AbstractAlgebraicElement<E, S> implements RingElement<E, S>, AdditiveMultiplicativeNearRingElement<E, S> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  protected MatrixRingElementBase(final Object[] entries, final S structure) {
+    super(structure);
+
+    this.entries = entries;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  /**
+   * The row-major entries.
+   * Never modified.
+   */
+  protected final Object[] entries;
+
+  /**
+   * The cached hash code, or {@code 0} if not yet computed.
+   */
+  private int hash;
+
+  // Getters
+  //--------------------------------------------------
+
+  /**
+   * Gets an entry.
+   *
+   * @param row    The row.
+   * @param column The column.
+   *
+   * @return The entry in row {@code row} and column {@code column}.
+   */
+  public C getEntry(final int row, final int column) {
+    final int dimension = getStructure().getDimension();
+
+    if(row < 0 || row >= dimension || column < 0 || column >= dimension) {
+      throw new IndexOutOfBoundsException("Invalid entry: (" + row + "," + column + ").");
+    }
+
+    return getStructure().entry(this, row * dimension + column);
+  }
+
+  // Object methods
+  //--------------------------------------------------
+
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(!super.equals(other)) return false;
+
+    final MatrixRingElementBase<?, ?, ?, ?> otherCasted = (MatrixRingElementBase<?, ?, ?, ?>)other;
+
+    return Arrays.equals(entries, otherCasted.entries);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = hash;
+
+    if(result == 0) {
+      result = 31 * super.hashCode() + Arrays.hashCode(entries);
+
+      hash = result;
+    }
+
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .appendSuper(super.toString())
+        .append("dimension", getStructure().getDimension())
+        .toString();
+  }
+
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.polynomials;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.CommonAlgebraicStructure;
+import com.oliveryasuna.math.algebra.property.Distributivity;
+import com.oliveryasuna.math.algebra.ring.CommutativeRing;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.IntegersModuloNRingBase;
+import com.oliveryasuna.math.algebra.ring.operation.CommutativeRingOperation2;
+import com.oliveryasuna.math.algebra.ring.operation.RingOperation1;
+import com.oliveryasuna.math.arithmetic.PolynomialArithmetic;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Abstract representation of the ring of polynomials in one variable over the integers modulo \(n\), for any \(n\gt 0\).
+ * <p>
+ * Mathematically defined as \(\left(\left(\mathbb{Z}/n\mathbb{Z}\right)[x],+,\times\right)\).
+ * <p>
+ * Polynomials are dense: the value is a {@code BigInteger[]} of canonical residues, the coefficient of \(x^{i}\) at index \(i\).
+ * See {@link PolynomialArithmetic} for how products are computed; multiplication moves from the schoolbook method to Karatsuba's to the
+ * number-theoretic transform as the degrees grow.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public abstract class IntegersModuloNPolynomialRingBase
+    <S extends IntegersModuloNPolynomialRingBase<S, E>, E extends IntegersModuloNPolynomialRingElementBase<E, S>>
+    extends CommonAlgebraicStructure<S, E, BigInteger[]> implements CommutativeRing<S, E> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param coefficientRing The ring of the coefficients.
+   */
+  protected IntegersModuloNPolynomialRingBase(final IntegersModuloNRingBase<?, ?> coefficientRing) {
+    super();
+
+    Arguments.requireNotNull(coefficientRing);
+
+    this.coefficientRing = coefficientRing;
+    this.arithmetic = new PolynomialArithmetic(coefficientRing.getN());
+
+    this.operation1 = new AdditionOperation();
+    this.operation2 = new MultiplicationOperation();
+
+    this.variable = getElementFromCoefficients(coefficientRing.getN().equals(BigInteger.ONE) ? arithmetic.zero()
+        : new BigInteger[] {BigInteger.ZERO, BigInteger.ONE});
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  protected final IntegersModuloNRingBase<?, ?> coefficientRing;
+
+  protected final PolynomialArithmetic arithmetic;
+
+  protected final RingOperation1<E> operation1;
+
+  protected final CommutativeRingOperation2<E> operation2;
+
+  protected final E variable;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Elements
+  //
+
+  /**
+   * Creates an element from coefficients that are canonical residues without trailing zeros.
+   * The coefficients are not copied, so they must not be modified afterward.
+   *
+   * @param coefficients The coefficients.
+   *
+   * @return The element.
+   */
+  protected abstract E getElementFromCoefficients(BigInteger[] coefficients);
+
+  // Arithmetic
+  //
+
+  /**
+   * Multiplies polynomials, transforming modulo each prime and recombining chunks of coefficients on {@code pool} when the number-theoretic
+   * transform is used.
+   *
+   * @param multiplier   The multiplier.
+   * @param multiplicand The multiplicand.
+   * @param pool         The pool.
+   *
+   * @return The product.
+   */
+  public E multiply(final E multiplier, final E multiplicand, final ForkJoinPool pool) {
+    return getElementFromCoefficients(arithmetic.multiply(multiplier.coefficients, multiplicand.coefficients, pool));
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // CommonAlgebraicStructure
+  //
+
+  @Override
+  public E getElementSafe(final BigInteger[] value) {
+    return getElementFromCoefficients(PolynomialArithmetic.trim(value.clone()));
+  }
+
+  /**
+   * @implNote Trailing zeros are allowed, and removed by {@link #getElementSafe(BigInteger[])}.
+   */
+  @Override
+  public boolean hasElementSafe(final BigInteger[] value) {
+    for(final BigInteger coefficient : value) {
+      if(coefficient == null || !coefficientRing.hasElementSafe(coefficient)) return false;
+    }
+
+    return true;
+  }
+
+  // Semiring
+  //
+
+  @Override
+  public RingOperation1<E> operation1() {
+    return operation1;
+  }
+
+  @Override
+  public CommutativeRingOperation2<E> operation2() {
+    return operation2;
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public BigInteger getN() {
+    return coefficientRing.getN();
+  }
+
+  public IntegersModuloNRingBase<?, ?> getCoefficientRing() {
+    return coefficientRing;
+  }
+
+  public PolynomialArithmetic getArithmetic() {
+    return arithmetic;
+  }
+
+  /**
+   * Gets the polynomial \(x\).
+   *
+   * @return \(x\).
+   */
+  public E getVariable() {
+    return variable;
+  }
+
+  // TODO: Object methods
+  //--------------------------------------------------
+
+  // Nested
+  //--------------------------------------------------
+
+  protected class AdditionOperation implements RingOperation1<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    protected AdditionOperation() {
+      super();
+
+      this.identity = IntegersModuloNPolynomialRingBase.this.getElementFromCoefficients(arithmetic.zero());
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    protected final E identity;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // BinaryOperation
+    //
+
+    @Override
+    public E perform(final E augend, final E addend) {
+      return IntegersModuloNPolynomialRingBase.this.getElementFromCoefficients(arithmetic.add(augend.coefficients, addend.coefficients));
+    }
+
+    // Identity
+    //
+
+    @Override
+    public E identity() {
+      return identity;
+    }
+
+    // Inverse
+    //
+
+    @Override
+    public E inverse(final E element) {
+      return IntegersModuloNPolynomialRingBase.this.getElementFromCoefficients(arithmetic.negate(element.coefficients));
+    }
+
+    // SemiringOperation1
+    //
+
+    @Override
+    public E power(final E base, final BigInteger exponent) {
+      // k * f scales every coefficient by k mod n.
+      final BigInteger scalar = exponent.mod(getN());
+
+      return IntegersModuloNPolynomialRingBase.this.getElementFromCoefficients(arithmetic.scale(base.coefficients, scalar));
+    }
+
+    // TODO: Object methods
+    //--------------------------------------------------
+
+  }
+
+  protected class MultiplicationOperation implements CommutativeRingOperation2<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    protected MultiplicationOperation() {
+      super();
+
+      this.distributivity = Distributivity.over(IntegersModuloNPolynomialRingBase.this.operation1());
+
+      this.identity = IntegersModuloNPolynomialRingBase.this.getElementFromCoefficients(arithmetic.one());
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    protected final Distributivity distributivity;
+
+    protected final E identity;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // BinaryOperation
+    //
+
+    @Override
+    public E perform(final E multiplier, final E multiplicand) {
+      return IntegersModuloNPolynomialRingBase.this.getElementFromCoefficients(arithmetic.multiply(multiplier.coefficients, multiplicand.coefficients));
+    }
+
+    // Distributive
+    //
+
+    @Override
+    public Distributivity distributivity() {
+      return distributivity;
+    }
+
+    // Identity
+    //
+
+    @Override
+    public E identity() {
+      return identity;
+    }
+
+    // TODO: Object methods
+    //--------------------------------------------------
+
+  }
+
+}
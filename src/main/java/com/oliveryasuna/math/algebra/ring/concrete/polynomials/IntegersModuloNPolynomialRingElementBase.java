@@ -0,0 +1,153 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.polynomials;
+
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.AbstractAlgebraicElement;
+import com.oliveryasuna.math.algebra.ring.CommutativeRingElement;
+import com.oliveryasuna.math.algebra.ring.helper.AdditiveMultiplicativeNearRingElement;
+import com.oliveryasuna.math.arithmetic.PolynomialArithmetic;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Abstract representation of an element of the ring of polynomials in one variable over the integers modulo \(n\), for any \(n\gt 0\).
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public class IntegersModuloNPolynomialRingElementBase
+    <E extends IntegersModuloNPolynomialRingElementBase<E, S>, S extends IntegersModuloNPolynomialRingBase<S, E>>
+    extends AbstractAlgebraicElement<E, S> implements CommutativeRingElement<E, S>, AdditiveMultiplicativeNearRingElement<E, S> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  protected IntegersModuloNPolynomialRingElementBase(final BigInteger[] coefficients, final S structure) {
+    super(structure);
+
+    this.coefficients = coefficients;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  /**
+   * The coefficients, canonical residues without trailing zeros, the coefficient of \(x^{i}\) at index \(i\).
+   * Never modified.
+   */
+  protected final BigInteger[] coefficients;
+
+  /**
+   * The cached hash code, or {@code 0} if not yet computed.
+   */
+  private int hash;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Evaluates the polynomial by Horner's method.
+   *
+   * @param x The point, a canonical residue.
+   *
+   * @return The value at {@code x}.
+   */
+  public BigInteger evaluate(final BigInteger x) {
+    final BigInteger n = getStructure().getN();
+    BigInteger result = BigInteger.ZERO;
+
+    for(int i = coefficients.length - 1; i >= 0; i--) {
+      result = result.multiply(x).add(coefficients[i]).mod(n);
+    }
+
+    return result;
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  /**
+   * Gets the coefficients.
+   *
+   * @return A copy of the coefficients, the coefficient of \(x^{i}\) at index \(i\), without trailing zeros.
+   */
+  public BigInteger[] getValue() {
+    return coefficients.clone();
+  }
+
+  /**
+   * Gets a coefficient.
+   *
+   * @param power The power of \(x\).
+   *
+   * @return The coefficient of \(x^{power}\), which is \(0\) beyond the degree.
+   */
+  public BigInteger getCoefficient(final int power) {
+    if(power < 0) throw new IndexOutOfBoundsException("Negative power: " + power + ".");
+
+    return (power < coefficients.length ? coefficients[power] : BigInteger.ZERO);
+  }
+
+  /**
+   * Gets the degree.
+   *
+   * @return The degree; or \(-1\), for \(0\).
+   */
+  public int getDegree() {
+    return PolynomialArithmetic.degree(coefficients);
+  }
+
+  // Object methods
+  //--------------------------------------------------
+
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(!super.equals(other)) return false;
+
+    final IntegersModuloNPolynomialRingElementBase<?, ?> otherCasted = (IntegersModuloNPolynomialRingElementBase<?, ?>)other;
+
+    return Arrays.equals(coefficients, otherCasted.coefficients);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = hash;
+
+    if(result == 0) {
+      result = 31 * super.hashCode() + Arrays.hashCode(coefficients);
+
+      hash = result;
+    }
+
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .appendSuper(super.toString())
+        .append("degree", getDegree())
+        .toString();
+  }
+
+}
@@ -21,6 +21,8 @@ package com.oliveryasuna.math.algebra.ring.helper;
 import com.oliveryasuna.math.algebra.ring.Semiring;
 import com.oliveryasuna.math.algebra.ring.SemiringElement;
 
+import java.math.BigInteger;
+
 public interface AdditiveMultiplicativeSemiringElement<E extends SemiringElement<E, S>, S extends Semiring<S, E>> extends SemiringElement<E, S> {
 
   default E add(final E addend) {
@@ -31,4 +33,26 @@ public interface AdditiveMultiplicativeSemiringElement<E extends SemiringElement
     return operate2(multiplicand);
   }
 
+  // By the bound on E, this is an E.
+  @SuppressWarnings("unchecked")
+  default E times(final BigInteger multiplier) {
+    return getStructure().operation1()
+        .power((E)this, multiplier);
+  }
+
+  default E times(final long multiplier) {
+    return times(BigInteger.valueOf(multiplier));
+  }
+
+  // By the bound on E, this is an E.
+  @SuppressWarnings("unchecked")
+  default E pow(final BigInteger exponent) {
+    return getStructure().operation2()
+        .power((E)this, exponent);
+  }
+
+  default E pow(final long exponent) {
+    return pow(BigInteger.valueOf(exponent));
+  }
+
 }
@@ -18,9 +18,52 @@
 
 package com.oliveryasuna.math.algebra.ring.operation;
 
+import com.oliveryasuna.math.algebra.operation.Exponentiation;
+import com.oliveryasuna.math.algebra.operation.SimultaneousInversion;
 import com.oliveryasuna.math.algebra.property.Inverse;
 import com.oliveryasuna.math.algebra.ring.FieldElement;
 
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+
 public interface FieldOperation2<E extends FieldElement<E, ?>> extends CommutativeRingOperation2<E>, Inverse<E> {
 
+  /**
+   * Computes \(base^{exponent}\), where a negative exponent means \(\left(base^{-1}\right)^{-exponent}\).
+   *
+   * @param base     The base.
+   * @param exponent The exponent.
+   *
+   * @return \(base^{exponent}\), or the identity if {@code exponent} is zero.
+   *
+   * @implNote By default, uses sliding-window exponentiation, and computes an inverse only for a negative exponent.
+   *     The additive identity has no inverse, so raising it to a negative exponent fails however {@link #inverse(Object)} does.
+   */
+  @Override
+  default E power(final E base, final BigInteger exponent) {
+    return Exponentiation.power(this, identity(), this, base, exponent);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @implNote By default, uses {@linkplain SimultaneousInversion Montgomery's trick}: one inversion and \(3(n-1)\) multiplications.
+   *     The additive identity has no inverse, so if any element is zero, this fails however {@link #inverse(Object)} does.
+   */
+  @Override
+  default void inverseAll(final E[] elements, final E[] results) {
+    SimultaneousInversion.inverseAll(this, this, elements, results);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @implNote By default, uses {@linkplain SimultaneousInversion Montgomery's trick} on chunks of the elements, one inversion per chunk.
+   *     The additive identity has no inverse, so if any element is zero, this fails however {@link #inverse(Object)} does.
+   */
+  @Override
+  default void inverseAll(final E[] elements, final E[] results, final ForkJoinPool pool) {
+    SimultaneousInversion.inverseAll(this, this, elements, results, pool);
+  }
+
 }
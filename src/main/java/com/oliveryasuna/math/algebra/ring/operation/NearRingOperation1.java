@@ -18,11 +18,14 @@
 
 package com.oliveryasuna.math.algebra.ring.operation;
 
+import com.oliveryasuna.math.algebra.operation.Exponentiation;
 import com.oliveryasuna.math.algebra.property.Divisible;
 import com.oliveryasuna.math.algebra.property.Divisiblity;
 import com.oliveryasuna.math.algebra.property.Inverse;
 import com.oliveryasuna.math.algebra.ring.NearRingElement;
 
+import java.math.BigInteger;
+
 public interface NearRingOperation1<E extends NearRingElement<E, ?>> extends SemiringOperation1<E>, Divisible, Inverse<E> {
 
   @Override
@@ -30,4 +33,19 @@ public interface NearRingOperation1<E extends NearRingElement<E, ?>> extends Sem
     return Divisiblity.DIVISIBLE;
   }
 
+  /**
+   * Computes the multiple \(exponent\cdot base\), where a negative multiplier means \(-exponent\cdot(-base)\).
+   *
+   * @param base     The base.
+   * @param exponent The multiplier.
+   *
+   * @return \(exponent\cdot base\), or the identity if {@code exponent} is zero.
+   *
+   * @implNote By default, uses the width-\(w\) non-adjacent form of the multiplier.
+   */
+  @Override
+  default E power(final E base, final BigInteger exponent) {
+    return Exponentiation.signedPower(this, identity(), this, base, exponent);
+  }
+
 }
@@ -19,12 +19,15 @@
 package com.oliveryasuna.math.algebra.ring.operation;
 
 import com.oliveryasuna.math.algebra.operation.BinaryOperation;
+import com.oliveryasuna.math.algebra.operation.Exponentiation;
 import com.oliveryasuna.math.algebra.property.Associative;
 import com.oliveryasuna.math.algebra.property.Associativity;
 import com.oliveryasuna.math.algebra.property.Commutative;
 import com.oliveryasuna.math.algebra.property.Identity;
 import com.oliveryasuna.math.algebra.ring.SemiringElement;
 
+import java.math.BigInteger;
+
 public interface SemiringOperation1<E extends SemiringElement<E, ?>> extends BinaryOperation<E, E, E>, Associative, Commutative, Identity<E> {
 
   @Override
@@ -32,4 +35,19 @@ public interface SemiringOperation1<E extends SemiringElement<E, ?>> extends Bin
     return Associativity.ASSOCIATIVE;
   }
 
+  /**
+   * Computes the multiple \(exponent\cdot base\), i.e. {@code base} added to itself {@code exponent} times.
+   *
+   * @param base     The base.
+   * @param exponent The non-negative multiplier.
+   *
+   * @return \(exponent\cdot base\), or the identity if {@code exponent} is zero.
+   *
+   * @throws IllegalArgumentException If {@code exponent} is negative.
+   * @implNote By default, uses sliding-window exponentiation (double-and-add).
+   */
+  default E power(final E base, final BigInteger exponent) {
+    return Exponentiation.power(this, identity(), base, exponent);
+  }
+
 }
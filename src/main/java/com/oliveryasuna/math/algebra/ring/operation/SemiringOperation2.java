@@ -19,12 +19,15 @@
 package com.oliveryasuna.math.algebra.ring.operation;
 
 import com.oliveryasuna.math.algebra.operation.BinaryOperation;
+import com.oliveryasuna.math.algebra.operation.Exponentiation;
 import com.oliveryasuna.math.algebra.property.Associative;
 import com.oliveryasuna.math.algebra.property.Associativity;
 import com.oliveryasuna.math.algebra.property.Distributive;
 import com.oliveryasuna.math.algebra.property.Identity;
 import com.oliveryasuna.math.algebra.ring.SemiringElement;
 
+import java.math.BigInteger;
+
 public interface SemiringOperation2<E extends SemiringElement<E, ?>> extends BinaryOperation<E, E, E>, Associative, Identity<E>, Distributive {
 
   @Override
@@ -32,4 +35,20 @@ public interface SemiringOperation2<E extends SemiringElement<E, ?>> extends Bin
     return Associativity.ASSOCIATIVE;
   }
 
+  /**
+   * Computes \(base^{exponent}\), i.e. {@code base} multiplied by itself {@code exponent} times.
+   *
+   * @param base     The base.
+   * @param exponent The non-negative exponent.
+   *
+   * @return \(base^{exponent}\), or the identity if {@code exponent} is zero.
+   *
+   * @throws IllegalArgumentException If {@code exponent} is negative.
+   * @implNote By default, uses sliding-window exponentiation.
+   *     Structures with a closed form, such as modular exponentiation, should override this.
+   */
+  default E power(final E base, final BigInteger exponent) {
+    return Exponentiation.power(this, identity(), base, exponent);
+  }
+
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import com.oliveryasuna.commons.language.marker.Immutable;
+
+import java.math.BigInteger;
+
+/**
+ * Modular arithmetic on canonical residues, reducing products by Barrett reduction, for any \(n\).
+ * <p>
+ * With \(b=2^{32}\), \(\mu=\lfloor b^{2k}/n\rfloor\) is computed once, when the arithmetic is created.
+ * A product \(x\lt n^2\) is then reduced by the estimate \(q=\lfloor\lfloor x/b^{k-1}\rfloor\mu/b^{k+1}\rfloor\), which is at most three less
+ * than \(\lfloor x/n\rfloor\), so \(x-qn\) needs at most three subtractions of \(n\).
+ * Only the limbs of \(\lfloor x/b^{k-1}\rfloor\mu\) that can reach \(q\) are computed, and only the low \(k+1\) limbs of \(qn\).
+ * <p>
+ * Products cost about \(2k^2\) limb multiplications, like Montgomery multiplication, but residues are canonical, so
+ * {@link #toResidue(BigInteger)} and {@link #toBigInteger(int[])} are only copies.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class BarrettModularArithmetic extends ModularArithmetic {
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param n The modulus.
+   */
+  public BarrettModularArithmetic(final BigInteger n) {
+    super(n);
+
+    this.mu = toLimbs(BigInteger.ONE.shiftLeft(2 * limbCount * Integer.SIZE).divide(n), limbCount + 2);
+    this.one = toLimbs(BigInteger.ONE.mod(n), limbCount);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  /**
+   * \(\lfloor b^{2k}/n\rfloor\), which is at most \(b^{k+1}\) because \(n\ge b^{k-1}\), so fits in \(k+2\) limbs.
+   */
+  private final int[] mu;
+
+  private final int[] one;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Reduces a product of \(2k\) limbs.
+   */
+  private int[] reduce(final int[] x) {
+    final int k = limbCount;
+
+    // q = floor(floor(x / b^(k-1)) * mu / b^(k+1)), from the partial products at limb k - 1 and above.
+    // The dropped partial products sum to less than b^(k+1), so they lower q by at most one.
+    final long[] q2 = new long[2 * k + 4];
+
+    for(int i = 0; i <= k; i++) {
+      final long xi = x[k - 1 + i] & LIMB_MASK;
+
+      if(xi == 0) continue;
+
+      long carry = 0;
+
+      for(int j = Math.max(0, k - 1 - i); j <= k + 1; j++) {
+        final long sum = q2[i + j] + xi * (mu[j] & LIMB_MASK) + carry;
+
+        q2[i + j] = sum & LIMB_MASK;
+        carry = (sum >>> Integer.SIZE);
+      }
+
+      for(int j = i + k + 2; carry != 0; j++) {
+        final long sum = q2[j] + carry;
+
+        q2[j] = sum & LIMB_MASK;
+        carry = (sum >>> Integer.SIZE);
+      }
+    }
+
+    // r = (x - q * n) mod b^(k+1), from the low k + 1 limbs of both.
+    final int[] r = new int[k + 1];
+
+    System.arraycopy(x, 0, r, 0, k + 1);
+
+    final int[] qn = new int[k + 1];
+
+    for(int i = 0; i <= k; i++) {
+      final long qi = q2[k + 1 + i];
+
+      if(qi == 0) continue;
+
+      long carry = 0;
+
+      for(int j = 0; j < k && i + j <= k; j++) {
+        final long sum = (qn[i + j] & LIMB_MASK) + qi * (nLimbs[j] & LIMB_MASK) + carry;
+
+        qn[i + j] = (int)sum;
+        carry = (sum >>> Integer.SIZE);
+      }
+
+      if(i == 0) qn[k] = (int)carry;
+    }
+
+    // The borrow out is the wrap modulo b^(k+1), which the true remainder, below 4n, never needs.
+    subtractInPlace(r, qn);
+
+    final int[] nExtended = new int[k + 1];
+
+    System.arraycopy(nLimbs, 0, nExtended, 0, k);
+
+    while(compare(r, nExtended) >= 0) {
+      subtractInPlace(r, nExtended);
+    }
+
+    final int[] result = new int[k];
+
+    System.arraycopy(r, 0, result, 0, k);
+
+    return result;
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // ModularArithmetic
+  //
+
+  @Override
+  public int[] toResidue(final BigInteger value) {
+    return toLimbs(value, limbCount);
+  }
+
+  @Override
+  public BigInteger toBigInteger(final int[] residue) {
+    return fromLimbs(residue);
+  }
+
+  @Override
+  public int[] multiply(final int[] multiplier, final int[] multiplicand) {
+    final int k = limbCount;
+    final int[] product = new int[2 * k];
+
+    for(int i = 0; i < k; i++) {
+      final long ai = multiplier[i] & LIMB_MASK;
+
+      if(ai == 0) continue;
+
+      long carry = 0;
+
+      for(int j = 0; j < k; j++) {
+        final long sum = (product[i + j] & LIMB_MASK) + ai * (multiplicand[j] & LIMB_MASK) + carry;
+
+        product[i + j] = (int)sum;
+        carry = (sum >>> Integer.SIZE);
+      }
+
+      product[i + k] = (int)carry;
+    }
+
+    return reduce(product);
+  }
+
+  @Override
+  public int[] one() {
+    return one.clone();
+  }
+
+}
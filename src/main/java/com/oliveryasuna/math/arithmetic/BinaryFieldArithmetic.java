@@ -0,0 +1,542 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.util.ArrayUtils;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Arithmetic in the binary extension field \(\mathbb{F}_{2^k}=\mathbb{F}_2[x]/(f)\), for an irreducible \(f\) of degree \(1\le k\le 16\), on
+ * primitive {@code int} elements.
+ * <p>
+ * An element is the polynomial whose coefficients are its bits, so it is in \([0,2^k)\), and addition is exclusive or.
+ * Multiplicative operations are lookups in log and antilog tables over a generator \(g\) of \(\mathbb{F}_{2^k}^\times\): \(ab=g^{\log a+\log b}\).
+ * The antilog table is doubled, so sums of logs need no reduction.
+ * For \(k=16\), the tables take \(384\) KiB.
+ * <p>
+ * The bulk methods on {@code byte[]} multiply every element of a region by a constant \(c\).
+ * The product is linear in the multiplicand, so it is split into 4-bit nibbles, and \(c\) times each nibble is looked up in a 16-entry table built
+ * per call.
+ * Without byte shuffles to look up many nibbles at once, a lookup per byte is faster, so for long regions the nibble tables are merged into
+ * 256-entry byte tables first.
+ * An element takes one byte for \(k\le 8\), and two bytes, least significant first, otherwise.
+ * Those methods treat each element as a polynomial and reduce it modulo \(f\), so bits above \(k\) are not an error.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class BinaryFieldArithmetic {
+
+  // Static fields
+  //--------------------------------------------------
+
+  public static final int MAXIMUM_DEGREE = 16;
+
+  /**
+   * Primitive polynomials of each degree, indexed by degree, in the forms common in coding theory; e.g., {@code 0x11D} for \(k=8\).
+   */
+  private static final int[] CONVENTIONAL_POLYNOMIALS = {
+      0, 0x3, 0x7, 0xB, 0x13, 0x25, 0x43, 0x89, 0x11D, 0x211, 0x409, 0x805, 0x1053, 0x201B, 0x4443, 0x8003, 0x1100B
+  };
+
+  private static final int NIBBLE_VALUES = 16;
+
+  private static final int BYTE_VALUES = 256;
+
+  /**
+   * The region length, in bytes, from which the nibble tables are merged into byte tables.
+   * Building those costs about as much as multiplying a few hundred bytes, and then halves the lookups.
+   */
+  private static final int BYTE_TABLE_THRESHOLD = 1024;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Gets the conventional polynomial of a degree.
+   *
+   * @param degree The degree, in \([1,16]\).
+   *
+   * @return A primitive polynomial of degree {@code degree}.
+   */
+  public static int conventionalPolynomial(final int degree) {
+    Arguments.requireTrue(degree >= 1 && degree <= MAXIMUM_DEGREE, "The degree must be in [1," + MAXIMUM_DEGREE + "].");
+
+    return CONVENTIONAL_POLYNOMIALS[degree];
+  }
+
+  /**
+   * Computes \(ab\bmod f\) by shifts, for any \(a\), \(b\) below \(2^{16}\).
+   */
+  private static int multiplyModulo(final int a, final int b, final int polynomial, final int degree) {
+    long product = 0;
+
+    for(int i = 0; i < Integer.SIZE; i++) {
+      if(((b >>> i) & 1) != 0) product ^= ((long)a << i);
+    }
+
+    for(int i = Long.SIZE - 1 - Long.numberOfLeadingZeros(product); i >= degree; i--) {
+      if(((product >>> i) & 1) != 0) product ^= ((long)polynomial << (i - degree));
+    }
+
+    return (int)product;
+  }
+
+  private static int powerModulo(final int base, long exponent, final int polynomial, final int degree) {
+    int result = 1;
+    int square = base;
+
+    for(; exponent > 0; exponent >>>= 1) {
+      if((exponent & 1) != 0) result = multiplyModulo(result, square, polynomial, degree);
+
+      square = multiplyModulo(square, square, polynomial, degree);
+    }
+
+    return result;
+  }
+
+  private static int polynomialDegree(final int polynomial) {
+    return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(polynomial);
+  }
+
+  private static int polynomialGcd(int a, int b) {
+    while(b != 0) {
+      final int bDegree = polynomialDegree(b);
+
+      while(a != 0 && polynomialDegree(a) >= bDegree) {
+        a ^= (b << (polynomialDegree(a) - bDegree));
+      }
+
+      final int t = a;
+
+      a = b;
+      b = t;
+    }
+
+    return a;
+  }
+
+  /**
+   * Decides irreducibility by Ben-Or's test: \(f\) is irreducible if and only if \(\gcd\left(f,x^{2^i}-x\right)=1\) for every \(i\le k/2\).
+   */
+  private static boolean isIrreducible(final int polynomial, final int degree) {
+    int power = 2;
+
+    for(int i = 1; i <= degree / 2; i++) {
+      power = multiplyModulo(power, power, polynomial, degree);
+
+      if(polynomialGcd(polynomial, power ^ 2) != 1) return false;
+    }
+
+    return true;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates the arithmetic of the conventional polynomial of a degree.
+   *
+   * @param degree The degree, in \([1,16]\).
+   *
+   * @see #conventionalPolynomial(int)
+   */
+  public BinaryFieldArithmetic(final int degree) {
+    this(degree, conventionalPolynomial(degree));
+  }
+
+  /**
+   * @param degree     The degree, in \([1,16]\).
+   * @param polynomial The irreducible polynomial, with bit \(i\) the coefficient of \(x^i\); so bit {@code degree} is its highest.
+   */
+  public BinaryFieldArithmetic(final int degree, final int polynomial) {
+    super();
+
+    Arguments.requireTrue(degree >= 1 && degree <= MAXIMUM_DEGREE, "The degree must be in [1," + MAXIMUM_DEGREE + "].");
+    Arguments.requireTrue(polynomial > 0 && polynomialDegree(polynomial) == degree, "The polynomial must have degree " + degree + ".");
+    Arguments.requireTrue(isIrreducible(polynomial, degree), "The polynomial must be irreducible: " + Integer.toHexString(polynomial) + ".");
+
+    this.degree = degree;
+    this.polynomial = polynomial;
+    this.size = (1 << degree);
+    this.unitCount = size - 1;
+    this.generator = findGenerator();
+
+    this.log = new char[size];
+    this.exp = new char[2 * unitCount];
+
+    int power = 1;
+
+    for(int i = 0; i < unitCount; i++) {
+      exp[i] = (char)power;
+      exp[i + unitCount] = (char)power;
+      log[power] = (char)i;
+
+      power = multiplyModulo(power, generator, polynomial, degree);
+    }
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final int degree;
+
+  private final int polynomial;
+
+  /**
+   * \(2^k\).
+   */
+  private final int size;
+
+  /**
+   * \(2^k-1\), the order of \(g\).
+   */
+  private final int unitCount;
+
+  private final int generator;
+
+  /**
+   * \(\log_g a\) at index \(a\ne 0\).
+   */
+  private final char[] log;
+
+  /**
+   * \(g^i\) at index \(i\in[0,2(2^k-1))\).
+   */
+  private final char[] exp;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Finds the least \(g\) of order \(2^k-1\): the one with \(g^{(2^k-1)/q}\ne 1\) for every prime \(q\mid 2^k-1\).
+   */
+  private int findGenerator() {
+    final long[] primes = IntegerFactorization.factor(BigInteger.valueOf(unitCount)).keySet().stream()
+        .mapToLong(BigInteger::longValueExact)
+        .toArray();
+
+    for(int candidate = 1; candidate < size; candidate++) {
+      boolean generates = true;
+
+      for(int i = 0; i < primes.length && generates; i++) {
+        generates = (powerModulo(candidate, unitCount / primes[i], polynomial, degree) != 1);
+      }
+
+      if(generates) return candidate;
+    }
+
+    // Unreachable, as the multiplicative group of a finite field is cyclic.
+    throw new IllegalStateException("No generator.");
+  }
+
+  /**
+   * Decides whether a value is an element.
+   *
+   * @param value The value.
+   *
+   * @return {@code true}, if {@code value} is in \([0,2^k)\); {@code false}, otherwise.
+   */
+  public boolean isElement(final int value) {
+    return ((value >>> degree) == 0);
+  }
+
+  public int add(final int augend, final int addend) {
+    return (augend ^ addend);
+  }
+
+  public int multiply(final int multiplier, final int multiplicand) {
+    if(multiplier == 0 || multiplicand == 0) return 0;
+
+    return exp[log[multiplier] + log[multiplicand]];
+  }
+
+  /**
+   * Computes an inverse.
+   *
+   * @param value A non-zero element.
+   *
+   * @return \(value^{-1}\).
+   *
+   * @throws ArithmeticException If {@code value} is zero.
+   */
+  public int inverse(final int value) {
+    if(value == 0) throw new ArithmeticException("Zero is not invertible.");
+
+    return exp[unitCount - log[value]];
+  }
+
+  /**
+   * Computes a quotient.
+   *
+   * @param dividend The dividend.
+   * @param divisor  The non-zero divisor.
+   *
+   * @return \(dividend/divisor\).
+   *
+   * @throws ArithmeticException If {@code divisor} is zero.
+   */
+  public int divide(final int dividend, final int divisor) {
+    if(divisor == 0) throw new ArithmeticException("Division by zero.");
+    if(dividend == 0) return 0;
+
+    return exp[log[dividend] + unitCount - log[divisor]];
+  }
+
+  /**
+   * Computes a power.
+   *
+   * @param base     The base.
+   * @param exponent The exponent; negative means a power of the inverse.
+   *
+   * @return \(base^{exponent}\), where \(0^0=1\).
+   *
+   * @throws ArithmeticException If {@code base} is zero and {@code exponent} is negative.
+   */
+  public int pow(final int base, final BigInteger exponent) {
+    if(base == 0) {
+      if(exponent.signum() < 0) throw new ArithmeticException("Zero is not invertible.");
+
+      return (exponent.signum() == 0 ? 1 : 0);
+    }
+
+    // The order of every unit divides 2^k - 1, and BigInteger#mod is never negative.
+    final long reduced = exponent.mod(BigInteger.valueOf(unitCount)).longValue();
+
+    return exp[(int)(reduced * log[base] % unitCount)];
+  }
+
+  /**
+   * Computes a discrete logarithm.
+   *
+   * @param value A non-zero element.
+   *
+   * @return The \(i\in[0,2^k-1)\) with \(g^i=value\).
+   *
+   * @throws ArithmeticException If {@code value} is zero.
+   */
+  public int log(final int value) {
+    if(value == 0) throw new ArithmeticException("Zero has no logarithm.");
+
+    return log[value];
+  }
+
+  /**
+   * Computes a power of the generator.
+   *
+   * @param exponent The exponent.
+   *
+   * @return \(g^{exponent}\).
+   */
+  public int exp(final int exponent) {
+    final int reduced = exponent % unitCount;
+
+    return exp[reduced < 0 ? reduced + unitCount : reduced];
+  }
+
+  // Bulk
+  //
+
+  /**
+   * Computes {@code products[i] = multipliers[i] * multiplicand}.
+   * The arrays may be the same.
+   */
+  public void multiplyAll(final int[] multipliers, final int multiplicand, final int[] products) {
+    ArrayUtils.requireSameLength(multipliers.length, products.length);
+
+    if(multiplicand == 0) {
+      Arrays.fill(products, 0);
+
+      return;
+    }
+
+    final int multiplicandLog = log[multiplicand];
+
+    for(int i = 0; i < products.length; i++) {
+      final int multiplier = multipliers[i];
+
+      products[i] = (multiplier == 0 ? 0 : exp[log[multiplier] + multiplicandLog]);
+    }
+  }
+
+  /**
+   * Multiplies a region by a constant: {@code destination = constant * source}, element by element.
+   * The arrays may be the same.
+   *
+   * @param constant    The constant, an element.
+   * @param source      The source region, of {@link #getBytesPerElement()} bytes per element.
+   * @param destination The destination region, as long as {@code source}.
+   */
+  public void multiplyAll(final int constant, final byte[] source, final byte[] destination) {
+    multiplyAll(constant, source, destination, false);
+  }
+
+  /**
+   * Multiplies a region by a constant and adds it to another: {@code destination += constant * source}, element by element.
+   * This is the inner step of encoding and decoding erasure codes.
+   *
+   * @param constant    The constant, an element.
+   * @param source      The source region, of {@link #getBytesPerElement()} bytes per element.
+   * @param destination The destination region, as long as {@code source}.
+   */
+  public void multiplyAddAll(final int constant, final byte[] source, final byte[] destination) {
+    multiplyAll(constant, source, destination, true);
+  }
+
+  private void multiplyAll(final int constant, final byte[] source, final byte[] destination, final boolean accumulate) {
+    Arguments.requireTrue(isElement(constant), "The constant must be an element.");
+    ArrayUtils.requireSameLength(source.length, destination.length);
+
+    final int bytesPerElement = getBytesPerElement();
+
+    Arguments.requireTrue(source.length % bytesPerElement == 0, "The regions must hold whole elements.");
+
+    final int[] nibbleTables = nibbleTables(constant, 2 * bytesPerElement);
+    final int length = source.length;
+
+    if(length < BYTE_TABLE_THRESHOLD) {
+      multiplyAllByNibbles(nibbleTables, source, destination, accumulate);
+    } else {
+      multiplyAllByBytes(byteTables(nibbleTables), source, destination, accumulate);
+    }
+  }
+
+  private void multiplyAllByNibbles(final int[] tables, final byte[] source, final byte[] destination, final boolean accumulate) {
+    final int length = source.length;
+
+    if(getBytesPerElement() == 1) {
+      for(int i = 0; i < length; i++) {
+        final int s = source[i];
+        final int product = tables[s & 0xF] ^ tables[NIBBLE_VALUES + ((s >>> 4) & 0xF)];
+
+        destination[i] = (byte)(accumulate ? destination[i] ^ product : product);
+      }
+    } else {
+      for(int i = 0; i < length; i += 2) {
+        final int low = source[i];
+        final int high = source[i + 1];
+        final int product = tables[low & 0xF] ^ tables[NIBBLE_VALUES + ((low >>> 4) & 0xF)]
+            ^ tables[2 * NIBBLE_VALUES + (high & 0xF)] ^ tables[3 * NIBBLE_VALUES + ((high >>> 4) & 0xF)];
+
+        destination[i] = (byte)(accumulate ? destination[i] ^ product : product);
+        destination[i + 1] = (byte)(accumulate ? destination[i + 1] ^ (product >>> 8) : (product >>> 8));
+      }
+    }
+  }
+
+  private void multiplyAllByBytes(final int[] tables, final byte[] source, final byte[] destination, final boolean accumulate) {
+    final int length = source.length;
+
+    if(getBytesPerElement() == 1) {
+      for(int i = 0; i < length; i++) {
+        final int product = tables[source[i] & 0xFF];
+
+        destination[i] = (byte)(accumulate ? destination[i] ^ product : product);
+      }
+    } else {
+      for(int i = 0; i < length; i += 2) {
+        final int product = tables[source[i] & 0xFF] ^ tables[BYTE_VALUES + (source[i + 1] & 0xFF)];
+
+        destination[i] = (byte)(accumulate ? destination[i] ^ product : product);
+        destination[i + 1] = (byte)(accumulate ? destination[i + 1] ^ (product >>> 8) : (product >>> 8));
+      }
+    }
+  }
+
+  /**
+   * Builds \(c\cdot(v\cdot 2^{4j})\bmod f\) at index \(16j+v\), for each nibble position \(j\) and nibble \(v\).
+   */
+  private int[] nibbleTables(final int constant, final int nibbleCount) {
+    final int[] tables = new int[nibbleCount * NIBBLE_VALUES];
+
+    for(int j = 0; j < nibbleCount; j++) {
+      // Each table is linear in v, so only the four single bits need a product.
+      final int offset = j * NIBBLE_VALUES;
+
+      for(int bit = 0; bit < 4; bit++) {
+        final int product = multiplyModulo(constant, 1 << (4 * j + bit), polynomial, degree);
+
+        for(int v = 0; v < (1 << bit); v++) {
+          tables[offset + ((1 << bit) | v)] = product ^ tables[offset + v];
+        }
+      }
+    }
+
+    return tables;
+  }
+
+  /**
+   * Merges pairs of nibble tables into tables of \(c\cdot(v\cdot 2^{8j})\bmod f\) at index \(256j+v\), for each byte position \(j\) and byte \(v\).
+   */
+  private static int[] byteTables(final int[] nibbleTables) {
+    final int byteCount = nibbleTables.length / (2 * NIBBLE_VALUES);
+    final int[] tables = new int[byteCount * BYTE_VALUES];
+
+    for(int j = 0; j < byteCount; j++) {
+      final int low = 2 * j * NIBBLE_VALUES;
+      final int high = low + NIBBLE_VALUES;
+
+      for(int v = 0; v < BYTE_VALUES; v++) {
+        tables[j * BYTE_VALUES + v] = nibbleTables[low + (v & 0xF)] ^ nibbleTables[high + (v >>> 4)];
+      }
+    }
+
+    return tables;
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  /**
+   * @return \(k\).
+   */
+  public int getDegree() {
+    return degree;
+  }
+
+  public int getPolynomial() {
+    return polynomial;
+  }
+
+  /**
+   * @return \(2^k\), the number of elements.
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * @return \(g\), the generator of the multiplicative group used by the tables.
+   */
+  public int getGenerator() {
+    return generator;
+  }
+
+  /**
+   * @return The bytes an element takes in the bulk methods on {@code byte[]}.
+   */
+  public int getBytesPerElement() {
+    return (degree <= Byte.SIZE ? 1 : 2);
+  }
+
+}
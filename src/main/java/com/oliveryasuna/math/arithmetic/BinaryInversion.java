@@ -0,0 +1,280 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.exception.UnsupportedInstantiationException;
+import com.oliveryasuna.commons.language.marker.Utility;
+
+import java.math.BigInteger;
+
+/**
+ * Modular inversion by a binary extended GCD whose work depends only on the size of the modulus.
+ * <p>
+ * For an odd modulus \(p\) of \(b\) bits and \(u=a\), \(v=p\), each step halves \(u\) if it is even; otherwise, it orders \(u\ge v\) and
+ * replaces \(u\) by \((u-v)/2\).
+ * Coefficients \(x_1\), \(x_2\) with \(x_1a\equiv u\) and \(x_2a\equiv v\pmod{p}\) follow along, halved modulo \(p\).
+ * \(uv\) at least halves each step, so after \(2b\) steps \(u=0\), \(v=\gcd(a,p)\), and \(x_2=a^{-1}\) if that is \(1\).
+ * <p>
+ * Every step runs all of its operations, selecting results by masks rather than branches, so the sequence of operations is the same for every
+ * value.
+ * The JVM does not promise constant time, but nothing in the algorithm depends on the value.
+ *
+ * @author Oliver Yasuna
+ */
+@Utility
+public final class BinaryInversion {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final long LIMB_MASK = 0xFFFFFFFFL;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Computes a modular inverse.
+   *
+   * @param value   The value, in \([0,modulus)\).
+   * @param modulus The odd modulus, below \(2^{63}\).
+   *
+   * @return \(value^{-1}\bmod modulus\).
+   *
+   * @throws ArithmeticException If {@code value} is not invertible modulo {@code modulus}.
+   */
+  public static long inverse(final long value, final long modulus) {
+    Arguments.requireTrue(modulus > 0 && (modulus & 1) == 1, "The modulus must be odd and positive.");
+    Arguments.requireTrue(value >= 0 && value < modulus, "The value must be in [0,modulus).");
+
+    final int steps = 2 * (Long.SIZE - Long.numberOfLeadingZeros(modulus));
+
+    long u = value;
+    long v = modulus;
+    long x1 = 1;
+    long x2 = 0;
+
+    for(int i = 0; i < steps; i++) {
+      final long odd = -(u & 1);
+      // u and v are below 2^63, so the sign of u - v tells whether u < v.
+      final long swap = odd & ((u - v) >> 63);
+
+      long t = (u ^ v) & swap;
+
+      u ^= t;
+      v ^= t;
+
+      t = (x1 ^ x2) & swap;
+      x1 ^= t;
+      x2 ^= t;
+
+      u = (u - (v & odd)) >>> 1;
+
+      x1 -= (x2 & odd);
+      x1 += ((x1 >> 63) & modulus);
+      // x1 + modulus is below 2^64, so the unsigned shift halves it exactly.
+      x1 = (x1 + (modulus & -(x1 & 1))) >>> 1;
+    }
+
+    if(v != 1) throw new ArithmeticException("Not invertible modulo " + modulus + ": " + value + ".");
+
+    return x2;
+  }
+
+  /**
+   * Computes a modular inverse of limbs.
+   *
+   * @param value   The value, in \([0,modulus)\), in as many limbs as {@code modulus}, least significant first.
+   * @param modulus The odd modulus, least significant limb first.
+   *
+   * @return \(value^{-1}\bmod modulus\), in as many limbs as {@code modulus}.
+   *
+   * @throws ArithmeticException If {@code value} is not invertible modulo {@code modulus}.
+   */
+  public static int[] inverse(final int[] value, final int[] modulus) {
+    Arguments.requireNotNull(value);
+    Arguments.requireNotNull(modulus);
+    Arguments.requireTrue(modulus.length > 0 && value.length == modulus.length, "The value and the modulus must have the same number of limbs.");
+    Arguments.requireTrue((modulus[0] & 1) == 1, "The modulus must be odd.");
+
+    final int k = modulus.length;
+    final int steps = 2 * bitLength(modulus);
+
+    final int[] u = value.clone();
+    final int[] v = modulus.clone();
+    final int[] x1 = new int[k];
+    final int[] x2 = new int[k];
+
+    x1[0] = 1;
+
+    for(int i = 0; i < steps; i++) {
+      final int odd = -(u[0] & 1);
+      final int swap = odd & -(int)borrow(u, v);
+
+      step(u, v, x1, x2, odd, swap);
+      halve(x1, modulus, -(int)subtractBorrow(x1, x2, odd));
+    }
+
+    if(!isOne(v)) throw new ArithmeticException("Not invertible modulo the modulus.");
+
+    return x2;
+  }
+
+  /**
+   * Computes a modular inverse of {@link BigInteger}s through limbs.
+   *
+   * @param value   The value, in \([0,modulus)\).
+   * @param modulus The odd modulus.
+   *
+   * @return \(value^{-1}\bmod modulus\).
+   *
+   * @throws ArithmeticException If {@code value} is not invertible modulo {@code modulus}.
+   */
+  public static BigInteger inverse(final BigInteger value, final BigInteger modulus) {
+    Arguments.requireNotNull(value);
+    Arguments.requireNotNull(modulus);
+    Arguments.requireTrue(modulus.signum() > 0 && modulus.testBit(0), "The modulus must be odd and positive.");
+    Arguments.requireTrue(value.signum() >= 0 && value.compareTo(modulus) < 0, "The value must be in [0,modulus).");
+
+    final int limbCount = (modulus.bitLength() + Integer.SIZE - 1) / Integer.SIZE;
+
+    return ModularArithmetic.fromLimbs(inverse(ModularArithmetic.toLimbs(value, limbCount), ModularArithmetic.toLimbs(modulus, limbCount)));
+  }
+
+  private static int bitLength(final int[] limbs) {
+    for(int i = limbs.length - 1; i >= 0; i--) {
+      if(limbs[i] != 0) return i * Integer.SIZE + Integer.SIZE - Integer.numberOfLeadingZeros(limbs[i]);
+    }
+
+    return 0;
+  }
+
+  /**
+   * Computes the borrow out of {@code a - b}, without storing the difference.
+   */
+  private static long borrow(final int[] a, final int[] b) {
+    long borrow = 0;
+
+    for(int i = 0; i < a.length; i++) {
+      borrow = (((a[i] & LIMB_MASK) - (b[i] & LIMB_MASK) - borrow) >>> 63);
+    }
+
+    return borrow;
+  }
+
+  /**
+   * Swaps \(u\) with \(v\) and \(x_1\) with \(x_2\) under {@code swap}, then computes \(u\leftarrow(u-(v\wedge odd))/2\), in one pass.
+   */
+  private static void step(final int[] u, final int[] v, final int[] x1, final int[] x2, final int odd, final int swap) {
+    long borrow = 0;
+    int previous = 0;
+
+    for(int i = 0; i < u.length; i++) {
+      int t = (u[i] ^ v[i]) & swap;
+
+      final int ui = u[i] ^ t;
+
+      v[i] ^= t;
+
+      t = (x1[i] ^ x2[i]) & swap;
+      x1[i] ^= t;
+      x2[i] ^= t;
+
+      final long difference = (ui & LIMB_MASK) - (v[i] & odd & LIMB_MASK) - borrow;
+
+      borrow = (difference >>> 63);
+
+      // The shift lags one limb, since each limb takes the low bit of the next.
+      if(i > 0) u[i - 1] = (previous >>> 1) | ((int)difference << 31);
+
+      previous = (int)difference;
+    }
+
+    u[u.length - 1] = (previous >>> 1);
+  }
+
+  /**
+   * Computes {@code a -= b & mask}.
+   *
+   * @return The borrow, \(0\) or \(1\).
+   */
+  private static long subtractBorrow(final int[] a, final int[] b, final int mask) {
+    long borrow = 0;
+
+    for(int i = 0; i < a.length; i++) {
+      final long difference = (a[i] & LIMB_MASK) - (b[i] & mask & LIMB_MASK) - borrow;
+
+      a[i] = (int)difference;
+      borrow = (difference >>> 63);
+    }
+
+    return borrow;
+  }
+
+  /**
+   * Adds the modulus under {@code mask}, which brings a negative difference back into \([0,modulus)\), then halves modulo the modulus, in one
+   * pass.
+   */
+  private static void halve(final int[] a, final int[] modulus, final int mask) {
+    long carry = 0;
+    long halfCarry = 0;
+    int halfMask = 0;
+    int previous = 0;
+
+    for(int i = 0; i < a.length; i++) {
+      final long sum = (a[i] & LIMB_MASK) + (modulus[i] & mask & LIMB_MASK) + carry;
+
+      carry = (sum >>> Integer.SIZE);
+
+      // Whether to add the modulus before halving depends only on the low bit, known after the first limb.
+      if(i == 0) halfMask = -((int)sum & 1);
+
+      final long half = (sum & LIMB_MASK) + (modulus[i] & halfMask & LIMB_MASK) + halfCarry;
+
+      halfCarry = (half >>> Integer.SIZE);
+
+      if(i > 0) a[i - 1] = (previous >>> 1) | ((int)half << 31);
+
+      previous = (int)half;
+    }
+
+    // The first sum is below the modulus, so its carry is spent; the second may carry out, into the top bit.
+    a[a.length - 1] = (previous >>> 1) | ((int)halfCarry << 31);
+  }
+
+  private static boolean isOne(final int[] a) {
+    int difference = a[0] ^ 1;
+
+    for(int i = 1; i < a.length; i++) {
+      difference |= a[i];
+    }
+
+    return (difference == 0);
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private BinaryInversion() {
+    super();
+
+    throw new UnsupportedInstantiationException();
+  }
+
+}
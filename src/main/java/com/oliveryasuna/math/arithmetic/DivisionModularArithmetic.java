@@ -0,0 +1,78 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import com.oliveryasuna.commons.language.marker.Immutable;
+
+import java.math.BigInteger;
+
+/**
+ * Modular arithmetic on canonical residues, reducing products with {@link BigInteger#mod(BigInteger)}.
+ * <p>
+ * This is the fallback for even moduli, for which Montgomery form does not exist.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class DivisionModularArithmetic extends ModularArithmetic {
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param n The modulus.
+   */
+  public DivisionModularArithmetic(final BigInteger n) {
+    super(n);
+
+    this.one = toLimbs(BigInteger.ONE.mod(n), limbCount);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final int[] one;
+
+  // Overrides
+  //--------------------------------------------------
+
+  // ModularArithmetic
+  //
+
+  @Override
+  public int[] toResidue(final BigInteger value) {
+    return toLimbs(value, limbCount);
+  }
+
+  @Override
+  public BigInteger toBigInteger(final int[] residue) {
+    return fromLimbs(residue);
+  }
+
+  @Override
+  public int[] multiply(final int[] multiplier, final int[] multiplicand) {
+    return toLimbs(fromLimbs(multiplier).multiply(fromLimbs(multiplicand)).mod(n), limbCount);
+  }
+
+  @Override
+  public int[] one() {
+    return one.clone();
+  }
+
+}
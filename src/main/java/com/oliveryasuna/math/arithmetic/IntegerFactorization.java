@@ -0,0 +1,159 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.exception.UnsupportedInstantiationException;
+import com.oliveryasuna.commons.language.marker.Utility;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Factorization of positive integers into primes.
+ * <p>
+ * Factors below \(2^{16}\) are found by trial division.
+ * The remaining cofactor is split by Brent's variant of Pollard's rho, which finds a factor \(p\) in about \(\sqrt{p}\) steps, so the cost is
+ * governed by the second-largest prime factor.
+ * Primality is decided by {@link BigInteger#isProbablePrime(int)}, with an error probability below \(2^{-100}\).
+ *
+ * @author Oliver Yasuna
+ */
+@Utility
+public final class IntegerFactorization {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int TRIAL_DIVISION_BOUND = 1 << 16;
+
+  private static final int PRIME_CERTAINTY = 100;
+
+  /**
+   * The number of steps of Brent's rho between gcds.
+   */
+  private static final int BATCH_SIZE = 128;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Factors a positive integer.
+   *
+   * @param n The integer.
+   *
+   * @return The prime factors of {@code n}, in increasing order, mapped to their multiplicities; empty if {@code n} is \(1\).
+   */
+  public static SortedMap<BigInteger, Integer> factor(final BigInteger n) {
+    Arguments.requireNotNull(n);
+    Arguments.requireTrue(n.signum() > 0, "The integer must be positive.");
+
+    final SortedMap<BigInteger, Integer> factors = new TreeMap<>();
+
+    BigInteger remaining = n;
+
+    for(int divisor = 2; divisor < TRIAL_DIVISION_BOUND; divisor += (divisor == 2 ? 1 : 2)) {
+      final BigInteger bigDivisor = BigInteger.valueOf(divisor);
+
+      if(bigDivisor.multiply(bigDivisor).compareTo(remaining) > 0) break;
+
+      while(true) {
+        final BigInteger[] quotient = remaining.divideAndRemainder(bigDivisor);
+
+        if(quotient[1].signum() != 0) break;
+
+        factors.merge(bigDivisor, 1, Integer::sum);
+        remaining = quotient[0];
+      }
+    }
+
+    if(!remaining.equals(BigInteger.ONE)) split(remaining, factors);
+
+    return Collections.unmodifiableSortedMap(factors);
+  }
+
+  private static void split(final BigInteger n, final SortedMap<BigInteger, Integer> factors) {
+    if(n.isProbablePrime(PRIME_CERTAINTY)) {
+      factors.merge(n, 1, Integer::sum);
+
+      return;
+    }
+
+    final BigInteger divisor = brent(n);
+
+    split(divisor, factors);
+    split(n.divide(divisor), factors);
+  }
+
+  /**
+   * Finds a non-trivial divisor of an odd composite with no factors below the trial division bound.
+   */
+  private static BigInteger brent(final BigInteger n) {
+    for(long c = 1; ; c++) {
+      final BigInteger increment = BigInteger.valueOf(c);
+
+      BigInteger y = BigInteger.TWO;
+      BigInteger x = y;
+      BigInteger saved = y;
+      BigInteger product = BigInteger.ONE;
+      BigInteger divisor = BigInteger.ONE;
+
+      for(long power = 1; divisor.equals(BigInteger.ONE); power <<= 1) {
+        x = y;
+
+        for(long i = 0; i < power; i++) {
+          y = y.multiply(y).add(increment).mod(n);
+        }
+
+        for(long k = 0; k < power && divisor.equals(BigInteger.ONE); k += BATCH_SIZE) {
+          saved = y;
+
+          for(long i = 0; i < Math.min(BATCH_SIZE, power - k); i++) {
+            y = y.multiply(y).add(increment).mod(n);
+            product = product.multiply(x.subtract(y).abs()).mod(n);
+          }
+
+          divisor = product.gcd(n);
+        }
+      }
+
+      if(divisor.equals(n)) {
+        // The batch overshot; retrace it one step at a time.
+        do {
+          saved = saved.multiply(saved).add(increment).mod(n);
+          divisor = x.subtract(saved).abs().gcd(n);
+        } while(divisor.equals(BigInteger.ONE));
+      }
+
+      if(!divisor.equals(n)) return divisor;
+    }
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private IntegerFactorization() {
+    super();
+
+    throw new UnsupportedInstantiationException();
+  }
+
+}
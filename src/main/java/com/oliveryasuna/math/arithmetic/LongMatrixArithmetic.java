@@ -0,0 +1,251 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+
+/**
+ * Arithmetic on square matrices over the integers modulo \(n\), for \(0\lt n\lt 2^{63}\), stored row-major in a {@code long[]} of canonical
+ * residues.
+ * <p>
+ * The tile kernel accumulates each entry of a row of the tile over a block of terms, with the inner loop running along rows of the
+ * multiplicand.
+ * How it reduces depends on \(n\):
+ * <ul>
+ *   <li>If products of residues fit in a {@code long}, they are summed unreduced, and each entry is reduced once per
+ *   \(\lfloor(2^{63}-n)/(n-1)^2\rfloor\) terms; for \(n\lt 2^{30}\), that is at least \(8\).</li>
+ *   <li>With Montgomery reduction, each entry of the multiplier is converted to Montgomery form once per tile, so each term costs a single
+ *   reduction.</li>
+ *   <li>Otherwise, each term is multiplied by {@link LongModularArithmetic#multiply(long, long)}.</li>
+ * </ul>
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class LongMatrixArithmetic extends MatrixArithmetic<long[]> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * \(\lfloor\sqrt{2^{63}-1}\rfloor\), the largest residue whose square fits in a {@code long}.
+   */
+  private static final long LAZY_REDUCTION_BOUND = 3037000499L;
+
+  // Constructors
+  //--------------------------------------------------
+
+  public LongMatrixArithmetic(final LongModularArithmetic arithmetic) {
+    this(arithmetic, DEFAULT_STRASSEN_THRESHOLD);
+  }
+
+  /**
+   * @param arithmetic        The arithmetic of the entries.
+   * @param strassenThreshold The size from which the Strassen-Winograd algorithm is used, at least \(2\).
+   */
+  public LongMatrixArithmetic(final LongModularArithmetic arithmetic, final int strassenThreshold) {
+    super(strassenThreshold);
+
+    Arguments.requireNotNull(arithmetic);
+
+    this.arithmetic = arithmetic;
+
+    final long n = arithmetic.getN();
+    final long largest = n - 1;
+
+    if(largest == 0) {
+      this.lazyTerms = Integer.MAX_VALUE;
+    } else if(largest <= LAZY_REDUCTION_BOUND) {
+      // A sum below n plus k products of at most (n - 1)^2 stays below 2^63.
+      this.lazyTerms = (int)Math.min(Integer.MAX_VALUE, (Long.MAX_VALUE - largest) / (largest * largest));
+    } else {
+      this.lazyTerms = 0;
+    }
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  protected final LongModularArithmetic arithmetic;
+
+  /**
+   * The number of products summed before an entry is reduced, or \(0\) if products do not fit in a {@code long}.
+   */
+  private final int lazyTerms;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Gets the identity matrix.
+   *
+   * @param size The size.
+   *
+   * @return The identity matrix.
+   */
+  public long[] identity(final int size) {
+    final long[] identity = new long[size * size];
+    final long one = arithmetic.getOne();
+
+    for(int i = 0; i < size; i++) {
+      identity[i * size + i] = one;
+    }
+
+    return identity;
+  }
+
+  /**
+   * Multiplies every entry by a scalar.
+   *
+   * @param value  The matrix.
+   * @param scalar The scalar, a canonical residue.
+   *
+   * @return The scaled matrix.
+   */
+  public long[] scale(final long[] value, final long scalar) {
+    final long[] scaled = new long[value.length];
+
+    arithmetic.multiplyAll(value, scalar, scaled);
+
+    return scaled;
+  }
+
+  private void multiplyTileLazily(final long[] multiplier, final long[] multiplicand, final long[] product, final int size,
+      final int rowFrom, final int rowTo, final int columnFrom, final int columnTo) {
+    final long n = arithmetic.getN();
+    final int block = Math.min(TILE_SIZE, lazyTerms);
+
+    for(int termFrom = 0; termFrom < size; termFrom += block) {
+      final int termTo = Math.min(termFrom + block, size);
+
+      for(int i = rowFrom; i < rowTo; i++) {
+        final int row = i * size;
+
+        for(int k = termFrom; k < termTo; k++) {
+          final long a = multiplier[row + k];
+
+          if(a == 0) continue;
+
+          final int offset = k * size;
+
+          for(int j = columnFrom; j < columnTo; j++) {
+            product[row + j] += a * multiplicand[offset + j];
+          }
+        }
+
+        // The block holds at most lazyTerms terms, and each entry was reduced after the previous one.
+        for(int j = columnFrom; j < columnTo; j++) {
+          product[row + j] %= n;
+        }
+      }
+    }
+  }
+
+  private void multiplyTileMontgomery(final long[] multiplier, final long[] multiplicand, final long[] product, final int size,
+      final int rowFrom, final int rowTo, final int columnFrom, final int columnTo) {
+    final long n = arithmetic.getN();
+
+    for(int termFrom = 0; termFrom < size; termFrom += TILE_SIZE) {
+      final int termTo = Math.min(termFrom + TILE_SIZE, size);
+
+      for(int i = rowFrom; i < rowTo; i++) {
+        final int row = i * size;
+
+        for(int k = termFrom; k < termTo; k++) {
+          if(multiplier[row + k] == 0) continue;
+
+          // (aR)(b)R^-1 = ab.
+          final long a = arithmetic.toMontgomery(multiplier[row + k]);
+          final int offset = k * size;
+
+          for(int j = columnFrom; j < columnTo; j++) {
+            final long difference = product[row + j] - (n - arithmetic.montgomeryMultiply(a, multiplicand[offset + j]));
+
+            product[row + j] = difference + ((difference >> 63) & n);
+          }
+        }
+      }
+    }
+  }
+
+  private void multiplyTileDirectly(final long[] multiplier, final long[] multiplicand, final long[] product, final int size,
+      final int rowFrom, final int rowTo, final int columnFrom, final int columnTo) {
+    for(int termFrom = 0; termFrom < size; termFrom += TILE_SIZE) {
+      final int termTo = Math.min(termFrom + TILE_SIZE, size);
+
+      for(int i = rowFrom; i < rowTo; i++) {
+        final int row = i * size;
+
+        for(int k = termFrom; k < termTo; k++) {
+          final long a = multiplier[row + k];
+
+          if(a == 0) continue;
+
+          final int offset = k * size;
+
+          for(int j = columnFrom; j < columnTo; j++) {
+            product[row + j] = arithmetic.add(product[row + j], arithmetic.multiply(a, multiplicand[offset + j]));
+          }
+        }
+      }
+    }
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // MatrixArithmetic
+  //
+
+  @Override
+  protected long[] zeros(final int length) {
+    return new long[length];
+  }
+
+  @Override
+  protected void addAll(final long[] augends, final long[] addends, final long[] sums) {
+    arithmetic.addAll(augends, addends, sums);
+  }
+
+  @Override
+  protected void subtractAll(final long[] minuends, final long[] subtrahends, final long[] differences) {
+    arithmetic.subtractAll(minuends, subtrahends, differences);
+  }
+
+  @Override
+  protected void multiplyTile(final long[] multiplier, final long[] multiplicand, final long[] product, final int size,
+      final int rowFrom, final int rowTo, final int columnFrom, final int columnTo) {
+    if(lazyTerms > 0) {
+      multiplyTileLazily(multiplier, multiplicand, product, size, rowFrom, rowTo, columnFrom, columnTo);
+    } else if(arithmetic.isMontgomery()) {
+      multiplyTileMontgomery(multiplier, multiplicand, product, size, rowFrom, rowTo, columnFrom, columnTo);
+    } else {
+      multiplyTileDirectly(multiplier, multiplicand, product, size, rowFrom, rowTo, columnFrom, columnTo);
+    }
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public LongModularArithmetic getArithmetic() {
+    return arithmetic;
+  }
+
+}
@@ -0,0 +1,599 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.util.ArrayUtils;
+
+import java.math.BigInteger;
+
+/**
+ * Arithmetic modulo a fixed \(n\), where \(0\lt n\lt 2^{63}\), on primitive {@code long} residues.
+ * <p>
+ * Residues passed to and returned from the public methods are canonical, i.e. in \([0,n)\), except for the {@code *Internal} methods.
+ * Those work on the internal form: Montgomery form if {@link #isMontgomery()}, and the canonical residue otherwise.
+ * Chains of products and powers stay in the internal form, and are only converted at {@link #toInternal(long)} and
+ * {@link #fromInternal(long)}.
+ * <p>
+ * Multiplication picks one of three strategies when the instance is created:
+ * <ul>
+ *   <li>\(n\le\lfloor\sqrt{2^{63}-1}\rfloor\): the product fits in a {@code long}, so a single {@code %} is used.</li>
+ *   <li>\(n\) odd: Montgomery multiplication with \(R=2^{64}\), using {@link Math#multiplyHigh(long, long)} for the high words.</li>
+ *   <li>Otherwise: the 128-bit product is reduced one bit at a time.</li>
+ * </ul>
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class LongModularArithmetic {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * \(\lfloor\sqrt{2^{63}-1}\rfloor\).
+   */
+  private static final long DIRECT_MULTIPLICATION_BOUND = 3037000499L;
+
+  private static final BigInteger TWO_TO_THE_64 = BigInteger.ONE.shiftLeft(64);
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Computes the high 64 bits of the unsigned 128-bit product of {@code a} and {@code b}.
+   *
+   * @param a The first factor, interpreted as unsigned.
+   * @param b The second factor, interpreted as unsigned.
+   *
+   * @return The high 64 bits of the product.
+   */
+  public static long unsignedMultiplyHigh(final long a, final long b) {
+    return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+  }
+
+  /**
+   * Computes \(-n^{-1}\bmod 2^{64}\) for odd \(n\).
+   */
+  private static long negativeInverse64(final long n) {
+    // Newton's iteration doubles the number of correct low bits: 3 -> 6 -> 12 -> 24 -> 48 -> 96.
+    long inverse = n;
+
+    for(int i = 0; i < 5; i++) {
+      inverse *= 2 - n * inverse;
+    }
+
+    return -inverse;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  public LongModularArithmetic(final long n) {
+    super();
+
+    Arguments.requireTrue(n > 0, "The modulus must be positive.");
+
+    this.n = n;
+
+    if(n <= DIRECT_MULTIPLICATION_BOUND) {
+      this.strategy = Strategy.DIRECT;
+      this.nPrime = 0;
+      this.r2 = 0;
+    } else if((n & 1) == 1) {
+      final BigInteger bigN = BigInteger.valueOf(n);
+
+      this.strategy = Strategy.MONTGOMERY;
+      this.nPrime = negativeInverse64(n);
+      this.r2 = TWO_TO_THE_64.multiply(TWO_TO_THE_64).mod(bigN).longValue();
+    } else {
+      this.strategy = Strategy.SHIFT_SUBTRACT;
+      this.nPrime = 0;
+      this.r2 = 0;
+    }
+
+    this.one = (n == 1 ? 0 : 1);
+    this.internalOne = toInternal(one);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final long n;
+
+  private final Strategy strategy;
+
+  /**
+   * \(-n^{-1}\bmod 2^{64}\), if Montgomery multiplication is used.
+   */
+  private final long nPrime;
+
+  /**
+   * \(R^2\bmod n\), if Montgomery multiplication is used.
+   */
+  private final long r2;
+
+  private final long one;
+
+  /**
+   * The internal form of {@link #one}.
+   */
+  private final long internalOne;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Reduces an arbitrary {@code long} to its canonical residue.
+   *
+   * @param value The value.
+   *
+   * @return {@code value} modulo \(n\), in \([0,n)\).
+   */
+  public long reduce(final long value) {
+    return Math.floorMod(value, n);
+  }
+
+  /**
+   * Reduces an arbitrary integer to its canonical residue.
+   *
+   * @param value The value.
+   *
+   * @return {@code value} modulo \(n\), in \([0,n)\).
+   */
+  public long reduce(final BigInteger value) {
+    Arguments.requireNotNull(value);
+
+    return (value.bitLength() < 64 ? reduce(value.longValue()) : value.mod(BigInteger.valueOf(n)).longValue());
+  }
+
+  public boolean isResidue(final long value) {
+    return (value >= 0 && value < n);
+  }
+
+  public long add(final long augend, final long addend) {
+    // augend - (n - addend) is in (-n,n), so it cannot overflow.
+    final long difference = augend - (n - addend);
+
+    return difference + ((difference >> 63) & n);
+  }
+
+  public long subtract(final long minuend, final long subtrahend) {
+    final long difference = minuend - subtrahend;
+
+    return difference + ((difference >> 63) & n);
+  }
+
+  public long negate(final long value) {
+    return (value == 0 ? 0 : n - value);
+  }
+
+  public long multiply(final long multiplier, final long multiplicand) {
+    switch(strategy) {
+      case DIRECT:
+        return (multiplier * multiplicand) % n;
+      case MONTGOMERY:
+        return montgomeryMultiply(montgomeryMultiply(multiplier, multiplicand), r2);
+      default:
+        return remainder(Math.multiplyHigh(multiplier, multiplicand), multiplier * multiplicand);
+    }
+  }
+
+  /**
+   * Computes {@code base} raised to a non-negative {@code exponent}.
+   *
+   * @param base     The base.
+   * @param exponent The exponent.
+   *
+   * @return \(base^{exponent}\bmod n\).
+   */
+  public long pow(final long base, final long exponent) {
+    Arguments.requireTrue(exponent >= 0, "The exponent must be non-negative.");
+
+    return fromInternal(powInternal(toInternal(base), exponent));
+  }
+
+  /**
+   * Computes a power by left-to-right square-and-multiply, for exponents that may not fit in a {@code long}.
+   *
+   * @param base     The base.
+   * @param exponent The non-negative exponent.
+   *
+   * @return \(base^{exponent}\bmod n\).
+   */
+  public long pow(final long base, final BigInteger exponent) {
+    Arguments.requireNotNull(exponent);
+    Arguments.requireTrue(exponent.signum() >= 0, "The exponent must be non-negative.");
+
+    return fromInternal(powInternal(toInternal(base), exponent));
+  }
+
+  /**
+   * Computes the multiplicative inverse using the extended Euclidean algorithm.
+   *
+   * @param value The value.
+   *
+   * @return \(value^{-1}\bmod n\).
+   *
+   * @throws ArithmeticException If {@code value} is not invertible modulo \(n\).
+   */
+  public long inverse(final long value) {
+    long r0 = n;
+    long r1 = value;
+    long t0 = 0;
+    long t1 = 1;
+
+    while(r1 != 0) {
+      final long q = r0 / r1;
+
+      long swap = r0 - q * r1;
+      r0 = r1;
+      r1 = swap;
+
+      swap = t0 - q * t1;
+      t0 = t1;
+      t1 = swap;
+    }
+
+    if(r0 != 1) throw new ArithmeticException("Not invertible modulo " + n + ": " + value + ".");
+
+    return reduce(t0);
+  }
+
+  // Bulk
+  //
+
+  /**
+   * Element-wise {@link #add(long, long)}.
+   * {@code sums} may be the same array as either operand array.
+   */
+  public void addAll(final long[] augends, final long[] addends, final long[] sums) {
+    ArrayUtils.requireSameLength(augends.length, addends.length, sums.length);
+
+    for(int i = 0; i < sums.length; i++) {
+      final long difference = augends[i] - (n - addends[i]);
+
+      sums[i] = difference + ((difference >> 63) & n);
+    }
+  }
+
+  /**
+   * Adds {@code addend} to every augend.
+   * {@code sums} may be the same array as {@code augends}.
+   */
+  public void addAll(final long[] augends, final long addend, final long[] sums) {
+    ArrayUtils.requireSameLength(augends.length, sums.length);
+
+    final long complement = n - addend;
+
+    for(int i = 0; i < sums.length; i++) {
+      final long difference = augends[i] - complement;
+
+      sums[i] = difference + ((difference >> 63) & n);
+    }
+  }
+
+  /**
+   * Element-wise {@link #subtract(long, long)}.
+   * {@code differences} may be the same array as either operand array.
+   */
+  public void subtractAll(final long[] minuends, final long[] subtrahends, final long[] differences) {
+    ArrayUtils.requireSameLength(minuends.length, subtrahends.length, differences.length);
+
+    for(int i = 0; i < differences.length; i++) {
+      final long difference = minuends[i] - subtrahends[i];
+
+      differences[i] = difference + ((difference >> 63) & n);
+    }
+  }
+
+  /**
+   * Element-wise {@link #negate(long)}.
+   * {@code negations} may be the same array as {@code values}.
+   */
+  public void negateAll(final long[] values, final long[] negations) {
+    ArrayUtils.requireSameLength(values.length, negations.length);
+
+    for(int i = 0; i < negations.length; i++) {
+      negations[i] = (values[i] == 0 ? 0 : n - values[i]);
+    }
+  }
+
+  /**
+   * Element-wise {@link #multiply(long, long)}.
+   * {@code products} may be the same array as either operand array.
+   */
+  public void multiplyAll(final long[] multipliers, final long[] multiplicands, final long[] products) {
+    ArrayUtils.requireSameLength(multipliers.length, multiplicands.length, products.length);
+
+    switch(strategy) {
+      case DIRECT:
+        for(int i = 0; i < products.length; i++) {
+          products[i] = (multipliers[i] * multiplicands[i]) % n;
+        }
+        break;
+      case MONTGOMERY:
+        for(int i = 0; i < products.length; i++) {
+          products[i] = montgomeryMultiply(montgomeryMultiply(multipliers[i], multiplicands[i]), r2);
+        }
+        break;
+      default:
+        for(int i = 0; i < products.length; i++) {
+          products[i] = remainder(Math.multiplyHigh(multipliers[i], multiplicands[i]), multipliers[i] * multiplicands[i]);
+        }
+    }
+  }
+
+  /**
+   * Multiplies every multiplier by {@code multiplicand}.
+   * {@code products} may be the same array as {@code multipliers}.
+   * <p>
+   * With Montgomery reduction, {@code multiplicand} is converted to Montgomery form once, so each product costs a single reduction.
+   */
+  public void multiplyAll(final long[] multipliers, final long multiplicand, final long[] products) {
+    ArrayUtils.requireSameLength(multipliers.length, products.length);
+
+    switch(strategy) {
+      case DIRECT:
+        for(int i = 0; i < products.length; i++) {
+          products[i] = (multipliers[i] * multiplicand) % n;
+        }
+        break;
+      case MONTGOMERY:
+        // (a)(bR)R^-1 = ab.
+        final long montgomeryMultiplicand = toMontgomery(multiplicand);
+
+        for(int i = 0; i < products.length; i++) {
+          products[i] = montgomeryMultiply(multipliers[i], montgomeryMultiplicand);
+        }
+        break;
+      default:
+        for(int i = 0; i < products.length; i++) {
+          products[i] = remainder(Math.multiplyHigh(multipliers[i], multiplicand), multipliers[i] * multiplicand);
+        }
+    }
+  }
+
+  // Internal form
+  //
+
+  /**
+   * Converts a canonical residue to the internal form.
+   * Each residue has exactly one internal form, and addition, subtraction and negation do not depend on it.
+   *
+   * @param value The canonical residue.
+   *
+   * @return \(aR\bmod n\) if {@link #isMontgomery()}; otherwise, {@code value}.
+   */
+  public long toInternal(final long value) {
+    return (strategy == Strategy.MONTGOMERY ? toMontgomery(value) : value);
+  }
+
+  /**
+   * Converts an internal form back to its canonical residue.
+   *
+   * @param internal The internal form.
+   *
+   * @return The canonical residue.
+   */
+  public long fromInternal(final long internal) {
+    return (strategy == Strategy.MONTGOMERY ? fromMontgomery(internal) : internal);
+  }
+
+  /**
+   * Multiplies internal forms.
+   * With Montgomery reduction, this costs a single reduction, where {@link #multiply(long, long)} costs two.
+   * <p>
+   * Multiplying an internal form by a canonical residue with {@link #multiply(long, long)} gives the internal form of the product.
+   *
+   * @param multiplier   The internal form of the multiplier.
+   * @param multiplicand The internal form of the multiplicand.
+   *
+   * @return The internal form of the product.
+   */
+  public long multiplyInternal(final long multiplier, final long multiplicand) {
+    return (strategy == Strategy.MONTGOMERY ? montgomeryMultiply(multiplier, multiplicand) : multiply(multiplier, multiplicand));
+  }
+
+  /**
+   * Computes a power of an internal form, with a non-negative {@code exponent}.
+   *
+   * @param base     The internal form of the base.
+   * @param exponent The exponent.
+   *
+   * @return The internal form of \(base^{exponent}\bmod n\).
+   */
+  public long powInternal(final long base, final long exponent) {
+    Arguments.requireTrue(exponent >= 0, "The exponent must be non-negative.");
+
+    long result = internalOne;
+
+    for(int i = 63 - Long.numberOfLeadingZeros(exponent); i >= 0; i--) {
+      result = multiplyInternal(result, result);
+
+      if(((exponent >>> i) & 1) == 1) result = multiplyInternal(result, base);
+    }
+
+    return result;
+  }
+
+  /**
+   * Computes a power of an internal form by left-to-right square-and-multiply, for exponents that may not fit in a {@code long}.
+   *
+   * @param base     The internal form of the base.
+   * @param exponent The non-negative exponent.
+   *
+   * @return The internal form of \(base^{exponent}\bmod n\).
+   */
+  public long powInternal(final long base, final BigInteger exponent) {
+    Arguments.requireNotNull(exponent);
+    Arguments.requireTrue(exponent.signum() >= 0, "The exponent must be non-negative.");
+
+    if(exponent.bitLength() < Long.SIZE) return powInternal(base, exponent.longValue());
+
+    long result = internalOne;
+
+    for(int i = exponent.bitLength() - 1; i >= 0; i--) {
+      result = multiplyInternal(result, result);
+
+      if(exponent.testBit(i)) result = multiplyInternal(result, base);
+    }
+
+    return result;
+  }
+
+  /**
+   * Element-wise {@link #multiplyInternal(long, long)}.
+   * {@code products} may be the same array as either operand array.
+   */
+  public void multiplyAllInternal(final long[] multipliers, final long[] multiplicands, final long[] products) {
+    if(strategy != Strategy.MONTGOMERY) {
+      multiplyAll(multipliers, multiplicands, products);
+
+      return;
+    }
+
+    ArrayUtils.requireSameLength(multipliers.length, multiplicands.length, products.length);
+
+    for(int i = 0; i < products.length; i++) {
+      products[i] = montgomeryMultiply(multipliers[i], multiplicands[i]);
+    }
+  }
+
+  /**
+   * Multiplies every internal form in {@code multipliers} by the internal form {@code multiplicand}.
+   * {@code products} may be the same array as {@code multipliers}.
+   */
+  public void multiplyAllInternal(final long[] multipliers, final long multiplicand, final long[] products) {
+    if(strategy != Strategy.MONTGOMERY) {
+      multiplyAll(multipliers, multiplicand, products);
+
+      return;
+    }
+
+    ArrayUtils.requireSameLength(multipliers.length, products.length);
+
+    for(int i = 0; i < products.length; i++) {
+      products[i] = montgomeryMultiply(multipliers[i], multiplicand);
+    }
+  }
+
+  // Montgomery
+  //
+
+  /**
+   * Gets whether multiplication uses Montgomery reduction, in which case the {@code montgomery*} methods are available.
+   *
+   * @return {@code true}, if Montgomery reduction is used; {@code false}, otherwise.
+   */
+  public boolean isMontgomery() {
+    return (strategy == Strategy.MONTGOMERY);
+  }
+
+  /**
+   * Computes \(aR\bmod n\).
+   */
+  public long toMontgomery(final long value) {
+    return montgomeryMultiply(value, r2);
+  }
+
+  /**
+   * Computes \(aR^{-1}\bmod n\).
+   */
+  public long fromMontgomery(final long value) {
+    return montgomeryReduce(0, value);
+  }
+
+  /**
+   * Computes \(abR^{-1}\bmod n\).
+   */
+  public long montgomeryMultiply(final long multiplier, final long multiplicand) {
+    return montgomeryReduce(Math.multiplyHigh(multiplier, multiplicand), multiplier * multiplicand);
+  }
+
+  /**
+   * Computes \(TR^{-1}\bmod n\) for \(T=high\cdot2^{64}+low\lt nR\).
+   */
+  private long montgomeryReduce(final long high, final long low) {
+    final long m = low * nPrime;
+    // low + m * n is divisible by 2^64, so its low word carries out exactly when low is non-zero.
+    final long t = high + unsignedMultiplyHigh(m, n) + (low != 0 ? 1 : 0);
+
+    return (Long.compareUnsigned(t, n) >= 0 ? t - n : t);
+  }
+
+  // Shift-subtract
+  //
+
+  /**
+   * Computes \((high\cdot2^{64}+low)\bmod n\) for \(high\lt n\).
+   */
+  private long remainder(final long high, final long low) {
+    long remainder = high;
+
+    for(int i = 63; i >= 0; i--) {
+      // remainder < n < 2^63, so the shift cannot lose a bit.
+      remainder = (remainder << 1) | ((low >>> i) & 1);
+
+      if(Long.compareUnsigned(remainder, n) >= 0) remainder -= n;
+    }
+
+    return remainder;
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public long getN() {
+    return n;
+  }
+
+  /**
+   * Gets the canonical residue of \(1\), which is \(0\) when \(n=1\).
+   *
+   * @return The canonical residue of \(1\).
+   */
+  public long getOne() {
+    return one;
+  }
+
+  /**
+   * Gets the internal form of \(1\).
+   *
+   * @return The internal form of \(1\).
+   */
+  public long getInternalOne() {
+    return internalOne;
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  private enum Strategy {
+
+    DIRECT,
+
+    MONTGOMERY,
+
+    SHIFT_SUBTRACT
+
+  }
+
+}
@@ -0,0 +1,501 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Arithmetic on dense univariate polynomials with coefficients modulo a fixed \(n\), where \(0\lt n\lt 2^{63}\).
+ * <p>
+ * A polynomial is a {@code long[]} of canonical residues, the coefficient of \(x^{i}\) at index \(i\), without trailing zeros, so \(0\) is the
+ * empty array.
+ * Methods never modify their arguments, and always return new arrays.
+ * <p>
+ * {@link #multiply(long[], long[])} chooses the {@link PolynomialMultiplication} by the lengths of the factors.
+ * The number-theoretic transform computes the exact integer convolution, whose coefficients are below \(\min(\ell,m)(n-1)^2\), modulo as many
+ * primes above \(2^{61}\) as that bound needs: one for small \(n\) and short factors, and at most three.
+ * The coefficients are then recombined by Garner's algorithm, directly modulo \(n\).
+ * Given a pool, the primes are transformed concurrently, and the coefficients recombined in chunks.
+ * <p>
+ * Moduli of \(2^{63}\) or more are handled by {@link PolynomialArithmetic}.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class LongPolynomialArithmetic {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The length of the shorter factor up to which the schoolbook method is used, and at which Karatsuba's method stops recursing.
+   */
+  private static final int SCHOOLBOOK_THRESHOLD = 32;
+
+  /**
+   * The length of the shorter factor from which the number-theoretic transform is used.
+   */
+  private static final int TRANSFORM_THRESHOLD = 128;
+
+  /**
+   * The number of bits of the product of each additional prime, all of which exceed \(2^{61}\).
+   */
+  private static final int PRIME_BITS = 61;
+
+  /**
+   * The number of coefficients recombined per task on a pool.
+   */
+  private static final int RECOMBINATION_CHUNK = 1 << 16;
+
+  private static final long[] ZERO = new long[0];
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Removes trailing zeros.
+   *
+   * @param coefficients The coefficients.
+   *
+   * @return {@code coefficients}, if its last coefficient is not zero; a shorter copy, otherwise.
+   */
+  public static long[] trim(final long[] coefficients) {
+    int length = coefficients.length;
+
+    while(length > 0 && coefficients[length - 1] == 0) {
+      length--;
+    }
+
+    return (length == coefficients.length ? coefficients : Arrays.copyOf(coefficients, length));
+  }
+
+  /**
+   * Gets the degree of a polynomial.
+   *
+   * @param polynomial The polynomial.
+   *
+   * @return The degree; or \(-1\), for \(0\).
+   */
+  public static int degree(final long[] polynomial) {
+    return polynomial.length - 1;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param arithmetic The arithmetic of the coefficients.
+   */
+  public LongPolynomialArithmetic(final LongModularArithmetic arithmetic) {
+    super();
+
+    Arguments.requireNotNull(arithmetic);
+
+    this.arithmetic = arithmetic;
+    this.n = arithmetic.getN();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final LongModularArithmetic arithmetic;
+
+  private final long n;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Checks whether an array is a polynomial: canonical residues without trailing zeros.
+   *
+   * @param coefficients The coefficients.
+   *
+   * @return {@code true}, if it is a polynomial; {@code false}, otherwise.
+   */
+  public boolean isPolynomial(final long[] coefficients) {
+    for(final long coefficient : coefficients) {
+      if(!arithmetic.isResidue(coefficient)) return false;
+    }
+
+    return (coefficients.length == 0 || coefficients[coefficients.length - 1] != 0);
+  }
+
+  public long[] zero() {
+    return ZERO;
+  }
+
+  public long[] one() {
+    return (n == 1 ? ZERO : new long[] {1});
+  }
+
+  public long[] add(final long[] augend, final long[] addend) {
+    final long[] longer = (augend.length >= addend.length ? augend : addend);
+    final long[] shorter = (longer == augend ? addend : augend);
+    final long[] sum = longer.clone();
+
+    for(int i = 0; i < shorter.length; i++) {
+      sum[i] = arithmetic.add(sum[i], shorter[i]);
+    }
+
+    return (augend.length == addend.length ? trim(sum) : sum);
+  }
+
+  public long[] subtract(final long[] minuend, final long[] subtrahend) {
+    final long[] difference = Arrays.copyOf(minuend, Math.max(minuend.length, subtrahend.length));
+
+    for(int i = 0; i < subtrahend.length; i++) {
+      difference[i] = arithmetic.subtract(difference[i], subtrahend[i]);
+    }
+
+    return trim(difference);
+  }
+
+  public long[] negate(final long[] polynomial) {
+    final long[] negation = new long[polynomial.length];
+
+    arithmetic.negateAll(polynomial, negation);
+
+    return negation;
+  }
+
+  /**
+   * Multiplies every coefficient by a scalar.
+   *
+   * @param polynomial The polynomial.
+   * @param scalar     The scalar, a canonical residue.
+   *
+   * @return The product.
+   */
+  public long[] scale(final long[] polynomial, final long scalar) {
+    final long[] product = new long[polynomial.length];
+
+    arithmetic.multiplyAll(polynomial, scalar, product);
+
+    return trim(product);
+  }
+
+  /**
+   * Multiplies polynomials, by the algorithm that is fastest for their lengths.
+   *
+   * @param multiplier   The multiplier.
+   * @param multiplicand The multiplicand.
+   *
+   * @return The product.
+   */
+  public long[] multiply(final long[] multiplier, final long[] multiplicand) {
+    return multiply(multiplier, multiplicand, method(multiplier, multiplicand), null);
+  }
+
+  /**
+   * Multiplies polynomials, by the algorithm that is fastest for their lengths, transforming modulo each prime and recombining chunks of
+   * coefficients on {@code pool}.
+   *
+   * @param multiplier   The multiplier.
+   * @param multiplicand The multiplicand.
+   * @param pool         The pool.
+   *
+   * @return The product.
+   */
+  public long[] multiply(final long[] multiplier, final long[] multiplicand, final ForkJoinPool pool) {
+    Arguments.requireNotNull(pool);
+
+    return multiply(multiplier, multiplicand, method(multiplier, multiplicand), pool);
+  }
+
+  /**
+   * Multiplies polynomials by a chosen algorithm.
+   *
+   * @param multiplier   The multiplier.
+   * @param multiplicand The multiplicand.
+   * @param method       The algorithm.
+   *
+   * @return The product.
+   */
+  public long[] multiply(final long[] multiplier, final long[] multiplicand, final PolynomialMultiplication method) {
+    return multiply(multiplier, multiplicand, method, null);
+  }
+
+  private long[] multiply(final long[] multiplier, final long[] multiplicand, final PolynomialMultiplication method, final ForkJoinPool pool) {
+    Arguments.requireNotNull(multiplier);
+    Arguments.requireNotNull(multiplicand);
+    Arguments.requireNotNull(method);
+
+    if(multiplier.length == 0 || multiplicand.length == 0) return ZERO;
+
+    Arguments.requireTrue((long)multiplier.length + multiplicand.length - 1 <= (1 << 30), "The product is too long.");
+
+    final long[] product = new long[multiplier.length + multiplicand.length - 1];
+
+    switch(method) {
+      case SCHOOLBOOK:
+        schoolbook(multiplier, 0, multiplier.length, multiplicand, 0, multiplicand.length, product, 0);
+        break;
+      case KARATSUBA:
+        karatsuba(multiplier, multiplicand, product);
+        break;
+      case NUMBER_THEORETIC_TRANSFORM:
+        transform(multiplier, multiplicand, product, pool);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown method: " + method + ".");
+    }
+
+    // The leading coefficient is a product of non-zero residues, which may still be zero if n is composite.
+    return trim(product);
+  }
+
+  private static PolynomialMultiplication method(final long[] multiplier, final long[] multiplicand) {
+    final int shorter = Math.min(multiplier.length, multiplicand.length);
+
+    if(shorter <= SCHOOLBOOK_THRESHOLD) return PolynomialMultiplication.SCHOOLBOOK;
+    if(shorter < TRANSFORM_THRESHOLD) return PolynomialMultiplication.KARATSUBA;
+
+    return PolynomialMultiplication.NUMBER_THEORETIC_TRANSFORM;
+  }
+
+  /**
+   * Adds the product of {@code a[aFrom, aFrom + aLength)} and {@code b[bFrom, bFrom + bLength)} into {@code result[resultFrom, ...)}.
+   */
+  private void schoolbook(final long[] a, final int aFrom, final int aLength, final long[] b, final int bFrom, final int bLength,
+      final long[] result, final int resultFrom) {
+    final long[] row = new long[bLength];
+    final long[] bSlice = (bFrom == 0 && bLength == b.length ? b : Arrays.copyOfRange(b, bFrom, bFrom + bLength));
+
+    for(int i = 0; i < aLength; i++) {
+      final long coefficient = a[aFrom + i];
+
+      if(coefficient == 0) continue;
+
+      // One bulk multiplication per row lets the arithmetic convert the coefficient to Montgomery form once.
+      arithmetic.multiplyAll(bSlice, coefficient, row);
+
+      for(int j = 0; j < bLength; j++) {
+        result[resultFrom + i + j] = arithmetic.add(result[resultFrom + i + j], row[j]);
+      }
+    }
+  }
+
+  private void karatsuba(final long[] a, final long[] b, final long[] product) {
+    final long[] longer = (a.length >= b.length ? a : b);
+    final long[] shorter = (longer == a ? b : a);
+    final int m = shorter.length;
+    final long[] block = new long[2 * m - 1];
+
+    // Blocks of the longer factor, each as long as the shorter one, make every recursion balanced.
+    for(int from = 0; from < longer.length; from += m) {
+      final long[] slice = Arrays.copyOfRange(longer, from, from + m);
+
+      karatsuba(slice, 0, shorter, 0, m, block, 0);
+
+      final int length = Math.min(block.length, product.length - from);
+
+      for(int i = 0; i < length; i++) {
+        product[from + i] = arithmetic.add(product[from + i], block[i]);
+      }
+    }
+  }
+
+  /**
+   * Writes the product of {@code a[aFrom, aFrom + length)} and {@code b[bFrom, bFrom + length)} to {@code result[resultFrom, resultFrom + 2 length - 1)}.
+   */
+  private void karatsuba(final long[] a, final int aFrom, final long[] b, final int bFrom, final int length, final long[] result,
+      final int resultFrom) {
+    Arrays.fill(result, resultFrom, resultFrom + 2 * length - 1, 0L);
+
+    if(length <= SCHOOLBOOK_THRESHOLD) {
+      schoolbook(a, aFrom, length, b, bFrom, length, result, resultFrom);
+
+      return;
+    }
+
+    final int low = length >>> 1;
+    final int high = length - low;
+
+    // z0 = a0 b0 and z2 = a1 b1 go to their places; the gap between them, at 2 low - 1, stays zero.
+    karatsuba(a, aFrom, b, bFrom, low, result, resultFrom);
+    karatsuba(a, aFrom + low, b, bFrom + low, high, result, resultFrom + 2 * low);
+
+    final long[] aSum = new long[high];
+    final long[] bSum = new long[high];
+
+    System.arraycopy(a, aFrom + low, aSum, 0, high);
+    System.arraycopy(b, bFrom + low, bSum, 0, high);
+
+    for(int i = 0; i < low; i++) {
+      aSum[i] = arithmetic.add(aSum[i], a[aFrom + i]);
+      bSum[i] = arithmetic.add(bSum[i], b[bFrom + i]);
+    }
+
+    final long[] middle = new long[2 * high - 1];
+
+    karatsuba(aSum, 0, bSum, 0, high, middle, 0);
+
+    // z1 = (a0 + a1)(b0 + b1) - z0 - z2, added at x^low.
+    for(int i = 0; i < 2 * low - 1; i++) {
+      middle[i] = arithmetic.subtract(middle[i], result[resultFrom + i]);
+    }
+    for(int i = 0; i < 2 * high - 1; i++) {
+      middle[i] = arithmetic.subtract(middle[i], result[resultFrom + 2 * low + i]);
+    }
+    for(int i = 0; i < middle.length; i++) {
+      result[resultFrom + low + i] = arithmetic.add(result[resultFrom + low + i], middle[i]);
+    }
+  }
+
+  private void transform(final long[] a, final long[] b, final long[] product, final ForkJoinPool pool) {
+    final int length = product.length;
+    final int size = Integer.highestOneBit(Math.max(1, 2 * length - 1));
+
+    // The exact coefficients are below min(l, m) (n - 1)^2, and each prime adds more than PRIME_BITS bits to their product.
+    final int boundBits = 2 * (64 - Long.numberOfLeadingZeros(n - 1)) + (32 - Integer.numberOfLeadingZeros(Math.min(a.length, b.length)));
+    final int primeCount = Math.max(1, (boundBits + PRIME_BITS - 1) / PRIME_BITS);
+    final long[][] residues = new long[primeCount][];
+
+    if(pool == null) {
+      for(int i = 0; i < primeCount; i++) {
+        residues[i] = convolve(NumberTheoreticTransform.prime(i), a, b, size);
+      }
+
+      recombine(residues, product, 0, length);
+    } else {
+      pool.submit(() -> IntStream.range(0, primeCount).parallel().forEach(i -> residues[i] = convolve(NumberTheoreticTransform.prime(i), a, b, size)))
+          .join();
+
+      final int chunkCount = (length + RECOMBINATION_CHUNK - 1) / RECOMBINATION_CHUNK;
+
+      pool.submit(() -> IntStream.range(0, chunkCount).parallel().forEach(chunk -> recombine(residues, product, chunk * RECOMBINATION_CHUNK,
+          Math.min(length, (chunk + 1) * RECOMBINATION_CHUNK)))).join();
+    }
+  }
+
+  /**
+   * Computes the cyclic convolution of two polynomials modulo the prime of a transform.
+   */
+  private static long[] convolve(final NumberTheoreticTransform transform, final long[] a, final long[] b, final int size) {
+    final long[] x = residues(a, size, transform.getP());
+
+    transform.forward(x, size);
+
+    if(a == b) {
+      transform.multiplyPointwise(x, x, size);
+    } else {
+      final long[] y = residues(b, size, transform.getP());
+
+      transform.forward(y, size);
+      transform.multiplyPointwise(x, y, size);
+    }
+
+    transform.inverse(x, size);
+
+    return x;
+  }
+
+  private static long[] residues(final long[] polynomial, final int size, final long p) {
+    final long[] residues = new long[size];
+
+    for(int i = 0; i < polynomial.length; i++) {
+      residues[i] = (polynomial[i] < p ? polynomial[i] : polynomial[i] % p);
+    }
+
+    return residues;
+  }
+
+  /**
+   * Recombines the residues of each coefficient by Garner's algorithm, as \(x=r_0+p_0(v_1+p_1v_2)\) with \(v_i\lt p_i\), evaluated modulo \(n\).
+   */
+  private void recombine(final long[][] residues, final long[] product, final int from, final int to) {
+    final long[] r0 = residues[0];
+
+    if(residues.length == 1) {
+      for(int i = from; i < to; i++) {
+        product[i] = reduce(r0[i]);
+      }
+
+      return;
+    }
+
+    final NumberTheoreticTransform t0 = NumberTheoreticTransform.prime(0);
+    final NumberTheoreticTransform t1 = NumberTheoreticTransform.prime(1);
+    final long p0 = t0.getP();
+    final long p1 = t1.getP();
+    final long inverse01 = t1.inverse(p0 - p1);
+    final long p0ModN = arithmetic.reduce(p0);
+    final long[] r1 = residues[1];
+
+    if(residues.length == 2) {
+      for(int i = from; i < to; i++) {
+        final long v1 = t1.multiply(subtract(r1[i], reduceOnce(r0[i], p1), p1), inverse01);
+
+        product[i] = arithmetic.add(reduce(r0[i]), arithmetic.multiply(p0ModN, reduce(v1)));
+      }
+
+      return;
+    }
+
+    final NumberTheoreticTransform t2 = NumberTheoreticTransform.prime(2);
+    final long p2 = t2.getP();
+    final long inverse02 = t2.inverse(p0 - p2);
+    final long inverse12 = t2.inverse(p1 - p2);
+    final long p0p1ModN = arithmetic.multiply(p0ModN, arithmetic.reduce(p1));
+    final long[] r2 = residues[2];
+
+    for(int i = from; i < to; i++) {
+      final long x0 = r0[i];
+      final long v1 = t1.multiply(subtract(r1[i], reduceOnce(x0, p1), p1), inverse01);
+      final long v2 = t2.multiply(subtract(t2.multiply(subtract(r2[i], reduceOnce(x0, p2), p2), inverse02), reduceOnce(v1, p2), p2), inverse12);
+
+      product[i] = arithmetic.add(arithmetic.add(reduce(x0), arithmetic.multiply(p0ModN, reduce(v1))), arithmetic.multiply(p0p1ModN, reduce(v2)));
+    }
+  }
+
+  /**
+   * Reduces a non-negative residue modulo a prime to a residue modulo \(n\), dividing only if \(n\) is the smaller.
+   */
+  private long reduce(final long x) {
+    return (x < n ? x : x % n);
+  }
+
+  /**
+   * Reduces \(x\lt 2p\) modulo \(p\); the primes are within a factor of two of each other, so residues modulo one are below twice any other.
+   */
+  private static long reduceOnce(final long x, final long p) {
+    final long difference = x - p;
+
+    return difference + ((difference >> 63) & p);
+  }
+
+  private static long subtract(final long minuend, final long subtrahend, final long p) {
+    final long difference = minuend - subtrahend;
+
+    return difference + ((difference >> 63) & p);
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public LongModularArithmetic getArithmetic() {
+    return arithmetic;
+  }
+
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Arithmetic on square matrices stored row-major in one array of type {@code A}, the entry in row \(i\) and column \(j\) of a \(size\times size\)
+ * matrix at index \(i\cdot size+j\).
+ * <p>
+ * Products are computed in three layers:
+ * <ul>
+ *   <li>Below the Strassen threshold, the product is split into tiles of {@link #TILE_SIZE} rows and columns, each computed by
+ *   {@link #multiplyTile(Object, Object, Object, int, int, int, int, int)} over blocks of {@link #TILE_SIZE} terms, so that the operands of a
+ *   tile stay in cache.</li>
+ *   <li>At and above the threshold, the Strassen-Winograd variant of Strassen's algorithm splits the matrices into quadrants, padded with zeros
+ *   if the size is odd, and computes \(7\) products of half the size instead of \(8\), with \(15\) additions.
+ *   It needs only a ring, not commutativity.</li>
+ *   <li>On a {@link ForkJoinPool}, the tiles, and the \(7\) products of each Strassen-Winograd step, are computed in parallel.</li>
+ * </ul>
+ * Subclasses provide the entry arithmetic: the tile kernel and element-wise addition and subtraction.
+ * Methods never modify their arguments, and always return new arrays.
+ *
+ * @param <A> The type of arrays.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public abstract class MatrixArithmetic<A> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The number of rows and columns of a tile, and of terms in a block.
+   */
+  public static final int TILE_SIZE = 64;
+
+  public static final int DEFAULT_STRASSEN_THRESHOLD = 256;
+
+  private static final int STRASSEN_PRODUCTS = 7;
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param strassenThreshold The size from which the Strassen-Winograd algorithm is used, at least \(2\).
+   */
+  protected MatrixArithmetic(final int strassenThreshold) {
+    super();
+
+    Arguments.requireTrue(strassenThreshold >= 2, "The Strassen threshold must be at least 2.");
+
+    this.strassenThreshold = strassenThreshold;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  protected final int strassenThreshold;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Kernels
+  //
+
+  /**
+   * Creates a matrix of zeros.
+   *
+   * @param length The number of entries.
+   *
+   * @return The matrix.
+   */
+  protected abstract A zeros(int length);
+
+  /**
+   * Element-wise addition of arrays of the same length.
+   * {@code sums} may be the same array as either operand array.
+   */
+  protected abstract void addAll(A augends, A addends, A sums);
+
+  /**
+   * Element-wise subtraction of arrays of the same length.
+   * {@code differences} may be the same array as either operand array.
+   */
+  protected abstract void subtractAll(A minuends, A subtrahends, A differences);
+
+  /**
+   * Computes the rows \([rowFrom,rowTo)\) and columns \([columnFrom,columnTo)\) of a product, which hold zeros when called.
+   * Tiles are disjoint, so tiles of one product may be computed concurrently.
+   *
+   * @param multiplier   The multiplier.
+   * @param multiplicand The multiplicand.
+   * @param product      The product.
+   * @param size         The size of the matrices.
+   * @param rowFrom      The first row, inclusive.
+   * @param rowTo        The last row, exclusive.
+   * @param columnFrom   The first column, inclusive.
+   * @param columnTo     The last column, exclusive.
+   */
+  protected abstract void multiplyTile(A multiplier, A multiplicand, A product, int size, int rowFrom, int rowTo, int columnFrom, int columnTo);
+
+  // Arithmetic
+  //
+
+  /**
+   * Gets the zero matrix.
+   *
+   * @param size The size.
+   *
+   * @return The zero matrix.
+   */
+  public A zero(final int size) {
+    return zeros(size * size);
+  }
+
+  public A add(final A augend, final A addend, final int size) {
+    final A sum = zeros(size * size);
+
+    addAll(augend, addend, sum);
+
+    return sum;
+  }
+
+  public A subtract(final A minuend, final A subtrahend, final int size) {
+    final A difference = zeros(size * size);
+
+    subtractAll(minuend, subtrahend, difference);
+
+    return difference;
+  }
+
+  public A negate(final A value, final int size) {
+    return subtract(zeros(size * size), value, size);
+  }
+
+  /**
+   * Multiplies matrices on the calling thread.
+   *
+   * @param multiplier   The multiplier.
+   * @param multiplicand The multiplicand.
+   * @param size         The size of the matrices.
+   *
+   * @return The product.
+   */
+  public A multiply(final A multiplier, final A multiplicand, final int size) {
+    Arguments.requireTrue(size >= 0, "Negative size: " + size + ".");
+
+    return multiply(multiplier, multiplicand, size, false);
+  }
+
+  /**
+   * Multiplies matrices, computing tiles and Strassen-Winograd products in parallel on {@code pool}.
+   *
+   * @param multiplier   The multiplier.
+   * @param multiplicand The multiplicand.
+   * @param size         The size of the matrices.
+   * @param pool         The pool.
+   *
+   * @return The product.
+   */
+  public A multiply(final A multiplier, final A multiplicand, final int size, final ForkJoinPool pool) {
+    Arguments.requireTrue(size >= 0, "Negative size: " + size + ".");
+    Arguments.requireNotNull(pool);
+
+    // A product of a single tile has nothing to split.
+    if(size <= TILE_SIZE) return multiply(multiplier, multiplicand, size, false);
+
+    // Parallel streams started by a task of the pool run on the pool.
+    return pool.submit(() -> multiply(multiplier, multiplicand, size, true)).join();
+  }
+
+  private A multiply(final A multiplier, final A multiplicand, final int size, final boolean parallel) {
+    return (size >= strassenThreshold
+        ? multiplyStrassenWinograd(multiplier, multiplicand, size, parallel)
+        : multiplyTiled(multiplier, multiplicand, size, parallel));
+  }
+
+  private A multiplyTiled(final A multiplier, final A multiplicand, final int size, final boolean parallel) {
+    final A product = zeros(size * size);
+    final int tiles = (size + TILE_SIZE - 1) / TILE_SIZE;
+
+    final IntStream indices = IntStream.range(0, tiles * tiles);
+
+    (parallel ? indices.parallel() : indices).forEach(tile -> {
+      final int row = (tile / tiles) * TILE_SIZE;
+      final int column = (tile % tiles) * TILE_SIZE;
+
+      multiplyTile(multiplier, multiplicand, product, size, row, Math.min(row + TILE_SIZE, size), column, Math.min(column + TILE_SIZE, size));
+    });
+
+    return product;
+  }
+
+  private A multiplyStrassenWinograd(final A multiplier, final A multiplicand, final int size, final boolean parallel) {
+    final int half = (size + 1) / 2;
+
+    final A a11 = quadrant(multiplier, size, half, 0, 0);
+    final A a12 = quadrant(multiplier, size, half, 0, half);
+    final A a21 = quadrant(multiplier, size, half, half, 0);
+    final A a22 = quadrant(multiplier, size, half, half, half);
+    final A b11 = quadrant(multiplicand, size, half, 0, 0);
+    final A b12 = quadrant(multiplicand, size, half, 0, half);
+    final A b21 = quadrant(multiplicand, size, half, half, 0);
+    final A b22 = quadrant(multiplicand, size, half, half, half);
+
+    // S1 = A21 + A22, S2 = S1 - A11, S3 = A11 - A21, S4 = A12 - S2.
+    final A s1 = add(a21, a22, half);
+    final A s2 = subtract(s1, a11, half);
+    final A s3 = subtract(a11, a21, half);
+    final A s4 = subtract(a12, s2, half);
+
+    // T1 = B12 - B11, T2 = B22 - T1, T3 = B22 - B12, T4 = T2 - B21.
+    final A t1 = subtract(b12, b11, half);
+    final A t2 = subtract(b22, t1, half);
+    final A t3 = subtract(b22, b12, half);
+    final A t4 = subtract(t2, b21, half);
+
+    final List<A> multipliers = List.of(a11, a12, s4, a22, s1, s2, s3);
+    final List<A> multiplicands = List.of(b11, b21, b22, t4, t1, t2, t3);
+
+    final IntStream indices = IntStream.range(0, STRASSEN_PRODUCTS);
+
+    // Collecting keeps the encounter order, so the products line up with their factors even in parallel.
+    final List<A> products = (parallel ? indices.parallel() : indices)
+        .mapToObj(i -> multiply(multipliers.get(i), multiplicands.get(i), half, parallel))
+        .collect(Collectors.toList());
+
+    final A p1 = products.get(0);
+    final A p2 = products.get(1);
+    final A p3 = products.get(2);
+    final A p4 = products.get(3);
+    final A p5 = products.get(4);
+    final A p6 = products.get(5);
+    final A p7 = products.get(6);
+
+    // U2 = P1 + P6, U3 = U2 + P7, U4 = U2 + P5; then C11 = P1 + P2, C12 = U4 + P3, C21 = U3 - P4, C22 = U3 + P5.
+    // The sums are accumulated in place, into arrays no longer needed.
+    addAll(p1, p6, p6);
+    addAll(p6, p7, p7);
+    addAll(p6, p5, p6);
+    addAll(p1, p2, p1);
+    addAll(p6, p3, p6);
+    addAll(p7, p5, p5);
+    subtractAll(p7, p4, p7);
+
+    final A product = zeros(size * size);
+
+    place(p1, product, size, half, 0, 0);
+    place(p6, product, size, half, 0, half);
+    place(p7, product, size, half, half, 0);
+    place(p5, product, size, half, half, half);
+
+    return product;
+  }
+
+  /**
+   * Copies the quadrant at a row and column into a new matrix, padded with zeros where it extends past the matrix.
+   */
+  private A quadrant(final A matrix, final int size, final int half, final int row, final int column) {
+    final A quadrant = zeros(half * half);
+    final int rows = Math.min(half, size - row);
+    final int columns = Math.min(half, size - column);
+
+    for(int i = 0; i < rows; i++) {
+      System.arraycopy(matrix, (row + i) * size + column, quadrant, i * half, columns);
+    }
+
+    return quadrant;
+  }
+
+  /**
+   * Copies a quadrant to a row and column of a matrix, dropping its padding.
+   */
+  private void place(final A quadrant, final A matrix, final int size, final int half, final int row, final int column) {
+    final int rows = Math.min(half, size - row);
+    final int columns = Math.min(half, size - column);
+
+    for(int i = 0; i < rows; i++) {
+      System.arraycopy(quadrant, i * half, matrix, (row + i) * size + column, columns);
+    }
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public int getStrassenThreshold() {
+    return strassenThreshold;
+  }
+
+}
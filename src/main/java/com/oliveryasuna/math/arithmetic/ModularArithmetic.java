@@ -0,0 +1,338 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.operation.Exponentiation;
+import com.oliveryasuna.math.algebra.operation.SimultaneousInversion;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Arithmetic modulo a fixed \(n\) of any size, on residues of \(k\) little-endian 32-bit limbs, where \(k\) is the number of limbs of \(n\).
+ * <p>
+ * Residues are in an internal form chosen by the implementation, such as Montgomery form, and are only converted at
+ * {@link #toResidue(BigInteger)} and {@link #toBigInteger(int[])}.
+ * Each residue has exactly one internal form, so residues are equal if and only if their arrays are.
+ * <p>
+ * Addition, subtraction and negation do not depend on the form, and are implemented here.
+ * Methods never modify their arguments, and always return new arrays.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public abstract class ModularArithmetic {
+
+  // Static fields
+  //--------------------------------------------------
+
+  protected static final long LIMB_MASK = 0xFFFFFFFFL;
+
+  // Static initialization methods
+  //--------------------------------------------------
+
+  /**
+   * Creates the preferred arithmetic for a modulus: Montgomery multiplication if it is odd, and division otherwise.
+   *
+   * @param n The modulus.
+   *
+   * @return The arithmetic.
+   */
+  public static ModularArithmetic of(final BigInteger n) {
+    Arguments.requireNotNull(n);
+
+    return (n.testBit(0) ? new MontgomeryModularArithmetic(n) : new DivisionModularArithmetic(n));
+  }
+
+  /**
+   * Creates an arithmetic for a modulus with a chosen reduction.
+   *
+   * @param n         The modulus.
+   * @param reduction The reduction, which must not be {@link ModularReduction#MONTGOMERY} if {@code n} is even.
+   *
+   * @return The arithmetic.
+   */
+  public static ModularArithmetic of(final BigInteger n, final ModularReduction reduction) {
+    Arguments.requireNotNull(reduction);
+
+    switch(reduction) {
+      case MONTGOMERY:
+        return new MontgomeryModularArithmetic(n);
+      case BARRETT:
+        return new BarrettModularArithmetic(n);
+      case DIVISION:
+        return new DivisionModularArithmetic(n);
+      default:
+        throw new IllegalArgumentException("Unknown reduction: " + reduction + ".");
+    }
+  }
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Converts a non-negative integer to a number of limbs.
+   *
+   * @param value     The integer, which must fit in {@code limbCount} limbs.
+   * @param limbCount The number of limbs.
+   *
+   * @return The limbs, least significant first.
+   */
+  protected static int[] toLimbs(final BigInteger value, final int limbCount) {
+    final int[] limbs = new int[limbCount];
+
+    for(int i = 0; i < limbCount; i++) {
+      limbs[i] = value.shiftRight(i * Integer.SIZE).intValue();
+    }
+
+    return limbs;
+  }
+
+  /**
+   * Converts limbs to a non-negative integer.
+   *
+   * @param limbs The limbs, least significant first.
+   *
+   * @return The integer.
+   */
+  protected static BigInteger fromLimbs(final int[] limbs) {
+    final byte[] bytes = new byte[limbs.length * Integer.BYTES + 1];
+
+    for(int i = 0; i < limbs.length; i++) {
+      final int offset = bytes.length - (i + 1) * Integer.BYTES;
+
+      bytes[offset] = (byte)(limbs[i] >>> 24);
+      bytes[offset + 1] = (byte)(limbs[i] >>> 16);
+      bytes[offset + 2] = (byte)(limbs[i] >>> 8);
+      bytes[offset + 3] = (byte)limbs[i];
+    }
+
+    return new BigInteger(bytes);
+  }
+
+  /**
+   * Compares two unsigned numbers of the same number of limbs.
+   */
+  protected static int compare(final int[] a, final int[] b) {
+    for(int i = a.length - 1; i >= 0; i--) {
+      if(a[i] != b[i]) return Integer.compareUnsigned(a[i], b[i]);
+    }
+
+    return 0;
+  }
+
+  /**
+   * Computes {@code a -= b} over the first {@code b.length} limbs of {@code a}.
+   *
+   * @return The borrow, \(0\) or \(1\).
+   */
+  protected static long subtractInPlace(final int[] a, final int[] b) {
+    long borrow = 0;
+
+    for(int i = 0; i < b.length; i++) {
+      final long difference = (a[i] & LIMB_MASK) - (b[i] & LIMB_MASK) - borrow;
+
+      a[i] = (int)difference;
+      borrow = (difference >>> 63);
+    }
+
+    return borrow;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param n The modulus.
+   */
+  protected ModularArithmetic(final BigInteger n) {
+    super();
+
+    Arguments.requireNotNull(n);
+    Arguments.requireTrue(n.signum() > 0, "The modulus must be positive.");
+
+    this.n = n;
+    this.limbCount = Math.max(1, (n.bitLength() + Integer.SIZE - 1) / Integer.SIZE);
+    this.nLimbs = toLimbs(n, limbCount);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  protected final BigInteger n;
+
+  protected final int limbCount;
+
+  protected final int[] nLimbs;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Converts a canonical residue to internal form.
+   *
+   * @param value The residue, in \([0,n)\).
+   *
+   * @return The residue in internal form.
+   */
+  public abstract int[] toResidue(BigInteger value);
+
+  /**
+   * Converts a residue from internal form.
+   *
+   * @param residue The residue in internal form.
+   *
+   * @return The canonical residue, in \([0,n)\).
+   */
+  public abstract BigInteger toBigInteger(int[] residue);
+
+  public abstract int[] multiply(int[] multiplier, int[] multiplicand);
+
+  /**
+   * Gets \(1\) in internal form.
+   *
+   * @return \(1\bmod n\) in internal form.
+   */
+  public abstract int[] one();
+
+  /**
+   * Gets \(0\), which is all zero limbs in every internal form.
+   *
+   * @return \(0\).
+   */
+  public int[] zero() {
+    return new int[limbCount];
+  }
+
+  public boolean isZero(final int[] residue) {
+    for(final int limb : residue) {
+      if(limb != 0) return false;
+    }
+
+    return true;
+  }
+
+  public int[] add(final int[] augend, final int[] addend) {
+    final int[] sum = new int[limbCount];
+    long carry = 0;
+
+    for(int i = 0; i < limbCount; i++) {
+      final long limbSum = (augend[i] & LIMB_MASK) + (addend[i] & LIMB_MASK) + carry;
+
+      sum[i] = (int)limbSum;
+      carry = (limbSum >>> Integer.SIZE);
+    }
+
+    if(carry != 0 || compare(sum, nLimbs) >= 0) subtractInPlace(sum, nLimbs);
+
+    return sum;
+  }
+
+  public int[] subtract(final int[] minuend, final int[] subtrahend) {
+    final int[] difference = minuend.clone();
+
+    if(subtractInPlace(difference, subtrahend) != 0) {
+      // Add n back; the carry out cancels the borrow.
+      long carry = 0;
+
+      for(int i = 0; i < limbCount; i++) {
+        final long limbSum = (difference[i] & LIMB_MASK) + (nLimbs[i] & LIMB_MASK) + carry;
+
+        difference[i] = (int)limbSum;
+        carry = (limbSum >>> Integer.SIZE);
+      }
+    }
+
+    return difference;
+  }
+
+  public int[] negate(final int[] value) {
+    return (isZero(value) ? zero() : subtract(nLimbs, value));
+  }
+
+  /**
+   * Computes a power by sliding-window exponentiation.
+   *
+   * @param base     The base, in internal form.
+   * @param exponent The non-negative exponent.
+   *
+   * @return \(base^{exponent}\bmod n\), in internal form.
+   */
+  public int[] pow(final int[] base, final BigInteger exponent) {
+    Arguments.requireNotNull(exponent);
+    Arguments.requireTrue(exponent.signum() >= 0, "The exponent must be non-negative.");
+
+    return Exponentiation.power(this::multiply, one(), base, exponent);
+  }
+
+  /**
+   * Computes the multiplicative inverse.
+   *
+   * @param value The value, in internal form.
+   *
+   * @return \(value^{-1}\bmod n\), in internal form.
+   *
+   * @throws ArithmeticException If {@code value} is not invertible modulo \(n\).
+   */
+  public int[] inverse(final int[] value) {
+    return toResidue(toBigInteger(value).modInverse(n));
+  }
+
+  /**
+   * Computes the multiplicative inverses of many values with one extended GCD, by {@linkplain SimultaneousInversion Montgomery's trick}.
+   * <p>
+   * {@code results} may be the same array as {@code values}.
+   *
+   * @param values  The values, in internal form.
+   * @param results The array to which the inverses, in internal form, are written.
+   *
+   * @throws ArithmeticException If any value is not invertible modulo \(n\), in which case {@code results} is left unchanged.
+   */
+  public void inverseAll(final int[][] values, final int[][] results) {
+    SimultaneousInversion.inverseAll(this::multiply, this::inverse, values, results);
+  }
+
+  /**
+   * Computes the multiplicative inverses of many values, with one extended GCD per chunk of values on {@code pool}.
+   *
+   * @param values  The values, in internal form.
+   * @param results The array to which the inverses, in internal form, are written.
+   * @param pool    The pool on which chunks are inverted.
+   *
+   * @throws ArithmeticException If any value is not invertible modulo \(n\), in which case the contents of {@code results} are unspecified.
+   * @see #inverseAll(int[][], int[][])
+   */
+  public void inverseAll(final int[][] values, final int[][] results, final ForkJoinPool pool) {
+    SimultaneousInversion.inverseAll(this::multiply, this::inverse, values, results, pool);
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public BigInteger getN() {
+    return n;
+  }
+
+  public int getLimbCount() {
+    return limbCount;
+  }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+
+import java.math.BigInteger;
+
+/**
+ * Modular arithmetic in Montgomery form, for odd \(n\).
+ * <p>
+ * With \(R=2^{32k}\), a residue \(a\) is held as \(aR\bmod n\).
+ * Products are computed by the coarsely integrated operand scanning (CIOS) method of Koc, Acar and Kaliski, which interleaves the
+ * multiplication and the reduction limb by limb, so a product costs \(2k^2+k\) limb multiplications and no division.
+ * \(n'=-n^{-1}\bmod 2^{32}\) and \(R^2\bmod n\) are computed once, when the arithmetic is created.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class MontgomeryModularArithmetic extends ModularArithmetic {
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Computes \(-n^{-1}\bmod 2^{32}\) for odd \(n\).
+   */
+  private static int negativeInverse32(final int n) {
+    // Newton's iteration doubles the number of correct low bits: 3 -> 6 -> 12 -> 24 -> 48.
+    int inverse = n;
+
+    for(int i = 0; i < 4; i++) {
+      inverse *= 2 - n * inverse;
+    }
+
+    return -inverse;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param n The modulus, which must be odd.
+   */
+  public MontgomeryModularArithmetic(final BigInteger n) {
+    super(n);
+
+    Arguments.requireTrue(n.testBit(0), "Montgomery multiplication requires an odd modulus.");
+
+    this.nPrime = negativeInverse32(nLimbs[0]) & LIMB_MASK;
+
+    final BigInteger r = BigInteger.ONE.shiftLeft(limbCount * Integer.SIZE);
+
+    this.r2 = toLimbs(r.multiply(r).mod(n), limbCount);
+    this.one = toLimbs(r.mod(n), limbCount);
+    this.plainOne = toLimbs(BigInteger.ONE, limbCount);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  /**
+   * \(-n^{-1}\bmod 2^{32}\), as an unsigned value.
+   */
+  private final long nPrime;
+
+  /**
+   * \(R^2\bmod n\).
+   */
+  private final int[] r2;
+
+  /**
+   * \(R\bmod n\), which is \(1\) in Montgomery form.
+   */
+  private final int[] one;
+
+  /**
+   * \(1\), not in Montgomery form.
+   */
+  private final int[] plainOne;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Computes \(abR^{-1}\bmod n\) by CIOS.
+   */
+  private int[] montgomeryMultiply(final int[] a, final int[] b) {
+    final int k = limbCount;
+    final int[] n = nLimbs;
+    final long b0 = b[0] & LIMB_MASK;
+    final long n0 = n[0] & LIMB_MASK;
+
+    // t holds k + 1 unsigned limbs, and stays below 2n.
+    final long[] t = new long[k + 1];
+
+    for(int i = 0; i < k; i++) {
+      final long ai = a[i] & LIMB_MASK;
+
+      // Each step adds a[i] * b and m * n, where m makes the low limb vanish, then shifts down one limb.
+      // Both passes over the limbs are fused, carrying separately; every sum is at most 2^64 - 1, which is exact as an unsigned long.
+      final long low = t[0] + ai * b0;
+      final long m = ((low & LIMB_MASK) * nPrime) & LIMB_MASK;
+
+      long productCarry = (low >>> Integer.SIZE);
+      long reductionCarry = (((low & LIMB_MASK) + m * n0) >>> Integer.SIZE);
+
+      for(int j = 1; j < k; j++) {
+        final long product = t[j] + ai * (b[j] & LIMB_MASK) + productCarry;
+        final long reduction = (product & LIMB_MASK) + m * (n[j] & LIMB_MASK) + reductionCarry;
+
+        t[j - 1] = reduction & LIMB_MASK;
+        productCarry = (product >>> Integer.SIZE);
+        reductionCarry = (reduction >>> Integer.SIZE);
+      }
+
+      final long top = t[k] + productCarry + reductionCarry;
+
+      t[k - 1] = top & LIMB_MASK;
+      t[k] = (top >>> Integer.SIZE);
+    }
+
+    final int[] result = new int[k];
+
+    for(int i = 0; i < k; i++) {
+      result[i] = (int)t[i];
+    }
+
+    // t < 2n, so at most one subtraction is needed.
+    if(t[k] != 0 || compare(result, n) >= 0) subtractInPlace(result, n);
+
+    return result;
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // ModularArithmetic
+  //
+
+  @Override
+  public int[] toResidue(final BigInteger value) {
+    return montgomeryMultiply(toLimbs(value, limbCount), r2);
+  }
+
+  @Override
+  public BigInteger toBigInteger(final int[] residue) {
+    return fromLimbs(montgomeryMultiply(residue, plainOne));
+  }
+
+  @Override
+  public int[] multiply(final int[] multiplier, final int[] multiplicand) {
+    return montgomeryMultiply(multiplier, multiplicand);
+  }
+
+  @Override
+  public int[] one() {
+    return one.clone();
+  }
+
+}
@@ -0,0 +1,425 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * The number-theoretic transform modulo a prime \(p=c\cdot 2^{k}+1\lt 2^{62}\), which computes cyclic convolutions of length up to \(2^{k}\)
+ * exactly modulo \(p\).
+ * <p>
+ * Products are Montgomery multiplications with \(R=2^{64}\), so a butterfly costs two high multiplications and no division.
+ * The forward transform is decimation in frequency, leaving its output in bit-reversed order, and the inverse is decimation in time, taking its
+ * input in that order, so no permutation is ever done.
+ * <p>
+ * The roots of unity are kept in one table, the roots for blocks of length \(2m\) at indices \([m,2m)\), so every pass reads them in order.
+ * The table depends only on \(p\); it grows to the largest length transformed, and is shared by all threads.
+ *
+ * @author Oliver Yasuna
+ */
+public final class NumberTheoreticTransform {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The two-adicity of the built-in primes.
+   */
+  private static final int TWO_ADICITY = 32;
+
+  /**
+   * The built-in primes found so far, largest first, each \(c\cdot 2^{32}+1\) in \((2^{61},2^{62})\).
+   * Replaced, never modified, when more are needed.
+   */
+  private static volatile NumberTheoreticTransform[] primes = findPrimes(new NumberTheoreticTransform[0], 3);
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Gets a transform for one of the built-in primes, which all lie in \((2^{61},2^{62})\) and support lengths up to \(2^{32}\).
+   * <p>
+   * The first three are found when the class is initialized, and more as they are asked for, so the product of the first \(t\) primes exceeds
+   * \(2^{61t}\) for any \(t\) a convolution needs.
+   *
+   * @param index The index of the prime, non-negative.
+   *
+   * @return The transform.
+   */
+  public static NumberTheoreticTransform prime(final int index) {
+    Arguments.requireTrue(index >= 0, "The index must be non-negative.");
+
+    NumberTheoreticTransform[] found = primes;
+
+    if(index >= found.length) found = growPrimes(index + 1);
+
+    return found[index];
+  }
+
+  private static synchronized NumberTheoreticTransform[] growPrimes(final int count) {
+    NumberTheoreticTransform[] found = primes;
+
+    if(found.length < count) {
+      // Doubling keeps the number of searches logarithmic in the number of primes.
+      found = findPrimes(found, Math.max(count, 2 * found.length));
+
+      primes = found;
+    }
+
+    return found;
+  }
+
+  /**
+   * Extends the primes found so far, continuing the search below the smallest.
+   */
+  private static NumberTheoreticTransform[] findPrimes(final NumberTheoreticTransform[] found, final int count) {
+    final NumberTheoreticTransform[] grown = Arrays.copyOf(found, count);
+    long c = (found.length == 0 ? (1L << (62 - TWO_ADICITY)) : found[found.length - 1].p >>> TWO_ADICITY) - 1;
+
+    for(int i = found.length; i < count; c--) {
+      // There are millions of such primes above 2^61, so this is never reached in practice.
+      if(c <= (1L << (61 - TWO_ADICITY))) throw new ArithmeticException("There are no more primes c * 2^32 + 1 above 2^61.");
+
+      final long p = (c << TWO_ADICITY) + 1;
+
+      if(BigInteger.valueOf(p).isProbablePrime(64)) grown[i++] = new NumberTheoreticTransform(p, c, TWO_ADICITY);
+    }
+
+    return grown;
+  }
+
+  /**
+   * Computes \(p^{-1}\bmod 2^{64}\) for odd \(p\).
+   */
+  private static long inverse64(final long p) {
+    // Newton's iteration doubles the number of correct low bits: 3 -> 6 -> 12 -> 24 -> 48 -> 96.
+    long inverse = p;
+
+    for(int i = 0; i < 5; i++) {
+      inverse *= 2 - p * inverse;
+    }
+
+    return inverse;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param p          The prime, \(c\cdot 2^{k}+1\lt 2^{62}\).
+   * @param c          The odd part of \(p-1\).
+   * @param twoAdicity \(k\).
+   */
+  private NumberTheoreticTransform(final long p, final long c, final int twoAdicity) {
+    super();
+
+    Arguments.requireTrue(p > 2 && p < (1L << 62) && ((c << twoAdicity) + 1) == p, "Invalid prime: " + p + ".");
+
+    this.p = p;
+    this.twoAdicity = twoAdicity;
+    this.pInverse = inverse64(p);
+
+    final BigInteger bigP = BigInteger.valueOf(p);
+
+    this.r = BigInteger.ONE.shiftLeft(64).mod(bigP).longValue();
+    this.r2 = BigInteger.ONE.shiftLeft(128).mod(bigP).longValue();
+
+    // A generator g has g^((p-1)/q) != 1 for every prime q dividing p - 1, which are 2 and the prime factors of c.
+    final BigInteger pMinusOne = bigP.subtract(BigInteger.ONE);
+
+    long generator = 2;
+
+    while(!isGenerator(BigInteger.valueOf(generator), bigP, pMinusOne, c)) {
+      generator++;
+    }
+
+    this.rootOfUnity = toMontgomery(BigInteger.valueOf(generator).modPow(BigInteger.valueOf(c), bigP).longValue());
+    this.roots = new long[0];
+    this.inverseRoots = new long[0];
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final long p;
+
+  private final int twoAdicity;
+
+  /**
+   * \(p^{-1}\bmod 2^{64}\).
+   */
+  private final long pInverse;
+
+  /**
+   * \(R\bmod p\), which is \(1\) in Montgomery form.
+   */
+  private final long r;
+
+  /**
+   * \(R^2\bmod p\).
+   */
+  private final long r2;
+
+  /**
+   * A primitive \(2^{k}\)-th root of unity, in Montgomery form.
+   */
+  private final long rootOfUnity;
+
+  /**
+   * The roots of unity, in Montgomery form: \(\omega_{2m}^{j}\) at index \(m+j\), for \(j\lt m\).
+   * Replaced, never modified, when it grows.
+   */
+  private volatile long[] roots;
+
+  /**
+   * The inverses of {@link #roots}, laid out alike.
+   */
+  private volatile long[] inverseRoots;
+
+  // Methods
+  //--------------------------------------------------
+
+  private boolean isGenerator(final BigInteger g, final BigInteger bigP, final BigInteger pMinusOne, long c) {
+    if(g.modPow(pMinusOne.shiftRight(1), bigP).equals(BigInteger.ONE)) return false;
+
+    for(long q = 3; q * q <= c; q += 2) {
+      if(c % q == 0) {
+        if(g.modPow(pMinusOne.divide(BigInteger.valueOf(q)), bigP).equals(BigInteger.ONE)) return false;
+
+        while(c % q == 0) c /= q;
+      }
+    }
+
+    return (c == 1 || !g.modPow(pMinusOne.divide(BigInteger.valueOf(c)), bigP).equals(BigInteger.ONE));
+  }
+
+  /**
+   * Computes \(abR^{-1}\bmod p\), for \(a,b\lt p\).
+   */
+  private long montgomeryMultiply(final long a, final long b) {
+    final long low = a * b;
+    final long high = Math.multiplyHigh(a, b);
+
+    // m * p has the same low word as a * b, so the difference of the high words is (ab - mp) / R, in (-p,p).
+    // p is positive, so only m needs the unsigned correction of multiplyHigh.
+    final long m = low * pInverse;
+    final long t = high - (Math.multiplyHigh(m, p) + ((m >> 63) & p));
+
+    return t + ((t >> 63) & p);
+  }
+
+  private long toMontgomery(final long value) {
+    return montgomeryMultiply(value, r2);
+  }
+
+  /**
+   * Computes \(ab\bmod p\), for \(a,b\lt p\).
+   *
+   * @param a The first factor.
+   * @param b The second factor.
+   *
+   * @return The product.
+   */
+  public long multiply(final long a, final long b) {
+    return montgomeryMultiply(montgomeryMultiply(a, b), r2);
+  }
+
+  /**
+   * Computes \(a^{-1}\bmod p\), for \(0\lt a\lt p\).
+   *
+   * @param a The value.
+   *
+   * @return The inverse.
+   */
+  public long inverse(final long a) {
+    return BigInteger.valueOf(a).modInverse(BigInteger.valueOf(p)).longValue();
+  }
+
+  /**
+   * Transforms the first {@code length} values in place, leaving them in bit-reversed order.
+   *
+   * @param values The values, in \([0,p)\).
+   * @param length The length, a power of two, at most \(2^{k}\).
+   */
+  public void forward(final long[] values, final int length) {
+    checkLength(values, length);
+
+    final long[] roots = roots(length);
+
+    for(int half = length >>> 1; half >= 2; half >>>= 1) {
+      for(int start = 0; start < length; start += 2 * half) {
+        for(int j = 0; j < half; j++) {
+          final long u = values[start + j];
+          final long v = values[start + j + half];
+          final long sum = u + v - p;
+          final long difference = u - v;
+
+          values[start + j] = sum + ((sum >> 63) & p);
+          values[start + j + half] = montgomeryMultiply(difference + ((difference >> 63) & p), roots[half + j]);
+        }
+      }
+    }
+
+    // The last pass only uses the root 1.
+    pairs(values, length);
+  }
+
+  /**
+   * Inverts {@link #forward(long[], int)} in place, taking the values in bit-reversed order and leaving them in natural order.
+   *
+   * @param values The values, in \([0,p)\).
+   * @param length The length, a power of two, at most \(2^{k}\).
+   */
+  public void inverse(final long[] values, final int length) {
+    checkLength(values, length);
+
+    final long[] inverseRoots = inverseRoots(length);
+
+    // The first pass only uses the root 1.
+    pairs(values, length);
+
+    for(int half = 2; half < length; half <<= 1) {
+      for(int start = 0; start < length; start += 2 * half) {
+        for(int j = 0; j < half; j++) {
+          final long u = values[start + j];
+          final long v = montgomeryMultiply(values[start + j + half], inverseRoots[half + j]);
+          final long sum = u + v - p;
+          final long difference = u - v;
+
+          values[start + j] = sum + ((sum >> 63) & p);
+          values[start + j + half] = difference + ((difference >> 63) & p);
+        }
+      }
+    }
+
+    // Scale by 1 / length, in Montgomery form, so one reduction per value leaves the plain result.
+    final long scale = toMontgomery(inverse(length % p));
+
+    for(int i = 0; i < length; i++) {
+      values[i] = montgomeryMultiply(values[i], scale);
+    }
+  }
+
+  /**
+   * Replaces each pair of adjacent values by their sum and difference, the butterfly whose root is \(1\).
+   */
+  private void pairs(final long[] values, final int length) {
+    for(int i = 0; i + 1 < length; i += 2) {
+      final long u = values[i];
+      final long v = values[i + 1];
+      final long sum = u + v - p;
+      final long difference = u - v;
+
+      values[i] = sum + ((sum >> 63) & p);
+      values[i + 1] = difference + ((difference >> 63) & p);
+    }
+  }
+
+  /**
+   * Multiplies transformed values pointwise, in place.
+   *
+   * @param values  The values, in \([0,p)\), to which the products are written.
+   * @param factors The factors, in \([0,p)\).
+   * @param length  The number of values.
+   */
+  public void multiplyPointwise(final long[] values, final long[] factors, final int length) {
+    // Each factor is brought into Montgomery form by the R^2 of the first reduction, so two reductions give the plain product.
+    for(int i = 0; i < length; i++) {
+      values[i] = montgomeryMultiply(montgomeryMultiply(values[i], factors[i]), r2);
+    }
+  }
+
+  private void checkLength(final long[] values, final int length) {
+    Arguments.requireTrue(length > 0 && Integer.bitCount(length) == 1 && Integer.numberOfTrailingZeros(length) <= twoAdicity,
+        "The length must be a power of two, at most 2^" + twoAdicity + ".");
+    Arguments.requireTrue(length <= values.length, "The length exceeds the array.");
+  }
+
+  private long[] roots(final int length) {
+    long[] table = roots;
+
+    if(table.length < length) {
+      grow(length);
+
+      table = roots;
+    }
+
+    return table;
+  }
+
+  private long[] inverseRoots(final int length) {
+    long[] table = inverseRoots;
+
+    if(table.length < length) {
+      grow(length);
+
+      table = inverseRoots;
+    }
+
+    return table;
+  }
+
+  private synchronized void grow(final int length) {
+    if(roots.length >= length) return;
+
+    final long[] newRoots = new long[length];
+    final long[] newInverseRoots = new long[length];
+    final long inverseRootOfUnity = toMontgomery(inverse(montgomeryMultiply(rootOfUnity, 1)));
+
+    for(int half = 1; half < length; half <<= 1) {
+      // omega_{2 half} = omega_{2^k}^(2^k / (2 half)).
+      long root = rootOfUnity;
+      long inverseRoot = inverseRootOfUnity;
+
+      for(int i = Integer.numberOfTrailingZeros(2 * half); i < twoAdicity; i++) {
+        root = montgomeryMultiply(root, root);
+        inverseRoot = montgomeryMultiply(inverseRoot, inverseRoot);
+      }
+
+      long power = r;
+      long inversePower = r;
+
+      for(int j = 0; j < half; j++) {
+        newRoots[half + j] = power;
+        newInverseRoots[half + j] = inversePower;
+        power = montgomeryMultiply(power, root);
+        inversePower = montgomeryMultiply(inversePower, inverseRoot);
+      }
+    }
+
+    // The inverse table is published first, as readers check the length of the forward one.
+    inverseRoots = newInverseRoots;
+    roots = newRoots;
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public long getP() {
+    return p;
+  }
+
+  public int getTwoAdicity() {
+    return twoAdicity;
+  }
+
+}
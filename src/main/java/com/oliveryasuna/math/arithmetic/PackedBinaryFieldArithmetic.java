@@ -0,0 +1,464 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Arithmetic in the binary extension field \(\mathbb{F}_{2^n}=\mathbb{F}_2[x]/(f)\), for a sparse irreducible \(f\) of any degree \(n\ge 2\), on
+ * elements packed into {@code long[]} words.
+ * <p>
+ * An element is the polynomial whose coefficients are its bits, in \(\lceil n/64\rceil\) words, least significant first; bits \(n\) and above
+ * are zero.
+ * All elements passed to and returned from the public methods are in that form, and the returned arrays are new.
+ * <p>
+ * The modulus is given by the exponents of its terms, e.g. \(x^{233}+x^{74}+1\) for the NIST curve B-233 and
+ * \(x^{571}+x^{10}+x^5+x^2+1\) for B-571; trinomials and pentanomials are the intended cases.
+ * <ul>
+ *   <li>Products are computed by the left-to-right comb of Lopez and Dahab with 4-bit windows: \(b\) times each of the 16 window values is
+ *   tabulated once, then every window of \(a\) adds a table row, and the accumulator is shifted once per window position.</li>
+ *   <li>Squares interleave zeros between the bits of each word, since squaring is linear over \(\mathbb{F}_2\).</li>
+ *   <li>Products of degree \(2n-2\) are reduced a word at a time: since \(x^n\equiv f-x^n\), each high word is folded down once per term of
+ *   \(f\); with \(n-k\ge 64\) for the second-highest exponent \(k\), as for the usual trinomials and pentanomials, each word is folded only
+ *   once.</li>
+ *   <li>Inverses are computed by the method of Itoh and Tsujii: \(a^{-1}=\left(a^{2^{n-1}-1}\right)^2\), with \(a^{2^{n-1}-1}\) from an addition
+ *   chain for \(n-1\); about \(\log_2 n\) products and \(n\) squares.</li>
+ * </ul>
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class PackedBinaryFieldArithmetic {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int WINDOW_BITS = 4;
+
+  private static final int WINDOW_VALUES = 1 << WINDOW_BITS;
+
+  private static final long WINDOW_MASK = WINDOW_VALUES - 1;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Interleaves zeros with the bits of a 32-bit half-word, which squares it as a polynomial.
+   */
+  private static long interleaveZeros(final long halfWord) {
+    long spread = (halfWord & 0xFFFFFFFFL);
+
+    spread = (spread | (spread << 16)) & 0x0000FFFF0000FFFFL;
+    spread = (spread | (spread << 8)) & 0x00FF00FF00FF00FFL;
+    spread = (spread | (spread << 4)) & 0x0F0F0F0F0F0F0F0FL;
+    spread = (spread | (spread << 2)) & 0x3333333333333333L;
+    spread = (spread | (spread << 1)) & 0x5555555555555555L;
+
+    return spread;
+  }
+
+  private static BigInteger polynomialGcd(BigInteger a, BigInteger b) {
+    while(b.signum() != 0) {
+      while(a.bitLength() >= b.bitLength()) {
+        a = a.xor(b.shiftLeft(a.bitLength() - b.bitLength()));
+      }
+
+      final BigInteger t = a;
+
+      a = b;
+      b = t;
+    }
+
+    return a;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param exponents The exponents of the terms of the irreducible modulus, in decreasing order, from its degree \(n\ge 2\) down to \(0\).
+   */
+  public PackedBinaryFieldArithmetic(final int... exponents) {
+    super();
+
+    Arguments.requireNotNull(exponents);
+    Arguments.requireTrue(exponents.length >= 2 && exponents[0] >= 2 && exponents[exponents.length - 1] == 0,
+        "The exponents must run from a degree of at least 2 down to 0.");
+
+    for(int i = 1; i < exponents.length; i++) {
+      Arguments.requireTrue(exponents[i] < exponents[i - 1], "The exponents must be decreasing.");
+    }
+
+    this.degree = exponents[0];
+    this.wordCount = (degree + Long.SIZE - 1) / Long.SIZE;
+    this.topMask = (degree % Long.SIZE == 0 ? -1L : (1L << (degree % Long.SIZE)) - 1);
+    this.exponents = exponents.clone();
+    this.reductionExponents = Arrays.copyOfRange(exponents, 1, exponents.length);
+
+    Arguments.requireTrue(isIrreducible(), "The modulus must be irreducible.");
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final int degree;
+
+  private final int wordCount;
+
+  /**
+   * The bits of the most significant word that are below \(x^n\).
+   */
+  private final long topMask;
+
+  private final int[] exponents;
+
+  /**
+   * The exponents below the degree, whose terms replace \(x^n\) in a reduction.
+   */
+  private final int[] reductionExponents;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Decides irreducibility by Ben-Or's test: \(f\) is irreducible if and only if \(\gcd\left(f,x^{2^i}-x\right)=1\) for every \(i\le n/2\).
+   */
+  private boolean isIrreducible() {
+    BigInteger modulus = BigInteger.ZERO;
+
+    for(final int exponent : exponents) {
+      modulus = modulus.setBit(exponent);
+    }
+
+    long[] power = zero();
+
+    power[0] = 2;
+
+    for(int i = 1; i <= degree / 2; i++) {
+      power = square(power);
+
+      if(!polynomialGcd(modulus, toBigInteger(power).flipBit(1)).equals(BigInteger.ONE)) return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Decides whether words are an element.
+   *
+   * @param value The words.
+   *
+   * @return {@code true}, if there are \(\lceil n/64\rceil\) words and no bits at or above \(n\); {@code false}, otherwise.
+   */
+  public boolean isElement(final long[] value) {
+    return (value.length == wordCount && (value[wordCount - 1] & ~topMask) == 0);
+  }
+
+  /**
+   * Decides whether an integer, read as a polynomial, is an element.
+   *
+   * @param value The integer.
+   *
+   * @return {@code true}, if {@code value} is in \([0,2^n)\); {@code false}, otherwise.
+   */
+  public boolean isElement(final BigInteger value) {
+    return (value.signum() >= 0 && value.bitLength() <= degree);
+  }
+
+  public long[] toWords(final BigInteger value) {
+    final long[] words = zero();
+
+    for(int i = 0; i < wordCount; i++) {
+      words[i] = value.shiftRight(i * Long.SIZE).longValue();
+    }
+
+    return words;
+  }
+
+  public BigInteger toBigInteger(final long[] value) {
+    final byte[] bytes = new byte[value.length * Long.BYTES + 1];
+
+    for(int i = 0; i < value.length; i++) {
+      for(int j = 0; j < Long.BYTES; j++) {
+        bytes[bytes.length - 1 - i * Long.BYTES - j] = (byte)(value[i] >>> (j * Byte.SIZE));
+      }
+    }
+
+    return new BigInteger(bytes);
+  }
+
+  public long[] zero() {
+    return new long[wordCount];
+  }
+
+  public long[] one() {
+    final long[] one = zero();
+
+    one[0] = 1;
+
+    return one;
+  }
+
+  public boolean isZero(final long[] value) {
+    long bits = 0;
+
+    for(final long word : value) {
+      bits |= word;
+    }
+
+    return (bits == 0);
+  }
+
+  public long[] add(final long[] augend, final long[] addend) {
+    final long[] sum = new long[wordCount];
+
+    for(int i = 0; i < wordCount; i++) {
+      sum[i] = augend[i] ^ addend[i];
+    }
+
+    return sum;
+  }
+
+  public long[] multiply(final long[] multiplier, final long[] multiplicand) {
+    return reduce(multiplyUnreduced(multiplier, multiplicand));
+  }
+
+  public long[] square(final long[] value) {
+    return square(value, 1);
+  }
+
+  /**
+   * Squares repeatedly.
+   *
+   * @param value The value.
+   * @param count The number of squarings, at least \(0\).
+   *
+   * @return \(value^{2^{count}}\).
+   */
+  public long[] square(final long[] value, final int count) {
+    final long[] result = value.clone();
+    final long[] square = new long[2 * wordCount];
+
+    for(int i = 0; i < count; i++) {
+      for(int j = 0; j < wordCount; j++) {
+        square[2 * j] = interleaveZeros(result[j]);
+        square[2 * j + 1] = interleaveZeros(result[j] >>> Integer.SIZE);
+      }
+
+      reduceInPlace(square);
+
+      System.arraycopy(square, 0, result, 0, wordCount);
+    }
+
+    return result;
+  }
+
+  /**
+   * Computes an inverse.
+   *
+   * @param value A non-zero element.
+   *
+   * @return \(value^{-1}\).
+   *
+   * @throws ArithmeticException If {@code value} is zero.
+   */
+  public long[] inverse(final long[] value) {
+    if(isZero(value)) throw new ArithmeticException("Zero is not invertible.");
+
+    // beta = value^(2^k - 1), doubling k along the bits of n - 1 and adding one where a bit is set:
+    // beta_2k = beta_k^(2^k) * beta_k, and beta_(k+1) = beta_k^2 * value.
+    final int target = degree - 1;
+
+    long[] beta = value.clone();
+    int k = 1;
+
+    for(int bit = Integer.SIZE - 2 - Integer.numberOfLeadingZeros(target); bit >= 0; bit--) {
+      beta = multiply(square(beta, k), beta);
+      k *= 2;
+
+      if(((target >>> bit) & 1) != 0) {
+        beta = multiply(square(beta), value);
+        k++;
+      }
+    }
+
+    return square(beta);
+  }
+
+  /**
+   * Computes a quotient.
+   *
+   * @param dividend The dividend.
+   * @param divisor  The non-zero divisor.
+   *
+   * @return \(dividend/divisor\).
+   *
+   * @throws ArithmeticException If {@code divisor} is zero.
+   */
+  public long[] divide(final long[] dividend, final long[] divisor) {
+    return multiply(dividend, inverse(divisor));
+  }
+
+  /**
+   * Computes a power.
+   *
+   * @param base     The base.
+   * @param exponent The exponent; negative means a power of the inverse.
+   *
+   * @return \(base^{exponent}\), where \(0^0=1\).
+   *
+   * @throws ArithmeticException If {@code base} is zero and {@code exponent} is negative.
+   */
+  public long[] pow(final long[] base, final BigInteger exponent) {
+    if(isZero(base)) {
+      if(exponent.signum() < 0) throw new ArithmeticException("Zero is not invertible.");
+
+      return (exponent.signum() == 0 ? one() : zero());
+    }
+
+    // The order of every unit divides 2^n - 1, and BigInteger#mod is never negative.
+    final BigInteger reduced = exponent.mod(BigInteger.ONE.shiftLeft(degree).subtract(BigInteger.ONE));
+
+    long[] result = one();
+
+    for(int i = reduced.bitLength() - 1; i >= 0; i--) {
+      result = square(result);
+
+      if(reduced.testBit(i)) result = multiply(result, base);
+    }
+
+    return result;
+  }
+
+  /**
+   * Computes the product of two elements, of degree at most \(2n-2\), in \(2\lceil n/64\rceil\) words.
+   */
+  private long[] multiplyUnreduced(final long[] multiplier, final long[] multiplicand) {
+    // Row u of the table is u(x) * multiplicand, for each polynomial u of degree below 4; it may spill into one more word.
+    final int stride = wordCount + 1;
+    final long[] table = new long[WINDOW_VALUES * stride];
+
+    System.arraycopy(multiplicand, 0, table, stride, wordCount);
+
+    for(int u = 2; u < WINDOW_VALUES; u += 2) {
+      final int half = (u / 2) * stride;
+      final int row = u * stride;
+
+      long carry = 0;
+
+      for(int i = 0; i < stride; i++) {
+        final long word = table[half + i];
+
+        table[row + i] = (word << 1) | carry;
+        table[row + stride + i] = table[row + i] ^ table[stride + i];
+        carry = (word >>> (Long.SIZE - 1));
+      }
+    }
+
+    final long[] product = new long[2 * wordCount];
+
+    for(int shift = Long.SIZE - WINDOW_BITS; shift >= 0; shift -= WINDOW_BITS) {
+      for(int j = 0; j < wordCount; j++) {
+        final int row = (int)((multiplier[j] >>> shift) & WINDOW_MASK) * stride;
+
+        for(int i = 0; i < stride; i++) {
+          product[j + i] ^= table[row + i];
+        }
+      }
+
+      if(shift != 0) {
+        for(int i = product.length - 1; i > 0; i--) {
+          product[i] = (product[i] << WINDOW_BITS) | (product[i - 1] >>> (Long.SIZE - WINDOW_BITS));
+        }
+
+        product[0] <<= WINDOW_BITS;
+      }
+    }
+
+    return product;
+  }
+
+  /**
+   * Reduces a polynomial of \(2\lceil n/64\rceil\) words modulo \(f\), and returns its low words.
+   */
+  private long[] reduce(final long[] value) {
+    reduceInPlace(value);
+
+    return Arrays.copyOf(value, wordCount);
+  }
+
+  /**
+   * Reduces a polynomial of \(2\lceil n/64\rceil\) words modulo \(f\), leaving the remainder in its low words and zeros above.
+   */
+  private void reduceInPlace(final long[] value) {
+    for(int i = value.length - 1; i >= wordCount - 1; i--) {
+      // The bits of word i at or above x^n; a fold lands back in the same word only if n - k < 64.
+      long high;
+
+      while((high = (i == wordCount - 1 ? value[i] & ~topMask : value[i])) != 0) {
+        value[i] ^= high;
+
+        // Bit b of the word is x^(64i + b) = x^(64i + b - n) * (f - x^n).
+        final int base = i * Long.SIZE - degree;
+
+        for(final int exponent : reductionExponents) {
+          final int shift = base + exponent;
+
+          if(shift < 0) {
+            // Only the bits at or above n were taken, so no set bit falls below x^0.
+            value[0] ^= (high >>> -shift);
+          } else {
+            final int word = shift / Long.SIZE;
+            final int offset = shift % Long.SIZE;
+
+            value[word] ^= (high << offset);
+
+            if(offset != 0) value[word + 1] ^= (high >>> (Long.SIZE - offset));
+          }
+        }
+      }
+    }
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  /**
+   * @return \(n\).
+   */
+  public int getDegree() {
+    return degree;
+  }
+
+  public int getWordCount() {
+    return wordCount;
+  }
+
+  /**
+   * @return A copy of the exponents of the terms of the modulus, in decreasing order.
+   */
+  public int[] getExponents() {
+    return exponents.clone();
+  }
+
+}
@@ -0,0 +1,535 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Arithmetic on dense univariate polynomials with coefficients modulo a fixed \(n\gt 0\) of any size.
+ * For \(n\lt 2^{63}\), {@link LongPolynomialArithmetic} is faster.
+ * <p>
+ * A polynomial is a {@code BigInteger[]} of canonical residues, the coefficient of \(x^{i}\) at index \(i\), without trailing zeros, so \(0\)
+ * is the empty array.
+ * Methods never modify their arguments, and always return new arrays.
+ * <p>
+ * {@link #multiply(BigInteger[], BigInteger[])} chooses the {@link PolynomialMultiplication} by the lengths of the factors.
+ * The schoolbook and Karatsuba methods multiply over the integers, and reduce each coefficient of the product once.
+ * The number-theoretic transform computes the exact integer convolution, whose coefficients are below \(\min(\ell,m)(n-1)^2\), modulo
+ * \(t\) primes above \(2^{61}\), as many as that bound needs, so \(t\) grows with the number of bits of \(n\).
+ * Each coefficient is recombined by Garner's algorithm into mixed-radix digits \(v_i\lt p_i\), and then reduced modulo \(n\) as
+ * \(\sum_i v_i(p_0\cdots p_{i-1}\bmod n)\).
+ * The transforms take \(t\) arrays of the transform length, so they need \(8t\) bytes per coefficient of the product, rounded up to a power
+ * of two.
+ * Given a pool, the primes are transformed concurrently, and the coefficients recombined in chunks.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class PolynomialArithmetic {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The length of the shorter factor up to which the schoolbook method is used, and at which Karatsuba's method stops recursing.
+   */
+  private static final int SCHOOLBOOK_THRESHOLD = 32;
+
+  /**
+   * The length of the shorter factor from which the number-theoretic transform is used.
+   * Recombination costs more per coefficient than for word-size moduli, so the transform takes over later.
+   */
+  private static final int TRANSFORM_THRESHOLD = 256;
+
+  /**
+   * The number of bits of the product of each additional prime, all of which exceed \(2^{61}\).
+   */
+  private static final int PRIME_BITS = 61;
+
+  /**
+   * The number of coefficients recombined per task on a pool; recombining costs \(O(t^2)\) per coefficient, so chunks are smaller than for
+   * {@link LongPolynomialArithmetic}.
+   */
+  private static final int RECOMBINATION_CHUNK = 1 << 12;
+
+  private static final BigInteger[] ZERO = new BigInteger[0];
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Removes trailing zeros.
+   *
+   * @param coefficients The coefficients.
+   *
+   * @return {@code coefficients}, if its last coefficient is not zero; a shorter copy, otherwise.
+   */
+  public static BigInteger[] trim(final BigInteger[] coefficients) {
+    int length = coefficients.length;
+
+    while(length > 0 && coefficients[length - 1].signum() == 0) {
+      length--;
+    }
+
+    return (length == coefficients.length ? coefficients : Arrays.copyOf(coefficients, length));
+  }
+
+  /**
+   * Gets the degree of a polynomial.
+   *
+   * @param polynomial The polynomial.
+   *
+   * @return The degree; or \(-1\), for \(0\).
+   */
+  public static int degree(final BigInteger[] polynomial) {
+    return polynomial.length - 1;
+  }
+
+  private static PolynomialMultiplication method(final BigInteger[] multiplier, final BigInteger[] multiplicand) {
+    final int shorter = Math.min(multiplier.length, multiplicand.length);
+
+    if(shorter <= SCHOOLBOOK_THRESHOLD) return PolynomialMultiplication.SCHOOLBOOK;
+    if(shorter < TRANSFORM_THRESHOLD) return PolynomialMultiplication.KARATSUBA;
+
+    return PolynomialMultiplication.NUMBER_THEORETIC_TRANSFORM;
+  }
+
+  /**
+   * Adds the integer product of {@code a[aFrom, aFrom + aLength)} and {@code b[bFrom, bFrom + bLength)} into {@code result[resultFrom, ...)}.
+   */
+  private static void schoolbook(final BigInteger[] a, final int aFrom, final int aLength, final BigInteger[] b, final int bFrom,
+      final int bLength, final BigInteger[] result, final int resultFrom) {
+    for(int i = 0; i < aLength; i++) {
+      final BigInteger coefficient = a[aFrom + i];
+
+      if(coefficient.signum() == 0) continue;
+
+      for(int j = 0; j < bLength; j++) {
+        result[resultFrom + i + j] = result[resultFrom + i + j].add(coefficient.multiply(b[bFrom + j]));
+      }
+    }
+  }
+
+  private static void karatsuba(final BigInteger[] a, final BigInteger[] b, final BigInteger[] product) {
+    final BigInteger[] longer = (a.length >= b.length ? a : b);
+    final BigInteger[] shorter = (longer == a ? b : a);
+    final int m = shorter.length;
+    final BigInteger[] slice = new BigInteger[m];
+    final BigInteger[] block = new BigInteger[2 * m - 1];
+
+    // Blocks of the longer factor, each as long as the shorter one, make every recursion balanced.
+    for(int from = 0; from < longer.length; from += m) {
+      final int sliceLength = Math.min(m, longer.length - from);
+
+      System.arraycopy(longer, from, slice, 0, sliceLength);
+      Arrays.fill(slice, sliceLength, m, BigInteger.ZERO);
+
+      karatsuba(slice, 0, shorter, 0, m, block, 0);
+
+      final int length = Math.min(block.length, product.length - from);
+
+      for(int i = 0; i < length; i++) {
+        product[from + i] = product[from + i].add(block[i]);
+      }
+    }
+  }
+
+  /**
+   * Writes the integer product of {@code a[aFrom, aFrom + length)} and {@code b[bFrom, bFrom + length)} to
+   * {@code result[resultFrom, resultFrom + 2 length - 1)}.
+   * Over the integers, every partial result is non-negative, so nothing is reduced until the end.
+   */
+  private static void karatsuba(final BigInteger[] a, final int aFrom, final BigInteger[] b, final int bFrom, final int length,
+      final BigInteger[] result, final int resultFrom) {
+    Arrays.fill(result, resultFrom, resultFrom + 2 * length - 1, BigInteger.ZERO);
+
+    if(length <= SCHOOLBOOK_THRESHOLD) {
+      schoolbook(a, aFrom, length, b, bFrom, length, result, resultFrom);
+
+      return;
+    }
+
+    final int low = length >>> 1;
+    final int high = length - low;
+
+    // z0 = a0 b0 and z2 = a1 b1 go to their places; the gap between them, at 2 low - 1, stays zero.
+    karatsuba(a, aFrom, b, bFrom, low, result, resultFrom);
+    karatsuba(a, aFrom + low, b, bFrom + low, high, result, resultFrom + 2 * low);
+
+    final BigInteger[] aSum = new BigInteger[high];
+    final BigInteger[] bSum = new BigInteger[high];
+
+    System.arraycopy(a, aFrom + low, aSum, 0, high);
+    System.arraycopy(b, bFrom + low, bSum, 0, high);
+
+    for(int i = 0; i < low; i++) {
+      aSum[i] = aSum[i].add(a[aFrom + i]);
+      bSum[i] = bSum[i].add(b[bFrom + i]);
+    }
+
+    final BigInteger[] middle = new BigInteger[2 * high - 1];
+
+    karatsuba(aSum, 0, bSum, 0, high, middle, 0);
+
+    // z1 = (a0 + a1)(b0 + b1) - z0 - z2, added at x^low.
+    for(int i = 0; i < 2 * low - 1; i++) {
+      middle[i] = middle[i].subtract(result[resultFrom + i]);
+    }
+    for(int i = 0; i < 2 * high - 1; i++) {
+      middle[i] = middle[i].subtract(result[resultFrom + 2 * low + i]);
+    }
+    for(int i = 0; i < middle.length; i++) {
+      result[resultFrom + low + i] = result[resultFrom + low + i].add(middle[i]);
+    }
+  }
+
+  /**
+   * Computes the cyclic convolution of two polynomials modulo the prime of a transform.
+   */
+  private static long[] convolve(final NumberTheoreticTransform transform, final BigInteger[] a, final BigInteger[] b, final int size) {
+    final long[] x = residues(a, size, transform.getP());
+
+    transform.forward(x, size);
+
+    if(a == b) {
+      transform.multiplyPointwise(x, x, size);
+    } else {
+      final long[] y = residues(b, size, transform.getP());
+
+      transform.forward(y, size);
+      transform.multiplyPointwise(x, y, size);
+    }
+
+    transform.inverse(x, size);
+
+    return x;
+  }
+
+  private static long[] residues(final BigInteger[] polynomial, final int size, final long p) {
+    final long[] residues = new long[size];
+    final BigInteger bigP = BigInteger.valueOf(p);
+
+    for(int i = 0; i < polynomial.length; i++) {
+      final BigInteger coefficient = polynomial[i];
+
+      residues[i] = (coefficient.bitLength() < Long.SIZE - 1 && coefficient.longValue() < p ? coefficient.longValue()
+          : coefficient.mod(bigP).longValue());
+    }
+
+    return residues;
+  }
+
+  /**
+   * Reduces \(x\lt 2p\) modulo \(p\); the primes are within a factor of two of each other, so residues modulo one are below twice any other.
+   */
+  private static long reduceOnce(final long x, final long p) {
+    final long difference = x - p;
+
+    return difference + ((difference >> 63) & p);
+  }
+
+  private static long add(final long augend, final long addend, final long p) {
+    final long sum = augend + addend - p;
+
+    return sum + ((sum >> 63) & p);
+  }
+
+  private static long subtract(final long minuend, final long subtrahend, final long p) {
+    final long difference = minuend - subtrahend;
+
+    return difference + ((difference >> 63) & p);
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param n The modulus of the coefficients, positive.
+   */
+  public PolynomialArithmetic(final BigInteger n) {
+    super();
+
+    Arguments.requireNotNull(n);
+    Arguments.requireTrue(n.signum() > 0, "The modulus must be positive.");
+
+    this.n = n;
+    this.nMinusOne = n.subtract(BigInteger.ONE);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final BigInteger n;
+
+  private final BigInteger nMinusOne;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Checks whether an array is a polynomial: canonical residues without trailing zeros.
+   *
+   * @param coefficients The coefficients.
+   *
+   * @return {@code true}, if it is a polynomial; {@code false}, otherwise.
+   */
+  public boolean isPolynomial(final BigInteger[] coefficients) {
+    for(final BigInteger coefficient : coefficients) {
+      if(coefficient == null || coefficient.signum() < 0 || coefficient.compareTo(n) >= 0) return false;
+    }
+
+    return (coefficients.length == 0 || coefficients[coefficients.length - 1].signum() != 0);
+  }
+
+  public BigInteger[] zero() {
+    return ZERO;
+  }
+
+  public BigInteger[] one() {
+    return (n.equals(BigInteger.ONE) ? ZERO : new BigInteger[] {BigInteger.ONE});
+  }
+
+  public BigInteger[] add(final BigInteger[] augend, final BigInteger[] addend) {
+    final BigInteger[] longer = (augend.length >= addend.length ? augend : addend);
+    final BigInteger[] shorter = (longer == augend ? addend : augend);
+    final BigInteger[] sum = longer.clone();
+
+    for(int i = 0; i < shorter.length; i++) {
+      final BigInteger coefficient = sum[i].add(shorter[i]);
+
+      sum[i] = (coefficient.compareTo(n) >= 0 ? coefficient.subtract(n) : coefficient);
+    }
+
+    return (augend.length == addend.length ? trim(sum) : sum);
+  }
+
+  public BigInteger[] subtract(final BigInteger[] minuend, final BigInteger[] subtrahend) {
+    final BigInteger[] difference = Arrays.copyOf(minuend, Math.max(minuend.length, subtrahend.length));
+
+    for(int i = 0; i < difference.length; i++) {
+      final BigInteger coefficient = (i < minuend.length ? minuend[i] : BigInteger.ZERO)
+          .subtract(i < subtrahend.length ? subtrahend[i] : BigInteger.ZERO);
+
+      difference[i] = (coefficient.signum() < 0 ? coefficient.add(n) : coefficient);
+    }
+
+    return trim(difference);
+  }
+
+  public BigInteger[] negate(final BigInteger[] polynomial) {
+    final BigInteger[] negation = new BigInteger[polynomial.length];
+
+    for(int i = 0; i < polynomial.length; i++) {
+      negation[i] = (polynomial[i].signum() == 0 ? BigInteger.ZERO : n.subtract(polynomial[i]));
+    }
+
+    return negation;
+  }
+
+  /**
+   * Multiplies every coefficient by a scalar.
+   *
+   * @param polynomial The polynomial.
+   * @param scalar     The scalar, a canonical residue.
+   *
+   * @return The product.
+   */
+  public BigInteger[] scale(final BigInteger[] polynomial, final BigInteger scalar) {
+    final BigInteger[] product = new BigInteger[polynomial.length];
+
+    for(int i = 0; i < polynomial.length; i++) {
+      product[i] = polynomial[i].multiply(scalar).mod(n);
+    }
+
+    return trim(product);
+  }
+
+  /**
+   * Multiplies polynomials, by the algorithm that is fastest for their lengths.
+   *
+   * @param multiplier   The multiplier.
+   * @param multiplicand The multiplicand.
+   *
+   * @return The product.
+   */
+  public BigInteger[] multiply(final BigInteger[] multiplier, final BigInteger[] multiplicand) {
+    return multiply(multiplier, multiplicand, method(multiplier, multiplicand), null);
+  }
+
+  /**
+   * Multiplies polynomials, by the algorithm that is fastest for their lengths, transforming modulo each prime and recombining chunks of
+   * coefficients on {@code pool}.
+   *
+   * @param multiplier   The multiplier.
+   * @param multiplicand The multiplicand.
+   * @param pool         The pool.
+   *
+   * @return The product.
+   */
+  public BigInteger[] multiply(final BigInteger[] multiplier, final BigInteger[] multiplicand, final ForkJoinPool pool) {
+    Arguments.requireNotNull(pool);
+
+    return multiply(multiplier, multiplicand, method(multiplier, multiplicand), pool);
+  }
+
+  /**
+   * Multiplies polynomials by a chosen algorithm.
+   *
+   * @param multiplier   The multiplier.
+   * @param multiplicand The multiplicand.
+   * @param method       The algorithm.
+   *
+   * @return The product.
+   */
+  public BigInteger[] multiply(final BigInteger[] multiplier, final BigInteger[] multiplicand, final PolynomialMultiplication method) {
+    return multiply(multiplier, multiplicand, method, null);
+  }
+
+  private BigInteger[] multiply(final BigInteger[] multiplier, final BigInteger[] multiplicand, final PolynomialMultiplication method,
+      final ForkJoinPool pool) {
+    Arguments.requireNotNull(multiplier);
+    Arguments.requireNotNull(multiplicand);
+    Arguments.requireNotNull(method);
+
+    if(multiplier.length == 0 || multiplicand.length == 0) return ZERO;
+
+    Arguments.requireTrue((long)multiplier.length + multiplicand.length - 1 <= (1 << 30), "The product is too long.");
+
+    final BigInteger[] product = new BigInteger[multiplier.length + multiplicand.length - 1];
+
+    switch(method) {
+      case SCHOOLBOOK:
+        Arrays.fill(product, BigInteger.ZERO);
+        schoolbook(multiplier, 0, multiplier.length, multiplicand, 0, multiplicand.length, product, 0);
+        reduce(product);
+        break;
+      case KARATSUBA:
+        Arrays.fill(product, BigInteger.ZERO);
+        karatsuba(multiplier, multiplicand, product);
+        reduce(product);
+        break;
+      case NUMBER_THEORETIC_TRANSFORM:
+        transform(multiplier, multiplicand, product, pool);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown method: " + method + ".");
+    }
+
+    // The leading coefficient is a product of non-zero residues, which may still be zero if n is composite.
+    return trim(product);
+  }
+
+  private void reduce(final BigInteger[] coefficients) {
+    for(int i = 0; i < coefficients.length; i++) {
+      coefficients[i] = coefficients[i].mod(n);
+    }
+  }
+
+  private void transform(final BigInteger[] a, final BigInteger[] b, final BigInteger[] product, final ForkJoinPool pool) {
+    final int length = product.length;
+    final int size = Integer.highestOneBit(Math.max(1, 2 * length - 1));
+
+    // The exact coefficients are below min(l, m) (n - 1)^2, and each prime adds more than PRIME_BITS bits to their product.
+    final int boundBits = 2 * nMinusOne.bitLength() + (32 - Integer.numberOfLeadingZeros(Math.min(a.length, b.length)));
+    final int primeCount = Math.max(1, (boundBits + PRIME_BITS - 1) / PRIME_BITS);
+    final long[][] residues = new long[primeCount][];
+
+    // inverses[i] = (p_0 ... p_{i-1})^-1 mod p_i, and weights[i] = p_0 ... p_{i-1} mod n.
+    final long[] inverses = new long[primeCount];
+    final BigInteger[] weights = new BigInteger[primeCount];
+    BigInteger prefix = BigInteger.ONE;
+
+    for(int i = 0; i < primeCount; i++) {
+      final BigInteger p = BigInteger.valueOf(NumberTheoreticTransform.prime(i).getP());
+
+      inverses[i] = prefix.modInverse(p).longValue();
+      weights[i] = prefix.mod(n);
+      prefix = prefix.multiply(p);
+    }
+
+    if(pool == null) {
+      for(int i = 0; i < primeCount; i++) {
+        residues[i] = convolve(NumberTheoreticTransform.prime(i), a, b, size);
+      }
+
+      recombine(residues, inverses, weights, product, 0, length);
+    } else {
+      pool.submit(() -> IntStream.range(0, primeCount).parallel().forEach(i -> residues[i] = convolve(NumberTheoreticTransform.prime(i), a, b, size)))
+          .join();
+
+      final int chunkCount = (length + RECOMBINATION_CHUNK - 1) / RECOMBINATION_CHUNK;
+
+      pool.submit(() -> IntStream.range(0, chunkCount).parallel().forEach(chunk -> recombine(residues, inverses, weights, product,
+          chunk * RECOMBINATION_CHUNK, Math.min(length, (chunk + 1) * RECOMBINATION_CHUNK)))).join();
+    }
+  }
+
+  /**
+   * Recombines the residues of each coefficient by Garner's algorithm into digits \(v_i\lt p_i\) with \(x=v_0+p_0(v_1+p_1(v_2+\cdots))\),
+   * each found modulo \(p_i\) from the digits before it, and sums the digits times their weights modulo \(n\).
+   */
+  private void recombine(final long[][] residues, final long[] inverses, final BigInteger[] weights, final BigInteger[] product, final int from,
+      final int to) {
+    final int primeCount = residues.length;
+    final NumberTheoreticTransform[] transforms = new NumberTheoreticTransform[primeCount];
+    final long[] primes = new long[primeCount];
+    final long[] digits = new long[primeCount];
+
+    for(int i = 0; i < primeCount; i++) {
+      transforms[i] = NumberTheoreticTransform.prime(i);
+      primes[i] = transforms[i].getP();
+    }
+
+    for(int k = from; k < to; k++) {
+      BigInteger coefficient = BigInteger.valueOf(residues[0][k]);
+
+      digits[0] = residues[0][k];
+
+      for(int i = 1; i < primeCount; i++) {
+        final NumberTheoreticTransform transform = transforms[i];
+        final long p = primes[i];
+        long prefix = 0;
+
+        // v_0 + p_0 (v_1 + ... + p_{i-2} v_{i-1}) mod p_i, by Horner's method from the last digit.
+        for(int j = i - 1; j >= 0; j--) {
+          prefix = add(transform.multiply(prefix, reduceOnce(primes[j], p)), reduceOnce(digits[j], p), p);
+        }
+
+        digits[i] = transform.multiply(subtract(residues[i][k], prefix, p), inverses[i]);
+        coefficient = coefficient.add(weights[i].multiply(BigInteger.valueOf(digits[i])));
+      }
+
+      product[k] = coefficient.mod(n);
+    }
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public BigInteger getN() {
+    return n;
+  }
+
+}
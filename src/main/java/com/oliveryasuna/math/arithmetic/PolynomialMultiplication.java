@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+/**
+ * The algorithms by which a {@link LongPolynomialArithmetic} or a {@link PolynomialArithmetic} multiplies polynomials.
+ *
+ * @author Oliver Yasuna
+ */
+public enum PolynomialMultiplication {
+
+  // Values
+  //--------------------------------------------------
+
+  /**
+   * The schoolbook method, in \(O(\ell m)\) coefficient products for lengths \(\ell\) and \(m\).
+   * The fastest for short polynomials.
+   */
+  SCHOOLBOOK,
+
+  /**
+   * Karatsuba's method, in \(O(\ell m^{\log_2 3-1})\) coefficient products for lengths \(\ell\ge m\), falling back to the schoolbook method for
+   * short halves.
+   */
+  KARATSUBA,
+
+  /**
+   * Convolution by the {@linkplain NumberTheoreticTransform number-theoretic transform} modulo as many word-size primes as the coefficients
+   * of the product need, recombined by the Chinese remainder theorem, in \(O(tN\log N)\) for \(t\) primes and a transform length
+   * \(N\ge\ell+m-1\).
+   */
+  NUMBER_THEORETIC_TRANSFORM
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.exception.UnsupportedInstantiationException;
+import com.oliveryasuna.commons.language.marker.Utility;
+
+import java.math.BigInteger;
+
+/**
+ * Primality tests.
+ * <p>
+ * Below \(2^{63}\), the Miller-Rabin test with the seven bases of Jim Sinclair is deterministic.
+ * Above, a common factor with the primes below \(256\) is ruled out by one GCD, then {@link BigInteger#isProbablePrime(int)} decides, with an
+ * error probability below \(2^{-100}\).
+ *
+ * @author Oliver Yasuna
+ */
+@Utility
+public final class Primality {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int PRIME_CERTAINTY = 100;
+
+  /**
+   * Bases for which the Miller-Rabin test has no strong pseudoprime below \(2^{64}\).
+   */
+  private static final long[] DETERMINISTIC_BASES = {2L, 325L, 9375L, 28178L, 450775L, 9780504L, 1795265022L};
+
+  private static final int[] SMALL_PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37};
+
+  private static final int SMALL_PRIME_BOUND = 256;
+
+  /**
+   * The product of the primes below {@link #SMALL_PRIME_BOUND}.
+   */
+  private static final BigInteger SMALL_PRIMORIAL;
+
+  static {
+    BigInteger primorial = BigInteger.ONE;
+
+    for(int candidate = 2; candidate < SMALL_PRIME_BOUND; candidate++) {
+      if(isPrime(candidate)) primorial = primorial.multiply(BigInteger.valueOf(candidate));
+    }
+
+    SMALL_PRIMORIAL = primorial;
+  }
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Decides whether a number is prime.
+   *
+   * @param n The number.
+   *
+   * @return {@code true}, if {@code n} is prime; {@code false}, otherwise.
+   */
+  public static boolean isPrime(final long n) {
+    if(n < 2) return false;
+
+    for(final int prime : SMALL_PRIMES) {
+      if(n % prime == 0) return (n == prime);
+    }
+
+    // Every composite below 41^2 has a factor below 41.
+    if(n < 41 * 41) return true;
+
+    final LongModularArithmetic arithmetic = new LongModularArithmetic(n);
+    final long minusOne = n - 1;
+    final int twos = Long.numberOfTrailingZeros(minusOne);
+    final long odd = (minusOne >>> twos);
+
+    for(final long base : DETERMINISTIC_BASES) {
+      final long reduced = base % n;
+
+      if(reduced == 0) continue;
+
+      long x = arithmetic.pow(reduced, odd);
+
+      if(x == 1 || x == minusOne) continue;
+
+      boolean witness = true;
+
+      for(int i = 1; i < twos && witness; i++) {
+        x = arithmetic.multiply(x, x);
+
+        if(x == minusOne) witness = false;
+      }
+
+      if(witness) return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Decides whether a number is prime; exactly below \(2^{63}\), and with an error probability below \(2^{-100}\) above.
+   *
+   * @param n The number.
+   *
+   * @return {@code true}, if {@code n} is prime; {@code false}, otherwise.
+   */
+  public static boolean isPrime(final BigInteger n) {
+    Arguments.requireNotNull(n);
+
+    if(n.bitLength() < Long.SIZE) return isPrime(n.longValue());
+
+    if(!n.gcd(SMALL_PRIMORIAL).equals(BigInteger.ONE)) return false;
+
+    return n.isProbablePrime(PRIME_CERTAINTY);
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private Primality() {
+    super();
+
+    throw new UnsupportedInstantiationException();
+  }
+
+}
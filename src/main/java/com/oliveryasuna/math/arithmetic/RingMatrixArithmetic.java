@@ -0,0 +1,177 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.ring.RingElement;
+import com.oliveryasuna.math.algebra.ring.operation.RingOperation1;
+import com.oliveryasuna.math.algebra.ring.operation.SemiringOperation2;
+
+import java.util.Arrays;
+
+/**
+ * Arithmetic on square matrices over any ring, stored row-major in an {@code Object[]} of its elements.
+ * <p>
+ * Entries are combined by the operations of the ring, so every term allocates; for the integers modulo \(n\) with \(n\lt 2^{63}\), prefer
+ * {@link LongMatrixArithmetic}.
+ *
+ * @param <E> The type of the elements of the ring.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class RingMatrixArithmetic<E extends RingElement<E, ?>> extends MatrixArithmetic<Object[]> {
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Gets an entry of a matrix.
+   * <p>
+   * Matrices hold only elements of the ring: those this arithmetic creates, and those its callers pass in, so the cast is safe.
+   *
+   * @param matrix The matrix, whose entries are all {@code E}.
+   * @param index  The index.
+   * @param <E>    The type of the elements of the ring.
+   *
+   * @return The entry.
+   */
+  @SuppressWarnings("unchecked")
+  private static <E> E entry(final Object[] matrix, final int index) {
+    return (E)matrix[index];
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  public RingMatrixArithmetic(final RingOperation1<E> addition, final SemiringOperation2<E> multiplication) {
+    this(addition, multiplication, DEFAULT_STRASSEN_THRESHOLD);
+  }
+
+  /**
+   * @param addition          The addition of the ring.
+   * @param multiplication    The multiplication of the ring.
+   * @param strassenThreshold The size from which the Strassen-Winograd algorithm is used, at least \(2\).
+   */
+  public RingMatrixArithmetic(final RingOperation1<E> addition, final SemiringOperation2<E> multiplication, final int strassenThreshold) {
+    super(strassenThreshold);
+
+    Arguments.requireNotNull(addition);
+    Arguments.requireNotNull(multiplication);
+
+    this.addition = addition;
+    this.multiplication = multiplication;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  protected final RingOperation1<E> addition;
+
+  protected final SemiringOperation2<E> multiplication;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Gets the identity matrix.
+   *
+   * @param size The size.
+   *
+   * @return The identity matrix.
+   */
+  public Object[] identity(final int size) {
+    final Object[] identity = zeros(size * size);
+    final E one = multiplication.identity();
+
+    for(int i = 0; i < size; i++) {
+      identity[i * size + i] = one;
+    }
+
+    return identity;
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // MatrixArithmetic
+  //
+
+  @Override
+  protected Object[] zeros(final int length) {
+    final Object[] zeros = new Object[length];
+
+    Arrays.fill(zeros, addition.identity());
+
+    return zeros;
+  }
+
+  @Override
+  protected void addAll(final Object[] augends, final Object[] addends, final Object[] sums) {
+    for(int i = 0; i < sums.length; i++) {
+      sums[i] = addition.perform(entry(augends, i), entry(addends, i));
+    }
+  }
+
+  @Override
+  protected void subtractAll(final Object[] minuends, final Object[] subtrahends, final Object[] differences) {
+    for(int i = 0; i < differences.length; i++) {
+      differences[i] = addition.perform(entry(minuends, i), addition.inverse(entry(subtrahends, i)));
+    }
+  }
+
+  @Override
+  protected void multiplyTile(final Object[] multiplier, final Object[] multiplicand, final Object[] product, final int size,
+      final int rowFrom, final int rowTo, final int columnFrom, final int columnTo) {
+    final E zero = addition.identity();
+
+    for(int termFrom = 0; termFrom < size; termFrom += TILE_SIZE) {
+      final int termTo = Math.min(termFrom + TILE_SIZE, size);
+
+      for(int i = rowFrom; i < rowTo; i++) {
+        final int row = i * size;
+
+        for(int k = termFrom; k < termTo; k++) {
+          final E a = entry(multiplier, row + k);
+
+          if(a.equals(zero)) continue;
+
+          final int offset = k * size;
+
+          for(int j = columnFrom; j < columnTo; j++) {
+            product[row + j] = addition.perform(entry(product, row + j), multiplication.perform(a, entry(multiplicand, offset + j)));
+          }
+        }
+      }
+    }
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public RingOperation1<E> getAddition() {
+    return addition;
+  }
+
+  public SemiringOperation2<E> getMultiplication() {
+    return multiplication;
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.codec;
+
+import com.oliveryasuna.math.algebra.AlgebraicElement;
+import com.oliveryasuna.math.algebra.AlgebraicStructure;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes the elements of one kind of structure, and the parameters that describe a structure of that kind.
+ * <p>
+ * Codecs are stateless; the structure is passed to every method.
+ * Buffers are little-endian.
+ *
+ * @param <S> The type of structure.
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public interface ElementCodec<S extends AlgebraicStructure<S, E>, E extends AlgebraicElement<E, S>> {
+
+  /**
+   * Gets the name that identifies the codec in a stream.
+   *
+   * @return The name.
+   */
+  String getName();
+
+  /**
+   * Encodes the parameters of a structure, such that two structures with the same descriptor have the same elements.
+   *
+   * @param structure The structure.
+   *
+   * @return The descriptor.
+   */
+  byte[] describe(S structure);
+
+  /**
+   * Creates a structure from its descriptor.
+   *
+   * @param descriptor The descriptor, as from {@link #describe(AlgebraicStructure)}.
+   *
+   * @return The structure.
+   *
+   * @throws IllegalArgumentException If the descriptor is invalid.
+   */
+  S structure(byte[] descriptor);
+
+  /**
+   * Gets the number of bytes of every element of a structure, if they are fixed.
+   * <p>
+   * A codec with a fixed width of {@code 8 * limbCount} bytes must encode values as the little-endian limbs of the structure's
+   * {@link com.oliveryasuna.math.algebra.ElementVector}, so that vectors can be read and written without conversion.
+   *
+   * @param structure The structure.
+   *
+   * @return The number of bytes; or {@code -1}, if it varies.
+   */
+  int fixedWidth(S structure);
+
+  /**
+   * Gets the largest number of bytes an element may encode to.
+   *
+   * @param structure The structure.
+   * @param element   The element.
+   *
+   * @return The number of bytes.
+   */
+  int maximumWidth(S structure, E element);
+
+  /**
+   * Encodes an element.
+   *
+   * @param structure The structure.
+   * @param element   The element.
+   * @param buffer    The buffer, with at least {@link #maximumWidth(AlgebraicStructure, AlgebraicElement)} bytes remaining.
+   *
+   * @throws IllegalArgumentException If the element cannot be encoded for the structure.
+   */
+  void encode(S structure, E element, ByteBuffer buffer);
+
+  /**
+   * Decodes an element.
+   *
+   * @param structure The structure.
+   * @param buffer    The buffer.
+   *
+   * @return The element.
+   *
+   * @throws BufferUnderflowException If the buffer ends within the element, in which case its position is unspecified.
+   * @throws IllegalArgumentException If the bytes are not an element of the structure.
+   */
+  E decode(S structure, ByteBuffer buffer);
+
+}
@@ -0,0 +1,369 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.codec;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.math.algebra.AlgebraicElement;
+import com.oliveryasuna.math.algebra.AlgebraicStructure;
+import com.oliveryasuna.math.algebra.ElementVector;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads elements written by {@link ElementWriter} from a channel.
+ * <p>
+ * The structure is rebuilt from the descriptor in the header, or checked against a given structure, whose elements are then returned.
+ * Bytes are read in large blocks into a direct buffer, and elements decoded from it.
+ * Vectors whose layout the codec shares are read straight into their storage, then checked in place, without creating elements.
+ * <p>
+ * Readers are not thread-safe.
+ *
+ * @param <S> The type of structure.
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public final class ElementReader<S extends AlgebraicStructure<S, E>, E extends AlgebraicElement<E, S>> implements Closeable {
+
+  // Static fields
+  //--------------------------------------------------
+
+  public static final int DEFAULT_BUFFER_BYTES = 1 << 16;
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates a reader, reads the header, and rebuilds the structure it describes.
+   *
+   * @param channel The channel, which must be blocking.
+   * @param codec   The codec, which must be the one the stream was written with.
+   *
+   * @throws IOException If an I/O error occurs, or the header is invalid.
+   */
+  public ElementReader(final ReadableByteChannel channel, final ElementCodec<S, E> codec) throws IOException {
+    this(channel, codec, null);
+  }
+
+  /**
+   * Creates a reader, and reads the header, which must describe a given structure.
+   *
+   * @param channel   The channel, which must be blocking.
+   * @param codec     The codec, which must be the one the stream was written with.
+   * @param structure The structure, whose elements are returned; or {@code null}, to rebuild it from the header.
+   *
+   * @throws IOException If an I/O error occurs, or the header is invalid or describes another structure.
+   */
+  public ElementReader(final ReadableByteChannel channel, final ElementCodec<S, E> codec, final S structure) throws IOException {
+    super();
+
+    Arguments.requireNotNull(channel);
+    Arguments.requireNotNull(codec);
+    ElementStreams.requireBlocking(channel);
+
+    this.channel = channel;
+    this.codec = codec;
+    this.buffer = ByteBuffer.allocateDirect(DEFAULT_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+    buffer.flip();
+
+    if(readInt() != ElementStreams.MAGIC) throw new StreamCorruptedException("The stream was not written by an ElementWriter.");
+
+    final byte version = readBytes(1)[0];
+
+    if(version != ElementStreams.FORMAT_VERSION) throw new StreamCorruptedException("Unsupported format version: " + version + ".");
+
+    final String name = new String(readBytes(readLength(ElementStreams.MAXIMUM_NAME_BYTES)), StandardCharsets.UTF_8);
+
+    if(!name.equals(codec.getName())) throw new StreamCorruptedException("The stream was written with the codec " + name + ", not " + codec.getName() + ".");
+
+    this.descriptor = readBytes(readLength(ElementStreams.MAXIMUM_DESCRIPTOR_BYTES));
+
+    if(structure == null) {
+      try {
+        this.structure = codec.structure(descriptor);
+      } catch(final IllegalArgumentException e) {
+        throw (StreamCorruptedException)new StreamCorruptedException("Invalid descriptor.").initCause(e);
+      }
+    } else {
+      if(!Arrays.equals(codec.describe(structure), descriptor)) throw new StreamCorruptedException("The stream describes a different structure.");
+
+      this.structure = structure;
+    }
+
+    this.fixedWidth = codec.fixedWidth(this.structure);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final ReadableByteChannel channel;
+
+  private final ElementCodec<S, E> codec;
+
+  private final byte[] descriptor;
+
+  private final S structure;
+
+  private final int fixedWidth;
+
+  /**
+   * The buffer, in read mode: the bytes from the position to the limit have been read from the channel, but not decoded.
+   */
+  private ByteBuffer buffer;
+
+  private long elementCount;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Checks whether another element follows, reading from the channel if needed.
+   *
+   * @return {@code true}, if another element follows; {@code false}, if the stream has ended.
+   *
+   * @throws IOException If an I/O error occurs.
+   */
+  public boolean hasNext() throws IOException {
+    return (buffer.hasRemaining() || fill());
+  }
+
+  /**
+   * Reads an element.
+   *
+   * @return The element.
+   *
+   * @throws NoSuchElementException If the stream has ended.
+   * @throws IOException            If an I/O error occurs, or the stream ends within an element or holds an invalid or oversized one.
+   */
+  public E read() throws IOException {
+    if(!hasNext()) throw new NoSuchElementException("The stream has ended.");
+
+    if(fixedWidth >= 0) ensure(fixedWidth);
+
+    while(true) {
+      final int position = buffer.position();
+
+      try {
+        final E element = codec.decode(structure, buffer);
+
+        elementCount++;
+
+        return element;
+      } catch(final BufferUnderflowException e) {
+        buffer.position(position);
+
+        // Every remaining byte belongs to the element, so it is longer than that; stop before the buffer grows past the limit.
+        if(buffer.remaining() >= ElementStreams.MAXIMUM_ELEMENT_BYTES) {
+          throw new StreamCorruptedException("The element at index " + elementCount + " exceeds " + ElementStreams.MAXIMUM_ELEMENT_BYTES + " bytes.");
+        }
+
+        if(!fill()) throw new EOFException("The stream ends within an element.");
+      } catch(final IllegalArgumentException e) {
+        throw (StreamCorruptedException)new StreamCorruptedException("Invalid element at index " + elementCount + ".").initCause(e);
+      }
+    }
+  }
+
+  /**
+   * Reads elements into an array, until it is full or the stream ends.
+   *
+   * @param elements The array.
+   *
+   * @return The number of elements read.
+   *
+   * @throws IOException If an I/O error occurs, or the stream ends within an element or holds an invalid one.
+   */
+  public int readAll(final E[] elements) throws IOException {
+    Arguments.requireNotNull(elements);
+
+    int read = 0;
+
+    while(read < elements.length && hasNext()) {
+      elements[read++] = read();
+    }
+
+    return read;
+  }
+
+  /**
+   * Reads elements straight into the storage of a range of a vector, until it is full or the stream ends.
+   * <p>
+   * No element is created; the values are checked in place once read.
+   *
+   * @param vector The vector, whose structure must have the descriptor of the stream, and whose layout must be the codec's.
+   * @param from   The first index.
+   * @param count  The number of elements.
+   *
+   * @return The number of elements read.
+   *
+   * @throws IOException If an I/O error occurs, or the stream ends within an element or holds an invalid one.
+   */
+  public int readInto(final ElementVector<S, E> vector, final int from, final int count) throws IOException {
+    Arguments.requireNotNull(vector);
+    Arguments.requireTrue(from >= 0 && count >= 0 && from <= vector.size() - count, "Invalid range: [" + from + "," + ((long)from + count) + ").");
+
+    final int width = ElementStreams.vectorWidth(codec, structure, descriptor, vector);
+    int read = 0;
+
+    while(read < count) {
+      final int run = Math.min(count - read, vector.contiguousValues(from + read));
+      final ByteBuffer storage = vector.storage(from + read, run);
+
+      // Drain what is buffered, then read the rest from the channel directly.
+      if(buffer.hasRemaining()) {
+        final ByteBuffer buffered = buffer.duplicate();
+
+        buffered.limit(buffered.position() + Math.min(buffered.remaining(), storage.remaining()));
+        storage.put(buffered);
+        buffer.position(buffered.position());
+      }
+
+      while(storage.hasRemaining() && read(storage) >= 0) {
+        // Keep reading.
+      }
+
+      if(storage.position() % width != 0) throw new EOFException("The stream ends within an element.");
+
+      final int complete = storage.position() / width;
+
+      try {
+        vector.checkValues(from + read, complete);
+      } catch(final IllegalArgumentException e) {
+        throw (StreamCorruptedException)new StreamCorruptedException("Invalid element in the stream.").initCause(e);
+      }
+
+      read += complete;
+      elementCount += complete;
+
+      if(complete < run) break;
+    }
+
+    return read;
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * Reads more bytes from the channel, growing the buffer if it is full.
+   *
+   * @return {@code true}, if any bytes were read; {@code false}, if the stream has ended.
+   */
+  private boolean fill() throws IOException {
+    if(buffer.position() == 0 && buffer.limit() == buffer.capacity()) {
+      buffer = ByteBuffer.allocateDirect(2 * buffer.capacity()).order(ByteOrder.LITTLE_ENDIAN).put(buffer);
+    } else {
+      buffer.compact();
+    }
+
+    final int start = buffer.position();
+    final int count = read(buffer);
+
+    buffer.flip();
+
+    return (count > 0 || buffer.limit() > start);
+  }
+
+  /**
+   * Reads from the channel into a buffer with space remaining.
+   *
+   * @return The number of bytes read, which is positive; or {@code -1}, if the stream has ended.
+   *
+   * @throws IOException If an I/O error occurs, or no bytes were read, as only a non-blocking channel would.
+   */
+  private int read(final ByteBuffer destination) throws IOException {
+    final int count = channel.read(destination);
+
+    if(count == 0) throw new IOException("The channel read no bytes, so it is not blocking.");
+
+    return count;
+  }
+
+  private void ensure(final int bytes) throws IOException {
+    while(buffer.remaining() < bytes) {
+      if(!fill()) throw new EOFException("The stream ends within an element.");
+    }
+  }
+
+  private int readInt() throws IOException {
+    ensure(Integer.BYTES);
+
+    return buffer.getInt();
+  }
+
+  private byte[] readBytes(final int count) throws IOException {
+    final byte[] bytes = new byte[count];
+
+    ensure(count);
+    buffer.get(bytes);
+
+    return bytes;
+  }
+
+  private int readLength(final int maximum) throws IOException {
+    while(true) {
+      final int position = buffer.position();
+
+      try {
+        final long length = VarInts.readUnsigned(buffer);
+
+        // Lengths of 2^63 or more read as negative.
+        if(length < 0 || length > maximum) throw new StreamCorruptedException("Invalid header length: " + Long.toUnsignedString(length) + ".");
+
+        return (int)length;
+      } catch(final BufferUnderflowException e) {
+        buffer.position(position);
+
+        if(!fill()) throw new EOFException("The stream ends within its header.");
+      } catch(final IllegalArgumentException e) {
+        throw (StreamCorruptedException)new StreamCorruptedException("Invalid header length.").initCause(e);
+      }
+    }
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public S getStructure() {
+    return structure;
+  }
+
+  /**
+   * Gets the number of elements read.
+   *
+   * @return The number of elements.
+   */
+  public long getElementCount() {
+    return elementCount;
+  }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.codec;
+
+import com.oliveryasuna.commons.language.exception.UnsupportedInstantiationException;
+import com.oliveryasuna.commons.language.marker.Utility;
+import com.oliveryasuna.math.algebra.AlgebraicElement;
+import com.oliveryasuna.math.algebra.AlgebraicStructure;
+import com.oliveryasuna.math.algebra.ElementVector;
+
+import java.nio.channels.Channel;
+import java.nio.channels.SelectableChannel;
+import java.util.Arrays;
+
+/**
+ * The header shared by {@link ElementWriter} and {@link ElementReader}.
+ * <p>
+ * A stream is the {@link #MAGIC} number, the {@link #FORMAT_VERSION}, the length and UTF-8 bytes of the codec name, and the length and bytes
+ * of the structure descriptor, then the elements, back to back.
+ * Lengths are unsigned {@linkplain VarInts LEB128}, and the rest is little-endian.
+ * <p>
+ * Channels must be blocking, so that every read or write transfers at least one byte, and none has to be retried.
+ *
+ * @author Oliver Yasuna
+ */
+@Utility
+final class ElementStreams {
+
+  // Static fields
+  //--------------------------------------------------
+
+  static final int MAGIC = 0x4C45594F;
+
+  static final byte FORMAT_VERSION = 1;
+
+  static final int MAXIMUM_NAME_BYTES = 1 << 10;
+
+  static final int MAXIMUM_DESCRIPTOR_BYTES = 1 << 20;
+
+  /**
+   * The largest encoded element, which bounds how far a reader buffers a variable-width element before it is decoded.
+   */
+  static final int MAXIMUM_ELEMENT_BYTES = 1 << 24;
+
+  /**
+   * The largest number of bytes of the length of a name or descriptor, which is less than \(2^{21}\).
+   */
+  private static final int MAXIMUM_LENGTH_BYTES = 3;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Checks that a channel is blocking, as every channel is unless it is a {@link SelectableChannel} configured otherwise.
+   *
+   * @throws IllegalArgumentException If the channel is non-blocking.
+   */
+  static void requireBlocking(final Channel channel) {
+    if(channel instanceof SelectableChannel && !((SelectableChannel)channel).isBlocking()) {
+      throw new IllegalArgumentException("The channel must be blocking.");
+    }
+  }
+
+  static int headerBytes(final int nameBytes, final int descriptorBytes) {
+    return Integer.BYTES + Byte.BYTES + 2 * MAXIMUM_LENGTH_BYTES + nameBytes + descriptorBytes;
+  }
+
+  /**
+   * Gets the number of bytes per value of a vector, if a codec reads and writes its storage as is.
+   *
+   * @return The number of bytes per value.
+   *
+   * @throws IllegalArgumentException If the codec does not use the layout of the vector, or the structure of the vector is not described as
+   *                                  {@code descriptor}.
+   */
+  static <S extends AlgebraicStructure<S, E>, E extends AlgebraicElement<E, S>> int vectorWidth(final ElementCodec<S, E> codec, final S structure,
+      final byte[] descriptor, final ElementVector<S, E> vector) {
+    final int width = codec.fixedWidth(structure);
+
+    if(width != vector.getLimbCount() * Long.BYTES) {
+      throw new IllegalArgumentException("The codec " + codec.getName() + " does not use the layout of the vector.");
+    }
+    if(vector.getStructure() != structure && !Arrays.equals(codec.describe(vector.getStructure()), descriptor)) {
+      throw new IllegalArgumentException("The vector is over a different structure than the stream.");
+    }
+
+    return width;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private ElementStreams() {
+    super();
+
+    throw new UnsupportedInstantiationException();
+  }
+
+}
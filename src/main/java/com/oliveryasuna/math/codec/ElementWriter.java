@@ -0,0 +1,255 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.codec;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.math.algebra.AlgebraicElement;
+import com.oliveryasuna.math.algebra.AlgebraicStructure;
+import com.oliveryasuna.math.algebra.ElementVector;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes elements of one structure to a channel, which {@link ElementReader} reads back.
+ * <p>
+ * The structure is described once, in the header; each element is then only its value, as encoded by the codec.
+ * Elements are gathered in a direct buffer and written in large blocks.
+ * Vectors whose layout the codec shares are written straight from their storage, without creating elements or copying.
+ * <p>
+ * Writers are not thread-safe.
+ *
+ * @param <S> The type of structure.
+ * @param <E> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public final class ElementWriter<S extends AlgebraicStructure<S, E>, E extends AlgebraicElement<E, S>> implements Closeable, Flushable {
+
+  // Static fields
+  //--------------------------------------------------
+
+  public static final int DEFAULT_BUFFER_BYTES = 1 << 16;
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates a writer, and writes the header.
+   *
+   * @param channel   The channel, which must be blocking.
+   * @param codec     The codec.
+   * @param structure The structure of the elements to be written.
+   *
+   * @throws IOException If an I/O error occurs.
+   */
+  public ElementWriter(final WritableByteChannel channel, final ElementCodec<S, E> codec, final S structure) throws IOException {
+    this(channel, codec, structure, DEFAULT_BUFFER_BYTES);
+  }
+
+  /**
+   * Creates a writer, and writes the header.
+   *
+   * @param channel     The channel, which must be blocking.
+   * @param codec       The codec.
+   * @param structure   The structure of the elements to be written.
+   * @param bufferBytes The initial size of the buffer, which grows to fit the header and any one element.
+   *
+   * @throws IOException If an I/O error occurs.
+   */
+  public ElementWriter(final WritableByteChannel channel, final ElementCodec<S, E> codec, final S structure, final int bufferBytes)
+      throws IOException {
+    super();
+
+    Arguments.requireNotNull(channel);
+    Arguments.requireNotNull(codec);
+    Arguments.requireNotNull(structure);
+    Arguments.requireTrue(bufferBytes > 0, "The buffer must not be empty.");
+    ElementStreams.requireBlocking(channel);
+
+    this.channel = channel;
+    this.codec = codec;
+    this.structure = structure;
+    this.descriptor = codec.describe(structure);
+    this.fixedWidth = codec.fixedWidth(structure);
+
+    final byte[] name = codec.getName().getBytes(StandardCharsets.UTF_8);
+
+    Arguments.requireTrue(name.length <= ElementStreams.MAXIMUM_NAME_BYTES, "The codec name is too long.");
+    Arguments.requireTrue(descriptor.length <= ElementStreams.MAXIMUM_DESCRIPTOR_BYTES, "The descriptor is too long.");
+
+    this.buffer = ByteBuffer.allocateDirect(Math.max(bufferBytes, ElementStreams.headerBytes(name.length, descriptor.length)))
+        .order(ByteOrder.LITTLE_ENDIAN);
+
+    buffer.putInt(ElementStreams.MAGIC);
+    buffer.put(ElementStreams.FORMAT_VERSION);
+    VarInts.writeUnsigned(buffer, name.length);
+    buffer.put(name);
+    VarInts.writeUnsigned(buffer, descriptor.length);
+    buffer.put(descriptor);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final WritableByteChannel channel;
+
+  private final ElementCodec<S, E> codec;
+
+  private final S structure;
+
+  private final byte[] descriptor;
+
+  private final int fixedWidth;
+
+  private ByteBuffer buffer;
+
+  private long elementCount;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Writes an element.
+   *
+   * @param element The element.
+   *
+   * @throws IllegalArgumentException If the element may encode to more bytes than a reader accepts.
+   * @throws IOException              If an I/O error occurs.
+   */
+  public void write(final E element) throws IOException {
+    Arguments.requireNotNull(element);
+
+    final int width = (fixedWidth >= 0 ? fixedWidth : codec.maximumWidth(structure, element));
+
+    Arguments.requireTrue(width <= ElementStreams.MAXIMUM_ELEMENT_BYTES, "The element is too large to be read back: " + width + " bytes.");
+
+    reserve(width);
+    codec.encode(structure, element, buffer);
+    elementCount++;
+  }
+
+  /**
+   * Writes elements.
+   *
+   * @param elements The elements.
+   *
+   * @throws IOException If an I/O error occurs.
+   */
+  public void writeAll(final E[] elements) throws IOException {
+    Arguments.requireNotNull(elements);
+
+    for(final E element : elements) {
+      write(element);
+    }
+  }
+
+  /**
+   * Writes the elements of a range of a vector from its storage.
+   *
+   * @param vector The vector, whose structure must have the descriptor of the writer's, and whose layout must be the codec's.
+   * @param from   The first index.
+   * @param count  The number of elements.
+   *
+   * @throws IOException If an I/O error occurs.
+   */
+  public void write(final ElementVector<S, E> vector, final int from, final int count) throws IOException {
+    Arguments.requireNotNull(vector);
+    Arguments.requireTrue(from >= 0 && count >= 0 && from <= vector.size() - count, "Invalid range: [" + from + "," + ((long)from + count) + ").");
+
+    ElementStreams.vectorWidth(codec, structure, descriptor, vector);
+
+    flush();
+
+    int written = 0;
+
+    while(written < count) {
+      final int run = Math.min(count - written, vector.contiguousValues(from + written));
+      final ByteBuffer storage = vector.storage(from + written, run);
+
+      while(storage.hasRemaining()) {
+        channel.write(storage);
+      }
+
+      written += run;
+    }
+
+    elementCount += count;
+  }
+
+  /**
+   * Writes the buffered elements to the channel.
+   *
+   * @throws IOException If an I/O error occurs.
+   */
+  @Override
+  public void flush() throws IOException {
+    buffer.flip();
+
+    while(buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+
+    buffer.clear();
+  }
+
+  /**
+   * Flushes the writer, and closes the channel.
+   *
+   * @throws IOException If an I/O error occurs.
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      channel.close();
+    }
+  }
+
+  private void reserve(final int bytes) throws IOException {
+    if(buffer.remaining() >= bytes) return;
+
+    flush();
+
+    if(buffer.capacity() < bytes) buffer = ByteBuffer.allocateDirect(bytes).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public S getStructure() {
+    return structure;
+  }
+
+  /**
+   * Gets the number of elements written.
+   *
+   * @return The number of elements.
+   */
+  public long getElementCount() {
+    return elementCount;
+  }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.codec;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.group.concrete.integers.IntegersModuloNAdditiveGroup;
+import com.oliveryasuna.math.algebra.group.concrete.integers.IntegersModuloNAdditiveGroupElement;
+
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes the elements of \(\mathbb{Z}/n\mathbb{Z}\) as their values, in a fixed number of little-endian 64-bit limbs.
+ * <p>
+ * The layout is that of {@link com.oliveryasuna.math.algebra.group.concrete.integers.IntegersModuloNAdditiveGroupVector}, so vectors are read
+ * and written without conversion.
+ * The descriptor is \(n\), in two's complement, big-endian; the materialization bound is not part of it, as it does not change the elements.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class IntegersModuloNAdditiveGroupCodec implements ElementCodec<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  public static final String NAME = "integers-modulo-n-additive-group";
+
+  // Constructors
+  //--------------------------------------------------
+
+  public IntegersModuloNAdditiveGroupCodec() {
+    super();
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // ElementCodec
+  //
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public byte[] describe(final IntegersModuloNAdditiveGroup structure) {
+    return structure.getN().toByteArray();
+  }
+
+  @Override
+  public IntegersModuloNAdditiveGroup structure(final byte[] descriptor) {
+    Arguments.requireNotNull(descriptor);
+    Arguments.requireTrue(descriptor.length > 0, "The descriptor is empty.");
+
+    return new IntegersModuloNAdditiveGroup(new BigInteger(descriptor));
+  }
+
+  @Override
+  public int fixedWidth(final IntegersModuloNAdditiveGroup structure) {
+    return Math.max(1, (structure.getN().bitLength() + Long.SIZE - 1) / Long.SIZE) * Long.BYTES;
+  }
+
+  @Override
+  public int maximumWidth(final IntegersModuloNAdditiveGroup structure, final IntegersModuloNAdditiveGroupElement element) {
+    return fixedWidth(structure);
+  }
+
+  @Override
+  public void encode(final IntegersModuloNAdditiveGroup structure, final IntegersModuloNAdditiveGroupElement element, final ByteBuffer buffer) {
+    final BigInteger value = element.getValue();
+
+    // The message is built only on failure, as formatting a large value costs far more than encoding it.
+    if(!structure.hasElementSafe(value)) throw new IllegalArgumentException("The group does not contain the element: " + value + ".");
+
+    final byte[] bigEndian = value.toByteArray();
+    final byte[] littleEndian = new byte[fixedWidth(structure)];
+
+    // toByteArray() may have one leading sign byte more than the width allows; it is zero, so it is dropped.
+    for(int i = Math.min(bigEndian.length, littleEndian.length) - 1; i >= 0; i--) {
+      littleEndian[i] = bigEndian[bigEndian.length - 1 - i];
+    }
+
+    buffer.put(littleEndian);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws BufferUnderflowException If fewer than {@link #fixedWidth(IntegersModuloNAdditiveGroup)} bytes remain, in which case the buffer is
+   *                                  not advanced.
+   */
+  @Override
+  public IntegersModuloNAdditiveGroupElement decode(final IntegersModuloNAdditiveGroup structure, final ByteBuffer buffer) {
+    final int width = fixedWidth(structure);
+
+    if(buffer.remaining() < width) throw new BufferUnderflowException();
+
+    if(width == Long.BYTES) {
+      final long value = buffer.getLong();
+
+      if(value >= 0) return element(structure, BigInteger.valueOf(value));
+
+      // Unsigned values beyond Long.MAX_VALUE take the general path.
+      buffer.position(buffer.position() - Long.BYTES);
+    }
+
+    final byte[] bigEndian = new byte[width];
+
+    buffer.get(bigEndian);
+
+    for(int i = 0, j = width - 1; i < j; i++, j--) {
+      final byte swap = bigEndian[i];
+
+      bigEndian[i] = bigEndian[j];
+      bigEndian[j] = swap;
+    }
+
+    return element(structure, new BigInteger(1, bigEndian));
+  }
+
+  private static IntegersModuloNAdditiveGroupElement element(final IntegersModuloNAdditiveGroup structure, final BigInteger value) {
+    if(!structure.hasElementSafe(value)) throw new IllegalArgumentException("The group does not contain the element: " + value + ".");
+
+    return structure.getElementSafe(value);
+  }
+
+}
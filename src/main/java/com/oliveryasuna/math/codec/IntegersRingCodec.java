@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.codec;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.IntegersRing;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.IntegersRingElement;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes the elements of \(\mathbb{Z}\) as their values, in {@linkplain VarInts zig-zag LEB128}, so small integers of either sign take one byte.
+ * <p>
+ * The descriptor is the value of the generator, in two's complement, big-endian.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class IntegersRingCodec implements ElementCodec<IntegersRing, IntegersRingElement> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  public static final String NAME = "integers-ring";
+
+  // Constructors
+  //--------------------------------------------------
+
+  public IntegersRingCodec() {
+    super();
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // ElementCodec
+  //
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public byte[] describe(final IntegersRing structure) {
+    return structure.generator().getValue().toByteArray();
+  }
+
+  @Override
+  public IntegersRing structure(final byte[] descriptor) {
+    Arguments.requireNotNull(descriptor);
+    Arguments.requireTrue(descriptor.length > 0, "The descriptor is empty.");
+
+    return new IntegersRing(new BigInteger(descriptor));
+  }
+
+  @Override
+  public int fixedWidth(final IntegersRing structure) {
+    return -1;
+  }
+
+  @Override
+  public int maximumWidth(final IntegersRing structure, final IntegersRingElement element) {
+    return VarInts.maximumBytes(element.getValue());
+  }
+
+  @Override
+  public void encode(final IntegersRing structure, final IntegersRingElement element, final ByteBuffer buffer) {
+    VarInts.writeSigned(buffer, element.getValue());
+  }
+
+  @Override
+  public IntegersRingElement decode(final IntegersRing structure, final ByteBuffer buffer) {
+    return structure.getElementSafe(VarInts.readSignedBigInteger(buffer));
+  }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.codec;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRing;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRingElement;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Encodes the elements of \(\mathbb{Z}/n\mathbb{Z}\), for \(n\) that fits in a {@code long}, as their values, in one little-endian 64-bit limb.
+ * <p>
+ * The layout is that of {@link com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRingVector}, so vectors are read and
+ * written without conversion.
+ * The descriptor is \(n\), as a little-endian {@code long}.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class LongIntegersModuloNRingCodec implements ElementCodec<LongIntegersModuloNRing, LongIntegersModuloNRingElement> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  public static final String NAME = "long-integers-modulo-n-ring";
+
+  // Constructors
+  //--------------------------------------------------
+
+  public LongIntegersModuloNRingCodec() {
+    super();
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // ElementCodec
+  //
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public byte[] describe(final LongIntegersModuloNRing structure) {
+    return ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(structure.getN()).array();
+  }
+
+  @Override
+  public LongIntegersModuloNRing structure(final byte[] descriptor) {
+    Arguments.requireNotNull(descriptor);
+    Arguments.requireTrue(descriptor.length == Long.BYTES, "The descriptor is not a long.");
+
+    return new LongIntegersModuloNRing(ByteBuffer.wrap(descriptor).order(ByteOrder.LITTLE_ENDIAN).getLong());
+  }
+
+  @Override
+  public int fixedWidth(final LongIntegersModuloNRing structure) {
+    return Long.BYTES;
+  }
+
+  @Override
+  public int maximumWidth(final LongIntegersModuloNRing structure, final LongIntegersModuloNRingElement element) {
+    return Long.BYTES;
+  }
+
+  @Override
+  public void encode(final LongIntegersModuloNRing structure, final LongIntegersModuloNRingElement element, final ByteBuffer buffer) {
+    final long value = element.getValue();
+
+    if(!structure.hasElementSafe(value)) throw new IllegalArgumentException("The ring does not contain the element: " + value + ".");
+
+    buffer.putLong(value);
+  }
+
+  @Override
+  public LongIntegersModuloNRingElement decode(final LongIntegersModuloNRing structure, final ByteBuffer buffer) {
+    final long value = buffer.getLong();
+
+    if(!structure.hasElementSafe(value)) throw new IllegalArgumentException("The ring does not contain the element: " + value + ".");
+
+    return structure.getElementSafe(value);
+  }
+
+}
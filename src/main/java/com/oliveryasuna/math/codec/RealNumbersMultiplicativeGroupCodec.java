@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.codec;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+import com.oliveryasuna.math.algebra.group.concrete.realnumbers.RealNumbersMultiplicativeGroup;
+import com.oliveryasuna.math.algebra.group.concrete.realnumbers.RealNumbersMultiplicativeGroupElement;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes the elements of \(\mathbb{R}\setminus\left\{0\right\}\) as their scale, then their unscaled value, both in
+ * {@linkplain VarInts zig-zag LEB128}.
+ * <p>
+ * The scale is kept, so decoded values are equal, not only numerically equal, to encoded ones.
+ * The descriptor is the name of the rounding mode, in UTF-8.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class RealNumbersMultiplicativeGroupCodec implements ElementCodec<RealNumbersMultiplicativeGroup, RealNumbersMultiplicativeGroupElement> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  public static final String NAME = "real-numbers-multiplicative-group";
+
+  private static final int SCALE_BYTES = 5;
+
+  // Constructors
+  //--------------------------------------------------
+
+  public RealNumbersMultiplicativeGroupCodec() {
+    super();
+  }
+
+  // Overrides
+  //--------------------------------------------------
+
+  // ElementCodec
+  //
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public byte[] describe(final RealNumbersMultiplicativeGroup structure) {
+    return structure.getRoundingMode().name().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public RealNumbersMultiplicativeGroup structure(final byte[] descriptor) {
+    Arguments.requireNotNull(descriptor);
+
+    return new RealNumbersMultiplicativeGroup(RoundingMode.valueOf(new String(descriptor, StandardCharsets.UTF_8)));
+  }
+
+  @Override
+  public int fixedWidth(final RealNumbersMultiplicativeGroup structure) {
+    return -1;
+  }
+
+  @Override
+  public int maximumWidth(final RealNumbersMultiplicativeGroup structure, final RealNumbersMultiplicativeGroupElement element) {
+    return SCALE_BYTES + VarInts.maximumBytes(element.getValue().unscaledValue());
+  }
+
+  @Override
+  public void encode(final RealNumbersMultiplicativeGroup structure, final RealNumbersMultiplicativeGroupElement element, final ByteBuffer buffer) {
+    final BigDecimal value = element.getValue();
+
+    VarInts.writeSigned(buffer, value.scale());
+    VarInts.writeSigned(buffer, value.unscaledValue());
+  }
+
+  @Override
+  public RealNumbersMultiplicativeGroupElement decode(final RealNumbersMultiplicativeGroup structure, final ByteBuffer buffer) {
+    final long scale = VarInts.readSigned(buffer);
+
+    if(scale != (int)scale) throw new IllegalArgumentException("The scale does not fit in an int: " + scale + ".");
+
+    final BigDecimal value = new BigDecimal(VarInts.readSignedBigInteger(buffer), (int)scale);
+
+    if(!structure.hasElementSafe(value)) throw new IllegalArgumentException("The group does not contain the element: " + value + ".");
+
+    return structure.getElementSafe(value);
+  }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.codec;
+
+import com.oliveryasuna.commons.language.exception.UnsupportedInstantiationException;
+import com.oliveryasuna.commons.language.marker.Utility;
+
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Variable-length integers: LEB128, seven bits per byte with the high bit marking continuation, of zig-zag encoded signed values.
+ * <p>
+ * Zig-zag encoding maps \(0,-1,1,-2,\ldots\) to \(0,1,2,3,\ldots\), so small magnitudes of either sign take few bytes.
+ * Integers of any size are supported, and those that fit in a {@code long} are encoded without allocating.
+ *
+ * @author Oliver Yasuna
+ */
+@Utility
+public final class VarInts {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int PAYLOAD_BITS = 7;
+
+  private static final int PAYLOAD_MASK = (1 << PAYLOAD_BITS) - 1;
+
+  private static final int CONTINUATION = 1 << PAYLOAD_BITS;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Gets the largest number of bytes a signed integer encodes to.
+   *
+   * @param value The integer.
+   *
+   * @return The number of bytes.
+   */
+  public static int maximumBytes(final BigInteger value) {
+    return (value.bitLength() + 1) / PAYLOAD_BITS + 1;
+  }
+
+  public static void writeSigned(final ByteBuffer buffer, final long value) {
+    writeUnsigned(buffer, (value << 1) ^ (value >> 63));
+  }
+
+  /**
+   * Reads a signed integer that fits in a {@code long}.
+   *
+   * @param buffer The buffer.
+   *
+   * @return The integer.
+   *
+   * @throws BufferUnderflowException If the buffer ends within the integer.
+   * @throws IllegalArgumentException If the integer does not fit in a {@code long}.
+   */
+  public static long readSigned(final ByteBuffer buffer) {
+    final long zigZag = readUnsigned(buffer);
+
+    return (zigZag >>> 1) ^ -(zigZag & 1);
+  }
+
+  public static void writeSigned(final ByteBuffer buffer, final BigInteger value) {
+    if(value.bitLength() < Long.SIZE) {
+      writeSigned(buffer, value.longValue());
+
+      return;
+    }
+
+    final BigInteger zigZag = (value.signum() >= 0 ? value.shiftLeft(1) : value.negate().shiftLeft(1).subtract(BigInteger.ONE));
+    final byte[] bigEndian = zigZag.toByteArray();
+
+    // Re-pack the bytes, least significant first, seven bits at a time.
+    int accumulator = 0;
+    int accumulatedBits = 0;
+    int remainingBits = zigZag.bitLength();
+
+    for(int i = bigEndian.length - 1; i >= 0; i--) {
+      accumulator |= (bigEndian[i] & 0xFF) << accumulatedBits;
+      accumulatedBits += Byte.SIZE;
+
+      while(accumulatedBits >= PAYLOAD_BITS && remainingBits > PAYLOAD_BITS) {
+        buffer.put((byte)((accumulator & PAYLOAD_MASK) | CONTINUATION));
+        accumulator >>>= PAYLOAD_BITS;
+        accumulatedBits -= PAYLOAD_BITS;
+        remainingBits -= PAYLOAD_BITS;
+      }
+    }
+
+    buffer.put((byte)(accumulator & PAYLOAD_MASK));
+  }
+
+  /**
+   * Reads a signed integer of any size.
+   *
+   * @param buffer The buffer.
+   *
+   * @return The integer.
+   *
+   * @throws BufferUnderflowException If the buffer ends within the integer.
+   */
+  public static BigInteger readSignedBigInteger(final ByteBuffer buffer) {
+    final int start = buffer.position();
+    int length = 0;
+
+    // Find the end first, so that a truncated integer fails before anything is allocated.
+    while(true) {
+      if(start + length >= buffer.limit()) throw new BufferUnderflowException();
+      if((buffer.get(start + length++) & CONTINUATION) == 0) break;
+    }
+
+    if(length * PAYLOAD_BITS <= Long.SIZE - 1) return BigInteger.valueOf(readSigned(buffer));
+
+    final byte[] bigEndian = new byte[(length * PAYLOAD_BITS + Byte.SIZE - 1) / Byte.SIZE];
+    int accumulator = 0;
+    int accumulatedBits = 0;
+    int index = bigEndian.length - 1;
+
+    for(int i = 0; i < length; i++) {
+      accumulator |= (buffer.get() & PAYLOAD_MASK) << accumulatedBits;
+      accumulatedBits += PAYLOAD_BITS;
+
+      if(accumulatedBits >= Byte.SIZE) {
+        bigEndian[index--] = (byte)accumulator;
+        accumulator >>>= Byte.SIZE;
+        accumulatedBits -= Byte.SIZE;
+      }
+    }
+
+    if(accumulatedBits > 0) bigEndian[index] = (byte)accumulator;
+
+    final BigInteger zigZag = new BigInteger(1, bigEndian);
+
+    return (zigZag.testBit(0) ? zigZag.add(BigInteger.ONE).shiftRight(1).negate() : zigZag.shiftRight(1));
+  }
+
+  public static void writeUnsigned(final ByteBuffer buffer, long value) {
+    while((value & ~PAYLOAD_MASK) != 0) {
+      buffer.put((byte)((value & PAYLOAD_MASK) | CONTINUATION));
+      value >>>= PAYLOAD_BITS;
+    }
+
+    buffer.put((byte)value);
+  }
+
+  /**
+   * Reads an unsigned integer that fits in a {@code long}.
+   *
+   * @param buffer The buffer.
+   *
+   * @return The integer.
+   *
+   * @throws BufferUnderflowException If the buffer ends within the integer.
+   * @throws IllegalArgumentException If the integer does not fit in a {@code long}.
+   */
+  public static long readUnsigned(final ByteBuffer buffer) {
+    long value = 0;
+
+    for(int shift = 0; shift < Long.SIZE; shift += PAYLOAD_BITS) {
+      final int b = buffer.get();
+
+      value |= (long)(b & PAYLOAD_MASK) << shift;
+
+      if((b & CONTINUATION) == 0) {
+        if(shift == 63 && (b & PAYLOAD_MASK) > 1) break;
+
+        return value;
+      }
+    }
+
+    throw new IllegalArgumentException("The integer does not fit in a long.");
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private VarInts() {
+    super();
+
+    throw new UnsupportedInstantiationException();
+  }
+
+}
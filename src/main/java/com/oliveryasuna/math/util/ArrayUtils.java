@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.util;
+
+import com.oliveryasuna.commons.language.exception.UnsupportedInstantiationException;
+import com.oliveryasuna.commons.language.marker.Utility;
+
+import java.util.Arrays;
+
+/**
+ * Various utilities relating to arrays.
+ *
+ * @author Oliver Yasuna
+ */
+@Utility
+public final class ArrayUtils {
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Requires that two arrays have the same length.
+   * Unlike {@link #requireSameLength(int...)}, this does not allocate.
+   *
+   * @param length1 The length of the first array.
+   * @param length2 The length of the second array.
+   *
+   * @throws IllegalArgumentException If the lengths differ.
+   */
+  public static void requireSameLength(final int length1, final int length2) {
+    if(length1 != length2) requireSameLength(new int[] {length1, length2});
+  }
+
+  /**
+   * Requires that three arrays have the same length.
+   * Unlike {@link #requireSameLength(int...)}, this does not allocate.
+   *
+   * @param length1 The length of the first array.
+   * @param length2 The length of the second array.
+   * @param length3 The length of the third array.
+   *
+   * @throws IllegalArgumentException If any two lengths differ.
+   */
+  public static void requireSameLength(final int length1, final int length2, final int length3) {
+    if(length1 != length2 || length1 != length3) requireSameLength(new int[] {length1, length2, length3});
+  }
+
+  /**
+   * Requires that all arrays have the same length.
+   *
+   * @param lengths The lengths of the arrays.
+   *
+   * @throws IllegalArgumentException If any two lengths differ.
+   */
+  public static void requireSameLength(final int... lengths) {
+    for(int i = 1; i < lengths.length; i++) {
+      if(lengths[i] != lengths[0]) {
+        throw new IllegalArgumentException("The arrays must have the same length, but have lengths " + Arrays.toString(lengths) + ".");
+      }
+    }
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private ArrayUtils() {
+    super();
+
+    throw new UnsupportedInstantiationException();
+  }
+
+}
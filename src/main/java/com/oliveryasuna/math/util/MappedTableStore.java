@@ -0,0 +1,385 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.util;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * A directory of precomputed tables, persisted in a versioned binary format and mapped back into memory with {@link FileChannel#map}.
+ * <p>
+ * A table is identified by a kind, such as {@code "cayley"}, the version of that kind's payload layout, and a {@link Key} of the parameters
+ * it was built from, such as a modulus.
+ * A file starts with a big-endian header of
+ * <ol>
+ *   <li>the magic number {@code OYMTABLE},</li>
+ *   <li>{@link #FORMAT_VERSION},</li>
+ *   <li>the version of the kind,</li>
+ *   <li>the length of the payload,</li>
+ *   <li>and the kind and the key, each prefixed by its length,</li>
+ * </ol>
+ * padded to a multiple of \(8\) bytes, followed by the payload, which is little-endian.
+ * A file whose header does not match what is asked for is treated as absent, and is replaced by the next build.
+ * <p>
+ * Payloads are mapped read-only, so they are shared by every process that maps the same file, and paged in lazily as they are read.
+ * New tables are built into a mapped temporary file, which is then moved into place atomically, so readers never see a partial table.
+ * A payload is one mapping, so it is at most \(2^{31}-1\) bytes less the header.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class MappedTableStore {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The version of the file format, i.e. of the header.
+   */
+  public static final int FORMAT_VERSION = 1;
+
+  private static final long MAGIC = 0x4F594D5441424C45L;
+
+  private static final Pattern KIND_PATTERN = Pattern.compile("[A-Za-z0-9._-]+");
+
+  private static final String EXTENSION = ".table";
+
+  private static final int PAYLOAD_LENGTH_OFFSET = Long.BYTES + 2 * Integer.BYTES;
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param directory The directory holding the tables, which is created if absent.
+   *
+   * @throws IOException If the directory cannot be created.
+   */
+  public MappedTableStore(final Path directory) throws IOException {
+    super();
+
+    Arguments.requireNotNull(directory);
+
+    this.directory = Files.createDirectories(directory);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Path directory;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Maps a table, if it has been stored.
+   *
+   * @param kind    The kind of table.
+   * @param version The version of the kind's payload layout.
+   * @param key     The parameters the table was built from.
+   *
+   * @return The payload, read-only and little-endian; or empty, if no matching table is stored.
+   *
+   * @throws IOException If the file cannot be read.
+   */
+  public Optional<ByteBuffer> find(final String kind, final int version, final Key key) throws IOException {
+    final Path path = path(kind, key);
+    final byte[] header = header(kind, version, key, 0L);
+
+    try(final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long size = channel.size();
+
+      if(size < header.length) return Optional.empty();
+
+      final ByteBuffer stored = ByteBuffer.allocate(header.length);
+
+      while(stored.hasRemaining()) {
+        if(channel.read(stored, stored.position()) < 0) break;
+      }
+
+      // Everything but the payload length must match; the payload length must match the size of the file.
+      final int afterPayloadLength = PAYLOAD_LENGTH_OFFSET + Long.BYTES;
+
+      if(stored.hasRemaining()) return Optional.empty();
+      if(!Arrays.equals(stored.array(), 0, PAYLOAD_LENGTH_OFFSET, header, 0, PAYLOAD_LENGTH_OFFSET)) return Optional.empty();
+      if(!Arrays.equals(stored.array(), afterPayloadLength, header.length, header, afterPayloadLength, header.length)) return Optional.empty();
+      if(stored.getLong(PAYLOAD_LENGTH_OFFSET) != size - header.length) return Optional.empty();
+
+      return Optional.of(channel.map(FileChannel.MapMode.READ_ONLY, header.length, size - header.length).order(ByteOrder.LITTLE_ENDIAN));
+    } catch(final NoSuchFileException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Maps a table, building and storing it first if it has not been stored.
+   *
+   * @param kind         The kind of table.
+   * @param version      The version of the kind's payload layout.
+   * @param key          The parameters the table was built from.
+   * @param payloadBytes The size of the payload, if it is built.
+   * @param builder      Writes the payload into a zeroed, writable, little-endian buffer of {@code payloadBytes} bytes.
+   *
+   * @return The payload, read-only and little-endian.
+   *
+   * @throws IOException If the file cannot be read or written.
+   */
+  public ByteBuffer computeIfAbsent(final String kind, final int version, final Key key, final long payloadBytes, final Consumer<ByteBuffer> builder)
+      throws IOException {
+    Arguments.requireNotNull(builder);
+
+    final Optional<ByteBuffer> found = find(kind, version, key);
+
+    if(found.isPresent()) return found.get();
+
+    final byte[] header = header(kind, version, key, payloadBytes);
+
+    Arguments.requireTrue(payloadBytes >= 0 && payloadBytes <= Integer.MAX_VALUE - header.length,
+        "The payload does not fit in one mapping: " + payloadBytes + " bytes.");
+
+    final Path temporary = Files.createTempFile(directory, kind, EXTENSION + ".tmp");
+
+    try {
+      try(final FileChannel channel = FileChannel.open(temporary, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, header.length + payloadBytes);
+
+        mapped.put(header);
+        builder.accept(mapped.slice().order(ByteOrder.LITTLE_ENDIAN));
+        mapped.force();
+      }
+
+      Files.move(temporary, path(kind, key), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+
+    return find(kind, version, key).orElseThrow(() -> new IOException("The table was stored, but cannot be mapped: " + path(kind, key) + "."));
+  }
+
+  /**
+   * Gets the file of a table, whether or not it has been stored.
+   *
+   * @param kind The kind of table.
+   * @param key  The parameters the table was built from.
+   *
+   * @return The path.
+   */
+  public Path path(final String kind, final Key key) {
+    Arguments.requireNotNull(kind);
+    Arguments.requireNotNull(key);
+    Arguments.requireTrue(KIND_PATTERN.matcher(kind).matches(), "Invalid kind: " + kind + ".");
+
+    return directory.resolve(kind + "-" + key.digest() + EXTENSION);
+  }
+
+  private static byte[] header(final String kind, final int version, final Key key, final long payloadBytes) {
+    final byte[] kindBytes = kind.getBytes(StandardCharsets.UTF_8);
+    final int unpadded = PAYLOAD_LENGTH_OFFSET + Long.BYTES + Integer.BYTES + kindBytes.length + Integer.BYTES + key.bytes.length;
+    final ByteBuffer header = ByteBuffer.allocate(unpadded + padding(unpadded));
+
+    header.putLong(MAGIC)
+        .putInt(FORMAT_VERSION)
+        .putInt(version)
+        .putLong(payloadBytes)
+        .putInt(kindBytes.length)
+        .put(kindBytes)
+        .putInt(key.bytes.length)
+        .put(key.bytes);
+
+    return header.array();
+  }
+
+  private static int padding(final int length) {
+    return (-length & (Long.BYTES - 1));
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public Path getDirectory() {
+    return directory;
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  /**
+   * The parameters a table was built from, encoded canonically.
+   */
+  @Immutable
+  public static final class Key {
+
+    // Static fields
+    //--------------------------------------------------
+
+    private static final byte STRING = 1;
+
+    private static final byte LONG = 2;
+
+    private static final byte BIG_INTEGER = 3;
+
+    private static final byte BYTES = 4;
+
+    // Static initialization methods
+    //--------------------------------------------------
+
+    /**
+     * Creates a key from parameters, each a {@link String}, {@link Integer}, {@link Long}, {@link BigInteger} or {@code byte[]}.
+     *
+     * @param parameters The parameters, in order.
+     *
+     * @return The key.
+     *
+     * @throws IllegalArgumentException If a parameter is of another type.
+     */
+    public static Key of(final Object... parameters) {
+      Arguments.requireNotNull(parameters);
+
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+      try(final DataOutputStream output = new DataOutputStream(bytes)) {
+        for(final Object parameter : parameters) {
+          if(parameter instanceof String) {
+            output.writeByte(STRING);
+            output.writeUTF((String)parameter);
+          } else if(parameter instanceof Integer || parameter instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong(((Number)parameter).longValue());
+          } else if(parameter instanceof BigInteger) {
+            final byte[] value = ((BigInteger)parameter).toByteArray();
+
+            output.writeByte(BIG_INTEGER);
+            output.writeInt(value.length);
+            output.write(value);
+          } else if(parameter instanceof byte[]) {
+            output.writeByte(BYTES);
+            output.writeInt(((byte[])parameter).length);
+            output.write((byte[])parameter);
+          } else {
+            throw new IllegalArgumentException("Unsupported parameter: " + parameter + ".");
+          }
+        }
+      } catch(final IOException e) {
+        throw new AssertionError(e);
+      }
+
+      return new Key(bytes.toByteArray());
+    }
+
+    // Constructors
+    //--------------------------------------------------
+
+    private Key(final byte[] bytes) {
+      super();
+
+      this.bytes = bytes;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final byte[] bytes;
+
+    // Methods
+    //--------------------------------------------------
+
+    /**
+     * Creates a key of this key's parameters followed by more, which equals the key of all of them.
+     * <p>
+     * Each parameter is encoded with its type and, if variable, its length, so encodings can be concatenated.
+     *
+     * @param parameters The further parameters, as for {@link #of(Object...)}.
+     *
+     * @return The key.
+     */
+    public Key append(final Object... parameters) {
+      final byte[] appended = of(parameters).bytes;
+      final byte[] all = Arrays.copyOf(bytes, bytes.length + appended.length);
+
+      System.arraycopy(appended, 0, all, bytes.length, appended.length);
+
+      return new Key(all);
+    }
+
+    /**
+     * Gets the first \(128\) bits of the SHA-256 of the key, in hexadecimal, which names the file.
+     * The full key is stored in the file and compared, so colliding digests only cost a rebuild.
+     */
+    private String digest() {
+      final byte[] digest;
+
+      try {
+        digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+      } catch(final NoSuchAlgorithmException e) {
+        throw new AssertionError(e);
+      }
+
+      final StringBuilder hex = new StringBuilder();
+
+      for(int i = 0; i < 16; i++) {
+        hex.append(Character.forDigit((digest[i] >>> 4) & 0xF, 16)).append(Character.forDigit(digest[i] & 0xF, 16));
+      }
+
+      return hex.toString();
+    }
+
+    // Object methods
+    //--------------------------------------------------
+
+    @Override
+    public boolean equals(final Object other) {
+      if(this == other) return true;
+      if(other == null || getClass() != other.getClass()) return false;
+
+      return Arrays.equals(bytes, ((Key)other).bytes);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+      return digest();
+    }
+
+  }
+
+}
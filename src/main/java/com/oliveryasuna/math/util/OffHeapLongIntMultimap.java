@@ -0,0 +1,292 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.util;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.function.IntPredicate;
+
+/**
+ * An open-addressing multimap from {@code long} keys to {@code int} values, stored outside the Java heap in direct buffers.
+ * <p>
+ * Keys and values live in parallel arrays of slots (\(12\) bytes per slot), probed linearly.
+ * Each array is split into chunks of at most \(2^{27}\) slots, so that tables larger than one buffer can be addressed, and the garbage
+ * collector never scans or moves the slots.
+ * <p>
+ * A key may map to several values.
+ * The key \(0\) marks an empty slot, so it is stored as \(1\).
+ * <p>
+ * A multimap may also be laid out in a given buffer, such as one mapped by {@link MappedTableStore}, by {@link #create(long, ByteBuffer)}, and
+ * read back from it by {@link #wrap(ByteBuffer)}.
+ * The layout is the capacity and the size, as {@code long}s, then the keys, then the values, in the byte order of the buffer.
+ * <p>
+ * Insertion is not thread-safe.
+ * Once filled, the multimap may be read by any number of threads.
+ *
+ * @author Oliver Yasuna
+ */
+public final class OffHeapLongIntMultimap {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The number of bytes per slot.
+   */
+  public static final int SLOT_BYTES = Long.BYTES + Integer.BYTES;
+
+  private static final int CHUNK_BITS = 27;
+
+  private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+
+  private static final long EMPTY = 0L;
+
+  private static final int SIZE_OFFSET = Long.BYTES;
+
+  private static final int HEADER_BYTES = 2 * Long.BYTES;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Gets the number of slots allocated for a number of entries, which keeps the load factor at most \(1/2\).
+   *
+   * @param entries The number of entries.
+   *
+   * @return The number of slots, a power of two.
+   */
+  public static long capacityFor(final long entries) {
+    Arguments.requireTrue(entries >= 0 && entries <= (1L << 61), "Invalid number of entries: " + entries + ".");
+
+    return Math.max(16L, Long.highestOneBit(Math.max(1L, entries * 2 - 1)) << 1);
+  }
+
+  /**
+   * Gets the number of bytes a multimap for a number of entries takes when laid out in a buffer.
+   *
+   * @param entries The number of entries.
+   *
+   * @return The number of bytes.
+   */
+  public static long serializedSizeFor(final long entries) {
+    return HEADER_BYTES + capacityFor(entries) * SLOT_BYTES;
+  }
+
+  /**
+   * Creates an empty multimap laid out in a buffer, from index \(0\).
+   *
+   * @param entries The number of entries to be inserted.
+   * @param buffer  A zeroed, writable buffer of at least {@link #serializedSizeFor(long)} bytes.
+   *
+   * @return The multimap, which writes through to {@code buffer}.
+   */
+  public static OffHeapLongIntMultimap create(final long entries, final ByteBuffer buffer) {
+    Arguments.requireNotNull(buffer);
+
+    final long capacity = capacityFor(entries);
+
+    Arguments.requireTrue(buffer.capacity() >= HEADER_BYTES + capacity * SLOT_BYTES, "The buffer is too small for " + entries + " entries.");
+
+    buffer.putLong(0, capacity);
+    buffer.putLong(SIZE_OFFSET, 0L);
+
+    return wrap(buffer);
+  }
+
+  /**
+   * Reads a multimap laid out in a buffer, from index \(0\), without copying it.
+   *
+   * @param buffer The buffer, which may be read-only, in which case so is the multimap.
+   *
+   * @return The multimap.
+   */
+  public static OffHeapLongIntMultimap wrap(final ByteBuffer buffer) {
+    Arguments.requireNotNull(buffer);
+
+    final long capacity = buffer.getLong(0);
+
+    Arguments.requireTrue(capacity >= 16 && Long.bitCount(capacity) == 1 && buffer.capacity() >= HEADER_BYTES + capacity * SLOT_BYTES,
+        "The buffer does not hold a multimap.");
+
+    final int chunkCount = (int)((capacity + CHUNK_MASK) >>> CHUNK_BITS);
+    final long chunkSlots = Math.min(capacity, 1L << CHUNK_BITS);
+    final LongBuffer[] keys = new LongBuffer[chunkCount];
+    final IntBuffer[] values = new IntBuffer[chunkCount];
+    final long valuesOffset = HEADER_BYTES + capacity * Long.BYTES;
+
+    for(int i = 0; i < chunkCount; i++) {
+      keys[i] = region(buffer, HEADER_BYTES + i * chunkSlots * Long.BYTES, chunkSlots * Long.BYTES).asLongBuffer();
+      values[i] = region(buffer, valuesOffset + i * chunkSlots * Integer.BYTES, chunkSlots * Integer.BYTES).asIntBuffer();
+    }
+
+    return new OffHeapLongIntMultimap(capacity, keys, values, buffer, buffer.getLong(SIZE_OFFSET));
+  }
+
+  private static ByteBuffer region(final ByteBuffer buffer, final long offset, final long length) {
+    final ByteBuffer duplicate = buffer.duplicate();
+
+    duplicate.limit((int)(offset + length)).position((int)offset);
+
+    return duplicate.slice().order(buffer.order());
+  }
+
+  private static long mix(long key) {
+    // The finalizer of MurmurHash3, so that fingerprints with structured low bits spread over all slots.
+    key ^= key >>> 33;
+    key *= 0xFF51AFD7ED558CCDL;
+    key ^= key >>> 33;
+    key *= 0xC4CEB9FE1A85EC53L;
+    key ^= key >>> 33;
+
+    return key;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * @param entries The number of entries to be inserted.
+   */
+  public OffHeapLongIntMultimap(final long entries) {
+    super();
+
+    this.capacity = capacityFor(entries);
+    this.mask = capacity - 1;
+    this.header = null;
+
+    final int chunkCount = (int)((capacity + CHUNK_MASK) >>> CHUNK_BITS);
+    final int chunkSlots = (int)Math.min(capacity, 1L << CHUNK_BITS);
+
+    this.keys = new LongBuffer[chunkCount];
+    this.values = new IntBuffer[chunkCount];
+
+    for(int i = 0; i < chunkCount; i++) {
+      keys[i] = ByteBuffer.allocateDirect(chunkSlots * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+      values[i] = ByteBuffer.allocateDirect(chunkSlots * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+  }
+
+  private OffHeapLongIntMultimap(final long capacity, final LongBuffer[] keys, final IntBuffer[] values, final ByteBuffer header, final long size) {
+    super();
+
+    this.capacity = capacity;
+    this.mask = capacity - 1;
+    this.keys = keys;
+    this.values = values;
+    this.header = header;
+    this.size = size;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final long capacity;
+
+  private final long mask;
+
+  private final LongBuffer[] keys;
+
+  private final IntBuffer[] values;
+
+  /**
+   * The buffer in which the multimap is laid out, whose size is kept current; or {@code null}, if the multimap allocated its own buffers.
+   */
+  private final ByteBuffer header;
+
+  private long size;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Adds an entry, even if the key is already present.
+   *
+   * @param key   The key.
+   * @param value The value.
+   *
+   * @throws IllegalStateException If every slot but one is taken.
+   */
+  public void put(final long key, final int value) {
+    if(size >= mask) throw new IllegalStateException("The multimap is full.");
+
+    final long stored = (key == EMPTY ? 1L : key);
+    long slot = mix(stored) & mask;
+
+    while(keyAt(slot) != EMPTY) {
+      slot = (slot + 1) & mask;
+    }
+
+    keys[(int)(slot >>> CHUNK_BITS)].put((int)slot & CHUNK_MASK, stored);
+    values[(int)(slot >>> CHUNK_BITS)].put((int)slot & CHUNK_MASK, value);
+    size++;
+
+    if(header != null) header.putLong(SIZE_OFFSET, size);
+  }
+
+  /**
+   * Visits the values of a key until the visitor accepts one.
+   *
+   * @param key     The key.
+   * @param visitor Tests each value; returning {@code true} stops the visit.
+   *
+   * @return {@code true}, if the visitor accepted a value; {@code false}, otherwise.
+   */
+  public boolean forEach(final long key, final IntPredicate visitor) {
+    final long stored = (key == EMPTY ? 1L : key);
+    long slot = mix(stored) & mask;
+    long current;
+
+    while((current = keyAt(slot)) != EMPTY) {
+      if(current == stored && visitor.test(values[(int)(slot >>> CHUNK_BITS)].get((int)slot & CHUNK_MASK))) return true;
+
+      slot = (slot + 1) & mask;
+    }
+
+    return false;
+  }
+
+  private long keyAt(final long slot) {
+    return keys[(int)(slot >>> CHUNK_BITS)].get((int)slot & CHUNK_MASK);
+  }
+
+  // Getters
+  //--------------------------------------------------
+
+  public long getCapacity() {
+    return capacity;
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * Gets the number of bytes allocated outside the heap.
+   *
+   * @return The number of bytes.
+   */
+  public long getSizeInBytes() {
+    return capacity * SLOT_BYTES;
+  }
+
+}
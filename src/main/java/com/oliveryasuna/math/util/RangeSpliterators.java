@@ -0,0 +1,257 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.util;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.exception.UnsupportedInstantiationException;
+import com.oliveryasuna.commons.language.marker.Utility;
+
+import java.math.BigInteger;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * Spliterators over the elements indexed by a range of integers \([from,to)\).
+ * <p>
+ * The spliterators split at the midpoint of their range and know their exact size, so parallel streams over them split evenly, as
+ * {@link java.util.stream.IntStream#range(int, int)} does.
+ *
+ * @author Oliver Yasuna
+ */
+@Utility
+public final class RangeSpliterators {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+
+  private static final BigInteger LONG_LIMIT = BigInteger.valueOf(Long.MAX_VALUE);
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Creates a spliterator over {@code mapper(i)}, for \(i\in[from,to)\).
+   *
+   * @param from   The first index, inclusive.
+   * @param to     The last index, exclusive.
+   * @param mapper Maps an index to its element.
+   * @param <E>    The type of elements.
+   *
+   * @return The spliterator.
+   */
+  public static <E> Spliterator<E> of(final long from, final long to, final LongFunction<E> mapper) {
+    Arguments.requireNotNull(mapper);
+    Arguments.requireTrue(from <= to, "Invalid range: [" + from + "," + to + ").");
+
+    return new LongRange<>(from, to, mapper);
+  }
+
+  /**
+   * Creates a spliterator over {@code mapper(i)}, for \(i\in[from,to)\).
+   * <p>
+   * If {@code to} fits in a {@code long}, the range is counted with a {@code long}, and the only {@link BigInteger} allocated per element is the
+   * one passed to {@code mapper}.
+   *
+   * @param from   The first index, inclusive.
+   * @param to     The last index, exclusive.
+   * @param mapper Maps an index to its element.
+   * @param <E>    The type of elements.
+   *
+   * @return The spliterator.
+   */
+  public static <E> Spliterator<E> of(final BigInteger from, final BigInteger to, final Function<BigInteger, E> mapper) {
+    Arguments.requireNotNull(from);
+    Arguments.requireNotNull(to);
+    Arguments.requireNotNull(mapper);
+    Arguments.requireTrue(from.compareTo(to) <= 0, "Invalid range: [" + from + "," + to + ").");
+
+    if(from.signum() >= 0 && to.compareTo(LONG_LIMIT) <= 0) {
+      return new LongRange<>(from.longValue(), to.longValue(), index -> mapper.apply(BigInteger.valueOf(index)));
+    }
+
+    return new BigIntegerRange<>(from, to, mapper);
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private RangeSpliterators() {
+    super();
+
+    throw new UnsupportedInstantiationException();
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  /**
+   * Only ranges of at most {@link Long#MAX_VALUE} indices report their size as exact.
+   */
+  private static final class LongRange<E> implements Spliterator<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private LongRange(final long from, final long to, final LongFunction<E> mapper) {
+      super();
+
+      this.index = from;
+      this.to = to;
+      this.mapper = mapper;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private long index;
+
+    private final long to;
+
+    private final LongFunction<E> mapper;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // Spliterator
+    //
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super E> action) {
+      Arguments.requireNotNull(action);
+
+      if(index >= to) return false;
+
+      action.accept(mapper.apply(index++));
+
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super E> action) {
+      Arguments.requireNotNull(action);
+
+      final long to = this.to;
+      long index = this.index;
+
+      this.index = to;
+
+      for(; index < to; index++) {
+        action.accept(mapper.apply(index));
+      }
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+      final long from = index;
+      final long middle = from + ((to - from) >>> 1);
+
+      if(middle <= from) return null;
+
+      index = middle;
+
+      return new LongRange<>(from, middle, mapper);
+    }
+
+    @Override
+    public long estimateSize() {
+      final long size = to - index;
+
+      // Negative if the range is wider than Long.MAX_VALUE.
+      return (size >= 0 ? size : Long.MAX_VALUE);
+    }
+
+    @Override
+    public int characteristics() {
+      return (to - index >= 0 ? CHARACTERISTICS | Spliterator.SIZED | Spliterator.SUBSIZED : CHARACTERISTICS);
+    }
+
+  }
+
+  /**
+   * Only ranges of at most {@link Long#MAX_VALUE} indices report their size as exact.
+   */
+  private static final class BigIntegerRange<E> implements Spliterator<E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private BigIntegerRange(final BigInteger from, final BigInteger to, final Function<BigInteger, E> mapper) {
+      super();
+
+      this.index = from;
+      this.to = to;
+      this.mapper = mapper;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private BigInteger index;
+
+    private final BigInteger to;
+
+    private final Function<BigInteger, E> mapper;
+
+    // Overrides
+    //--------------------------------------------------
+
+    // Spliterator
+    //
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super E> action) {
+      Arguments.requireNotNull(action);
+
+      if(index.compareTo(to) >= 0) return false;
+
+      action.accept(mapper.apply(index));
+      index = index.add(BigInteger.ONE);
+
+      return true;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+      final BigInteger from = index;
+      final BigInteger middle = from.add(to.subtract(from).shiftRight(1));
+
+      if(middle.compareTo(from) <= 0) return null;
+
+      index = middle;
+
+      return new BigIntegerRange<>(from, middle, mapper);
+    }
+
+    @Override
+    public long estimateSize() {
+      return to.subtract(index).min(LONG_LIMIT).longValue();
+    }
+
+    @Override
+    public int characteristics() {
+      return (to.subtract(index).compareTo(LONG_LIMIT) <= 0 ? CHARACTERISTICS | Spliterator.SIZED | Spliterator.SUBSIZED : CHARACTERISTICS);
+    }
+
+  }
+
+}
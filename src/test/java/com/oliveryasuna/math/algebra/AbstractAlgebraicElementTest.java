@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra;
+
+import com.oliveryasuna.math.algebra.group.concrete.integers.IntegersAdditiveGroup;
+import com.oliveryasuna.math.algebra.group.concrete.integers.IntegersModuloNAdditiveGroup;
+import com.oliveryasuna.math.algebra.group.concrete.integers.LongIntegersModuloNAdditiveGroup;
+import com.oliveryasuna.math.algebra.group.concrete.realnumbers.RealNumbersMultiplicativeGroup;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.IntegersRing;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRing;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AbstractAlgebraicElementTest {
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static void assertEqualAndSameHash(final Object expected, final Object actual) {
+    assertEquals(expected, actual);
+    assertEquals(actual, expected);
+    assertEquals(expected.hashCode(), actual.hashCode());
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void integerElementsCompareByValue() {
+    final IntegersAdditiveGroup group = new IntegersAdditiveGroup();
+    final BigInteger large = BigInteger.ONE.shiftLeft(200).add(BigInteger.valueOf(12345L));
+
+    assertEqualAndSameHash(group.getElement(large), group.getElement(new BigInteger(large.toString())));
+    assertEqualAndSameHash(group.getElement(BigInteger.ONE.negate()), group.getElement(BigInteger.valueOf(-1L)));
+    assertNotEquals(group.getElement(large), group.getElement(large.negate()));
+    assertNotEquals(group.getElement(BigInteger.ZERO), null);
+    assertNotEquals(group.getElement(BigInteger.ZERO), BigInteger.ZERO);
+  }
+
+  @Test
+  void elementsOfDifferentStructuresAreNotEqual() {
+    final BigInteger n = BigInteger.valueOf(97L);
+
+    assertNotEquals(new IntegersAdditiveGroup().getElement(BigInteger.ONE), new IntegersAdditiveGroup().getElement(BigInteger.ONE));
+    assertNotEquals(new IntegersModuloNAdditiveGroup(n).getElement(BigInteger.ONE), new IntegersModuloNAdditiveGroup(n).getElement(BigInteger.ONE));
+    assertNotEquals(new LongIntegersModuloNRing(97L).getElement(1L), new LongIntegersModuloNAdditiveGroup(97L).getElement(1L));
+  }
+
+  @Test
+  void realElementsCompareNumerically() {
+    final RealNumbersMultiplicativeGroup group = new RealNumbersMultiplicativeGroup(RoundingMode.HALF_EVEN);
+
+    assertEqualAndSameHash(group.getElement(new BigDecimal("2.0")), group.getElement(new BigDecimal("2.00")));
+    assertEqualAndSameHash(group.getElement(new BigDecimal("2E+3")), group.getElement(new BigDecimal("2000")));
+    assertNotEquals(group.getElement(new BigDecimal("2.0")), group.getElement(new BigDecimal("2.01")));
+  }
+
+  @Test
+  void moduloElementsCompareByResidue() {
+    final BigInteger n = BigInteger.valueOf(1009L);
+    final IntegersModuloNAdditiveGroup group = new IntegersModuloNAdditiveGroup(n);
+    final LongIntegersModuloNAdditiveGroup longGroup = new LongIntegersModuloNAdditiveGroup(1009L);
+    final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(Long.MAX_VALUE);
+
+    assertEqualAndSameHash(group.getElement(BigInteger.TEN), group.operation().perform(group.getElement(BigInteger.valueOf(1000L)), group.getElement(BigInteger.valueOf(19L))));
+    assertEqualAndSameHash(longGroup.getElement(10L), longGroup.operation().perform(longGroup.getElement(1000L), longGroup.getElement(19L)));
+    assertEqualAndSameHash(ring.getElement(6L), ring.operation2().perform(ring.getElement(2L), ring.getElement(3L)));
+  }
+
+  @Test
+  void hashCodesSpreadOverValues() {
+    final Random random = new Random(41L);
+    final IntegersRing ring = new IntegersRing(BigInteger.ONE);
+    final Set<Integer> hashes = new HashSet<>();
+
+    for(int i = 0; i < 1000; i++) {
+      hashes.add(ring.getElement(new BigInteger(128, random)).hashCode());
+    }
+
+    // Before values were hashed, every element of a structure shared one hash code.
+    assertTrue(hashes.size() > 990);
+  }
+
+  @Test
+  void isIdentityDependsOnTheValue() {
+    final IntegersAdditiveGroup group = new IntegersAdditiveGroup();
+    final LongIntegersModuloNAdditiveGroup longGroup = new LongIntegersModuloNAdditiveGroup(2L);
+    final RealNumbersMultiplicativeGroup realGroup = new RealNumbersMultiplicativeGroup(RoundingMode.HALF_EVEN);
+
+    assertTrue(group.getElement(BigInteger.ZERO).isIdentity());
+    assertFalse(group.getElement(BigInteger.ONE).isIdentity());
+    assertTrue(longGroup.getElement(0L).isIdentity());
+    assertFalse(longGroup.getElement(1L).isIdentity());
+    assertTrue(realGroup.getElement(new BigDecimal("1.000")).isIdentity());
+    assertFalse(realGroup.getElement(new BigDecimal("-1")).isIdentity());
+  }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group;
+
+import com.oliveryasuna.math.algebra.group.concrete.integers.LongIntegersModuloNAdditiveGroup;
+import com.oliveryasuna.math.algebra.group.concrete.integers.LongIntegersModuloNAdditiveGroupElement;
+import com.oliveryasuna.math.util.MappedTableStore;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CayleyTableTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final MappedTableStore.Key KEY = MappedTableStore.Key.of("cayley-test");
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static void delete(final Path directory) throws IOException {
+    try(final Stream<Path> files = Files.walk(directory)) {
+      for(final Path file : (Iterable<Path>)files.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  /**
+   * Stores a table for a group of order {@code n} that is valid but for one index, written by {@code corrupt}.
+   */
+  private static void storeCorrupt(final MappedTableStore store, final long n, final Consumer<ByteBuffer> corrupt) throws IOException {
+    final int cellBytes = (n <= 256L ? Byte.BYTES : Short.BYTES);
+
+    store.computeIfAbsent(CayleyTable.TABLE_KIND, CayleyTable.TABLE_VERSION, KEY.append(BigInteger.valueOf(n)),
+        Integer.BYTES * (1L + n) + cellBytes * n * n, corrupt);
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void tableMatchesTheGroupOperation() {
+    // 256 is the last order stored in bytes; 257 and 300 use shorts.
+    for(final long n : new long[] {1L, 2L, 3L, 97L, 256L, 257L, 300L}) {
+      final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(n);
+      final CayleyTable<LongIntegersModuloNAdditiveGroupElement> table = CayleyTable.compile(group);
+
+      assertEquals(n, table.getOrder());
+      assertEquals(0L, table.element(table.getIdentity()).getValue());
+
+      for(int a = 0; a < n; a++) {
+        final LongIntegersModuloNAdditiveGroupElement element = table.element(a);
+
+        assertEquals(a, table.indexOf(element));
+        assertEquals(Math.floorMod(-element.getValue(), n), table.element(table.inverse(a)).getValue());
+
+        for(int b = 0; b < n; b++) {
+          final long expected = Math.floorMod(element.getValue() + table.element(b).getValue(), n);
+
+          assertEquals(expected, table.element(table.perform(a, b)).getValue());
+          assertEquals(expected, table.perform(element, table.element(b)).getValue());
+        }
+      }
+    }
+  }
+
+  @Test
+  void performAllMatchesPerform() {
+    final Random random = new Random(111L);
+    final CayleyTable<LongIntegersModuloNAdditiveGroupElement> table = CayleyTable.compile(new LongIntegersModuloNAdditiveGroup(1000L),
+        1000, ForkJoinPool.commonPool());
+    final int[] multipliers = new int[500];
+    final int[] multiplicands = new int[500];
+    final int[] products = new int[500];
+
+    for(int i = 0; i < multipliers.length; i++) {
+      multipliers[i] = random.nextInt(1000);
+      multiplicands[i] = random.nextInt(1000);
+    }
+
+    table.performAll(multipliers, multiplicands, products);
+
+    for(int i = 0; i < products.length; i++) {
+      assertEquals(table.perform(multipliers[i], multiplicands[i]), products[i]);
+    }
+
+    table.performAll(new int[0], new int[0], new int[0]);
+
+    assertThrows(IllegalArgumentException.class, () -> table.performAll(new int[2], new int[2], new int[1]));
+  }
+
+  @Test
+  void rejectsGroupsAboveTheMaximumOrder() {
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(CayleyTable.DEFAULT_MAXIMUM_ORDER + 1L);
+
+    assertThrows(IllegalArgumentException.class, () -> CayleyTable.compile(group));
+    assertThrows(IllegalArgumentException.class, () -> CayleyTable.compile(group, CayleyTable.MAXIMUM_ORDER + 1, ForkJoinPool.commonPool()));
+    assertThrows(IllegalArgumentException.class, () -> CayleyTable.compile(group, 0, ForkJoinPool.commonPool()));
+  }
+
+  @Test
+  void rejectsElementsOfOtherGroups() {
+    final CayleyTable<LongIntegersModuloNAdditiveGroupElement> table = CayleyTable.compile(new LongIntegersModuloNAdditiveGroup(7L));
+    final LongIntegersModuloNAdditiveGroupElement foreign = new LongIntegersModuloNAdditiveGroup(11L).getElement(3L);
+
+    assertThrows(IllegalArgumentException.class, () -> table.indexOf(foreign));
+  }
+
+  @Test
+  void storedTablesMatchCompiledTables() throws IOException {
+    final Path directory = Files.createTempDirectory("tables");
+
+    try {
+      for(final long n : new long[] {1L, 97L, 256L, 257L}) {
+        final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(n);
+        final CayleyTable<LongIntegersModuloNAdditiveGroupElement> compiled = CayleyTable.compile(group);
+
+        for(int i = 0; i < 2; i++) {
+          // The first pass compiles and stores the table; the second maps it.
+          final CayleyTable<LongIntegersModuloNAdditiveGroupElement> table = CayleyTable.compile(group, 300, ForkJoinPool.commonPool(),
+              new MappedTableStore(directory), KEY);
+
+          assertEquals(compiled.getIdentity(), table.getIdentity());
+
+          for(int a = 0; a < n; a++) {
+            assertEquals(compiled.inverse(a), table.inverse(a));
+
+            for(int b = 0; b < n; b++) {
+              assertEquals(compiled.perform(a, b), table.perform(a, b));
+            }
+          }
+        }
+      }
+    } finally {
+      delete(directory);
+    }
+  }
+
+  @Test
+  void rejectsStoredIndicesOutsideTheGroup() throws IOException {
+    final Path directory = Files.createTempDirectory("tables");
+
+    try {
+      final MappedTableStore store = new MappedTableStore(directory);
+
+      // The identity, an inverse, a byte cell and a short cell, each equal to the order.
+      storeCorrupt(store, 5L, buffer -> buffer.putInt(0, 5));
+      storeCorrupt(store, 6L, buffer -> buffer.putInt(Integer.BYTES * 3, 6));
+      storeCorrupt(store, 7L, buffer -> buffer.put(Integer.BYTES * 8 + 10, (byte)7));
+      storeCorrupt(store, 300L, buffer -> buffer.putShort(Integer.BYTES * 301 + 2 * 1000, (short)300));
+      // A negative stored inverse.
+      storeCorrupt(store, 8L, buffer -> buffer.putInt(Integer.BYTES, -1));
+
+      for(final long n : new long[] {5L, 6L, 7L, 300L, 8L}) {
+        final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(n);
+
+        assertThrows(IllegalArgumentException.class, () -> CayleyTable.compile(group, 300, ForkJoinPool.commonPool(), store, KEY));
+      }
+    } finally {
+      delete(directory);
+    }
+  }
+
+  @Test
+  void rejectsStoredGroupsAboveTheMaximumOrder() throws IOException {
+    final Path directory = Files.createTempDirectory("tables");
+
+    try {
+      final MappedTableStore store = new MappedTableStore(directory);
+      final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(300L);
+
+      CayleyTable.compile(group, 300, ForkJoinPool.commonPool(), store, KEY);
+
+      assertThrows(IllegalArgumentException.class, () -> CayleyTable.compile(group, 299, ForkJoinPool.commonPool(), store, KEY));
+      assertThrows(IllegalArgumentException.class,
+          () -> CayleyTable.compile(group, CayleyTable.MAXIMUM_ORDER + 1, ForkJoinPool.commonPool(), store, KEY));
+    } finally {
+      delete(directory);
+    }
+  }
+
+}
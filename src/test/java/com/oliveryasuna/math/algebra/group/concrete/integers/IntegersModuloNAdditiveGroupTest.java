@@ -0,0 +1,209 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.concrete.integers;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntegersModuloNAdditiveGroupTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int MATERIALIZATION_BOUND = 1000;
+
+  private static final int SAMPLES = 200;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static IntegersModuloNAdditiveGroup[] groups(final long n) {
+    final BigInteger bigN = BigInteger.valueOf(n);
+
+    return new IntegersModuloNAdditiveGroup[] {
+        new IntegersModuloNAdditiveGroup(bigN),
+        new IntegersModuloNAdditiveGroup(bigN, MATERIALIZATION_BOUND)
+    };
+  }
+
+  private static BigInteger random(final Random random, final BigInteger n) {
+    return new BigInteger(n.bitLength() + 8, random).mod(n);
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void materializesOnlyUpToTheBound() {
+    assertFalse(new IntegersModuloNAdditiveGroup(BigInteger.TEN).isMaterialized());
+    assertTrue(new IntegersModuloNAdditiveGroup(BigInteger.ONE, 1).isMaterialized());
+    assertTrue(new IntegersModuloNAdditiveGroup(BigInteger.valueOf(MATERIALIZATION_BOUND), MATERIALIZATION_BOUND).isMaterialized());
+    assertFalse(new IntegersModuloNAdditiveGroup(BigInteger.valueOf(MATERIALIZATION_BOUND + 1), MATERIALIZATION_BOUND).isMaterialized());
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new IntegersModuloNAdditiveGroup(BigInteger.ZERO));
+    assertThrows(IllegalArgumentException.class, () -> new IntegersModuloNAdditiveGroup(BigInteger.ONE.negate()));
+    assertThrows(IllegalArgumentException.class, () -> new IntegersModuloNAdditiveGroup(null));
+    assertThrows(IllegalArgumentException.class, () -> new IntegersModuloNAdditiveGroup(BigInteger.TEN, -1));
+  }
+
+  @Test
+  void operationMatchesBigIntegerInBothModes() {
+    final Random random = new Random(31L);
+
+    for(final long n : new long[] {1L, 2L, 3L, 97L, MATERIALIZATION_BOUND}) {
+      final BigInteger bigN = BigInteger.valueOf(n);
+
+      for(final IntegersModuloNAdditiveGroup group : groups(n)) {
+        for(int i = 0; i < SAMPLES; i++) {
+          final BigInteger a = random(random, bigN);
+          final BigInteger b = random(random, bigN);
+          final BigInteger k = new BigInteger(70, random).subtract(BigInteger.ONE.shiftLeft(69));
+
+          assertEquals(a.add(b).mod(bigN), group.operation().perform(group.getElement(a), group.getElement(b)).getValue());
+          assertEquals(a.negate().mod(bigN), group.operation().inverse(group.getElement(a)).getValue());
+          assertEquals(a.multiply(k).mod(bigN), group.operation().power(group.getElement(a), k).getValue());
+        }
+      }
+    }
+  }
+
+  @Test
+  void materializedGroupsShareInstances() {
+    final IntegersModuloNAdditiveGroup group = new IntegersModuloNAdditiveGroup(BigInteger.valueOf(97L), MATERIALIZATION_BOUND);
+    final IntegersModuloNAdditiveGroupElement a = group.getElement(BigInteger.valueOf(60L));
+    final IntegersModuloNAdditiveGroupElement b = group.getElement(BigInteger.valueOf(50L));
+
+    assertSame(group.getElement(BigInteger.valueOf(13L)), group.operation().perform(a, b));
+    assertSame(group.getElement(BigInteger.valueOf(37L)), group.operation().inverse(a));
+    assertSame(group.operation().identity(), group.operation().inverse(group.operation().identity()));
+    assertSame(group.getElement(BigInteger.valueOf(60L)), a);
+  }
+
+  @Test
+  void constructionDoesNotCallOverriddenGetElementSafe() {
+    for(final int n : new int[] {1, 97, MATERIALIZATION_BOUND + 1}) {
+      final LookupCountingGroup group = new LookupCountingGroup(BigInteger.valueOf(n));
+
+      assertEquals(0, group.lookups.get());
+      assertEquals(BigInteger.ZERO, group.operation().identity().getValue());
+      assertEquals(BigInteger.ONE.mod(BigInteger.valueOf(n)), group.generator().getValue());
+    }
+
+    final LookupCountingGroup group = new LookupCountingGroup(BigInteger.valueOf(97L));
+
+    assertSame(group.getElement(BigInteger.ONE), group.generator());
+    assertSame(group.getElement(BigInteger.ZERO), group.operation().identity());
+  }
+
+  @Test
+  void bulkOperationsMatchScalarOperationsInBothModes() {
+    final Random random = new Random(32L);
+    final BigInteger bigN = BigInteger.valueOf(211L);
+
+    for(final IntegersModuloNAdditiveGroup group : groups(211L)) {
+      final IntegersModuloNAdditiveGroupElement[] a = new IntegersModuloNAdditiveGroupElement[23];
+      final IntegersModuloNAdditiveGroupElement[] b = new IntegersModuloNAdditiveGroupElement[23];
+      final IntegersModuloNAdditiveGroupElement[] sums = new IntegersModuloNAdditiveGroupElement[23];
+
+      for(int i = 0; i < a.length; i++) {
+        a[i] = group.getElement(random(random, bigN));
+        b[i] = group.getElement(random(random, bigN));
+      }
+
+      group.operation().performAll(a, b, sums);
+      for(int i = 0; i < a.length; i++) assertEquals(group.operation().perform(a[i], b[i]), sums[i]);
+
+      group.operation().performAllRight(a, b[0], sums);
+      for(int i = 0; i < a.length; i++) assertEquals(group.operation().perform(a[i], b[0]), sums[i]);
+
+      assertThrows(IllegalArgumentException.class, () -> group.operation().performAll(a, b, new IntegersModuloNAdditiveGroupElement[2]));
+    }
+  }
+
+  @Test
+  void enumeratesTheSameElementsInBothModes() {
+    for(final long n : new long[] {1L, 2L, 10L}) {
+      final IntegersModuloNAdditiveGroup[] groups = groups(n);
+
+      assertEquals(
+          groups[0].elements().map(element -> element.getValue().toString()).collect(Collectors.toList()),
+          groups[1].elements().map(element -> element.getValue().toString()).collect(Collectors.toList()));
+      assertEquals(BigInteger.valueOf(n), groups[1].elementCount());
+    }
+
+    final IntegersModuloNAdditiveGroup group = groups(10L)[1];
+
+    assertEquals("[7, 8, 9]", group.elements(BigInteger.valueOf(7L), BigInteger.valueOf(3L))
+        .map(element -> element.getValue().toString())
+        .collect(Collectors.toList())
+        .toString());
+    assertThrows(IllegalArgumentException.class, () -> group.elements(BigInteger.valueOf(8L), BigInteger.valueOf(3L)));
+  }
+
+  @Test
+  void generatorIsOne() {
+    for(final IntegersModuloNAdditiveGroup group : groups(1L)) assertEquals(BigInteger.ZERO, group.generator().getValue());
+    for(final IntegersModuloNAdditiveGroup group : groups(2L)) assertEquals(BigInteger.ONE, group.generator().getValue());
+    for(final IntegersModuloNAdditiveGroup group : groups(97L)) assertEquals(BigInteger.ONE, group.generator().getValue());
+  }
+
+  @Test
+  void rejectsValuesOutsideTheGroup() {
+    for(final IntegersModuloNAdditiveGroup group : groups(10L)) {
+      assertThrows(IllegalArgumentException.class, () -> group.getElement(BigInteger.TEN));
+      assertThrows(IllegalArgumentException.class, () -> group.getElement(BigInteger.ONE.negate()));
+      assertFalse(group.hasElement(BigInteger.TEN));
+    }
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  /**
+   * Reads a field of its own in {@link #getElementSafe(BigInteger)}, which is still {@code null} while the superclass constructor runs.
+   */
+  private static final class LookupCountingGroup extends IntegersModuloNAdditiveGroup {
+
+    private LookupCountingGroup(final BigInteger n) {
+      super(n, MATERIALIZATION_BOUND);
+
+      this.lookups = new AtomicInteger();
+    }
+
+    private final AtomicInteger lookups;
+
+    @Override
+    public IntegersModuloNAdditiveGroupElement getElementSafe(final BigInteger value) {
+      lookups.incrementAndGet();
+
+      return super.getElementSafe(value);
+    }
+
+  }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.concrete.integers;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntegersModuloNAdditiveGroupVectorTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final BigInteger[] MODULI = {BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(97L), BigInteger.ONE.shiftLeft(64),
+      BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE), BigInteger.ONE.shiftLeft(64).add(BigInteger.ONE),
+      BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE), BigInteger.ONE.shiftLeft(256).subtract(BigInteger.valueOf(189L))};
+
+  private static final int SIZE = 129;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static IntegersModuloNAdditiveGroupVector<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> random(
+      final IntegersModuloNAdditiveGroup group, final Random random) {
+    final IntegersModuloNAdditiveGroupVector<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> vector =
+        new IntegersModuloNAdditiveGroupVector<>(group, SIZE);
+
+    for(int i = 0; i < SIZE; i++) {
+      // n - 1 at the ends, where additions carry out of the top limb.
+      vector.setValue(i, (i == 0 || i == SIZE - 1) ? group.getN().subtract(BigInteger.ONE)
+          : new BigInteger(group.getN().bitLength() + 8, random).mod(group.getN()));
+    }
+
+    return vector;
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void bulkOperationsMatchBigInteger() {
+    final Random random = new Random(183L);
+
+    for(final BigInteger n : MODULI) {
+      final IntegersModuloNAdditiveGroup group = new IntegersModuloNAdditiveGroup(n);
+      final IntegersModuloNAdditiveGroupVector<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> a = random(group, random);
+      final IntegersModuloNAdditiveGroupVector<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> b = random(group, random);
+      final IntegersModuloNAdditiveGroupVector<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> result =
+          new IntegersModuloNAdditiveGroupVector<>(group, SIZE);
+      BigInteger sum = BigInteger.ZERO;
+
+      for(int i = 0; i < SIZE; i++) sum = sum.add(a.getValue(i));
+
+      assertEquals(sum.mod(n), a.sum().getValue(), n.toString());
+
+      result.addAll(a, b);
+      for(int i = 0; i < SIZE; i++) assertEquals(a.getValue(i).add(b.getValue(i)).mod(n), result.getValue(i), n.toString());
+
+      result.negateAll(a);
+      for(int i = 0; i < SIZE; i++) assertEquals(a.getValue(i).negate().mod(n), result.getValue(i), n.toString());
+
+      // In place.
+      result.addAll(result, a);
+      for(int i = 0; i < SIZE; i++) assertEquals(BigInteger.ZERO, result.getValue(i), n.toString());
+    }
+  }
+
+  @Test
+  void elementsRoundTrip() {
+    final IntegersModuloNAdditiveGroup group = new IntegersModuloNAdditiveGroup(BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE));
+    final IntegersModuloNAdditiveGroupVector<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> vector = random(group,
+        new Random(184L));
+
+    for(int i = 0; i < SIZE; i++) {
+      assertEquals(group.getElement(vector.getValue(i)), vector.get(i));
+    }
+
+    vector.set(7, group.getElement(BigInteger.TEN));
+    assertEquals(BigInteger.TEN, vector.getValue(7));
+    assertEquals(SIZE, vector.stream().count());
+    assertEquals(2, vector.getLimbCount());
+  }
+
+  @Test
+  void emptyVectorsSumToTheIdentity() {
+    final IntegersModuloNAdditiveGroup group = new IntegersModuloNAdditiveGroup(BigInteger.valueOf(97L));
+
+    assertEquals(group.operation().identity(), new IntegersModuloNAdditiveGroupVector<>(group, 0).sum());
+    assertEquals(group.operation().identity(), new IntegersModuloNAdditiveGroupVector<>(group, 3).sum());
+  }
+
+  @Test
+  void storageIsLittleEndianAndChecked() {
+    final BigInteger n = BigInteger.ONE.shiftLeft(64).add(BigInteger.ONE);
+    final IntegersModuloNAdditiveGroup group = new IntegersModuloNAdditiveGroup(n);
+    final IntegersModuloNAdditiveGroupVector<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> vector =
+        new IntegersModuloNAdditiveGroupVector<>(group, 3);
+    final ByteBuffer storage = vector.storage(1, 1);
+
+    assertEquals(2 * Long.BYTES, storage.remaining());
+
+    // 2^64, the largest value, then 2^64 + 1 = n.
+    storage.putLong(0, 0L).putLong(Long.BYTES, 1L);
+    vector.checkValues(0, 3);
+    assertEquals(BigInteger.ONE.shiftLeft(64), vector.getValue(1));
+
+    storage.putLong(0, 1L);
+    assertThrows(IllegalArgumentException.class, () -> vector.checkValues(0, 3));
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    final IntegersModuloNAdditiveGroup group = new IntegersModuloNAdditiveGroup(BigInteger.valueOf(97L));
+    final IntegersModuloNAdditiveGroupVector<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> vector =
+        new IntegersModuloNAdditiveGroupVector<>(group, 4);
+
+    assertThrows(IllegalArgumentException.class, () -> vector.setValue(0, BigInteger.valueOf(97L)));
+    assertThrows(IllegalArgumentException.class, () -> vector.setValue(0, BigInteger.valueOf(-1L)));
+    assertThrows(IllegalArgumentException.class, () -> vector.set(0, new IntegersModuloNAdditiveGroup(BigInteger.TEN).getElement(BigInteger.ONE)));
+    assertThrows(IllegalArgumentException.class, () -> vector.addAll(vector, new IntegersModuloNAdditiveGroupVector<>(group, 3)));
+    assertThrows(IndexOutOfBoundsException.class, () -> vector.getValue(4));
+  }
+
+}
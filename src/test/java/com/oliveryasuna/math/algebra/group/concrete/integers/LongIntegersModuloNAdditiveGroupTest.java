@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.concrete.integers;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntegersModuloNAdditiveGroupTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final long[] MODULI = {1L, 2L, 97L, 3037000500L, (1L << 61) - 1, Long.MAX_VALUE};
+
+  private static final int SAMPLES = 100;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static long reference(final BigInteger value, final long n) {
+    return value.mod(BigInteger.valueOf(n)).longValueExact();
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void operationMatchesBigInteger() {
+    final Random random = new Random(21L);
+
+    for(final long n : MODULI) {
+      final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(n);
+
+      for(int i = 0; i < SAMPLES; i++) {
+        final long a = Math.floorMod(random.nextLong(), n);
+        final long b = Math.floorMod(random.nextLong(), n);
+        final BigInteger k = new BigInteger(100, random).subtract(BigInteger.ONE.shiftLeft(99));
+
+        assertEquals(reference(BigInteger.valueOf(a).add(BigInteger.valueOf(b)), n),
+            group.operation().perform(group.getElement(a), group.getElement(b)).getValue());
+        assertEquals(reference(BigInteger.valueOf(a).negate(), n), group.operation().inverse(group.getElement(a)).getValue());
+        assertEquals(reference(BigInteger.valueOf(a).multiply(k), n), group.operation().power(group.getElement(a), k).getValue());
+      }
+    }
+  }
+
+  @Test
+  void multiPowerMatchesBigInteger() {
+    final Random random = new Random(22L);
+
+    for(final long n : MODULI) {
+      final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(n);
+      final LongIntegersModuloNAdditiveGroupElement[] bases = new LongIntegersModuloNAdditiveGroupElement[9];
+      final BigInteger[] exponents = new BigInteger[9];
+      BigInteger expected = BigInteger.ZERO;
+
+      for(int i = 0; i < bases.length; i++) {
+        bases[i] = group.getElement(Math.floorMod(random.nextLong(), n));
+        exponents[i] = new BigInteger(80, random).subtract(BigInteger.ONE.shiftLeft(79));
+        expected = expected.add(BigInteger.valueOf(bases[i].getValue()).multiply(exponents[i]));
+      }
+
+      assertEquals(reference(expected, n), group.operation().multiPower(bases, exponents).getValue());
+      assertEquals(group.operation().identity(),
+          group.operation().multiPower(new LongIntegersModuloNAdditiveGroupElement[0], new BigInteger[0]));
+      assertThrows(IllegalArgumentException.class, () -> group.operation().multiPower(bases, new BigInteger[1]));
+    }
+  }
+
+  @Test
+  void generatorGeneratesTheGroup() {
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(97L);
+
+    assertEquals(97L, group.elements()
+        .map(element -> group.operation().power(group.generator(), BigInteger.valueOf(element.getValue())))
+        .distinct()
+        .count());
+    assertEquals(0L, new LongIntegersModuloNAdditiveGroup(1L).generator().getValue());
+    assertEquals(1L, new LongIntegersModuloNAdditiveGroup(2L).generator().getValue());
+  }
+
+  @Test
+  void enumeratesRuns() {
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(10L);
+
+    assertEquals("[3, 4, 5]", group.elements(BigInteger.valueOf(3L), BigInteger.valueOf(3L))
+        .map(element -> Long.toString(element.getValue()))
+        .collect(Collectors.toList())
+        .toString());
+    assertEquals(0L, group.elements(BigInteger.TEN, BigInteger.ZERO).count());
+    assertThrows(IllegalArgumentException.class, () -> group.elements(BigInteger.valueOf(8L), BigInteger.valueOf(3L)));
+    assertThrows(IllegalArgumentException.class, () -> group.elements(BigInteger.ONE.negate(), BigInteger.ONE));
+  }
+
+  @Test
+  void rejectsResiduesOutsideTheGroup() {
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(Long.MAX_VALUE);
+
+    assertThrows(IllegalArgumentException.class, () -> group.getElement(Long.MAX_VALUE));
+    assertThrows(IllegalArgumentException.class, () -> group.getElement(-1L));
+    assertThrows(IllegalArgumentException.class, () -> new LongIntegersModuloNAdditiveGroup(0L));
+  }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.concrete.realnumbers;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RealNumbersMultiplicativeGroupTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final RealNumbersMultiplicativeGroup GROUP = new RealNumbersMultiplicativeGroup(RoundingMode.HALF_EVEN);
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static RealNumbersMultiplicativeGroupElement element(final String value) {
+    return GROUP.getElement(new BigDecimal(value));
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void excludesZero() {
+    assertFalse(GROUP.hasElement(BigDecimal.ZERO));
+    assertThrows(IllegalArgumentException.class, () -> element("0"));
+  }
+
+  @Test
+  void multipliesExactly() {
+    assertEquals(element("-0.375"), GROUP.operation().perform(element("1.5"), element("-0.25")));
+    assertEquals(element("1"), GROUP.operation().perform(element("0.5"), GROUP.operation().inverse(element("0.5"))));
+  }
+
+  @Test
+  void bulkOperationsMatchScalarOperations() {
+    final RealNumbersMultiplicativeGroupElement[] a = {element("1.5"), element("-2"), element("1E-30"), element("7")};
+    final RealNumbersMultiplicativeGroupElement[] b = {element("2"), element("0.5"), element("1E+30"), element("-1")};
+    final RealNumbersMultiplicativeGroupElement[] products = new RealNumbersMultiplicativeGroupElement[4];
+
+    GROUP.operation().performAll(a, b, products);
+    for(int i = 0; i < a.length; i++) assertEquals(GROUP.operation().perform(a[i], b[i]), products[i]);
+
+    GROUP.operation().performAllRight(a, b[1], products);
+    for(int i = 0; i < a.length; i++) assertEquals(GROUP.operation().perform(a[i], b[1]), products[i]);
+
+    assertThrows(IllegalArgumentException.class, () -> GROUP.operation().performAll(a, b, new RealNumbersMultiplicativeGroupElement[3]));
+  }
+
+  @Test
+  void nonNegativePowersAreExact() {
+    // Inverses round to the scale of one, so a positive power must not use them.
+    for(final RoundingMode roundingMode : new RoundingMode[] {RoundingMode.HALF_EVEN, RoundingMode.UP, RoundingMode.DOWN}) {
+      final RealNumbersMultiplicativeGroup group = new RealNumbersMultiplicativeGroup(roundingMode);
+
+      for(final String value : new String[] {"1", "-1", "3", "1.5", "-0.25", "7E+10", "1.000001"}) {
+        final BigDecimal base = new BigDecimal(value);
+
+        for(int exponent = 0; exponent <= 40; exponent++) {
+          final RealNumbersMultiplicativeGroupElement power = group.operation().power(group.getElement(base), BigInteger.valueOf(exponent));
+
+          assertEquals(group.getElement(base.pow(exponent)), power, value + "^" + exponent + ", " + roundingMode);
+        }
+      }
+    }
+  }
+
+  @Test
+  void negativePowersInvertOnce() {
+    assertEquals(element("8"), GROUP.operation().power(element("0.5"), BigInteger.valueOf(-3L)));
+    assertEquals(element("1"), GROUP.operation().power(element("0.5"), BigInteger.ZERO));
+  }
+
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.logarithm;
+
+import com.oliveryasuna.math.algebra.group.concrete.integers.LongIntegersModuloNAdditiveGroup;
+import com.oliveryasuna.math.algebra.group.concrete.integers.LongIntegersModuloNAdditiveGroupElement;
+import com.oliveryasuna.math.util.MappedTableStore;
+import com.oliveryasuna.math.util.OffHeapLongIntMultimap;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BabyStepGiantStepTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final StableFingerprint<LongIntegersModuloNAdditiveGroupElement> VALUE = StableFingerprint.of("value",
+      LongIntegersModuloNAdditiveGroupElement::getValue);
+
+  /**
+   * A prime, so that every non-zero base generates the group.
+   */
+  private static final long MAPPED_N = 1_000_003L;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * In \(\mathbb{Z}/n\mathbb{Z}\), \(\log_g h=hg^{-1}\bmod n\) for \(g\) coprime to \(n\).
+   */
+  private static BigInteger reference(final long base, final long element, final long n) {
+    final BigInteger modulus = BigInteger.valueOf(n);
+
+    return BigInteger.valueOf(element).multiply(BigInteger.valueOf(base).modInverse(modulus)).mod(modulus);
+  }
+
+  private static BabyStepGiantStep<LongIntegersModuloNAdditiveGroupElement> solver(final LongIntegersModuloNAdditiveGroup group, final long base,
+      final long maximumTableBytes) {
+    return new BabyStepGiantStep<>(group.operation(), group.getElement(base), group.order(), LongIntegersModuloNAdditiveGroupElement::getValue,
+        maximumTableBytes, ForkJoinPool.commonPool());
+  }
+
+  private static BabyStepGiantStep<LongIntegersModuloNAdditiveGroupElement> mapped(final MappedTableStore store, final long base,
+      final StableFingerprint<LongIntegersModuloNAdditiveGroupElement> fingerprint) throws IOException {
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(MAPPED_N);
+
+    return BabyStepGiantStep.mapped(store, MappedTableStore.Key.of("Z/nZ", MAPPED_N, "base"), group.operation(), group.getElement(base),
+        group.order(), fingerprint, BabyStepGiantStep.DEFAULT_MAXIMUM_TABLE_BYTES, ForkJoinPool.commonPool());
+  }
+
+  private static void assertLogs(final BabyStepGiantStep<LongIntegersModuloNAdditiveGroupElement> solver, final long base) {
+    final Random random = new Random(base);
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(MAPPED_N);
+
+    for(int i = 0; i < 20; i++) {
+      final long h = Math.floorMod(random.nextLong(), MAPPED_N);
+
+      assertEquals(reference(base, h, MAPPED_N), solver.log(group.getElement(h)));
+    }
+  }
+
+  private static List<Path> tables(final Path directory) throws IOException {
+    try(final Stream<Path> files = Files.list(directory)) {
+      return files.sorted().collect(Collectors.toList());
+    }
+  }
+
+  private static void delete(final Path directory) throws IOException {
+    try(final Stream<Path> files = Files.walk(directory)) {
+      for(final Path file : (Iterable<Path>)files.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void logsOfTheGeneratorInSmallGroups() {
+    for(final long n : new long[] {1L, 2L, 3L, 97L, 1024L}) {
+      final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(n);
+      final BabyStepGiantStep<LongIntegersModuloNAdditiveGroupElement> solver = BabyStepGiantStep.of(group);
+
+      for(long h = 0; h < n; h++) {
+        assertEquals(BigInteger.valueOf(h), solver.log(group.getElement(h)), "n = " + n);
+      }
+    }
+  }
+
+  @Test
+  void logsMatchTheModularInverse() {
+    final Random random = new Random(121L);
+    final long n = 1_000_000_007L;
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(n);
+    final long base = 1 + Math.floorMod(random.nextLong(), n - 1);
+    final BabyStepGiantStep<LongIntegersModuloNAdditiveGroupElement> solver = solver(group, base, BabyStepGiantStep.DEFAULT_MAXIMUM_TABLE_BYTES);
+
+    assertTrue((long)solver.getBabySteps() * solver.getGiantSteps() >= n);
+
+    for(int i = 0; i < 50; i++) {
+      final long h = Math.floorMod(random.nextLong(), n);
+
+      assertEquals(reference(base, h, n), solver.log(group.getElement(h)));
+    }
+  }
+
+  @Test
+  void smallTablesSearchGiantStepsInParallel() {
+    final Random random = new Random(122L);
+    final long n = 999_999_937L;
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(n);
+    final BabyStepGiantStep<LongIntegersModuloNAdditiveGroupElement> solver = solver(group, 5L, 1L << 16);
+
+    assertTrue(solver.getGiantSteps() > solver.getBabySteps());
+    assertTrue(solver.getTableSizeInBytes() <= 1L << 16);
+
+    for(int i = 0; i < 10; i++) {
+      final long h = Math.floorMod(random.nextLong(), n);
+
+      assertEquals(reference(5L, h, n), solver.log(group.getElement(h)));
+    }
+  }
+
+  @Test
+  void collidingFingerprintsAreConfirmed() {
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(101L);
+    final BabyStepGiantStep<LongIntegersModuloNAdditiveGroupElement> solver = new BabyStepGiantStep<>(group.operation(), group.getElement(3L),
+        group.order(), element -> element.getValue() & 1L, BabyStepGiantStep.DEFAULT_MAXIMUM_TABLE_BYTES, ForkJoinPool.commonPool());
+
+    for(long h = 0; h < 101L; h++) {
+      assertEquals(reference(3L, h, 101L), solver.log(group.getElement(h)));
+    }
+  }
+
+  @Test
+  void nonGeneratorsReachOnlyTheirSubgroup() {
+    // 6 has order 6 in Z/36Z.
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(36L);
+    final BabyStepGiantStep<LongIntegersModuloNAdditiveGroupElement> solver = new BabyStepGiantStep<>(group.operation(), group.getElement(6L),
+        BigInteger.valueOf(6L), LongIntegersModuloNAdditiveGroupElement::getValue, BabyStepGiantStep.DEFAULT_MAXIMUM_TABLE_BYTES,
+        ForkJoinPool.commonPool());
+
+    for(long x = 0; x < 6L; x++) {
+      assertEquals(BigInteger.valueOf(x), solver.log(group.getElement(6L * x)));
+    }
+
+    assertThrows(NoSuchElementException.class, () -> solver.log(group.getElement(1L)));
+    assertThrows(NoSuchElementException.class, () -> solver.log(group.getElement(35L)));
+  }
+
+  @Test
+  void tablesMappedByAnotherProcessAreReused() throws IOException, InterruptedException {
+    final Path directory = Files.createTempDirectory("tables");
+
+    try {
+      final List<String> command = new ArrayList<>();
+
+      command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+      command.add("-cp");
+      command.add(System.getProperty("java.class.path"));
+      command.add(Builder.class.getName());
+      command.add(directory.toString());
+      command.add("5");
+
+      final Process process = new ProcessBuilder(command).inheritIO().start();
+
+      try {
+        assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+        assertEquals(0, process.exitValue());
+      } finally {
+        process.destroyForcibly();
+      }
+
+      final List<Path> stored = tables(directory);
+
+      assertEquals(1, stored.size());
+
+      final FileTime modified = Files.getLastModifiedTime(stored.get(0));
+
+      assertLogs(mapped(new MappedTableStore(directory), 5L, VALUE), 5L);
+      assertEquals(stored, tables(directory));
+      assertEquals(modified, Files.getLastModifiedTime(stored.get(0)));
+    } finally {
+      delete(directory);
+    }
+  }
+
+  @Test
+  void fingerprintsWithOtherIdentifiersHaveTheirOwnTables() throws IOException {
+    final Path directory = Files.createTempDirectory("tables");
+
+    try {
+      final MappedTableStore store = new MappedTableStore(directory);
+      final StableFingerprint<LongIntegersModuloNAdditiveGroupElement> mixed = StableFingerprint.of("mixed",
+          element -> element.getValue() * 0x9E3779B97F4A7C15L);
+
+      assertLogs(mapped(store, 7L, VALUE), 7L);
+      assertLogs(mapped(store, 7L, mixed), 7L);
+      assertEquals(2, tables(directory).size());
+      assertLogs(mapped(store, 7L, mixed), 7L);
+      assertEquals(2, tables(directory).size());
+    } finally {
+      delete(directory);
+    }
+  }
+
+  @Test
+  void tablesOfAnotherBaseOrFingerprintAreRejected() throws IOException {
+    final Path directory = Files.createTempDirectory("tables");
+
+    try {
+      final MappedTableStore store = new MappedTableStore(directory);
+
+      mapped(store, 7L, VALUE);
+
+      // The key does not name the base, and the identifier does not match the function, so both map the stored table.
+      assertThrows(IOException.class, () -> mapped(store, 11L, VALUE));
+      assertThrows(IOException.class, () -> mapped(store, 7L, StableFingerprint.of("value", element -> element.getValue() + 1)));
+      assertLogs(mapped(store, 7L, VALUE), 7L);
+    } finally {
+      delete(directory);
+    }
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(97L);
+
+    assertThrows(IllegalArgumentException.class, () -> solver(group, 1L, 15L * OffHeapLongIntMultimap.SLOT_BYTES));
+    assertThrows(IllegalArgumentException.class, () -> new BabyStepGiantStep<>(group.operation(), group.getElement(1L), BigInteger.ZERO,
+        LongIntegersModuloNAdditiveGroupElement::getValue, BabyStepGiantStep.DEFAULT_MAXIMUM_TABLE_BYTES, ForkJoinPool.commonPool()));
+    assertThrows(IllegalArgumentException.class, () -> new BabyStepGiantStep<>(group.operation(), group.getElement(1L), group.order(), null,
+        BabyStepGiantStep.DEFAULT_MAXIMUM_TABLE_BYTES, ForkJoinPool.commonPool()));
+    assertThrows(IllegalArgumentException.class, () -> BabyStepGiantStep.of(group).log(null));
+    assertThrows(IllegalArgumentException.class, () -> BabyStepGiantStep.mapped(null, MappedTableStore.Key.of(), group.operation(),
+        group.getElement(1L), group.order(), VALUE, BabyStepGiantStep.DEFAULT_MAXIMUM_TABLE_BYTES, ForkJoinPool.commonPool()));
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  /**
+   * Maps the table of the base given by its second argument into the store in the directory given by its first, as a previous run would.
+   */
+  static final class Builder {
+
+    // Entry point
+    //--------------------------------------------------
+
+    public static void main(final String[] arguments) throws IOException {
+      mapped(new MappedTableStore(Path.of(arguments[0])), Long.parseLong(arguments[1]), VALUE);
+    }
+
+    // Constructors
+    //--------------------------------------------------
+
+    private Builder() {
+      super();
+    }
+
+  }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.logarithm;
+
+import com.oliveryasuna.math.algebra.group.concrete.integers.LongIntegersModuloNAdditiveGroup;
+import com.oliveryasuna.math.algebra.group.concrete.integers.LongIntegersModuloNAdditiveGroupElement;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PohligHellmanTest {
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static PohligHellman<LongIntegersModuloNAdditiveGroupElement> solver(final LongIntegersModuloNAdditiveGroup group, final long base) {
+    return new PohligHellman<>(group.operation(), group.getElement(base), group.order(), LongIntegersModuloNAdditiveGroupElement::getValue,
+        ForkJoinPool.commonPool());
+  }
+
+  private static long randomUnit(final Random random, final long n) {
+    while(true) {
+      final long candidate = Math.floorMod(random.nextLong(), n);
+
+      if(BigInteger.valueOf(candidate).gcd(BigInteger.valueOf(n)).equals(BigInteger.ONE)) return candidate;
+    }
+  }
+
+  private static void assertLogs(final LongIntegersModuloNAdditiveGroup group, final long base, final int samples, final Random random) {
+    final PohligHellman<LongIntegersModuloNAdditiveGroupElement> solver = solver(group, base);
+    final BigInteger modulus = group.order();
+
+    for(int i = 0; i < samples; i++) {
+      final long h = Math.floorMod(random.nextLong(), group.getN());
+
+      assertEquals(BigInteger.valueOf(h).multiply(BigInteger.valueOf(base).modInverse(modulus)).mod(modulus), solver.log(group.getElement(h)));
+    }
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void smoothOrdersMatchTheModularInverse() {
+    final Random random = new Random(141L);
+
+    // 2^10 * 3^5 * 7^2 * 101.
+    for(final long n : new long[] {1_231_469_568L, 1L << 40, 2L * 3 * 5 * 7 * 11 * 13 * 17 * 19 * 23}) {
+      final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(n);
+
+      assertLogs(group, randomUnit(random, n), 20, random);
+    }
+  }
+
+  @Test
+  void largePrimeFactorsFallBackToPollardRho() {
+    final Random random = new Random(142L);
+    // 1099511627791 is a 41-bit prime.
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(2L * 1_099_511_627_791L);
+
+    assertLogs(group, randomUnit(random, group.getN()), 2, random);
+  }
+
+  @Test
+  void trivialGroups() {
+    for(final long n : new long[] {1L, 2L}) {
+      final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(n);
+      final PohligHellman<LongIntegersModuloNAdditiveGroupElement> solver = PohligHellman.of(group);
+
+      for(long h = 0; h < n; h++) {
+        assertEquals(BigInteger.valueOf(h), solver.log(group.getElement(h)));
+      }
+    }
+  }
+
+  @Test
+  void nonGeneratorsReachOnlyTheirSubgroup() {
+    // 6 has order 6 in Z/36Z.
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(36L);
+    final PohligHellman<LongIntegersModuloNAdditiveGroupElement> solver = new PohligHellman<>(group.operation(), group.getElement(6L),
+        BigInteger.valueOf(6L), LongIntegersModuloNAdditiveGroupElement::getValue, ForkJoinPool.commonPool());
+
+    for(long x = 0; x < 6L; x++) {
+      assertEquals(BigInteger.valueOf(x), solver.log(group.getElement(6L * x)));
+    }
+
+    assertThrows(NoSuchElementException.class, () -> solver.log(group.getElement(1L)));
+    assertThrows(NoSuchElementException.class, () -> solver.log(group.getElement(9L)));
+  }
+
+  @Test
+  void rejectsFactorizationsOfOtherOrders() {
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(12L);
+
+    assertThrows(IllegalArgumentException.class, () -> new PohligHellman<>(group.operation(), group.getElement(1L), group.order(),
+        Map.of(BigInteger.TWO, 1, BigInteger.valueOf(3L), 1), (base, prime) -> null, ForkJoinPool.commonPool()));
+    assertThrows(IllegalArgumentException.class, () -> new PohligHellman<>(group.operation(), group.getElement(1L), BigInteger.ZERO,
+        LongIntegersModuloNAdditiveGroupElement::getValue, ForkJoinPool.commonPool()));
+  }
+
+}
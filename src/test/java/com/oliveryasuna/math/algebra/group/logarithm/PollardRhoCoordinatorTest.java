@@ -0,0 +1,289 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.logarithm;
+
+import com.oliveryasuna.math.algebra.group.concrete.integers.LongIntegersModuloNAdditiveGroup;
+import com.oliveryasuna.math.algebra.group.concrete.integers.LongIntegersModuloNAdditiveGroupElement;
+import com.oliveryasuna.math.algebra.group.operation.GroupOperation;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PollardRhoCoordinatorTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * A prime above the order searched exhaustively.
+   */
+  private static final long N = 1_000_000_007L;
+
+  private static final int DISTINGUISHED_BITS = 6;
+
+  private static final long WALK_SEED = 133L;
+
+  private static final int POINTS = 8;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Fingerprints a few elements and walks to the first few distinguished points from a fixed seed, one line each.
+   */
+  private static List<String> probe(final AdditiveProblem problem) {
+    final List<String> lines = new ArrayList<>();
+
+    for(final long value : new long[] {0L, 1L, problem.baseValue, problem.elementValue, N - 1}) {
+      lines.add("fingerprint " + value + " " + problem.fingerprint(problem.operationGroup().getElement(value)));
+    }
+
+    final Random random = new Random(WALK_SEED);
+    final RhoWalk<LongIntegersModuloNAdditiveGroupElement> walk = RhoWalk.random(problem.operation(), problem.base(), problem.element(),
+        problem.order(), problem::fingerprint, DISTINGUISHED_BITS, random);
+
+    walk.run(random, () -> lines.size() >= 5 + POINTS, (key, baseExponent, elementExponent) -> lines.add("point " + key + " " + baseExponent
+        + " " + elementExponent));
+
+    return lines;
+  }
+
+  private static ProcessBuilder java(final Class<?> mainClass, final String... arguments) {
+    final List<String> command = new ArrayList<>();
+
+    command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+    command.add("-cp");
+    command.add(System.getProperty("java.class.path"));
+    command.add(mainClass.getName());
+    command.addAll(List.of(arguments));
+
+    return new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT);
+  }
+
+  private static BigInteger reference(final long base, final long element) {
+    final BigInteger modulus = BigInteger.valueOf(N);
+
+    return BigInteger.valueOf(element).multiply(BigInteger.valueOf(base).modInverse(modulus)).mod(modulus);
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void anotherJvmAgreesOnFingerprintsAndTheWalk() throws IOException, InterruptedException {
+    final AdditiveProblem problem = new AdditiveProblem(N, 12345L, 67890L);
+    final Process process = java(Probe.class, Long.toString(N), "12345", "67890").start();
+
+    try {
+      final List<String> remote;
+
+      try(final BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+        remote = reader.lines().collect(Collectors.toList());
+      }
+
+      assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+      assertEquals(0, process.exitValue());
+      assertEquals(probe(problem), remote);
+    } finally {
+      process.destroyForcibly();
+    }
+  }
+
+  @Test
+  void workerProcessesSolveTheLogarithm() throws IOException, InterruptedException {
+    final AdditiveProblem problem = new AdditiveProblem(N, 7L, 424242L);
+    final Process worker;
+
+    try(final PollardRhoCoordinator<LongIntegersModuloNAdditiveGroupElement> coordinator = new PollardRhoCoordinator<>(problem, DISTINGUISHED_BITS,
+        null)) {
+      worker = coordinator.workerProcess(2).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+
+      try {
+        assertEquals(reference(7L, 424242L), coordinator.log());
+      } finally {
+        worker.destroyForcibly();
+      }
+    }
+  }
+
+  @Test
+  void smallOrdersAreSolvedWithoutWorkers() throws InterruptedException, IOException {
+    try(final PollardRhoCoordinator<LongIntegersModuloNAdditiveGroupElement> coordinator = new PollardRhoCoordinator<>(
+        new AdditiveProblem(1000L, 3L, 10L), 2, null)) {
+      assertEquals(BigInteger.valueOf(670L), coordinator.log());
+      assertThrows(IllegalStateException.class, coordinator::log);
+    }
+  }
+
+  @Test
+  void interruptingTheCallerStopsTheSearchPromptly() throws IOException, InterruptedException {
+    // A search in a group of order 2^61 - 1 runs far longer than this test.
+    final AdditiveProblem problem = new AdditiveProblem((1L << 61) - 1, 7L, 424242L);
+    final ForkJoinPool pool = new ForkJoinPool(2);
+
+    try(final PollardRhoCoordinator<LongIntegersModuloNAdditiveGroupElement> coordinator = new PollardRhoCoordinator<>(problem, DISTINGUISHED_BITS,
+        pool)) {
+      final AtomicReference<Throwable> thrown = new AtomicReference<>();
+      final Thread caller = new Thread(() -> {
+        try {
+          coordinator.log();
+        } catch(final Throwable e) {
+          thrown.set(e);
+        }
+      });
+
+      caller.setDaemon(true);
+      caller.start();
+      Thread.sleep(200L);
+      caller.interrupt();
+      caller.join(5000L);
+
+      assertFalse(caller.isAlive());
+      assertTrue(thrown.get() instanceof InterruptedException, String.valueOf(thrown.get()));
+      assertThrows(IOException.class, () -> new Socket(InetAddress.getLoopbackAddress(), coordinator.getPort()).close());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new PollardRhoCoordinator<>(null, 4, null));
+    assertThrows(IllegalArgumentException.class, () -> new PollardRhoCoordinator<>(new AdditiveProblem(N, 1L, 1L), -1, null));
+    assertThrows(IllegalArgumentException.class,
+        () -> new PollardRhoCoordinator<>(new AdditiveProblem(N, 1L, 1L), PollardRho.MAXIMUM_DISTINGUISHED_BITS + 1, null));
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  /**
+   * \(base\cdot x=h\) in \(\mathbb{Z}/n\mathbb{Z}\), fingerprinted by value.
+   */
+  static final class AdditiveProblem implements RhoProblem<LongIntegersModuloNAdditiveGroupElement> {
+
+    // Static fields
+    //--------------------------------------------------
+
+    private static final long serialVersionUID = 1L;
+
+    // Constructors
+    //--------------------------------------------------
+
+    AdditiveProblem(final long n, final long baseValue, final long elementValue) {
+      super();
+
+      this.n = n;
+      this.baseValue = baseValue;
+      this.elementValue = elementValue;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final long n;
+
+    private final long baseValue;
+
+    private final long elementValue;
+
+    private transient LongIntegersModuloNAdditiveGroup group;
+
+    // Methods
+    //--------------------------------------------------
+
+    LongIntegersModuloNAdditiveGroup operationGroup() {
+      if(group == null) group = new LongIntegersModuloNAdditiveGroup(n);
+
+      return group;
+    }
+
+    // Overrides
+    //--------------------------------------------------
+
+    // RhoProblem
+    //
+
+    @Override
+    public GroupOperation<LongIntegersModuloNAdditiveGroupElement> operation() {
+      return operationGroup().operation();
+    }
+
+    @Override
+    public LongIntegersModuloNAdditiveGroupElement base() {
+      return operationGroup().getElement(baseValue);
+    }
+
+    @Override
+    public LongIntegersModuloNAdditiveGroupElement element() {
+      return operationGroup().getElement(elementValue);
+    }
+
+    @Override
+    public BigInteger order() {
+      return BigInteger.valueOf(n);
+    }
+
+    @Override
+    public long fingerprint(final LongIntegersModuloNAdditiveGroupElement element) {
+      return element.getValue();
+    }
+
+  }
+
+  /**
+   * Prints {@link #probe(AdditiveProblem)} for the problem given by its arguments.
+   */
+  static final class Probe {
+
+    // Entry point
+    //--------------------------------------------------
+
+    public static void main(final String[] arguments) {
+      final AdditiveProblem problem = new AdditiveProblem(Long.parseLong(arguments[0]), Long.parseLong(arguments[1]), Long.parseLong(arguments[2]));
+
+      probe(problem).forEach(System.out::println);
+    }
+
+    // Constructors
+    //--------------------------------------------------
+
+    private Probe() {
+      super();
+    }
+
+  }
+
+}
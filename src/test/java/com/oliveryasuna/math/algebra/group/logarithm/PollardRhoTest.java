@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.group.logarithm;
+
+import com.oliveryasuna.math.algebra.group.concrete.integers.LongIntegersModuloNAdditiveGroup;
+import com.oliveryasuna.math.algebra.group.concrete.integers.LongIntegersModuloNAdditiveGroupElement;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PollardRhoTest {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void logsMatchTheModularInverse() {
+    final Random random = new Random(134L);
+    final long n = 1_000_000_007L;
+    final BigInteger modulus = BigInteger.valueOf(n);
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(n);
+    final long base = 1 + Math.floorMod(random.nextLong(), n - 1);
+    final PollardRho<LongIntegersModuloNAdditiveGroupElement> solver = new PollardRho<>(group.operation(), group.getElement(base), group.order(),
+        LongIntegersModuloNAdditiveGroupElement::getValue, PollardRho.defaultDistinguishedBits(group.order()), ForkJoinPool.commonPool());
+
+    for(int i = 0; i < 5; i++) {
+      final long h = Math.floorMod(random.nextLong(), n);
+
+      assertEquals(BigInteger.valueOf(h).multiply(BigInteger.valueOf(base).modInverse(modulus)).mod(modulus), solver.log(group.getElement(h)));
+    }
+  }
+
+  @Test
+  void smallOrdersAreSearchedExhaustively() {
+    for(final long n : new long[] {1L, 2L, 97L}) {
+      final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(n);
+      final PollardRho<LongIntegersModuloNAdditiveGroupElement> solver = PollardRho.of(group);
+
+      for(long h = 0; h < n; h++) {
+        assertEquals(BigInteger.valueOf(h), solver.log(group.getElement(h)));
+      }
+    }
+  }
+
+  @Test
+  void nonGeneratorsReachOnlyTheirSubgroup() {
+    final LongIntegersModuloNAdditiveGroup group = new LongIntegersModuloNAdditiveGroup(36L);
+    final PollardRho<LongIntegersModuloNAdditiveGroupElement> solver = new PollardRho<>(group.operation(), group.getElement(6L),
+        BigInteger.valueOf(6L), LongIntegersModuloNAdditiveGroupElement::getValue, 0, ForkJoinPool.commonPool());
+
+    assertEquals(BigInteger.valueOf(5L), solver.log(group.getElement(30L)));
+    assertThrows(NoSuchElementException.class, () -> solver.log(group.getElement(1L)));
+  }
+
+  @Test
+  void defaultDistinguishedBitsAreAQuarterOfTheOrder() {
+    assertEquals(0, PollardRho.defaultDistinguishedBits(BigInteger.ONE));
+    assertEquals(7, PollardRho.defaultDistinguishedBits(BigInteger.ONE.shiftLeft(28)));
+    assertEquals(PollardRho.MAXIMUM_DISTINGUISHED_BITS, PollardRho.defaultDistinguishedBits(BigInteger.ONE.shiftLeft(1000)));
+  }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.operation;
+
+import com.oliveryasuna.math.algebra.property.Associative;
+import com.oliveryasuna.math.algebra.property.Associativity;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRing;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRingElement;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssociativeReducerTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final long N = (1L << 61) - 1;
+
+  private static final LongIntegersModuloNRing RING = new LongIntegersModuloNRing(N);
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static LongIntegersModuloNRingElement[] random(final Random random, final int length) {
+    final LongIntegersModuloNRingElement[] elements = new LongIntegersModuloNRingElement[length];
+
+    for(int i = 0; i < length; i++) {
+      elements[i] = RING.getElement(Math.floorMod(random.nextLong(), N));
+    }
+
+    return elements;
+  }
+
+  private static long referenceProduct(final LongIntegersModuloNRingElement[] elements, final int from, final int to) {
+    BigInteger product = BigInteger.ONE;
+
+    for(int i = from; i < to; i++) {
+      product = product.multiply(BigInteger.valueOf(elements[i].getValue())).mod(BigInteger.valueOf(N));
+    }
+
+    return product.longValueExact();
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void commutativeReductionMatchesBigInteger() {
+    final Random random = new Random(61L);
+    final ForkJoinPool pool = new ForkJoinPool(4);
+
+    try {
+      final AssociativeReducer<LongIntegersModuloNRingElement> reducer = new AssociativeReducer<>(RING.operation2(), pool, 16);
+
+      for(final int size : new int[] {1, 2, 15, 16, 17, 1000, 20000}) {
+        final LongIntegersModuloNRingElement[] elements = random(random, size);
+
+        assertEquals(referenceProduct(elements, 0, size), reducer.reduce(elements).getValue(), "size = " + size);
+        assertEquals(referenceProduct(elements, 0, size), reducer.reduce(Arrays.asList(elements)).getValue(), "size = " + size);
+        assertEquals(referenceProduct(elements, 0, size), reducer.reduce(Arrays.stream(elements)).getValue(), "size = " + size);
+        assertEquals(referenceProduct(elements, size / 3, size / 2), reducer.reduce(elements, size / 3, size / 2).getValue(), "size = " + size);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void nonCommutativeReductionKeepsOrder() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+
+    try {
+      final AssociativeReducer<String> reducer = new AssociativeReducer<>(new Concatenation(), pool, 3);
+      final String[] elements = new String[5000];
+      final StringBuilder expected = new StringBuilder();
+
+      for(int i = 0; i < elements.length; i++) {
+        elements[i] = Integer.toString(i, 36) + ",";
+        expected.append(elements[i]);
+      }
+
+      assertEquals(expected.toString(), reducer.reduce(elements));
+      assertEquals(expected.toString(), reducer.reduce(Arrays.asList(elements)));
+      assertEquals(expected.toString(), reducer.reduce(Arrays.stream(elements)));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void emptyReductionYieldsTheIdentityIfThereIsOne() {
+    final AssociativeReducer<LongIntegersModuloNRingElement> withIdentity = AssociativeReducer.of(RING.operation2());
+    final AssociativeReducer<String> withoutIdentity = AssociativeReducer.of(new Concatenation());
+
+    assertEquals(RING.operation2().identity(), withIdentity.reduce(new LongIntegersModuloNRingElement[0]));
+    assertEquals(RING.operation2().identity(), withIdentity.reduce(Arrays.stream(new LongIntegersModuloNRingElement[0])));
+    assertThrows(NoSuchElementException.class, () -> withoutIdentity.reduce(new String[0]));
+    assertThrows(NoSuchElementException.class, () -> withoutIdentity.reduce(Arrays.stream(new String[0])));
+    assertThrows(NoSuchElementException.class, () -> withoutIdentity.reduce(new String[] {"a"}, 1, 1));
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    final ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    assertThrows(IllegalArgumentException.class, () -> new AssociativeReducer<>(RING.operation2(), pool, 0));
+    assertThrows(IllegalArgumentException.class, () -> new AssociativeReducer<>(new LeftAssociativeSubtraction(), pool, 1));
+    assertThrows(IllegalArgumentException.class, () -> new AssociativeReducer<>(RING.operation2(), null, 1));
+
+    final AssociativeReducer<String> reducer = AssociativeReducer.of(new Concatenation());
+
+    assertThrows(IllegalArgumentException.class, () -> reducer.reduce(new String[3], 2, 1));
+    assertThrows(IllegalArgumentException.class, () -> reducer.reduce(new String[3], -1, 1));
+    assertThrows(IllegalArgumentException.class, () -> reducer.reduce(new String[3], 0, 4));
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  private static final class Concatenation implements BinaryOperation<String, String, String>, Associative {
+
+    @Override
+    public String perform(final String o1, final String o2) {
+      return o1 + o2;
+    }
+
+    @Override
+    public Associativity associativity() {
+      return Associativity.ASSOCIATIVE;
+    }
+
+  }
+
+  private static final class LeftAssociativeSubtraction implements BinaryOperation<LongIntegersModuloNRingElement, LongIntegersModuloNRingElement, LongIntegersModuloNRingElement>,
+      Associative {
+
+    @Override
+    public LongIntegersModuloNRingElement perform(final LongIntegersModuloNRingElement o1, final LongIntegersModuloNRingElement o2) {
+      return RING.operation1().perform(o1, RING.operation1().inverse(o2));
+    }
+
+    @Override
+    public Associativity associativity() {
+      return Associativity.LEFT_ASSOCIATIVE;
+    }
+
+  }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.operation;
+
+import com.oliveryasuna.math.algebra.group.concrete.integers.IntegersAdditiveGroup;
+import com.oliveryasuna.math.algebra.group.concrete.integers.IntegersAdditiveGroupElement;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryOperationTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * A non-commutative operation, so swapped operands are detected.
+   */
+  private static final BinaryOperation<BigInteger, BigInteger, BigInteger> OPERATION = (a, b) -> a.shiftLeft(4).subtract(b);
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static BigInteger[] values(final long... values) {
+    final BigInteger[] result = new BigInteger[values.length];
+
+    for(int i = 0; i < values.length; i++) {
+      result[i] = BigInteger.valueOf(values[i]);
+    }
+
+    return result;
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void performAllAppliesTheOperationPerIndex() {
+    final BigInteger[] results = new BigInteger[3];
+
+    OPERATION.performAll(values(1L, 2L, 3L), values(4L, 5L, 6L), results);
+
+    assertArrayEquals(values(12L, 27L, 42L), results);
+  }
+
+  @Test
+  void performAllLeftAndRightFixOneOperand() {
+    final BigInteger[] results = new BigInteger[3];
+
+    OPERATION.performAllLeft(BigInteger.TEN, values(1L, 2L, 3L), results);
+    assertArrayEquals(values(159L, 158L, 157L), results);
+
+    OPERATION.performAllRight(values(1L, 2L, 3L), BigInteger.TEN, results);
+    assertArrayEquals(values(6L, 22L, 38L), results);
+  }
+
+  @Test
+  void resultsMayAliasAnOperandArray() {
+    final BigInteger[] operands = values(1L, 2L, 3L);
+
+    OPERATION.performAll(operands, values(4L, 5L, 6L), operands);
+    assertArrayEquals(values(12L, 27L, 42L), operands);
+
+    final BigInteger[] others = values(1L, 2L, 3L);
+
+    OPERATION.performAll(values(4L, 5L, 6L), others, others);
+    assertArrayEquals(values(63L, 78L, 93L), others);
+  }
+
+  @Test
+  void acceptsEmptyArrays() {
+    final BigInteger[] empty = new BigInteger[0];
+
+    OPERATION.performAll(empty, empty, empty);
+    OPERATION.performAllLeft(BigInteger.ONE, empty, empty);
+    OPERATION.performAllRight(empty, BigInteger.ONE, empty);
+  }
+
+  @Test
+  void rejectsMismatchedLengths() {
+    assertThrows(IllegalArgumentException.class, () -> OPERATION.performAll(values(1L), values(1L, 2L), new BigInteger[1]));
+    assertThrows(IllegalArgumentException.class, () -> OPERATION.performAll(values(1L), values(1L), new BigInteger[2]));
+    assertThrows(IllegalArgumentException.class, () -> OPERATION.performAllLeft(BigInteger.ONE, values(1L), new BigInteger[2]));
+    assertThrows(IllegalArgumentException.class, () -> OPERATION.performAllRight(values(1L), BigInteger.ONE, new BigInteger[0]));
+  }
+
+  @Test
+  void magmaOperationsWorkInPlace() {
+    final IntegersAdditiveGroup group = new IntegersAdditiveGroup();
+    final IntegersAdditiveGroupElement[] operands = {group.getElement(BigInteger.ONE), group.getElement(BigInteger.TEN)};
+
+    group.operation().performAllInPlace(operands, new IntegersAdditiveGroupElement[] {group.getElement(BigInteger.TWO), group.getElement(BigInteger.ONE)});
+    assertEquals(BigInteger.valueOf(3L), operands[0].getValue());
+    assertEquals(BigInteger.valueOf(11L), operands[1].getValue());
+
+    group.operation().performAllInPlace(operands, group.getElement(BigInteger.valueOf(-3L)));
+    assertEquals(BigInteger.ZERO, operands[0].getValue());
+    assertEquals(BigInteger.valueOf(8L), operands[1].getValue());
+  }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.operation;
+
+import com.oliveryasuna.math.algebra.ring.concrete.fields.LongPrimeField;
+import com.oliveryasuna.math.algebra.ring.concrete.fields.LongPrimeFieldElement;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRing;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRingElement;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExponentiationTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * Exponent bit-lengths on both sides of every window-size threshold.
+   */
+  private static final int[] BIT_LENGTHS = {1, 2, 6, 7, 8, 24, 25, 80, 81, 240, 241, 672, 673, 1792, 1793};
+
+  /**
+   * \(2^{61}-1\), a prime.
+   */
+  private static final long P = (1L << 61) - 1;
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void powerMatchesModPow() {
+    final Random random = new Random(71L);
+    final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(Long.MAX_VALUE);
+    final BigInteger n = BigInteger.valueOf(Long.MAX_VALUE);
+
+    for(final int bitLength : BIT_LENGTHS) {
+      for(int i = 0; i < 3; i++) {
+        final LongIntegersModuloNRingElement base = ring.getElement(Math.floorMod(random.nextLong(), Long.MAX_VALUE));
+        final BigInteger exponent = new BigInteger(bitLength, random).setBit(bitLength - 1);
+        final long expected = BigInteger.valueOf(base.getValue()).modPow(exponent, n).longValueExact();
+
+        assertEquals(expected, Exponentiation.power(ring.operation2(), ring.operation2().identity(), base, exponent).getValue(), "bits = " + bitLength);
+      }
+    }
+  }
+
+  @Test
+  void powerOfZeroIsTheIdentity() {
+    final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(97L);
+    final LongIntegersModuloNRingElement identity = ring.operation2().identity();
+
+    assertSame(identity, Exponentiation.power(ring.operation2(), identity, ring.getElement(5L), BigInteger.ZERO));
+    assertSame(ring.operation1().identity(), Exponentiation.signedPower(ring.operation1(), ring.operation1().identity(), ring.operation1(), ring.getElement(5L), BigInteger.ZERO));
+    assertEquals(0L, Exponentiation.power(ring.operation2(), identity, ring.getElement(0L), BigInteger.TEN).getValue());
+  }
+
+  @Test
+  void powerRejectsNegativeExponents() {
+    final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(97L);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> Exponentiation.power(ring.operation2(), ring.operation2().identity(), ring.getElement(5L), BigInteger.valueOf(-1L)));
+  }
+
+  @Test
+  void signedPowerMatchesModPowForAnySign() {
+    final Random random = new Random(72L);
+    final LongPrimeField field = new LongPrimeField(P);
+    final BigInteger p = BigInteger.valueOf(P);
+
+    for(final int bitLength : BIT_LENGTHS) {
+      for(final int sign : new int[] {1, -1}) {
+        final LongPrimeFieldElement base = field.getElement(1 + Math.floorMod(random.nextLong(), P - 1));
+        final BigInteger exponent = new BigInteger(bitLength, random).setBit(bitLength - 1).multiply(BigInteger.valueOf(sign));
+        final long expected = BigInteger.valueOf(base.getValue()).modPow(exponent, p).longValueExact();
+
+        assertEquals(expected, Exponentiation.signedPower(field.operation2(), field.operation2().identity(), field.operation2(), base, exponent).getValue(),
+            "exponent = " + exponent);
+      }
+    }
+  }
+
+  @Test
+  void powerWithInverseInvertsOnlyForNegativeExponents() {
+    final Random random = new Random(236L);
+    final LongPrimeField field = new LongPrimeField(P);
+    final BigInteger p = BigInteger.valueOf(P);
+    final LongPrimeFieldElement zero = field.operation1().identity();
+    final LongPrimeFieldElement one = field.operation2().identity();
+
+    for(final int bitLength : BIT_LENGTHS) {
+      for(final int sign : new int[] {1, -1}) {
+        final LongPrimeFieldElement base = field.getElement(1 + Math.floorMod(random.nextLong(), P - 1));
+        final BigInteger exponent = new BigInteger(bitLength, random).setBit(bitLength - 1).multiply(BigInteger.valueOf(sign));
+        final long expected = BigInteger.valueOf(base.getValue()).modPow(exponent, p).longValueExact();
+
+        assertEquals(expected, Exponentiation.power(field.operation2(), one, field.operation2(), base, exponent).getValue(), "exponent = " + exponent);
+      }
+    }
+
+    // Zero has no inverse, so only its negative powers fail.
+    assertEquals(zero, Exponentiation.power(field.operation2(), one, field.operation2(), zero, BigInteger.TEN));
+    assertSame(one, Exponentiation.power(field.operation2(), one, field.operation2(), zero, BigInteger.ZERO));
+    assertThrows(ArithmeticException.class, () -> Exponentiation.power(field.operation2(), one, field.operation2(), zero, BigInteger.valueOf(-1L)));
+  }
+
+  @Test
+  void signedPowerComputesNegativeMultiples() {
+    final Random random = new Random(73L);
+    final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(1000003L);
+    final BigInteger n = BigInteger.valueOf(1000003L);
+
+    for(int i = 0; i < 50; i++) {
+      final LongIntegersModuloNRingElement base = ring.getElement(Math.floorMod(random.nextLong(), 1000003L));
+      final BigInteger multiplier = new BigInteger(1 + random.nextInt(200), random).subtract(BigInteger.ONE.shiftLeft(100));
+      final long expected = BigInteger.valueOf(base.getValue()).multiply(multiplier).mod(n).longValueExact();
+
+      assertEquals(expected, Exponentiation.signedPower(ring.operation1(), ring.operation1().identity(), ring.operation1(), base, multiplier).getValue());
+    }
+  }
+
+  @Test
+  void nonAdjacentFormReconstructsItsValue() {
+    final Random random = new Random(74L);
+
+    for(int width = 2; width <= 8; width++) {
+      for(int i = 0; i < 100; i++) {
+        final BigInteger value = (i == 0 ? BigInteger.ONE : new BigInteger(1 + random.nextInt(300), random).add(BigInteger.ONE));
+        final byte[] digits = Exponentiation.nonAdjacentForm(value, width);
+
+        BigInteger reconstructed = BigInteger.ZERO;
+        int lastNonZero = -width;
+
+        for(int j = digits.length - 1; j >= 0; j--) {
+          reconstructed = reconstructed.shiftLeft(1).add(BigInteger.valueOf(digits[j]));
+        }
+
+        for(int j = 0; j < digits.length; j++) {
+          if(digits[j] == 0) continue;
+
+          assertEquals(1, digits[j] & 1, "Non-zero digits are odd.");
+          assertTrue(Math.abs(digits[j]) < (1 << (width - 1)));
+          assertTrue(j - lastNonZero >= width, "Non-zero digits are at least w apart.");
+
+          lastNonZero = j;
+        }
+
+        assertEquals(value, reconstructed);
+        assertNotEquals(0, digits[digits.length - 1]);
+      }
+    }
+  }
+
+  @Test
+  void nonAdjacentFormRejectsInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> Exponentiation.nonAdjacentForm(BigInteger.ZERO, 4));
+    assertThrows(IllegalArgumentException.class, () -> Exponentiation.nonAdjacentForm(BigInteger.valueOf(-5L), 4));
+    assertThrows(IllegalArgumentException.class, () -> Exponentiation.nonAdjacentForm(BigInteger.TEN, 1));
+    assertThrows(IllegalArgumentException.class, () -> Exponentiation.nonAdjacentForm(BigInteger.TEN, 9));
+  }
+
+  @Test
+  void windowSizeGrowsWithTheExponent() {
+    assertEquals(1, Exponentiation.windowSize(0));
+    assertEquals(1, Exponentiation.windowSize(6));
+    assertEquals(2, Exponentiation.windowSize(7));
+    assertEquals(7, Exponentiation.windowSize(Integer.MAX_VALUE - 1));
+
+    for(int bitLength = 1; bitLength < 5000; bitLength++) {
+      assertTrue(Exponentiation.windowSize(bitLength) >= Exponentiation.windowSize(bitLength - 1));
+    }
+  }
+
+  @Test
+  void elementDefaultsUseTheStructureOperations() {
+    final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(101L);
+    final LongIntegersModuloNRingElement element = ring.getElement(7L);
+
+    assertEquals(BigInteger.valueOf(7L).modPow(BigInteger.valueOf(50L), BigInteger.valueOf(101L)).longValueExact(), element.pow(50L).getValue());
+    assertEquals(Math.floorMod(7L * -13L, 101L), element.times(-13L).getValue());
+    assertEquals(1L, element.pow(0L).getValue());
+  }
+
+}
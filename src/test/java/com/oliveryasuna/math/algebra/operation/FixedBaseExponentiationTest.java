@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.operation;
+
+import com.oliveryasuna.math.algebra.ring.concrete.fields.LongPrimeField;
+import com.oliveryasuna.math.algebra.ring.concrete.fields.LongPrimeFieldElement;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedBaseExponentiationTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * \(2^{61}-1\), a prime.
+   */
+  private static final long P = (1L << 61) - 1;
+
+  private static final BigInteger P_BIG = BigInteger.valueOf(P);
+
+  private static final LongPrimeField FIELD = new LongPrimeField(P);
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void knownOrderMatchesModPow() {
+    final Random random = new Random(91L);
+    final LongPrimeFieldElement base = FIELD.getElement(37L);
+    final FixedBaseExponentiation<LongPrimeFieldElement> exponentiation = new FixedBaseExponentiation<>(FIELD.operation2(),
+        FIELD.operation2().identity(), base, P_BIG.subtract(BigInteger.ONE), FixedBaseExponentiation.DEFAULT_MAXIMUM_ENTRIES);
+
+    for(int i = 0; i < 200; i++) {
+      final BigInteger exponent = new BigInteger(1 + random.nextInt(150), random).multiply(BigInteger.valueOf(random.nextBoolean() ? 1 : -1));
+
+      assertEquals(BigInteger.valueOf(37L).modPow(exponent, P_BIG).longValueExact(), exponentiation.power(exponent).getValue(), "exponent = " + exponent);
+    }
+  }
+
+  @Test
+  void unknownOrderFallsBackBeyondTheTable() {
+    final Random random = new Random(92L);
+    final LongPrimeFieldElement base = FIELD.getElement(5L);
+
+    for(final int maximumEntries : new int[] {2, 3, 16, 1 << 10}) {
+      final FixedBaseExponentiation<LongPrimeFieldElement> exponentiation = new FixedBaseExponentiation<>(FIELD.operation2(),
+          FIELD.operation2().identity(), FIELD.operation2(), base, 64, maximumEntries);
+
+      exponentiation.precompute();
+
+      for(int i = 0; i < 50; i++) {
+        final BigInteger exponent = new BigInteger(1 + random.nextInt(100), random).multiply(BigInteger.valueOf(random.nextBoolean() ? 1 : -1));
+
+        assertEquals(BigInteger.valueOf(5L).modPow(exponent, P_BIG).longValueExact(), exponentiation.power(exponent).getValue());
+      }
+    }
+  }
+
+  @Test
+  void zeroAndOneExponents() {
+    final FixedBaseExponentiation<LongPrimeFieldElement> exponentiation = new FixedBaseExponentiation<>(FIELD.operation2(),
+        FIELD.operation2().identity(), null, FIELD.getElement(2L), 8, 16);
+
+    assertSame(FIELD.operation2().identity(), exponentiation.power(BigInteger.ZERO));
+    assertEquals(2L, exponentiation.power(BigInteger.ONE).getValue());
+    assertEquals(1L << 60, exponentiation.power(BigInteger.valueOf(60L)).getValue());
+  }
+
+  @Test
+  void negativeExponentsRequireAnInverseOrAnOrder() {
+    final FixedBaseExponentiation<LongPrimeFieldElement> exponentiation = new FixedBaseExponentiation<>(FIELD.operation2(),
+        FIELD.operation2().identity(), null, FIELD.getElement(2L), 8, 16);
+
+    assertThrows(IllegalArgumentException.class, () -> exponentiation.power(BigInteger.valueOf(-3L)));
+  }
+
+  @Test
+  void invalidOrdersAreRejected() {
+    final LongPrimeFieldElement base = FIELD.getElement(2L);
+    final LongPrimeFieldElement identity = FIELD.operation2().identity();
+
+    assertThrows(IllegalArgumentException.class, () -> new FixedBaseExponentiation<>(FIELD.operation2(), identity, base, null, 16));
+    assertThrows(IllegalArgumentException.class, () -> new FixedBaseExponentiation<>(FIELD.operation2(), identity, base, BigInteger.ZERO, 16));
+    assertThrows(IllegalArgumentException.class, () -> new FixedBaseExponentiation<>(FIELD.operation2(), identity, base, BigInteger.valueOf(-7L), 16));
+    assertThrows(IllegalArgumentException.class, () -> new FixedBaseExponentiation<>(FIELD.operation2(), identity, base, BigInteger.TEN, 1));
+  }
+
+}
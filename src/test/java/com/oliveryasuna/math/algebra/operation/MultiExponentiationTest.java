@@ -0,0 +1,178 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.operation;
+
+import com.oliveryasuna.math.algebra.ring.concrete.fields.LongPrimeField;
+import com.oliveryasuna.math.algebra.ring.concrete.fields.LongPrimeFieldElement;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRing;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRingElement;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiExponentiationTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * \(2^{61}-1\), a prime.
+   */
+  private static final long P = (1L << 61) - 1;
+
+  private static final BigInteger P_BIG = BigInteger.valueOf(P);
+
+  private static final LongPrimeField FIELD = new LongPrimeField(P);
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static LongPrimeFieldElement[] randomBases(final Random random, final int size) {
+    final LongPrimeFieldElement[] bases = new LongPrimeFieldElement[size];
+
+    for(int i = 0; i < size; i++) {
+      bases[i] = FIELD.getElement(1 + Math.floorMod(random.nextLong(), P - 1));
+    }
+
+    return bases;
+  }
+
+  private static BigInteger[] randomExponents(final Random random, final int size, final int bitLength, final boolean signed) {
+    final BigInteger[] exponents = new BigInteger[size];
+
+    for(int i = 0; i < size; i++) {
+      final BigInteger exponent = new BigInteger(bitLength, random);
+
+      exponents[i] = (signed && random.nextBoolean() ? exponent.negate() : exponent);
+    }
+
+    return exponents;
+  }
+
+  private static long reference(final LongPrimeFieldElement[] bases, final BigInteger[] exponents) {
+    BigInteger result = BigInteger.ONE;
+
+    for(int i = 0; i < bases.length; i++) {
+      result = result.multiply(BigInteger.valueOf(bases[i].getValue()).modPow(exponents[i], P_BIG)).mod(P_BIG);
+    }
+
+    return result.longValueExact();
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void algorithmsMatchModPow() {
+    final Random random = new Random(81L);
+    final ForkJoinPool pool = new ForkJoinPool(4);
+
+    try {
+      for(final int size : new int[] {1, 2, 3, 17, 64}) {
+        for(final int bitLength : new int[] {1, 2, 61, 200}) {
+          final LongPrimeFieldElement[] bases = randomBases(random, size);
+          final BigInteger[] exponents = randomExponents(random, size, bitLength, false);
+          final long expected = reference(bases, exponents);
+          final LongPrimeFieldElement identity = FIELD.operation2().identity();
+
+          assertEquals(expected, MultiExponentiation.straus(FIELD.operation2(), identity, null, bases, exponents).getValue());
+          assertEquals(expected, MultiExponentiation.pippenger(FIELD.operation2(), identity, null, bases, exponents, pool).getValue());
+          assertEquals(expected, MultiExponentiation.multiPower(FIELD.operation2(), identity, null, bases, exponents, pool).getValue());
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void pippengerAccumulatesWindowsInParallel() {
+    final Random random = new Random(82L);
+    final ForkJoinPool pool = new ForkJoinPool(4);
+
+    try {
+      final LongPrimeFieldElement[] bases = randomBases(random, 2000);
+      final BigInteger[] exponents = randomExponents(random, 2000, 128, false);
+
+      assertEquals(reference(bases, exponents),
+          MultiExponentiation.pippenger(FIELD.operation2(), FIELD.operation2().identity(), null, bases, exponents, pool).getValue());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void negativeExponentsInvertTheirBases() {
+    final Random random = new Random(83L);
+    final LongPrimeFieldElement[] bases = randomBases(random, 20);
+    final BigInteger[] exponents = randomExponents(random, 20, 90, true);
+    final long expected = reference(bases, exponents);
+    final LongPrimeFieldElement identity = FIELD.operation2().identity();
+
+    assertEquals(expected, MultiExponentiation.straus(FIELD.operation2(), identity, FIELD.operation2(), bases, exponents).getValue());
+    assertEquals(expected, MultiExponentiation.multiPower(FIELD.operation2(), identity, FIELD.operation2(), bases, exponents).getValue());
+  }
+
+  @Test
+  void negativeExponentsRequireAnInverse() {
+    final LongPrimeFieldElement[] bases = {FIELD.getElement(3L)};
+    final BigInteger[] exponents = {BigInteger.valueOf(-2L)};
+
+    assertThrows(IllegalArgumentException.class,
+        () -> MultiExponentiation.multiPower(FIELD.operation2(), FIELD.operation2().identity(), null, bases, exponents));
+  }
+
+  @Test
+  void emptyAndZeroProductsAreTheIdentity() {
+    final LongPrimeFieldElement identity = FIELD.operation2().identity();
+
+    assertSame(identity, MultiExponentiation.multiPower(FIELD.operation2(), identity, null, new LongPrimeFieldElement[0], new BigInteger[0]));
+    assertSame(identity, MultiExponentiation.straus(FIELD.operation2(), identity, null,
+        new LongPrimeFieldElement[] {FIELD.getElement(5L)}, new BigInteger[] {BigInteger.ZERO}));
+  }
+
+  @Test
+  void mismatchedLengthsAreRejected() {
+    assertThrows(IllegalArgumentException.class, () -> MultiExponentiation.multiPower(FIELD.operation2(), FIELD.operation2().identity(), null,
+        new LongPrimeFieldElement[2], new BigInteger[1]));
+  }
+
+  @Test
+  void additiveMultiplesMatchALinearCombination() {
+    final Random random = new Random(84L);
+    final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(1000003L);
+    final BigInteger n = BigInteger.valueOf(1000003L);
+    final LongIntegersModuloNRingElement[] bases = new LongIntegersModuloNRingElement[30];
+    final BigInteger[] multipliers = randomExponents(random, 30, 70, true);
+    BigInteger expected = BigInteger.ZERO;
+
+    for(int i = 0; i < bases.length; i++) {
+      bases[i] = ring.getElement(Math.floorMod(random.nextLong(), 1000003L));
+      expected = expected.add(BigInteger.valueOf(bases[i].getValue()).multiply(multipliers[i]));
+    }
+
+    assertEquals(expected.mod(n).longValueExact(),
+        MultiExponentiation.multiPower(ring.operation1(), ring.operation1().identity(), ring.operation1(), bases, multipliers).getValue());
+  }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.operation;
+
+import com.oliveryasuna.math.algebra.property.Inverse;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimultaneousInversionTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final long P = 1_000_000_007L;
+
+  private static final BinaryOperation<Long, Long, Long> MULTIPLICATION = (multiplier, multiplicand) -> multiplier * multiplicand % P;
+
+  private static final Inverse<Long> INVERSE = value -> BigInteger.valueOf(value).modInverse(BigInteger.valueOf(P)).longValueExact();
+
+  /**
+   * Composition of permutations, which is not commutative: {@code (a b)[i] = a[b[i]]}.
+   */
+  private static final BinaryOperation<int[], int[], int[]> COMPOSITION = (a, b) -> {
+    final int[] result = new int[b.length];
+
+    for(int i = 0; i < b.length; i++) result[i] = a[b[i]];
+
+    return result;
+  };
+
+  private static final Inverse<int[]> PERMUTATION_INVERSE = a -> {
+    final int[] result = new int[a.length];
+
+    for(int i = 0; i < a.length; i++) result[a[i]] = i;
+
+    return result;
+  };
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static Long[] units(final int size, final Random random) {
+    final Long[] units = new Long[size];
+
+    for(int i = 0; i < size; i++) units[i] = 1 + Math.floorMod(random.nextLong(), P - 1);
+
+    return units;
+  }
+
+  private static void assertInverses(final Long[] elements, final Long[] results) {
+    for(int i = 0; i < elements.length; i++) {
+      assertEquals(INVERSE.inverse(elements[i]), results[i], "index " + i);
+    }
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void matchesElementwiseInversion() {
+    final Random random = new Random(171L);
+
+    for(final int size : new int[] {0, 1, 2, 3, 1000}) {
+      final Long[] elements = units(size, random);
+      final Long[] results = new Long[size];
+
+      SimultaneousInversion.inverseAll(MULTIPLICATION, INVERSE, elements, results);
+      assertInverses(elements, results);
+
+      final Long[] copy = elements.clone();
+
+      SimultaneousInversion.inverseAll(MULTIPLICATION, INVERSE, copy, copy);
+      assertInverses(elements, copy);
+    }
+  }
+
+  @Test
+  void chunksOnAPoolMatchElementwiseInversion() {
+    final Random random = new Random(172L);
+    final ForkJoinPool pool = new ForkJoinPool(4);
+
+    try {
+      for(final int size : new int[] {0, 1, 1024, 1025, 20_000}) {
+        final Long[] elements = units(size, random);
+        final Long[] results = new Long[size];
+
+        SimultaneousInversion.inverseAll(MULTIPLICATION, INVERSE, elements, results, pool);
+        assertInverses(elements, results);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void keepsTheOrderOfNonCommutativeFactors() {
+    final Random random = new Random(173L);
+    final int[][] elements = new int[50][];
+
+    for(int i = 0; i < elements.length; i++) {
+      final int[] permutation = new int[8];
+
+      for(int j = 0; j < permutation.length; j++) permutation[j] = j;
+      for(int j = permutation.length - 1; j > 0; j--) {
+        final int k = random.nextInt(j + 1);
+        final int swap = permutation[j];
+
+        permutation[j] = permutation[k];
+        permutation[k] = swap;
+      }
+
+      elements[i] = permutation;
+    }
+
+    final int[][] results = new int[elements.length][];
+
+    SimultaneousInversion.inverseAll(COMPOSITION, PERMUTATION_INVERSE, elements, results);
+
+    for(int i = 0; i < elements.length; i++) {
+      assertArrayEquals(PERMUTATION_INVERSE.inverse(elements[i]), results[i], "index " + i);
+    }
+  }
+
+  @Test
+  void nonInvertibleElementsLeaveResultsUnchanged() {
+    final Long[] elements = units(100, new Random(174L));
+    final Long[] results = new Long[elements.length];
+
+    elements[37] = 0L;
+    Arrays.fill(results, -1L);
+
+    assertThrows(ArithmeticException.class, () -> SimultaneousInversion.inverseAll(MULTIPLICATION, INVERSE, elements, results));
+
+    for(final Long result : results) assertEquals(Long.valueOf(-1L), result);
+  }
+
+  @Test
+  void nonInvertibleElementsFailOnAPool() {
+    final Long[] elements = units(20_000, new Random(175L));
+
+    elements[12_345] = 0L;
+
+    assertThrows(ArithmeticException.class, () -> SimultaneousInversion.inverseAll(MULTIPLICATION, INVERSE, elements, new Long[elements.length],
+        ForkJoinPool.commonPool()));
+  }
+
+  @Test
+  void rejectsArraysOfDifferentLengths() {
+    assertThrows(IllegalArgumentException.class, () -> SimultaneousInversion.inverseAll(MULTIPLICATION, INVERSE, new Long[2], new Long[1]));
+    assertThrows(IllegalArgumentException.class, () -> SimultaneousInversion.inverseAll(MULTIPLICATION, INVERSE, new Long[2], new Long[3],
+        ForkJoinPool.commonPool()));
+  }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.fields;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryExtensionFieldTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int SAMPLES = 300;
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void operationsAgreeWithTheArithmetic() {
+    final Random random = new Random(231L);
+
+    for(final BinaryExtensionField field : new BinaryExtensionField[] {new BinaryExtensionField(1), new BinaryExtensionField(2),
+        new BinaryExtensionField(8), new BinaryExtensionField(8, 0x11B), new BinaryExtensionField(16)}) {
+      final int size = field.getArithmetic().getSize();
+
+      for(int i = 0; i < SAMPLES; i++) {
+        final BinaryExtensionFieldElement a = field.getElement(random.nextInt(size));
+        final BinaryExtensionFieldElement b = field.getElement(1 + random.nextInt(size - 1));
+        final long exponent = random.nextInt(200_001) - 100_000;
+        final String message = a.getValue() + ", " + b.getValue() + " mod " + Integer.toHexString(field.getPolynomial());
+
+        assertEquals(a.getValue() ^ b.getValue(), a.add(b).getValue(), message);
+        assertEquals(a, a.negate(), message);
+        assertEquals(field.getArithmetic().multiply(a.getValue(), b.getValue()), a.multiply(b).getValue(), message);
+        assertEquals(field.operation2().identity(), b.multiply(b.inverse()), message);
+        assertEquals(a, a.multiply(b).multiply(b.inverse()), message);
+        assertEquals(b.inverse(), b.pow(-1L), message);
+        // The power of the inverse, by repeated multiplication modulo the order of b.
+        assertEquals(b.pow(exponent), b.inverse().pow(-exponent), message);
+        assertEquals(a.times(exponent), (exponent % 2 == 0 ? field.operation1().identity() : a), message);
+      }
+
+      assertEquals(BigInteger.valueOf(size), field.elementCount());
+      assertEquals(size, field.elements().distinct().count());
+      assertFalse(field.hasElementSafe(size));
+      assertFalse(field.hasElementSafe(-1));
+      assertThrows(ArithmeticException.class, () -> field.operation1().identity().inverse());
+      assertThrows(ArithmeticException.class, () -> field.operation1().identity().pow(-1L));
+      assertEquals(field.operation2().identity(), field.operation1().identity().pow(0L));
+    }
+  }
+
+  @Test
+  void inverseAllMatchesInverse() {
+    final Random random = new Random(232L);
+    final BinaryExtensionField field = new BinaryExtensionField(16);
+    final BinaryExtensionFieldElement[] elements = new BinaryExtensionFieldElement[1000];
+    final BinaryExtensionFieldElement[] inverses = new BinaryExtensionFieldElement[elements.length];
+    final BinaryExtensionFieldElement[] parallelInverses = new BinaryExtensionFieldElement[elements.length];
+
+    for(int i = 0; i < elements.length; i++) {
+      elements[i] = field.getElement(1 + random.nextInt(field.getArithmetic().getSize() - 1));
+    }
+
+    field.operation2().inverseAll(elements, inverses);
+    field.operation2().inverseAll(elements, parallelInverses, ForkJoinPool.commonPool());
+
+    for(int i = 0; i < elements.length; i++) {
+      assertEquals(elements[i].inverse(), inverses[i]);
+      assertEquals(elements[i].inverse(), parallelInverses[i]);
+    }
+  }
+
+  @Test
+  void elementsOfDifferentFieldsDiffer() {
+    final BinaryExtensionField conventional = new BinaryExtensionField(8);
+    final BinaryExtensionField aes = new BinaryExtensionField(8, 0x11B);
+
+    assertNotEquals(conventional.getElement(3), aes.getElement(3));
+    assertEquals(conventional.getElement(3), conventional.getElement(3));
+    assertEquals(conventional.getElement(3).hashCode(), conventional.getElement(3).hashCode());
+    assertThrows(IllegalArgumentException.class, () -> conventional.getElement(256));
+  }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.fields;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedBinaryExtensionFieldTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int SAMPLES = 30;
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void operationsAgreeWithTheTableDrivenField() {
+    // Both use the conventional polynomial x^8 + x^4 + x^3 + x^2 + 1.
+    final PackedBinaryExtensionField field = new PackedBinaryExtensionField(8, 4, 3, 2, 0);
+    final BinaryExtensionField tables = new BinaryExtensionField(8);
+
+    for(int a = 0; a < 256; a++) {
+      for(int b = 0; b < 256; b++) {
+        final PackedBinaryExtensionFieldElement x = field.getElement(BigInteger.valueOf(a));
+        final PackedBinaryExtensionFieldElement y = field.getElement(BigInteger.valueOf(b));
+
+        assertEquals(tables.getElement(a).multiply(tables.getElement(b)).getValue(), x.multiply(y).getValue().intValueExact(), a + " * " + b);
+      }
+
+      if(a != 0) {
+        assertEquals(tables.getElement(a).pow(-7L).getValue(), field.getElement(BigInteger.valueOf(a)).pow(-7L).getValue().intValueExact(), "a = " + a);
+      }
+    }
+  }
+
+  @Test
+  void fieldAxiomsHold() {
+    final Random random = new Random(235L);
+
+    for(final PackedBinaryExtensionField field : new PackedBinaryExtensionField[] {new PackedBinaryExtensionField(2, 1, 0),
+        new PackedBinaryExtensionField(64, 4, 3, 1, 0), new PackedBinaryExtensionField(233, 74, 0), new PackedBinaryExtensionField(571, 10, 5, 2, 0)}) {
+      final int degree = field.getDegree();
+
+      for(int i = 0; i < SAMPLES; i++) {
+        final PackedBinaryExtensionFieldElement a = field.getElement(new BigInteger(degree, random));
+        final PackedBinaryExtensionFieldElement b = field.getElement(new BigInteger(degree, random).setBit(random.nextInt(degree)));
+        final PackedBinaryExtensionFieldElement c = field.getElement(new BigInteger(degree, random));
+        final long exponent = random.nextLong();
+        final String message = "degree " + degree + ", sample " + i;
+
+        assertEquals(a.getValue().xor(b.getValue()), a.add(b).getValue(), message);
+        assertEquals(a, a.negate(), message);
+        assertEquals(a.multiply(b), b.multiply(a), message);
+        assertEquals(a.multiply(b).multiply(c), a.multiply(b.multiply(c)), message);
+        assertEquals(a.multiply(b).add(a.multiply(c)), a.multiply(b.add(c)), message);
+        assertEquals(field.operation2().identity(), b.multiply(b.inverse()), message);
+        assertEquals(b.inverse(), b.pow(-1L), message);
+        assertEquals(b.pow(exponent), b.inverse().pow(-exponent), message);
+        assertEquals(a.times(exponent), (exponent % 2 == 0 ? field.operation1().identity() : a), message);
+        assertEquals(a, field.getElement(a.getWords()), message);
+        assertEquals(a.hashCode(), field.getElement(a.getValue()).hashCode(), message);
+      }
+
+      assertThrows(ArithmeticException.class, () -> field.operation1().identity().inverse());
+      assertThrows(ArithmeticException.class, () -> field.operation1().identity().pow(-1L));
+      assertEquals(field.operation2().identity(), field.operation1().identity().pow(0L));
+      assertEquals(BigInteger.ONE.shiftLeft(degree), field.elementCount());
+    }
+  }
+
+  @Test
+  void elementsAreChecked() {
+    final PackedBinaryExtensionField field = new PackedBinaryExtensionField(2, 1, 0);
+    final long[] words = {3L};
+    final PackedBinaryExtensionFieldElement element = field.getElement(words);
+
+    words[0] = 0L;
+
+    assertEquals(BigInteger.valueOf(3L), element.getValue());
+    assertEquals(4L, field.elements().distinct().count());
+    assertFalse(field.hasElement((long[])null));
+    assertFalse(field.hasElement(new long[] {4L}));
+    assertFalse(field.hasElement(new long[2]));
+    assertFalse(field.hasElementSafe(BigInteger.valueOf(4L)));
+    assertThrows(IllegalArgumentException.class, () -> field.getElement(new long[] {4L}));
+  }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.fields;
+
+import com.oliveryasuna.math.arithmetic.ModularReduction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimeFieldTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final long[] LONG_PRIMES = {2L, 3L, 97L, 65_537L, 2_147_483_647L, (1L << 61) - 1, 9_223_372_036_854_775_783L};
+
+  private static final BigInteger[] PRIMES = {
+      BigInteger.TWO, BigInteger.valueOf(97L), BigInteger.valueOf(9_223_372_036_854_775_783L), BigInteger.ONE.shiftLeft(64).add(BigInteger.valueOf(13L)),
+      BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE), BigInteger.ONE.shiftLeft(521).subtract(BigInteger.ONE)
+  };
+
+  private static final int SAMPLES = 200;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static BigInteger randomNonZero(final Random random, final BigInteger p) {
+    return new BigInteger(p.bitLength() + 8, random).mod(p.subtract(BigInteger.ONE)).add(BigInteger.ONE);
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void smallFieldsInvertEveryElement() {
+    for(final long p : new long[] {2L, 3L, 5L, 7L, 251L, 257L}) {
+      final LongPrimeField field = new LongPrimeField(p);
+      final PrimeField bigField = new PrimeField(BigInteger.valueOf(p));
+
+      for(long a = 1; a < p; a++) {
+        final long expected = BigInteger.valueOf(a).modInverse(BigInteger.valueOf(p)).longValueExact();
+
+        assertEquals(expected, field.getElement(a).inverse().getValue(), a + " mod " + p);
+        assertEquals(BigInteger.valueOf(expected), bigField.getElement(BigInteger.valueOf(a)).inverse().getValue(), a + " mod " + p);
+      }
+    }
+  }
+
+  @Test
+  void longFieldsMatchBigInteger() {
+    final Random random = new Random(225L);
+
+    for(final long p : LONG_PRIMES) {
+      final LongPrimeField field = new LongPrimeField(p);
+      final BigInteger bigP = BigInteger.valueOf(p);
+
+      for(int i = 0; i < SAMPLES; i++) {
+        final BigInteger a = (i == 0 ? bigP.subtract(BigInteger.ONE) : randomNonZero(random, bigP));
+        final BigInteger b = randomNonZero(random, bigP);
+        final long exponent = random.nextInt(2001) - 1000;
+        final LongPrimeFieldElement x = field.getElement(a.longValueExact());
+        final LongPrimeFieldElement y = field.getElement(b.longValueExact());
+        final String message = a + ", " + b + " mod " + p;
+
+        assertEquals(a.modInverse(bigP).longValueExact(), x.inverse().getValue(), message);
+        assertEquals(a.multiply(b.modInverse(bigP)).mod(bigP).longValueExact(), x.multiply(y.inverse()).getValue(), message);
+        assertEquals(a.modPow(BigInteger.valueOf(exponent), bigP).longValueExact(), x.pow(exponent).getValue(), message + ", ^" + exponent);
+        assertEquals(field.operation2().identity(), x.multiply(x.inverse()), message);
+      }
+    }
+  }
+
+  @Test
+  void fieldsMatchBigInteger() {
+    final Random random = new Random(226L);
+
+    for(final BigInteger p : PRIMES) {
+      for(final ModularReduction reduction : ModularReduction.values()) {
+        if(reduction == ModularReduction.MONTGOMERY && !p.testBit(0)) continue;
+
+        final PrimeField field = new PrimeField(p, reduction);
+
+        for(int i = 0; i < SAMPLES / 4; i++) {
+          final BigInteger a = (i == 0 ? p.subtract(BigInteger.ONE) : randomNonZero(random, p));
+          final BigInteger b = randomNonZero(random, p);
+          final BigInteger exponent = BigInteger.valueOf(random.nextInt(2001) - 1000);
+          final PrimeFieldElement x = field.getElement(a);
+          final PrimeFieldElement y = field.getElement(b);
+          final String message = a + ", " + b + " mod " + p + ", " + reduction;
+
+          assertEquals(a.modInverse(p), x.inverse().getValue(), message);
+          assertEquals(a.multiply(b.modInverse(p)).mod(p), x.multiply(y.inverse()).getValue(), message);
+          assertEquals(a.modPow(exponent, p), x.pow(exponent).getValue(), message + ", ^" + exponent);
+          assertEquals(field.operation2().identity(), x.multiply(x.inverse()), message);
+        }
+      }
+    }
+  }
+
+  @Test
+  void inverseAllMatchesInverse() {
+    final Random random = new Random(227L);
+    final LongPrimeField field = new LongPrimeField((1L << 61) - 1);
+    final PrimeField bigField = new PrimeField(BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE));
+    final LongPrimeFieldElement[] elements = new LongPrimeFieldElement[37];
+    final LongPrimeFieldElement[] inverses = new LongPrimeFieldElement[elements.length];
+    final PrimeFieldElement[] bigElements = new PrimeFieldElement[elements.length];
+    final PrimeFieldElement[] bigInverses = new PrimeFieldElement[elements.length];
+
+    for(int i = 0; i < elements.length; i++) {
+      elements[i] = field.getElement(randomNonZero(random, BigInteger.valueOf(field.getP())).longValueExact());
+      bigElements[i] = bigField.getElement(randomNonZero(random, bigField.getP()));
+    }
+
+    field.operation2().inverseAll(elements, inverses);
+    bigField.operation2().inverseAll(bigElements, bigInverses);
+
+    for(int i = 0; i < elements.length; i++) {
+      assertEquals(elements[i].inverse(), inverses[i]);
+      assertEquals(bigElements[i].inverse(), bigInverses[i]);
+    }
+  }
+
+  @Test
+  void zeroIsNotInvertible() {
+    for(final long p : LONG_PRIMES) {
+      final LongPrimeField field = new LongPrimeField(p);
+
+      assertThrows(ArithmeticException.class, () -> field.operation1().identity().inverse(), "p = " + p);
+      assertThrows(ArithmeticException.class, () -> field.operation1().identity().pow(-1L), "p = " + p);
+    }
+
+    for(final BigInteger p : PRIMES) {
+      final PrimeField field = new PrimeField(p);
+
+      assertThrows(ArithmeticException.class, () -> field.operation1().identity().inverse(), "p = " + p);
+    }
+  }
+
+  @Test
+  void subclassesSeeTheFieldMultiplication() {
+    final ExposedLongPrimeField longField = new ExposedLongPrimeField(97L);
+    final ExposedPrimeField field = new ExposedPrimeField(BigInteger.valueOf(97L));
+
+    assertSame(longField.operation2(), longField.multiplication());
+    assertSame(field.operation2(), field.multiplication());
+  }
+
+  @Test
+  void rejectsCompositeOrders() {
+    for(final long n : new long[] {-7L, 0L, 1L, 4L, 561L, 3_215_031_751L, Long.MAX_VALUE}) {
+      assertThrows(IllegalArgumentException.class, () -> new LongPrimeField(n), "n = " + n);
+      assertThrows(IllegalArgumentException.class, () -> new PrimeField(BigInteger.valueOf(n)), "n = " + n);
+    }
+
+    assertThrows(IllegalArgumentException.class, () -> new PrimeField(BigInteger.ONE.shiftLeft(127).add(BigInteger.ONE)));
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  /**
+   * Exposes the multiplication the ring base stores.
+   */
+  private static final class ExposedLongPrimeField extends LongPrimeField {
+
+    private ExposedLongPrimeField(final long p) {
+      super(p);
+    }
+
+    private Object multiplication() {
+      return operation2;
+    }
+
+  }
+
+  /**
+   * Exposes the multiplication the ring base stores.
+   */
+  private static final class ExposedPrimeField extends PrimeField {
+
+    private ExposedPrimeField(final BigInteger p) {
+      super(p);
+    }
+
+    private Object multiplication() {
+      return operation2;
+    }
+
+  }
+
+}
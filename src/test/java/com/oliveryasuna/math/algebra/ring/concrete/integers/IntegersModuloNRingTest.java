@@ -0,0 +1,151 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.integers;
+
+import com.oliveryasuna.math.arithmetic.ModularReduction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntegersModuloNRingTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final BigInteger[] MODULI = {BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(97L), BigInteger.valueOf(0x100000000L),
+      BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE), BigInteger.ONE.shiftLeft(200).add(BigInteger.valueOf(6L))};
+
+  private static final int SAMPLES = 50;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * One ring per reduction that supports the modulus.
+   */
+  private static List<IntegersModuloNRing> rings(final BigInteger n) {
+    final List<IntegersModuloNRing> rings = new ArrayList<>();
+
+    for(final ModularReduction reduction : ModularReduction.values()) {
+      if(reduction != ModularReduction.MONTGOMERY || n.testBit(0)) rings.add(new IntegersModuloNRing(n, reduction));
+    }
+
+    return rings;
+  }
+
+  private static IntegersModuloNRingElement random(final IntegersModuloNRing ring, final Random random) {
+    return ring.getElement(new BigInteger(ring.getN().bitLength() + 8, random).mod(ring.getN()));
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void rejectsValuesOutOfRange() {
+    for(final BigInteger n : MODULI) {
+      for(final IntegersModuloNRing ring : rings(n)) {
+        assertEquals(n.subtract(BigInteger.ONE), ring.getElement(n.subtract(BigInteger.ONE)).getValue());
+        assertFalse(ring.hasElementSafe(n));
+        assertFalse(ring.hasElementSafe(BigInteger.valueOf(-1L)));
+        assertThrows(IllegalArgumentException.class, () -> ring.getElement(n));
+        assertThrows(IllegalArgumentException.class, () -> ring.getElement(BigInteger.valueOf(-1L)));
+      }
+    }
+  }
+
+  @Test
+  void operationsMatchBigInteger() {
+    final Random random = new Random(162L);
+
+    for(final BigInteger n : MODULI) {
+      for(final IntegersModuloNRing ring : rings(n)) {
+        final String message = ring.getArithmetic().getClass().getSimpleName() + " mod " + n;
+
+        for(int i = 0; i < SAMPLES; i++) {
+          final IntegersModuloNRingElement a = random(ring, random);
+          final IntegersModuloNRingElement b = random(ring, random);
+          final BigInteger exponent = new BigInteger(1 + random.nextInt(130), random);
+
+          assertEquals(a.getValue().add(b.getValue()).mod(n), ring.operation1().perform(a, b).getValue(), message);
+          assertEquals(a.getValue().negate().mod(n), ring.operation1().inverse(a).getValue(), message);
+          assertEquals(a.getValue().multiply(b.getValue()).mod(n), ring.operation2().perform(a, b).getValue(), message);
+          assertEquals(a.getValue().modPow(exponent, n), ring.operation2().power(a, exponent).getValue(), message);
+          assertEquals(a.getValue().multiply(exponent).mod(n), ring.operation1().power(a, exponent).getValue(), message);
+          assertEquals(a.getValue().multiply(exponent.negate()).mod(n), ring.operation1().power(a, exponent.negate()).getValue(), message);
+        }
+
+        assertEquals(ring.operation2().identity(), ring.operation2().power(random(ring, random), BigInteger.ZERO), message);
+      }
+    }
+  }
+
+  @Test
+  void elementsAreEqualAcrossComputations() {
+    final Random random = new Random(163L);
+
+    for(final BigInteger n : MODULI) {
+      for(final IntegersModuloNRing ring : rings(n)) {
+        final IntegersModuloNRingElement a = random(ring, random);
+        final IntegersModuloNRingElement computed = ring.operation1().perform(ring.operation1().perform(a, ring.operation2().identity()),
+            ring.operation1().inverse(ring.operation2().identity()));
+
+        assertEquals(a, computed);
+        assertEquals(a.hashCode(), computed.hashCode());
+      }
+    }
+  }
+
+  @Test
+  void identitiesAndGenerator() {
+    for(final BigInteger n : MODULI) {
+      for(final IntegersModuloNRing ring : rings(n)) {
+        assertEquals(BigInteger.ZERO, ring.operation1().identity().getValue());
+        assertEquals(BigInteger.ONE.mod(n), ring.operation2().identity().getValue());
+        assertEquals(ring.operation2().identity(), ring.generator());
+        assertEquals(n, ring.elementCount());
+      }
+    }
+  }
+
+  @Test
+  void enumeratesSmallRings() {
+    assertEquals("[0]", new IntegersModuloNRing(BigInteger.ONE).elements().map(e -> e.getValue().toString()).collect(Collectors.toList())
+        .toString());
+    assertEquals("[0, 1]", new IntegersModuloNRing(BigInteger.TWO).elements().map(e -> e.getValue().toString()).collect(Collectors.toList())
+        .toString());
+    assertEquals(97L, new IntegersModuloNRing(BigInteger.valueOf(97L), ModularReduction.BARRETT).elements().distinct().count());
+  }
+
+  @Test
+  void elementsOfDifferentReductionsAreNotEqual() {
+    final BigInteger n = BigInteger.valueOf(97L);
+    final IntegersModuloNRing montgomery = new IntegersModuloNRing(n, ModularReduction.MONTGOMERY);
+    final IntegersModuloNRing barrett = new IntegersModuloNRing(n, ModularReduction.BARRETT);
+
+    assertEquals(barrett.getElement(BigInteger.TEN), barrett.getElement(BigInteger.TEN));
+    assertNotEquals(montgomery.getElement(BigInteger.TEN), barrett.getElement(BigInteger.TEN));
+  }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.integers;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntegersRingTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final IntegersRing RING = new IntegersRing(BigInteger.ONE);
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static IntegersRingElement[] random(final Random random, final int length) {
+    final IntegersRingElement[] elements = new IntegersRingElement[length];
+
+    for(int i = 0; i < length; i++) {
+      elements[i] = RING.getElement(new BigInteger(1 + random.nextInt(300), random).subtract(BigInteger.ONE.shiftLeft(150)));
+    }
+
+    return elements;
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void operationsMatchBigInteger() {
+    final Random random = new Random(51L);
+    final IntegersRingElement[] a = random(random, 50);
+    final IntegersRingElement[] b = random(random, 50);
+
+    for(int i = 0; i < a.length; i++) {
+      assertEquals(a[i].getValue().add(b[i].getValue()), RING.operation1().perform(a[i], b[i]).getValue());
+      assertEquals(a[i].getValue().negate(), RING.operation1().inverse(a[i]).getValue());
+      assertEquals(a[i].getValue().multiply(b[i].getValue()), RING.operation2().perform(a[i], b[i]).getValue());
+    }
+  }
+
+  @Test
+  void bulkOperationsMatchScalarOperations() {
+    final Random random = new Random(52L);
+    final IntegersRingElement[] a = random(random, 31);
+    final IntegersRingElement[] b = random(random, 31);
+    final IntegersRingElement[] results = new IntegersRingElement[31];
+
+    RING.operation1().performAll(a, b, results);
+    for(int i = 0; i < a.length; i++) assertEquals(RING.operation1().perform(a[i], b[i]), results[i]);
+
+    RING.operation1().performAllRight(a, b[3], results);
+    for(int i = 0; i < a.length; i++) assertEquals(RING.operation1().perform(a[i], b[3]), results[i]);
+
+    RING.operation2().performAll(a, b, results);
+    for(int i = 0; i < a.length; i++) assertEquals(RING.operation2().perform(a[i], b[i]), results[i]);
+
+    RING.operation2().performAllRight(a, b[3], results);
+    for(int i = 0; i < a.length; i++) assertEquals(RING.operation2().perform(a[i], b[3]), results[i]);
+
+    RING.operation2().performAllLeft(b[3], a, results);
+    for(int i = 0; i < a.length; i++) assertEquals(RING.operation2().perform(b[3], a[i]), results[i]);
+  }
+
+  @Test
+  void bulkOperationsMayWorkInPlace() {
+    final Random random = new Random(53L);
+    final IntegersRingElement[] a = random(random, 9);
+    final IntegersRingElement[] b = random(random, 9);
+    final IntegersRingElement[] expected = new IntegersRingElement[9];
+
+    for(int i = 0; i < a.length; i++) expected[i] = RING.operation2().perform(a[i], b[i]);
+
+    RING.operation2().performAll(a, b, a);
+
+    assertArrayEquals(expected, a);
+  }
+
+  @Test
+  void bulkOperationsHandleEmptyAndMismatchedArrays() {
+    final IntegersRingElement[] empty = new IntegersRingElement[0];
+
+    RING.operation1().performAll(empty, empty, empty);
+    RING.operation2().performAllRight(empty, RING.generator(), empty);
+
+    assertThrows(IllegalArgumentException.class, () -> RING.operation1().performAll(empty, new IntegersRingElement[1], empty));
+    assertThrows(IllegalArgumentException.class, () -> RING.operation2().performAllRight(new IntegersRingElement[2], RING.generator(), empty));
+  }
+
+  @Test
+  void powersMatchBigInteger() {
+    final IntegersRingElement base = RING.getElement(BigInteger.valueOf(-3L));
+
+    assertEquals(BigInteger.valueOf(-3L).pow(77), RING.operation2().power(base, BigInteger.valueOf(77L)).getValue());
+    assertEquals(BigInteger.ONE, RING.operation2().power(base, BigInteger.ZERO).getValue());
+    assertEquals(BigInteger.valueOf(-1L), RING.operation2().power(RING.getElement(BigInteger.valueOf(-1L)), BigInteger.ONE.shiftLeft(100).add(BigInteger.ONE)).getValue());
+    assertEquals(BigInteger.ZERO, RING.operation2().power(RING.operation1().identity(), BigInteger.ONE.shiftLeft(100)).getValue());
+    assertEquals(BigInteger.valueOf(-3L).multiply(BigInteger.valueOf(-5L)), RING.operation1().power(base, BigInteger.valueOf(-5L)).getValue());
+    assertThrows(IllegalArgumentException.class, () -> RING.operation2().power(base, BigInteger.valueOf(-1L)));
+    assertThrows(ArithmeticException.class, () -> RING.operation2().power(base, BigInteger.ONE.shiftLeft(40)));
+  }
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.integers;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntegersModuloNRingTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final long[] MODULI = {1L, 2L, 97L, 3037000500L, 3037000501L, (1L << 61) - 1, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+
+  private static final int SAMPLES = 100;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static LongIntegersModuloNRingElement random(final LongIntegersModuloNRing ring, final Random random) {
+    return ring.getElement(Math.floorMod(random.nextLong(), ring.getN()));
+  }
+
+  private static long reference(final BigInteger value, final long n) {
+    return value.mod(BigInteger.valueOf(n)).longValueExact();
+  }
+
+  private static BigInteger big(final LongIntegersModuloNRingElement element) {
+    return BigInteger.valueOf(element.getValue());
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void rejectsNonPositiveModuli() {
+    assertThrows(IllegalArgumentException.class, () -> new LongIntegersModuloNRing(0L));
+    assertThrows(IllegalArgumentException.class, () -> new LongIntegersModuloNRing(-1L));
+  }
+
+  @Test
+  void elementsRoundTripTheirValues() {
+    for(final long n : MODULI) {
+      final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(n);
+
+      assertEquals(0L, ring.getElement(0L).getValue());
+      assertEquals(n - 1, ring.getElement(n - 1).getValue());
+      assertEquals(n - 1, ring.getElementSafe(Long.valueOf(n - 1)).getValue());
+      assertFalse(ring.hasElementSafe(n));
+      assertFalse(ring.hasElementSafe(-1L));
+      assertThrows(IllegalArgumentException.class, () -> ring.getElement(n));
+      assertThrows(IllegalArgumentException.class, () -> ring.getElement(-1L));
+    }
+  }
+
+  @Test
+  void operationsMatchBigInteger() {
+    final Random random = new Random(11L);
+
+    for(final long n : MODULI) {
+      final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(n);
+
+      for(int i = 0; i < SAMPLES; i++) {
+        final LongIntegersModuloNRingElement a = random(ring, random);
+        final LongIntegersModuloNRingElement b = random(ring, random);
+
+        assertEquals(reference(big(a).add(big(b)), n), ring.operation1().perform(a, b).getValue());
+        assertEquals(reference(big(a).negate(), n), ring.operation1().inverse(a).getValue());
+        assertEquals(reference(big(a).multiply(big(b)), n), ring.operation2().perform(a, b).getValue());
+      }
+    }
+  }
+
+  @Test
+  void chainedProductsMatchBigInteger() {
+    final Random random = new Random(12L);
+
+    for(final long n : MODULI) {
+      final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(n);
+
+      LongIntegersModuloNRingElement product = ring.operation2().identity();
+      BigInteger expected = BigInteger.ONE;
+
+      for(int i = 0; i < SAMPLES; i++) {
+        final LongIntegersModuloNRingElement factor = random(ring, random);
+
+        product = ring.operation1().perform(ring.operation2().perform(product, factor), factor);
+        expected = expected.multiply(big(factor)).add(big(factor)).mod(BigInteger.valueOf(n));
+      }
+
+      assertEquals(expected.longValueExact(), product.getValue());
+      assertEquals(ring.getElement(expected.longValueExact()), product);
+      assertEquals(ring.getElement(expected.longValueExact()).hashCode(), product.hashCode());
+    }
+  }
+
+  @Test
+  void powersMatchBigInteger() {
+    final Random random = new Random(13L);
+
+    for(final long n : MODULI) {
+      final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(n);
+      final BigInteger bigN = BigInteger.valueOf(n);
+
+      for(int i = 0; i < SAMPLES / 4; i++) {
+        final LongIntegersModuloNRingElement base = random(ring, random);
+        final BigInteger exponent = new BigInteger(1 + random.nextInt(130), random);
+
+        assertEquals(big(base).modPow(exponent, bigN).longValueExact(), ring.operation2().power(base, exponent).getValue());
+        assertEquals(reference(big(base).multiply(exponent), n), ring.operation1().power(base, exponent).getValue());
+        assertEquals(reference(big(base).multiply(exponent.negate()), n), ring.operation1().power(base, exponent.negate()).getValue());
+      }
+
+      assertEquals(ring.operation2().identity(), ring.operation2().power(random(ring, random), BigInteger.ZERO));
+    }
+  }
+
+  @Test
+  void bulkOperationsMatchScalarOperations() {
+    final Random random = new Random(14L);
+
+    for(final long n : MODULI) {
+      final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(n);
+      final LongIntegersModuloNRingElement[] a = new LongIntegersModuloNRingElement[17];
+      final LongIntegersModuloNRingElement[] b = new LongIntegersModuloNRingElement[17];
+      final LongIntegersModuloNRingElement[] result = new LongIntegersModuloNRingElement[17];
+
+      for(int i = 0; i < a.length; i++) {
+        a[i] = random(ring, random);
+        b[i] = random(ring, random);
+      }
+
+      ring.operation1().performAll(a, b, result);
+      for(int i = 0; i < a.length; i++) assertEquals(ring.operation1().perform(a[i], b[i]), result[i]);
+
+      ring.operation1().performAllRight(a, b[0], result);
+      for(int i = 0; i < a.length; i++) assertEquals(ring.operation1().perform(a[i], b[0]), result[i]);
+
+      ring.operation2().performAll(a, b, result);
+      for(int i = 0; i < a.length; i++) assertEquals(ring.operation2().perform(a[i], b[i]), result[i]);
+
+      ring.operation2().performAllRight(a, b[0], result);
+      for(int i = 0; i < a.length; i++) assertEquals(ring.operation2().perform(a[i], b[0]), result[i]);
+
+      final LongIntegersModuloNRingElement[] empty = new LongIntegersModuloNRingElement[0];
+
+      ring.operation2().performAll(empty, empty, empty);
+      assertThrows(IllegalArgumentException.class, () -> ring.operation2().performAll(a, b, new LongIntegersModuloNRingElement[1]));
+      assertThrows(IllegalArgumentException.class, () -> ring.operation2().performAllRight(a, b[0], new LongIntegersModuloNRingElement[1]));
+    }
+  }
+
+  @Test
+  void identitiesAndGenerator() {
+    for(final long n : MODULI) {
+      final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(n);
+
+      assertEquals(0L, ring.operation1().identity().getValue());
+      assertEquals(n == 1 ? 0L : 1L, ring.operation2().identity().getValue());
+      assertEquals(ring.operation2().identity(), ring.generator());
+      assertEquals(BigInteger.valueOf(n), ring.elementCount());
+    }
+  }
+
+  @Test
+  void enumeratesSmallRings() {
+    assertEquals("[0]", new LongIntegersModuloNRing(1L).elements().map(e -> Long.toString(e.getValue())).collect(Collectors.toList()).toString());
+    assertEquals("[0, 1]", new LongIntegersModuloNRing(2L).elements().map(e -> Long.toString(e.getValue())).collect(Collectors.toList()).toString());
+    assertEquals(97L, new LongIntegersModuloNRing(97L).elements().distinct().count());
+  }
+
+  @Test
+  void elementsOfDifferentRingsAreNotEqual() {
+    final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(Long.MAX_VALUE);
+    final LongIntegersModuloNRing other = new LongIntegersModuloNRing(Long.MAX_VALUE - 2);
+
+    assertEquals(ring.getElement(5L), ring.getElement(5L));
+    assertNotEquals(ring.getElement(5L), ring.getElement(6L));
+    assertNotEquals(ring.getElement(5L), other.getElement(5L));
+  }
+
+}
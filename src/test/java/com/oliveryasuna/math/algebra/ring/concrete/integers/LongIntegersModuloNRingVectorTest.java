@@ -0,0 +1,169 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.integers;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntegersModuloNRingVectorTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final long[] MODULI = {1L, 2L, 97L, 3037000501L, (1L << 61) - 1, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+
+  private static final int SIZE = 257;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static LongIntegersModuloNRingVector<LongIntegersModuloNRing, LongIntegersModuloNRingElement> random(final LongIntegersModuloNRing ring,
+      final Random random) {
+    final LongIntegersModuloNRingVector<LongIntegersModuloNRing, LongIntegersModuloNRingElement> vector = new LongIntegersModuloNRingVector<>(ring,
+        SIZE);
+
+    for(int i = 0; i < SIZE; i++) vector.setValue(i, Math.floorMod(random.nextLong(), ring.getN()));
+
+    return vector;
+  }
+
+  private static BigInteger big(final long value) {
+    return BigInteger.valueOf(value);
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void bulkOperationsMatchBigInteger() {
+    final Random random = new Random(181L);
+
+    for(final long n : MODULI) {
+      final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(n);
+      final BigInteger bigN = big(n);
+      final LongIntegersModuloNRingVector<LongIntegersModuloNRing, LongIntegersModuloNRingElement> a = random(ring, random);
+      final LongIntegersModuloNRingVector<LongIntegersModuloNRing, LongIntegersModuloNRingElement> b = random(ring, random);
+      final LongIntegersModuloNRingVector<LongIntegersModuloNRing, LongIntegersModuloNRingElement> result = new LongIntegersModuloNRingVector<>(ring,
+          SIZE);
+      final LongIntegersModuloNRingElement scalar = ring.getElement(n - 1);
+      BigInteger sum = BigInteger.ZERO;
+      BigInteger dot = BigInteger.ZERO;
+
+      for(int i = 0; i < SIZE; i++) {
+        sum = sum.add(big(a.getValue(i)));
+        dot = dot.add(big(a.getValue(i)).multiply(big(b.getValue(i))));
+      }
+
+      assertEquals(sum.mod(bigN).longValueExact(), a.sum().getValue());
+      assertEquals(dot.mod(bigN).longValueExact(), a.dot(b).getValue());
+
+      result.addAll(a, b);
+      for(int i = 0; i < SIZE; i++) assertEquals(big(a.getValue(i)).add(big(b.getValue(i))).mod(bigN).longValueExact(), result.getValue(i));
+
+      result.multiplyAll(a, b);
+      for(int i = 0; i < SIZE; i++) assertEquals(big(a.getValue(i)).multiply(big(b.getValue(i))).mod(bigN).longValueExact(), result.getValue(i));
+
+      result.multiplyAll(a, scalar);
+      for(int i = 0; i < SIZE; i++) assertEquals(big(a.getValue(i)).multiply(big(n - 1)).mod(bigN).longValueExact(), result.getValue(i));
+
+      result.negateAll(a);
+      for(int i = 0; i < SIZE; i++) assertEquals(big(a.getValue(i)).negate().mod(bigN).longValueExact(), result.getValue(i));
+
+      // In place.
+      result.addAll(result, a);
+      for(int i = 0; i < SIZE; i++) assertEquals(0L, result.getValue(i));
+    }
+  }
+
+  @Test
+  void elementsRoundTrip() {
+    final LongIntegersModuloNRing ring = new LongIntegersModuloNRing((1L << 61) - 1);
+    final LongIntegersModuloNRingVector<LongIntegersModuloNRing, LongIntegersModuloNRingElement> vector = random(ring, new Random(182L));
+
+    for(int i = 0; i < SIZE; i++) {
+      assertEquals(ring.getElement(vector.getValue(i)), vector.get(i));
+    }
+
+    vector.set(3, ring.getElement(42L));
+    assertEquals(42L, vector.getValue(3));
+    assertEquals(SIZE, vector.stream().collect(Collectors.toList()).size());
+    assertEquals(ring.getElement(42L), vector.stream().skip(3).findFirst().orElseThrow());
+  }
+
+  @Test
+  void newAndEmptyVectors() {
+    final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(97L);
+    final LongIntegersModuloNRingVector<LongIntegersModuloNRing, LongIntegersModuloNRingElement> zeros = new LongIntegersModuloNRingVector<>(ring, 5);
+    final LongIntegersModuloNRingVector<LongIntegersModuloNRing, LongIntegersModuloNRingElement> empty = new LongIntegersModuloNRingVector<>(ring, 0);
+
+    for(int i = 0; i < 5; i++) assertEquals(0L, zeros.getValue(i));
+
+    assertEquals(ring.operation1().identity(), zeros.sum());
+    assertEquals(ring.operation1().identity(), empty.sum());
+    assertEquals(ring.operation1().identity(), empty.dot(empty));
+    assertEquals(0L, empty.stream().count());
+    assertEquals(0, empty.contiguousValues(0));
+    assertEquals(0, empty.storage(0, 0).remaining());
+  }
+
+  @Test
+  void storageIsLittleEndianAndChecked() {
+    final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(97L);
+    final LongIntegersModuloNRingVector<LongIntegersModuloNRing, LongIntegersModuloNRingElement> vector = new LongIntegersModuloNRingVector<>(ring, 4);
+    final ByteBuffer storage = vector.storage(1, 2);
+
+    assertEquals(2 * Long.BYTES, storage.remaining());
+
+    storage.put(0, (byte)5).put(Long.BYTES, (byte)96);
+
+    assertEquals(5L, vector.getValue(1));
+    assertEquals(96L, vector.getValue(2));
+    vector.checkValues(0, 4);
+
+    storage.put(0, (byte)97);
+
+    assertThrows(IllegalArgumentException.class, () -> vector.checkValues(0, 4));
+    vector.checkValues(2, 2);
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    final LongIntegersModuloNRing ring = new LongIntegersModuloNRing(97L);
+    final LongIntegersModuloNRingVector<LongIntegersModuloNRing, LongIntegersModuloNRingElement> vector = new LongIntegersModuloNRingVector<>(ring, 4);
+
+    assertThrows(IllegalArgumentException.class, () -> new LongIntegersModuloNRingVector<>(ring, -1));
+    assertThrows(IllegalArgumentException.class, () -> vector.setValue(0, 97L));
+    assertThrows(IllegalArgumentException.class, () -> vector.setValue(0, -1L));
+    assertThrows(IllegalArgumentException.class, () -> vector.set(0, new LongIntegersModuloNRing(98L).getElement(1L)));
+    assertThrows(IllegalArgumentException.class, () -> vector.addAll(vector, new LongIntegersModuloNRingVector<>(ring, 5)));
+    assertThrows(IllegalArgumentException.class, () -> vector.dot(new LongIntegersModuloNRingVector<>(new LongIntegersModuloNRing(98L), 4)));
+    assertThrows(IllegalArgumentException.class, () -> vector.storage(0, 5));
+    assertThrows(IllegalArgumentException.class, () -> vector.checkValues(3, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> vector.getValue(4));
+    assertThrows(IndexOutOfBoundsException.class, () -> vector.getValue(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> vector.contiguousValues(5));
+  }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.matrices;
+
+import com.oliveryasuna.math.algebra.ring.concrete.integers.IntegersModuloNRing;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.IntegersModuloNRingElement;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRing;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRingElement;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixRingTest {
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static IntegersModuloNRingElement[] randomEntries(final Random random, final IntegersModuloNRing ring, final int dimension) {
+    final IntegersModuloNRingElement[] entries = new IntegersModuloNRingElement[dimension * dimension];
+
+    for(int i = 0; i < entries.length; i++) {
+      entries[i] = ring.getElement(new BigInteger(ring.getN().bitLength() + 8, random).mod(ring.getN()));
+    }
+
+    return entries;
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void bothRepresentationsAgree() {
+    final Random random = new Random(220L);
+    final long n = 1_000_000_007L;
+    final LongIntegersModuloNRing longRing = new LongIntegersModuloNRing(n);
+    final IntegersModuloNRing ring = new IntegersModuloNRing(BigInteger.valueOf(n));
+
+    for(final int dimension : new int[] {1, 2, 5, 33}) {
+      final LongIntegersModuloNMatrixRing longMatrices = new LongIntegersModuloNMatrixRing(longRing, dimension, 2, ForkJoinPool.commonPool());
+      final MatrixRing<LongIntegersModuloNRing, LongIntegersModuloNRingElement> genericLongMatrices = new MatrixRing<>(longRing, dimension, 2,
+          ForkJoinPool.commonPool());
+      final MatrixRing<IntegersModuloNRing, IntegersModuloNRingElement> matrices = new MatrixRing<>(ring, dimension, 2, ForkJoinPool.commonPool());
+      final IntegersModuloNRingElement[] a = randomEntries(random, ring, dimension);
+      final IntegersModuloNRingElement[] b = randomEntries(random, ring, dimension);
+      final long[] aValues = new long[a.length];
+      final long[] bValues = new long[b.length];
+      final LongIntegersModuloNRingElement[] aLongEntries = new LongIntegersModuloNRingElement[a.length];
+      final LongIntegersModuloNRingElement[] bLongEntries = new LongIntegersModuloNRingElement[b.length];
+
+      for(int i = 0; i < a.length; i++) {
+        aValues[i] = a[i].getValue().longValueExact();
+        bValues[i] = b[i].getValue().longValueExact();
+        aLongEntries[i] = longRing.getElement(aValues[i]);
+        bLongEntries[i] = longRing.getElement(bValues[i]);
+      }
+
+      final LongIntegersModuloNMatrixRingElement x = longMatrices.getElement(aValues);
+      final LongIntegersModuloNMatrixRingElement y = longMatrices.getElement(bValues);
+      final MatrixRingElement<LongIntegersModuloNRing, LongIntegersModuloNRingElement> p = genericLongMatrices.getElement(aLongEntries);
+      final MatrixRingElement<LongIntegersModuloNRing, LongIntegersModuloNRingElement> q = genericLongMatrices.getElement(bLongEntries);
+      final MatrixRingElement<IntegersModuloNRing, IntegersModuloNRingElement> u = matrices.getElement(a);
+      final MatrixRingElement<IntegersModuloNRing, IntegersModuloNRingElement> v = matrices.getElement(b);
+
+      final LongIntegersModuloNMatrixRingElement longProduct = longMatrices.operation2().perform(x, y);
+      final MatrixRingElement<LongIntegersModuloNRing, LongIntegersModuloNRingElement> genericLongProduct = genericLongMatrices.operation2()
+          .perform(p, q);
+      final MatrixRingElement<IntegersModuloNRing, IntegersModuloNRingElement> product = matrices.operation2().perform(u, v);
+      final LongIntegersModuloNMatrixRingElement longPower = longMatrices.operation1().power(x, BigInteger.valueOf(-3L));
+      final MatrixRingElement<IntegersModuloNRing, IntegersModuloNRingElement> power = matrices.operation1().power(u, BigInteger.valueOf(-3L));
+
+      assertEquals(product, matrices.multiplySequentially(u, v));
+      assertEquals(longProduct, longMatrices.multiplySequentially(x, y));
+
+      for(int row = 0; row < dimension; row++) {
+        for(int column = 0; column < dimension; column++) {
+          assertEquals(BigInteger.valueOf(longProduct.getEntry(row, column)), product.getEntry(row, column).getValue());
+          assertEquals(longProduct.getEntry(row, column), genericLongProduct.getEntry(row, column).getValue());
+          assertEquals(BigInteger.valueOf(longPower.getEntry(row, column)), power.getEntry(row, column).getValue());
+          assertEquals(a[row * dimension + column], u.getEntry(row, column));
+        }
+      }
+
+      assertEquals(x, longMatrices.operation2().perform(x, longMatrices.operation2().identity()));
+      assertEquals(u, matrices.operation2().perform(matrices.operation2().identity(), u));
+      assertEquals(matrices.operation1().identity(), matrices.operation1().perform(u, matrices.operation1().inverse(u)));
+    }
+  }
+
+  @Test
+  void multiplicationIsNotCommutative() {
+    final LongIntegersModuloNMatrixRing matrices = new LongIntegersModuloNMatrixRing(2L, 2);
+    final LongIntegersModuloNMatrixRingElement upper = matrices.getElement(new long[] {0L, 1L, 0L, 0L});
+    final LongIntegersModuloNMatrixRingElement lower = matrices.getElement(new long[] {0L, 0L, 1L, 0L});
+
+    assertArrayEquals(new long[] {1L, 0L, 0L, 0L}, matrices.operation2().perform(upper, lower).getValue());
+    assertArrayEquals(new long[] {0L, 0L, 0L, 1L}, matrices.operation2().perform(lower, upper).getValue());
+  }
+
+  @Test
+  void rejectsInvalidEntries() {
+    final IntegersModuloNRing ring = new IntegersModuloNRing(BigInteger.TEN);
+    final MatrixRing<IntegersModuloNRing, IntegersModuloNRingElement> matrices = new MatrixRing<>(ring, 2);
+    final LongIntegersModuloNMatrixRing longMatrices = new LongIntegersModuloNMatrixRing(10L, 2);
+    final IntegersModuloNRingElement one = ring.getElement(BigInteger.ONE);
+    final IntegersModuloNRingElement other = new IntegersModuloNRing(BigInteger.TEN).getElement(BigInteger.ONE);
+
+    assertFalse(matrices.hasElement(new IntegersModuloNRingElement[] {one, one, one}));
+    assertFalse(matrices.hasElement(new IntegersModuloNRingElement[] {one, one, one, null}));
+    assertFalse(matrices.hasElement(new IntegersModuloNRingElement[] {one, one, one, other}));
+    assertFalse(longMatrices.hasElement(new long[] {0L, 0L, 0L, 10L}));
+    assertFalse(longMatrices.hasElement(new long[3]));
+    assertThrows(IndexOutOfBoundsException.class, () -> longMatrices.operation2().identity().getEntry(2, 0));
+    assertThrows(IllegalArgumentException.class, () -> new MatrixRing<>(ring, 0));
+    assertThrows(IllegalArgumentException.class, () -> new MatrixRing<>(ring, MatrixRingBase.MAXIMUM_DIMENSION + 1));
+    assertThrows(IllegalArgumentException.class, () -> new LongIntegersModuloNMatrixRing(10L, 0));
+    assertThrows(IllegalArgumentException.class, () -> new LongIntegersModuloNMatrixRing(10L, MatrixRingBase.MAXIMUM_DIMENSION + 1));
+  }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.algebra.ring.concrete.polynomials;
+
+import com.oliveryasuna.math.algebra.ring.concrete.integers.IntegersModuloNRing;
+import com.oliveryasuna.math.arithmetic.ModularReduction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntegersModuloNPolynomialRingTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final BigInteger[] MODULI = {
+      BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(97L), BigInteger.ONE.shiftLeft(63), BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE),
+      BigInteger.ONE.shiftLeft(300).add(BigInteger.valueOf(6L))
+  };
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static BigInteger[] random(final Random random, final int length, final BigInteger n) {
+    final BigInteger[] coefficients = new BigInteger[length];
+
+    for(int i = 0; i < length; i++) {
+      coefficients[i] = new BigInteger(n.bitLength() + 8, random).mod(n);
+    }
+
+    return coefficients;
+  }
+
+  private static BigInteger evaluate(final BigInteger[] coefficients, final BigInteger x, final BigInteger n) {
+    BigInteger result = BigInteger.ZERO;
+
+    for(int i = 0; i < coefficients.length; i++) {
+      result = result.add(coefficients[i].multiply(x.pow(i)));
+    }
+
+    return result.mod(n);
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void productsEvaluateToProductsOfValues() {
+    final Random random = new Random(215L);
+
+    for(final BigInteger n : MODULI) {
+      final IntegersModuloNPolynomialRing ring = new IntegersModuloNPolynomialRing(n);
+
+      for(final int length : new int[] {0, 1, 2, 40, 200}) {
+        final IntegersModuloNPolynomialRingElement a = ring.getElement(random(random, length, n));
+        final IntegersModuloNPolynomialRingElement b = ring.getElement(random(random, length + 3, n));
+        final IntegersModuloNPolynomialRingElement product = ring.operation2().perform(a, b);
+        final BigInteger x = new BigInteger(n.bitLength() + 8, random).mod(n);
+
+        assertEquals(a.evaluate(x).multiply(b.evaluate(x)).mod(n), product.evaluate(x), "mod " + n + ", length " + length);
+        assertEquals(evaluate(a.getValue(), x, n), a.evaluate(x));
+        assertEquals(product, ring.multiply(a, b, ForkJoinPool.commonPool()));
+        assertEquals(ring.operation1().perform(a, b).evaluate(x), a.evaluate(x).add(b.evaluate(x)).mod(n));
+        assertEquals(ring.operation1().identity(), ring.operation1().perform(a, ring.operation1().inverse(a)));
+        assertEquals(a.evaluate(x).multiply(BigInteger.valueOf(-5L)).mod(n),
+            ring.operation1().power(a, BigInteger.valueOf(-5L)).evaluate(x));
+        assertEquals(a, ring.operation2().perform(a, ring.operation2().identity()));
+      }
+    }
+  }
+
+  @Test
+  void elementsAreTrimmedAndChecked() {
+    final IntegersModuloNPolynomialRing ring = new IntegersModuloNPolynomialRing(new IntegersModuloNRing(BigInteger.TEN, ModularReduction.DIVISION));
+    final IntegersModuloNPolynomialRingElement element = ring.getElement(new BigInteger[] {BigInteger.ONE, BigInteger.TWO, BigInteger.ZERO});
+
+    assertEquals(1, element.getDegree());
+    assertEquals(BigInteger.TWO, element.getCoefficient(1));
+    assertEquals(BigInteger.ZERO, element.getCoefficient(5));
+    assertThrows(IndexOutOfBoundsException.class, () -> element.getCoefficient(-1));
+    assertEquals(-1, ring.operation1().identity().getDegree());
+    assertEquals(1, ring.getVariable().getDegree());
+    assertEquals(ring.getElement(new BigInteger[] {BigInteger.ONE, BigInteger.TWO}), element);
+    assertEquals(ring.getElement(new BigInteger[] {BigInteger.ONE, BigInteger.TWO}).hashCode(), element.hashCode());
+
+    assertFalse(ring.hasElementSafe(new BigInteger[] {BigInteger.TEN}));
+    assertFalse(ring.hasElementSafe(new BigInteger[] {BigInteger.valueOf(-1L)}));
+    assertFalse(ring.hasElementSafe(new BigInteger[] {null}));
+    assertTrue(ring.hasElementSafe(new BigInteger[0]));
+  }
+
+  @Test
+  void theTrivialRingHasOnlyZero() {
+    final IntegersModuloNPolynomialRing ring = new IntegersModuloNPolynomialRing(BigInteger.ONE);
+
+    assertEquals(ring.operation1().identity(), ring.operation2().identity());
+    assertEquals(ring.operation1().identity(), ring.getVariable());
+  }
+
+}
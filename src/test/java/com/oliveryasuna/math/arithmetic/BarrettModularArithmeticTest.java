@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BarrettModularArithmeticTest {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void operationsMatchBigInteger() {
+    ModularArithmeticTest.assertMatchesBigInteger(ModularReduction.BARRETT);
+  }
+
+  @Test
+  void inverseAllMatchesModInverse() {
+    ModularArithmeticTest.assertInverseAllMatchesModInverse(ModularReduction.BARRETT);
+  }
+
+  /**
+   * Products of \(n-1\) with itself reach the top of \([0,n^2)\), where the quotient estimate is furthest off.
+   */
+  @Test
+  void largestProductsAtLimbBoundaries() {
+    final Random random = new Random(161L);
+
+    for(int limbs = 1; limbs <= 9; limbs++) {
+      final BigInteger top = BigInteger.ONE.shiftLeft(32 * limbs);
+      final BigInteger bottom = BigInteger.ONE.shiftLeft(32 * (limbs - 1));
+
+      for(final BigInteger n : new BigInteger[] {top.subtract(BigInteger.ONE), bottom.add(BigInteger.ONE), bottom.add(BigInteger.TWO),
+          new BigInteger(32 * limbs, random).setBit(32 * limbs - 1)}) {
+        final BarrettModularArithmetic arithmetic = new BarrettModularArithmetic(n);
+        final BigInteger largest = n.subtract(BigInteger.ONE);
+
+        assertEquals(limbs, arithmetic.getLimbCount(), n.toString());
+        assertEquals(largest.multiply(largest).mod(n), arithmetic.toBigInteger(arithmetic.multiply(arithmetic.toResidue(largest),
+            arithmetic.toResidue(largest))), n.toString());
+        assertEquals(largest.pow(3).mod(n), arithmetic.toBigInteger(arithmetic.pow(arithmetic.toResidue(largest), BigInteger.valueOf(3L))),
+            n.toString());
+      }
+    }
+  }
+
+  @Test
+  void selectedByReduction() {
+    assertTrue(ModularArithmetic.of(BigInteger.valueOf(96L), ModularReduction.BARRETT) instanceof BarrettModularArithmetic);
+    assertTrue(ModularArithmetic.of(BigInteger.valueOf(97L), ModularReduction.BARRETT) instanceof BarrettModularArithmetic);
+  }
+
+}
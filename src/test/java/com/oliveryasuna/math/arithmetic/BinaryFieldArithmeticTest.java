@@ -0,0 +1,256 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryFieldArithmeticTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * Irreducible polynomials that are not the conventional ones: \(x\), AES's non-primitive \(x^8+x^4+x^3+x+1\), and \(x^{16}+x^5+x^3+x+1\).
+   */
+  private static final int[][] OTHER_POLYNOMIALS = {{1, 0x2}, {8, 0x11B}, {16, 0x1002B}};
+
+  /**
+   * Region lengths below and above the byte table threshold.
+   */
+  private static final int[] REGION_LENGTHS = {0, 2, 30, 1022, 1024, 4098};
+
+  private static final int SAMPLES = 2000;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * The carry-less product of bit vectors, reduced modulo \(f\) by long division.
+   */
+  static BigInteger referenceProduct(final BigInteger a, final BigInteger b, final BigInteger f) {
+    BigInteger product = BigInteger.ZERO;
+
+    for(int i = 0; i < b.bitLength(); i++) {
+      if(b.testBit(i)) product = product.xor(a.shiftLeft(i));
+    }
+
+    final int degree = f.bitLength() - 1;
+
+    for(int i = product.bitLength() - 1; i >= degree; i--) {
+      if(product.testBit(i)) product = product.xor(f.shiftLeft(i - degree));
+    }
+
+    return product;
+  }
+
+  /**
+   * The power by square and multiply with {@link #referenceProduct(BigInteger, BigInteger, BigInteger)}, for a non-negative exponent.
+   */
+  static BigInteger referencePower(final BigInteger base, final BigInteger exponent, final BigInteger f) {
+    BigInteger result = BigInteger.ONE;
+
+    for(int i = exponent.bitLength() - 1; i >= 0; i--) {
+      result = referenceProduct(result, result, f);
+
+      if(exponent.testBit(i)) result = referenceProduct(result, base, f);
+    }
+
+    return result;
+  }
+
+  private static int reference(final int a, final int b, final int polynomial) {
+    return referenceProduct(BigInteger.valueOf(a), BigInteger.valueOf(b), BigInteger.valueOf(polynomial)).intValueExact();
+  }
+
+  private static BinaryFieldArithmetic[] arithmetics() {
+    final BinaryFieldArithmetic[] arithmetics = new BinaryFieldArithmetic[BinaryFieldArithmetic.MAXIMUM_DEGREE + OTHER_POLYNOMIALS.length];
+
+    for(int degree = 1; degree <= BinaryFieldArithmetic.MAXIMUM_DEGREE; degree++) {
+      arithmetics[degree - 1] = new BinaryFieldArithmetic(degree);
+    }
+
+    for(int i = 0; i < OTHER_POLYNOMIALS.length; i++) {
+      arithmetics[BinaryFieldArithmetic.MAXIMUM_DEGREE + i] = new BinaryFieldArithmetic(OTHER_POLYNOMIALS[i][0], OTHER_POLYNOMIALS[i][1]);
+    }
+
+    return arithmetics;
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void productsMatchTheCarryLessReference() {
+    final Random random = new Random(228L);
+
+    for(final BinaryFieldArithmetic arithmetic : arithmetics()) {
+      final int size = arithmetic.getSize();
+      final int polynomial = arithmetic.getPolynomial();
+      // Every pair for small fields, random pairs otherwise.
+      final boolean exhaustive = (size * size <= SAMPLES);
+      final int count = (exhaustive ? size * size : SAMPLES);
+
+      for(int i = 0; i < count; i++) {
+        final int a = (exhaustive ? i / size : random.nextInt(size));
+        final int b = (exhaustive ? i % size : random.nextInt(size));
+        final int product = reference(a, b, polynomial);
+        final String message = a + " * " + b + " mod " + Integer.toHexString(polynomial);
+
+        assertEquals(product, arithmetic.multiply(a, b), message);
+        assertEquals(a ^ b, arithmetic.add(a, b), message);
+
+        if(b != 0) {
+          assertEquals(a, arithmetic.divide(product, b), message);
+          assertEquals(1, reference(b, arithmetic.inverse(b), polynomial), message);
+        }
+      }
+    }
+  }
+
+  @Test
+  void powersMatchTheCarryLessReference() {
+    final Random random = new Random(229L);
+
+    for(final BinaryFieldArithmetic arithmetic : arithmetics()) {
+      final BigInteger f = BigInteger.valueOf(arithmetic.getPolynomial());
+      final BigInteger order = BigInteger.valueOf(arithmetic.getSize() - 1L);
+
+      for(int i = 0; i < SAMPLES / 10; i++) {
+        final int base = (i == 0 ? 0 : 1 + random.nextInt(arithmetic.getSize() - 1));
+        final BigInteger exponent = (i < 3 ? BigInteger.valueOf(i) : new BigInteger(80, random).subtract(BigInteger.ONE.shiftLeft(79)));
+        final String message = base + "^" + exponent + " mod " + f.toString(16);
+
+        if(base == 0 && exponent.signum() < 0) {
+          assertThrows(ArithmeticException.class, () -> arithmetic.pow(base, exponent), message);
+        } else {
+          // The order of every unit divides 2^k - 1.
+          final BigInteger reduced = (base == 0 ? exponent : exponent.mod(order));
+
+          assertEquals(referencePower(BigInteger.valueOf(base), reduced, f).intValueExact(), arithmetic.pow(base, exponent), message);
+        }
+      }
+
+      assertEquals(1, arithmetic.pow(0, BigInteger.ZERO));
+      assertEquals(0, arithmetic.pow(0, BigInteger.TEN));
+    }
+  }
+
+  @Test
+  void theGeneratorGeneratesEveryUnit() {
+    for(final BinaryFieldArithmetic arithmetic : arithmetics()) {
+      final int unitCount = arithmetic.getSize() - 1;
+      final boolean[] seen = new boolean[arithmetic.getSize()];
+
+      for(int i = 0; i < unitCount; i++) {
+        final int power = arithmetic.exp(i);
+
+        assertFalse(seen[power], "g^" + i + " mod " + Integer.toHexString(arithmetic.getPolynomial()));
+        assertEquals(i, arithmetic.log(power));
+
+        seen[power] = true;
+      }
+
+      assertFalse(seen[0]);
+      assertEquals(arithmetic.getGenerator(), arithmetic.exp(1 + unitCount));
+      assertEquals(arithmetic.exp(unitCount - 1), arithmetic.exp(-1));
+      assertThrows(ArithmeticException.class, () -> arithmetic.log(0));
+    }
+  }
+
+  @Test
+  void regionsMatchElementProducts() {
+    final Random random = new Random(230L);
+
+    for(final int degree : new int[] {1, 4, 8, 9, 16}) {
+      final BinaryFieldArithmetic arithmetic = new BinaryFieldArithmetic(degree);
+      final int bytesPerElement = arithmetic.getBytesPerElement();
+
+      for(final int length : REGION_LENGTHS) {
+        final int constant = (length == 2 ? 0 : length == 30 ? 1 : random.nextInt(arithmetic.getSize()));
+        final int[] source = new int[length / bytesPerElement];
+        final int[] destination = new int[source.length];
+        final byte[] sourceBytes = new byte[length];
+        final byte[] destinationBytes = new byte[length];
+
+        for(int i = 0; i < source.length; i++) {
+          source[i] = random.nextInt(arithmetic.getSize());
+          destination[i] = random.nextInt(arithmetic.getSize());
+
+          for(int j = 0; j < bytesPerElement; j++) {
+            sourceBytes[i * bytesPerElement + j] = (byte)(source[i] >>> (8 * j));
+            destinationBytes[i * bytesPerElement + j] = (byte)(destination[i] >>> (8 * j));
+          }
+        }
+
+        final byte[] products = new byte[length];
+        final byte[] sums = destinationBytes.clone();
+        final byte[] inPlace = sourceBytes.clone();
+        final int[] elementProducts = new int[source.length];
+
+        arithmetic.multiplyAll(constant, sourceBytes, products);
+        arithmetic.multiplyAddAll(constant, sourceBytes, sums);
+        arithmetic.multiplyAll(constant, inPlace, inPlace);
+        arithmetic.multiplyAll(source, constant, elementProducts);
+
+        for(int i = 0; i < source.length; i++) {
+          final int product = arithmetic.multiply(source[i], constant);
+          final String message = "degree " + degree + ", length " + length + ", element " + i;
+          int regionProduct = 0;
+          int regionSum = 0;
+          int inPlaceProduct = 0;
+
+          for(int j = 0; j < bytesPerElement; j++) {
+            regionProduct |= ((products[i * bytesPerElement + j] & 0xFF) << (8 * j));
+            regionSum |= ((sums[i * bytesPerElement + j] & 0xFF) << (8 * j));
+            inPlaceProduct |= ((inPlace[i * bytesPerElement + j] & 0xFF) << (8 * j));
+          }
+
+          assertEquals(product, regionProduct, message);
+          assertEquals(destination[i] ^ product, regionSum, message);
+          assertEquals(product, inPlaceProduct, message);
+          assertEquals(product, elementProducts[i], message);
+        }
+      }
+    }
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    final BinaryFieldArithmetic arithmetic = new BinaryFieldArithmetic(16);
+
+    // x^2 + 1 = (x + 1)^2, and x^4 + x^2 + 1 = (x^2 + x + 1)^2.
+    assertThrows(IllegalArgumentException.class, () -> new BinaryFieldArithmetic(2, 0x5));
+    assertThrows(IllegalArgumentException.class, () -> new BinaryFieldArithmetic(4, 0x15));
+    assertThrows(IllegalArgumentException.class, () -> new BinaryFieldArithmetic(8, 0x11D0));
+    assertThrows(IllegalArgumentException.class, () -> new BinaryFieldArithmetic(0));
+    assertThrows(IllegalArgumentException.class, () -> new BinaryFieldArithmetic(17));
+    assertThrows(IllegalArgumentException.class, () -> new BinaryFieldArithmetic(3, 0x13));
+    assertThrows(IllegalArgumentException.class, () -> arithmetic.multiplyAll(0x10000, new byte[2], new byte[2]));
+    assertThrows(IllegalArgumentException.class, () -> arithmetic.multiplyAll(1, new byte[3], new byte[3]));
+    assertThrows(IllegalArgumentException.class, () -> arithmetic.multiplyAddAll(1, new byte[2], new byte[4]));
+    assertThrows(ArithmeticException.class, () -> arithmetic.inverse(0));
+    assertThrows(ArithmeticException.class, () -> arithmetic.divide(1, 0));
+  }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryInversionTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * Odd moduli, prime and composite, up to the largest long.
+   */
+  private static final long[] LONG_MODULI = {1L, 3L, 9L, 97L, 561L, 2_147_483_647L, 4_294_967_297L, (1L << 61) - 1, 9_223_372_036_854_775_783L,
+      Long.MAX_VALUE};
+
+  private static final int SAMPLES = 500;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Odd moduli, prime and composite, including ones that fill their top limb.
+   */
+  private static BigInteger[] moduli() {
+    final Random random = new Random(222L);
+
+    return new BigInteger[] {
+        BigInteger.ONE, BigInteger.valueOf(3L), BigInteger.valueOf(4_294_967_291L), BigInteger.ONE.shiftLeft(64).subtract(BigInteger.valueOf(59L)),
+        BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE), BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE),
+        new BigInteger(255, random).setBit(254).setBit(0), BigInteger.probablePrime(521, random), new BigInteger(1024, random).setBit(1023).setBit(0)
+    };
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void longInversesMatchBigInteger() {
+    final Random random = new Random(223L);
+
+    for(final long n : LONG_MODULI) {
+      final BigInteger bigN = BigInteger.valueOf(n);
+
+      for(int i = 0; i < SAMPLES; i++) {
+        // The extremes, then random values.
+        final long value = (i == 0 ? 0L : i == 1 ? 1 % n : i == 2 ? n - 1 : Math.floorMod(random.nextLong(), n));
+        final BigInteger bigValue = BigInteger.valueOf(value);
+
+        if(bigValue.gcd(bigN).equals(BigInteger.ONE)) {
+          assertEquals(bigValue.modInverse(bigN).longValueExact(), BinaryInversion.inverse(value, n), value + " mod " + n);
+        } else {
+          assertThrows(ArithmeticException.class, () -> BinaryInversion.inverse(value, n), value + " mod " + n);
+        }
+      }
+    }
+  }
+
+  @Test
+  void bigIntegerInversesMatchBigInteger() {
+    final Random random = new Random(224L);
+
+    for(final BigInteger n : moduli()) {
+      for(int i = 0; i < SAMPLES / 10; i++) {
+        final BigInteger value = (i == 0 ? BigInteger.ZERO : i == 1 ? n.subtract(BigInteger.ONE) : new BigInteger(n.bitLength() + 8, random).mod(n));
+
+        if(value.gcd(n).equals(BigInteger.ONE)) {
+          assertEquals(value.modInverse(n), BinaryInversion.inverse(value, n), value + " mod " + n);
+        } else {
+          assertThrows(ArithmeticException.class, () -> BinaryInversion.inverse(value, n), value + " mod " + n);
+        }
+      }
+    }
+  }
+
+  @Test
+  void sharedFactorsAreNotInvertible() {
+    final BigInteger n = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+
+    assertThrows(ArithmeticException.class, () -> BinaryInversion.inverse(21L, 561L));
+    assertThrows(ArithmeticException.class, () -> BinaryInversion.inverse(BigInteger.valueOf(65_537L), n));
+    assertThrows(ArithmeticException.class, () -> BinaryInversion.inverse(new int[] {3, 0, 0, 0}, new int[] {-1, -1, -1, -1}));
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> BinaryInversion.inverse(1L, 10L));
+    assertThrows(IllegalArgumentException.class, () -> BinaryInversion.inverse(1L, -3L));
+    assertThrows(IllegalArgumentException.class, () -> BinaryInversion.inverse(97L, 97L));
+    assertThrows(IllegalArgumentException.class, () -> BinaryInversion.inverse(-1L, 97L));
+    assertThrows(IllegalArgumentException.class, () -> BinaryInversion.inverse(BigInteger.ONE, BigInteger.TEN));
+    assertThrows(IllegalArgumentException.class, () -> BinaryInversion.inverse(BigInteger.TEN, BigInteger.TEN.add(BigInteger.ONE).negate()));
+    assertThrows(IllegalArgumentException.class, () -> BinaryInversion.inverse(new int[] {1}, new int[] {3, 1}));
+    assertThrows(IllegalArgumentException.class, () -> BinaryInversion.inverse(new int[0], new int[0]));
+  }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntegerFactorizationTest {
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static void assertFactorization(final BigInteger n) {
+    final SortedMap<BigInteger, Integer> factors = IntegerFactorization.factor(n);
+    BigInteger product = BigInteger.ONE;
+
+    for(final Map.Entry<BigInteger, Integer> factor : factors.entrySet()) {
+      assertTrue(factor.getKey().isProbablePrime(64), factor.getKey() + " is not prime.");
+      assertTrue(factor.getValue() > 0);
+
+      product = product.multiply(factor.getKey().pow(factor.getValue()));
+    }
+
+    assertEquals(n, product);
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void smallIntegers() {
+    assertEquals(Map.of(), IntegerFactorization.factor(BigInteger.ONE));
+    assertEquals(Map.of(BigInteger.TWO, 1), IntegerFactorization.factor(BigInteger.TWO));
+    assertEquals(Map.of(BigInteger.TWO, 3, BigInteger.valueOf(3L), 2, BigInteger.valueOf(5L), 1),
+        IntegerFactorization.factor(BigInteger.valueOf(360L)));
+
+    for(long n = 1; n <= 5000; n++) {
+      assertFactorization(BigInteger.valueOf(n));
+    }
+  }
+
+  @Test
+  void largePrimesAndSemiprimes() {
+    final BigInteger mersenne61 = BigInteger.ONE.shiftLeft(61).subtract(BigInteger.ONE);
+    final BigInteger p = BigInteger.valueOf(2_147_483_659L);
+    final BigInteger q = BigInteger.valueOf(1_099_511_627_791L);
+
+    assertEquals(Map.of(mersenne61, 1), IntegerFactorization.factor(mersenne61));
+    assertEquals(Map.of(p, 1, q, 1), IntegerFactorization.factor(p.multiply(q)));
+    assertEquals(Map.of(p, 2), IntegerFactorization.factor(p.multiply(p)));
+    assertEquals(Map.of(BigInteger.TWO, 64), IntegerFactorization.factor(BigInteger.ONE.shiftLeft(64)));
+  }
+
+  @Test
+  void randomIntegers() {
+    final Random random = new Random(143L);
+
+    for(int i = 0; i < 50; i++) {
+      assertFactorization(new BigInteger(1 + random.nextInt(70), random).add(BigInteger.ONE));
+    }
+  }
+
+  @Test
+  void rejectsNonPositiveIntegers() {
+    assertThrows(IllegalArgumentException.class, () -> IntegerFactorization.factor(BigInteger.ZERO));
+    assertThrows(IllegalArgumentException.class, () -> IntegerFactorization.factor(BigInteger.valueOf(-6L)));
+    assertThrows(IllegalArgumentException.class, () -> IntegerFactorization.factor(null));
+  }
+
+}
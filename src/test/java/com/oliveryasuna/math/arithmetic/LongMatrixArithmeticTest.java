@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongMatrixArithmeticTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * Moduli with many, a few, one and no lazily summed products.
+   */
+  private static final long[] MODULI = {1L, 2L, 97L, 2_147_483_647L, 3_037_000_499L, (1L << 61) - 1, Long.MAX_VALUE};
+
+  /**
+   * Sizes around the tile size, odd sizes that Strassen-Winograd pads, and \(0\).
+   */
+  private static final int[] SIZES = {0, 1, 2, 3, 17, 63, 64, 65, 130};
+
+  /**
+   * The largest size multiplied with a Strassen threshold of \(2\), which recurses down to single entries.
+   */
+  static final int FULL_RECURSION_LIMIT = 17;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * The product by the definition, over the integers, reduced at the end.
+   */
+  static BigInteger[] referenceProduct(final BigInteger[] a, final BigInteger[] b, final int size, final BigInteger n) {
+    final BigInteger[] product = new BigInteger[size * size];
+
+    for(int i = 0; i < size; i++) {
+      for(int j = 0; j < size; j++) {
+        BigInteger sum = BigInteger.ZERO;
+
+        for(int k = 0; k < size; k++) {
+          sum = sum.add(a[i * size + k].multiply(b[k * size + j]));
+        }
+
+        product[i * size + j] = sum.mod(n);
+      }
+    }
+
+    return product;
+  }
+
+  private static long[] randomMatrix(final Random random, final int size, final long n) {
+    final long[] matrix = new long[size * size];
+
+    for(int i = 0; i < matrix.length; i++) {
+      // Mostly n - 1, the worst case for lazy reduction, with some zeros and random residues.
+      final int kind = random.nextInt(4);
+
+      matrix[i] = (kind == 0 ? 0L : kind == 1 ? Math.floorMod(random.nextLong(), n) : n - 1);
+    }
+
+    return matrix;
+  }
+
+  private static BigInteger[] big(final long[] matrix) {
+    final BigInteger[] big = new BigInteger[matrix.length];
+
+    for(int i = 0; i < matrix.length; i++) {
+      big[i] = BigInteger.valueOf(matrix[i]);
+    }
+
+    return big;
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void productsMatchTheDefinition() {
+    final Random random = new Random(216L);
+
+    for(final long n : MODULI) {
+      final LongModularArithmetic entries = new LongModularArithmetic(n);
+
+      for(final int size : SIZES) {
+        final long[] a = randomMatrix(random, size, n);
+        final long[] b = randomMatrix(random, size, n);
+        final BigInteger[] expected = referenceProduct(big(a), big(b), size, BigInteger.valueOf(n));
+
+        for(final int threshold : new int[] {2, 16, MatrixArithmetic.DEFAULT_STRASSEN_THRESHOLD}) {
+          // Recursing down to single entries takes 7^log2(size) products.
+          if(threshold == 2 && size > FULL_RECURSION_LIMIT) continue;
+
+          final LongMatrixArithmetic arithmetic = new LongMatrixArithmetic(entries, threshold);
+          final String message = "mod " + n + ", threshold " + threshold + ", size " + size;
+
+          assertArrayEquals(expected, big(arithmetic.multiply(a, b, size)), message);
+          assertArrayEquals(expected, big(arithmetic.multiply(a, b, size, ForkJoinPool.commonPool())), message);
+        }
+      }
+    }
+  }
+
+  @Test
+  void entryWiseOperationsMatchBigInteger() {
+    final Random random = new Random(217L);
+
+    for(final long n : MODULI) {
+      final LongMatrixArithmetic arithmetic = new LongMatrixArithmetic(new LongModularArithmetic(n));
+      final BigInteger bigN = BigInteger.valueOf(n);
+      final int size = 5;
+      final long[] a = randomMatrix(random, size, n);
+      final long[] b = randomMatrix(random, size, n);
+      final long scalar = Math.floorMod(random.nextLong(), n);
+      final long[] sum = arithmetic.add(a, b, size);
+      final long[] difference = arithmetic.subtract(a, b, size);
+      final long[] negation = arithmetic.negate(a, size);
+      final long[] scaled = arithmetic.scale(a, scalar);
+
+      for(int i = 0; i < a.length; i++) {
+        assertEquals(BigInteger.valueOf(a[i]).add(BigInteger.valueOf(b[i])).mod(bigN).longValueExact(), sum[i]);
+        assertEquals(BigInteger.valueOf(a[i]).subtract(BigInteger.valueOf(b[i])).mod(bigN).longValueExact(), difference[i]);
+        assertEquals(BigInteger.valueOf(a[i]).negate().mod(bigN).longValueExact(), negation[i]);
+        assertEquals(BigInteger.valueOf(a[i]).multiply(BigInteger.valueOf(scalar)).mod(bigN).longValueExact(), scaled[i]);
+      }
+
+      assertArrayEquals(a, arithmetic.multiply(a, arithmetic.identity(size), size));
+      assertArrayEquals(arithmetic.zero(size), arithmetic.multiply(a, arithmetic.zero(size), size));
+    }
+  }
+
+  @Test
+  void identityOfTheTrivialRingIsZero() {
+    final LongMatrixArithmetic arithmetic = new LongMatrixArithmetic(new LongModularArithmetic(1L));
+
+    assertArrayEquals(new long[4], arithmetic.identity(2));
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    final LongModularArithmetic entries = new LongModularArithmetic(97L);
+    final LongMatrixArithmetic arithmetic = new LongMatrixArithmetic(entries);
+
+    assertThrows(IllegalArgumentException.class, () -> new LongMatrixArithmetic(entries, 1));
+    assertThrows(IllegalArgumentException.class, () -> new LongMatrixArithmetic(null));
+    assertThrows(IllegalArgumentException.class, () -> arithmetic.multiply(new long[0], new long[0], -1));
+    assertThrows(IllegalArgumentException.class, () -> arithmetic.multiply(new long[0], new long[0], 0, null));
+  }
+
+}
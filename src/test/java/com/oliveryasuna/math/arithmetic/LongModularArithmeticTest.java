@@ -0,0 +1,308 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongModularArithmeticTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * Moduli around every strategy boundary: direct products up to \(\lfloor\sqrt{2^{63}-1}\rfloor\), then Montgomery for odd and
+   * shift-subtract for even moduli.
+   */
+  private static final long[] MODULI = {
+      1L, 2L, 3L, 4L, 97L, 65536L,
+      3037000499L, 3037000500L, 3037000501L,
+      (1L << 61) - 1, 1L << 62, (1L << 62) + 1,
+      Long.MAX_VALUE - 1, Long.MAX_VALUE
+  };
+
+  private static final int SAMPLES = 200;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static long randomResidue(final Random random, final long n) {
+    return Math.floorMod(random.nextLong(), n);
+  }
+
+  private static long reference(final BigInteger value, final long n) {
+    return value.mod(BigInteger.valueOf(n)).longValueExact();
+  }
+
+  private static BigInteger big(final long value) {
+    return BigInteger.valueOf(value);
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void rejectsNonPositiveModuli() {
+    assertThrows(IllegalArgumentException.class, () -> new LongModularArithmetic(0L));
+    assertThrows(IllegalArgumentException.class, () -> new LongModularArithmetic(-7L));
+    assertThrows(IllegalArgumentException.class, () -> new LongModularArithmetic(Long.MIN_VALUE));
+  }
+
+  @Test
+  void choosesMontgomeryOnlyForLargeOddModuli() {
+    assertFalse(new LongModularArithmetic(97L).isMontgomery());
+    assertFalse(new LongModularArithmetic(3037000499L).isMontgomery());
+    assertTrue(new LongModularArithmetic(3037000501L).isMontgomery());
+    assertFalse(new LongModularArithmetic(3037000500L).isMontgomery());
+    assertTrue(new LongModularArithmetic(Long.MAX_VALUE).isMontgomery());
+  }
+
+  @Test
+  void unsignedMultiplyHighMatchesBigInteger() {
+    final Random random = new Random(1L);
+    final BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+    final long[] edges = {0L, 1L, -1L, Long.MAX_VALUE, Long.MIN_VALUE};
+
+    for(final long a : edges) {
+      for(final long b : edges) {
+        final BigInteger expected = big(a).and(mask).multiply(big(b).and(mask)).shiftRight(64);
+
+        assertEquals(expected.longValue(), LongModularArithmetic.unsignedMultiplyHigh(a, b));
+      }
+    }
+
+    for(int i = 0; i < SAMPLES; i++) {
+      final long a = random.nextLong();
+      final long b = random.nextLong();
+      final BigInteger expected = big(a).and(mask).multiply(big(b).and(mask)).shiftRight(64);
+
+      assertEquals(expected.longValue(), LongModularArithmetic.unsignedMultiplyHigh(a, b));
+    }
+  }
+
+  @Test
+  void reduceMatchesBigInteger() {
+    final Random random = new Random(2L);
+
+    for(final long n : MODULI) {
+      final LongModularArithmetic arithmetic = new LongModularArithmetic(n);
+
+      assertEquals(reference(big(Long.MIN_VALUE), n), arithmetic.reduce(Long.MIN_VALUE));
+      assertEquals(reference(big(-1L), n), arithmetic.reduce(-1L));
+
+      for(int i = 0; i < SAMPLES; i++) {
+        final long value = random.nextLong();
+        final BigInteger bigValue = new BigInteger(130, random).subtract(BigInteger.ONE.shiftLeft(129));
+
+        assertEquals(reference(big(value), n), arithmetic.reduce(value));
+        assertEquals(reference(bigValue, n), arithmetic.reduce(bigValue));
+      }
+    }
+  }
+
+  @Test
+  void ringOperationsMatchBigInteger() {
+    final Random random = new Random(3L);
+
+    for(final long n : MODULI) {
+      final LongModularArithmetic arithmetic = new LongModularArithmetic(n);
+
+      for(int i = 0; i < SAMPLES; i++) {
+        final long a = (i == 0 ? n - 1 : randomResidue(random, n));
+        final long b = (i == 0 ? n - 1 : randomResidue(random, n));
+
+        assertEquals(reference(big(a).add(big(b)), n), arithmetic.add(a, b), "n = " + n);
+        assertEquals(reference(big(a).subtract(big(b)), n), arithmetic.subtract(a, b), "n = " + n);
+        assertEquals(reference(big(a).negate(), n), arithmetic.negate(a), "n = " + n);
+        assertEquals(reference(big(a).multiply(big(b)), n), arithmetic.multiply(a, b), "n = " + n);
+      }
+    }
+  }
+
+  @Test
+  void powMatchesBigInteger() {
+    final Random random = new Random(4L);
+
+    for(final long n : MODULI) {
+      final LongModularArithmetic arithmetic = new LongModularArithmetic(n);
+      final BigInteger bigN = big(n);
+
+      assertEquals(arithmetic.getOne(), arithmetic.pow(0L, 0L));
+
+      for(int i = 0; i < SAMPLES / 4; i++) {
+        final long base = randomResidue(random, n);
+        final long exponent = random.nextLong() >>> 1;
+        final BigInteger bigExponent = new BigInteger(200, random);
+
+        assertEquals(big(base).modPow(big(exponent), bigN).longValueExact(), arithmetic.pow(base, exponent), "n = " + n);
+        assertEquals(big(base).modPow(bigExponent, bigN).longValueExact(), arithmetic.pow(base, bigExponent), "n = " + n);
+      }
+    }
+  }
+
+  @Test
+  void powRejectsNegativeExponents() {
+    final LongModularArithmetic arithmetic = new LongModularArithmetic(Long.MAX_VALUE);
+
+    assertThrows(IllegalArgumentException.class, () -> arithmetic.pow(3L, -1L));
+    assertThrows(IllegalArgumentException.class, () -> arithmetic.pow(3L, BigInteger.ONE.negate()));
+    assertThrows(IllegalArgumentException.class, () -> arithmetic.powInternal(3L, BigInteger.ONE.shiftLeft(100).negate()));
+  }
+
+  @Test
+  void inverseMatchesBigInteger() {
+    final Random random = new Random(5L);
+
+    for(final long n : MODULI) {
+      if(n == 1) continue;
+
+      final LongModularArithmetic arithmetic = new LongModularArithmetic(n);
+      final BigInteger bigN = big(n);
+
+      for(int i = 0; i < SAMPLES; i++) {
+        final long value = randomResidue(random, n);
+
+        if(big(value).gcd(bigN).equals(BigInteger.ONE)) {
+          assertEquals(big(value).modInverse(bigN).longValueExact(), arithmetic.inverse(value), "n = " + n);
+        } else {
+          assertThrows(ArithmeticException.class, () -> arithmetic.inverse(value), "n = " + n);
+        }
+      }
+    }
+  }
+
+  @Test
+  void internalFormRoundTripsAndMultiplies() {
+    final Random random = new Random(6L);
+
+    for(final long n : MODULI) {
+      final LongModularArithmetic arithmetic = new LongModularArithmetic(n);
+      final BigInteger bigN = big(n);
+
+      assertEquals(arithmetic.getOne(), arithmetic.fromInternal(arithmetic.getInternalOne()));
+
+      for(int i = 0; i < SAMPLES; i++) {
+        final long a = randomResidue(random, n);
+        final long b = randomResidue(random, n);
+        final long internalA = arithmetic.toInternal(a);
+        final long internalB = arithmetic.toInternal(b);
+        final BigInteger exponent = new BigInteger(90, random);
+
+        assertTrue(arithmetic.isResidue(internalA));
+        assertEquals(a, arithmetic.fromInternal(internalA));
+        assertEquals(reference(big(a).multiply(big(b)), n), arithmetic.fromInternal(arithmetic.multiplyInternal(internalA, internalB)));
+        assertEquals(reference(big(a).multiply(big(b)), n), arithmetic.fromInternal(arithmetic.multiply(internalA, b)));
+        assertEquals(reference(big(a).add(big(b)), n), arithmetic.fromInternal(arithmetic.add(internalA, internalB)));
+        assertEquals(big(a).modPow(exponent, bigN).longValueExact(), arithmetic.fromInternal(arithmetic.powInternal(internalA, exponent)));
+      }
+    }
+  }
+
+  @Test
+  void bulkOperationsMatchScalarOperations() {
+    final Random random = new Random(7L);
+
+    for(final long n : MODULI) {
+      final LongModularArithmetic arithmetic = new LongModularArithmetic(n);
+      final long[] a = new long[33];
+      final long[] b = new long[33];
+
+      for(int i = 0; i < a.length; i++) {
+        a[i] = randomResidue(random, n);
+        b[i] = randomResidue(random, n);
+      }
+
+      final long scalar = randomResidue(random, n);
+      final long[] result = new long[a.length];
+
+      arithmetic.addAll(a, b, result);
+      for(int i = 0; i < a.length; i++) assertEquals(arithmetic.add(a[i], b[i]), result[i]);
+
+      arithmetic.addAll(a, scalar, result);
+      for(int i = 0; i < a.length; i++) assertEquals(arithmetic.add(a[i], scalar), result[i]);
+
+      arithmetic.subtractAll(a, b, result);
+      for(int i = 0; i < a.length; i++) assertEquals(arithmetic.subtract(a[i], b[i]), result[i]);
+
+      arithmetic.negateAll(a, result);
+      for(int i = 0; i < a.length; i++) assertEquals(arithmetic.negate(a[i]), result[i]);
+
+      arithmetic.multiplyAll(a, b, result);
+      for(int i = 0; i < a.length; i++) assertEquals(arithmetic.multiply(a[i], b[i]), result[i]);
+
+      arithmetic.multiplyAll(a, scalar, result);
+      for(int i = 0; i < a.length; i++) assertEquals(arithmetic.multiply(a[i], scalar), result[i]);
+
+      final long[] internalA = new long[a.length];
+      final long[] internalB = new long[a.length];
+
+      for(int i = 0; i < a.length; i++) {
+        internalA[i] = arithmetic.toInternal(a[i]);
+        internalB[i] = arithmetic.toInternal(b[i]);
+      }
+
+      arithmetic.multiplyAllInternal(internalA, internalB, result);
+      for(int i = 0; i < a.length; i++) assertEquals(arithmetic.multiply(a[i], b[i]), arithmetic.fromInternal(result[i]));
+
+      arithmetic.multiplyAllInternal(internalA, arithmetic.toInternal(scalar), result);
+      for(int i = 0; i < a.length; i++) assertEquals(arithmetic.multiply(a[i], scalar), arithmetic.fromInternal(result[i]));
+
+      // In place.
+      final long[] expected = new long[a.length];
+
+      for(int i = 0; i < a.length; i++) expected[i] = arithmetic.multiply(a[i], b[i]);
+
+      arithmetic.multiplyAll(a, b, a);
+      assertArrayEquals(expected, a);
+    }
+  }
+
+  @Test
+  void bulkOperationsAcceptEmptyArraysAndRejectMismatchedLengths() {
+    final LongModularArithmetic arithmetic = new LongModularArithmetic(Long.MAX_VALUE);
+    final long[] empty = new long[0];
+
+    arithmetic.addAll(empty, empty, empty);
+    arithmetic.multiplyAll(empty, empty, empty);
+    arithmetic.multiplyAll(empty, 5L, empty);
+    arithmetic.multiplyAllInternal(empty, empty, empty);
+
+    assertThrows(IllegalArgumentException.class, () -> arithmetic.addAll(new long[2], new long[3], new long[2]));
+    assertThrows(IllegalArgumentException.class, () -> arithmetic.multiplyAll(new long[2], new long[2], new long[1]));
+    assertThrows(IllegalArgumentException.class, () -> arithmetic.multiplyAll(new long[2], 5L, new long[1]));
+    assertThrows(IllegalArgumentException.class, () -> arithmetic.multiplyAllInternal(new long[2], new long[3], new long[2]));
+  }
+
+  @Test
+  void moduloOneHasOnlyZero() {
+    final LongModularArithmetic arithmetic = new LongModularArithmetic(1L);
+
+    assertEquals(0L, arithmetic.getOne());
+    assertEquals(0L, arithmetic.reduce(12345L));
+    assertEquals(0L, arithmetic.multiply(0L, 0L));
+    assertEquals(0L, arithmetic.pow(0L, 0L));
+    assertEquals(0L, arithmetic.add(0L, 0L));
+  }
+
+}
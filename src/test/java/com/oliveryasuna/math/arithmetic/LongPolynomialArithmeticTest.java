@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongPolynomialArithmeticTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * Moduli needing one, two and three transform primes.
+   */
+  private static final long[] MODULI = {1L, 2L, 3L, 97L, 998_244_353L, (1L << 61) - 1, 1L << 62, Long.MAX_VALUE};
+
+  private static final int[][] LENGTHS = {
+      {0, 0}, {0, 5}, {1, 1}, {1, 2}, {2, 2}, {3, 1},
+      {32, 32}, {33, 33}, {33, 200}, {127, 127}, {128, 128}, {129, 300}, {1, 300}, {1000, 1500}
+  };
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static long[] toLongs(final BigInteger[] polynomial) {
+    final long[] coefficients = new long[polynomial.length];
+
+    for(int i = 0; i < polynomial.length; i++) {
+      coefficients[i] = polynomial[i].longValueExact();
+    }
+
+    return coefficients;
+  }
+
+  private static BigInteger[] toBigIntegers(final long[] polynomial) {
+    final BigInteger[] coefficients = new BigInteger[polynomial.length];
+
+    for(int i = 0; i < polynomial.length; i++) {
+      coefficients[i] = BigInteger.valueOf(polynomial[i]);
+    }
+
+    return coefficients;
+  }
+
+  private static void assertProducts(final LongPolynomialArithmetic arithmetic, final long[] a, final long[] b) {
+    final BigInteger n = BigInteger.valueOf(arithmetic.getArithmetic().getN());
+    final long[] expected = toLongs(PolynomialArithmeticTest.referenceProduct(toBigIntegers(a), toBigIntegers(b), n));
+    final String message = "mod " + n + ", lengths " + a.length + " and " + b.length;
+
+    assertArrayEquals(expected, arithmetic.multiply(a, b), message);
+    assertArrayEquals(expected, arithmetic.multiply(b, a), message);
+    assertArrayEquals(expected, arithmetic.multiply(a, b, ForkJoinPool.commonPool()), message);
+
+    for(final PolynomialMultiplication method : PolynomialMultiplication.values()) {
+      assertArrayEquals(expected, arithmetic.multiply(a, b, method), message + ", " + method);
+    }
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void productsMatchTheSchoolbookReference() {
+    final Random random = new Random(210L);
+
+    for(final long n : MODULI) {
+      final LongPolynomialArithmetic arithmetic = new LongPolynomialArithmetic(new LongModularArithmetic(n));
+      final BigInteger bigN = BigInteger.valueOf(n);
+
+      for(final int[] lengths : LENGTHS) {
+        final long[] a = toLongs(PolynomialArithmeticTest.randomPolynomial(random, lengths[0], bigN));
+        final long[] b = toLongs(PolynomialArithmeticTest.randomPolynomial(random, lengths[1], bigN));
+
+        assertProducts(arithmetic, a, b);
+        assertProducts(arithmetic, a, a);
+      }
+    }
+  }
+
+  @Test
+  void largestCoefficientsNeedEveryPrime() {
+    for(final long n : MODULI) {
+      final LongPolynomialArithmetic arithmetic = new LongPolynomialArithmetic(new LongModularArithmetic(n));
+      final long[] a = new long[300];
+
+      Arrays.fill(a, n - 1);
+
+      assertProducts(arithmetic, LongPolynomialArithmetic.trim(a), LongPolynomialArithmetic.trim(a.clone()));
+    }
+  }
+
+  @Test
+  void additiveOperationsMatchBigInteger() {
+    final Random random = new Random(211L);
+
+    for(final long n : MODULI) {
+      final LongPolynomialArithmetic arithmetic = new LongPolynomialArithmetic(new LongModularArithmetic(n));
+      final PolynomialArithmetic reference = new PolynomialArithmetic(BigInteger.valueOf(n));
+
+      for(final int[] lengths : LENGTHS) {
+        final BigInteger[] a = PolynomialArithmeticTest.randomPolynomial(random, lengths[0], reference.getN());
+        final BigInteger[] b = PolynomialArithmeticTest.randomPolynomial(random, lengths[1], reference.getN());
+        final long scalar = Math.floorMod(random.nextLong(), n);
+
+        assertArrayEquals(toLongs(reference.add(a, b)), arithmetic.add(toLongs(a), toLongs(b)));
+        assertArrayEquals(toLongs(reference.subtract(a, b)), arithmetic.subtract(toLongs(a), toLongs(b)));
+        assertArrayEquals(toLongs(reference.negate(a)), arithmetic.negate(toLongs(a)));
+        assertArrayEquals(toLongs(reference.scale(a, BigInteger.valueOf(scalar))), arithmetic.scale(toLongs(a), scalar));
+      }
+    }
+  }
+
+  @Test
+  void identitiesAndPredicates() {
+    final LongPolynomialArithmetic trivial = new LongPolynomialArithmetic(new LongModularArithmetic(1L));
+    final LongPolynomialArithmetic arithmetic = new LongPolynomialArithmetic(new LongModularArithmetic(10L));
+
+    assertArrayEquals(new long[0], trivial.one());
+    assertArrayEquals(new long[] {1L}, arithmetic.one());
+    assertTrue(arithmetic.isPolynomial(new long[] {0L, 9L}));
+    assertFalse(arithmetic.isPolynomial(new long[] {1L, 0L}));
+    assertFalse(arithmetic.isPolynomial(new long[] {10L}));
+    assertArrayEquals(new long[0], arithmetic.multiply(new long[] {0L, 5L}, new long[] {2L}));
+  }
+
+}
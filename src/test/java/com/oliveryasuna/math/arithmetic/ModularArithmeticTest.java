@@ -0,0 +1,183 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModularArithmeticTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final ModularReduction[] REDUCTIONS = {ModularReduction.MONTGOMERY, ModularReduction.DIVISION};
+
+  private static final int SAMPLES = 50;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Moduli at the edges of limbs, Mersenne primes, and random moduli of several sizes, both odd and even.
+   */
+  private static List<BigInteger> moduli() {
+    final Random random = new Random(151L);
+    final List<BigInteger> moduli = new ArrayList<>();
+
+    for(final long n : new long[] {1L, 2L, 3L, 4L, 97L, 0xFFFFFFFFL, 0x100000000L, 0x100000001L}) {
+      moduli.add(BigInteger.valueOf(n));
+    }
+
+    for(final int exponent : new int[] {61, 64, 127, 521}) {
+      moduli.add(BigInteger.ONE.shiftLeft(exponent).subtract(BigInteger.ONE));
+    }
+
+    for(final int bits : new int[] {33, 96, 256, 1000}) {
+      moduli.add(new BigInteger(bits, random).setBit(bits - 1).setBit(0));
+      moduli.add(new BigInteger(bits, random).setBit(bits - 1).clearBit(0));
+    }
+
+    return moduli;
+  }
+
+  /**
+   * The arithmetics for a modulus, one per reduction that supports it.
+   */
+  private static List<ModularArithmetic> arithmetics(final BigInteger n, final ModularReduction... reductions) {
+    final List<ModularArithmetic> arithmetics = new ArrayList<>();
+
+    for(final ModularReduction reduction : reductions) {
+      if(reduction != ModularReduction.MONTGOMERY || n.testBit(0)) arithmetics.add(ModularArithmetic.of(n, reduction));
+    }
+
+    return arithmetics;
+  }
+
+  static void assertMatchesBigInteger(final ModularReduction... reductions) {
+    final Random random = new Random(152L);
+
+    for(final BigInteger n : moduli()) {
+      for(final ModularArithmetic arithmetic : arithmetics(n, reductions)) {
+        final String message = arithmetic.getClass().getSimpleName() + " mod " + n;
+
+        assertEquals(n, arithmetic.getN());
+        assertEquals(BigInteger.ONE.mod(n), arithmetic.toBigInteger(arithmetic.one()), message);
+        assertEquals(BigInteger.ZERO, arithmetic.toBigInteger(arithmetic.zero()), message);
+        assertEquals(n.subtract(BigInteger.ONE), arithmetic.toBigInteger(arithmetic.toResidue(n.subtract(BigInteger.ONE))), message);
+
+        for(int i = 0; i < SAMPLES; i++) {
+          final BigInteger a = new BigInteger(n.bitLength() + 8, random).mod(n);
+          final BigInteger b = (i == 0 ? n.subtract(BigInteger.ONE) : new BigInteger(n.bitLength() + 8, random).mod(n));
+          final BigInteger exponent = new BigInteger(1 + random.nextInt(300), random);
+          final int[] x = arithmetic.toResidue(a);
+          final int[] y = arithmetic.toResidue(b);
+
+          assertEquals(a, arithmetic.toBigInteger(x), message);
+          assertEquals(a.add(b).mod(n), arithmetic.toBigInteger(arithmetic.add(x, y)), message);
+          assertEquals(a.subtract(b).mod(n), arithmetic.toBigInteger(arithmetic.subtract(x, y)), message);
+          assertEquals(a.negate().mod(n), arithmetic.toBigInteger(arithmetic.negate(x)), message);
+          assertEquals(a.multiply(b).mod(n), arithmetic.toBigInteger(arithmetic.multiply(x, y)), message);
+          assertEquals(a.modPow(exponent, n), arithmetic.toBigInteger(arithmetic.pow(x, exponent)), message);
+          assertEquals(BigInteger.ONE.mod(n), arithmetic.toBigInteger(arithmetic.pow(x, BigInteger.ZERO)), message);
+          assertEquals(a.signum() == 0, arithmetic.isZero(x), message);
+
+          if(a.gcd(n).equals(BigInteger.ONE)) {
+            assertEquals(a.modInverse(n), arithmetic.toBigInteger(arithmetic.inverse(x)), message);
+          } else {
+            assertThrows(ArithmeticException.class, () -> arithmetic.inverse(x), message);
+          }
+        }
+      }
+    }
+  }
+
+  static void assertInverseAllMatchesModInverse(final ModularReduction... reductions) {
+    final Random random = new Random(153L);
+    final BigInteger n = BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE);
+
+    for(final ModularArithmetic arithmetic : arithmetics(n, reductions)) {
+      for(final int size : new int[] {0, 1, 2, 100, 5000}) {
+        final BigInteger[] values = new BigInteger[size];
+        final int[][] residues = new int[size][];
+        final int[][] inverses = new int[size][];
+        final int[][] parallelInverses = new int[size][];
+
+        for(int i = 0; i < size; i++) {
+          values[i] = new BigInteger(127, random).mod(n.subtract(BigInteger.ONE)).add(BigInteger.ONE);
+          residues[i] = arithmetic.toResidue(values[i]);
+        }
+
+        arithmetic.inverseAll(residues, inverses);
+        arithmetic.inverseAll(residues, parallelInverses, ForkJoinPool.commonPool());
+
+        for(int i = 0; i < size; i++) {
+          assertEquals(values[i].modInverse(n), arithmetic.toBigInteger(inverses[i]));
+          assertEquals(values[i].modInverse(n), arithmetic.toBigInteger(parallelInverses[i]));
+        }
+
+        // In place.
+        arithmetic.inverseAll(residues, residues);
+
+        for(int i = 0; i < size; i++) {
+          assertEquals(values[i].modInverse(n), arithmetic.toBigInteger(residues[i]));
+        }
+      }
+
+      final int[][] withZero = {arithmetic.toResidue(BigInteger.TWO), arithmetic.zero()};
+
+      assertThrows(ArithmeticException.class, () -> arithmetic.inverseAll(withZero, new int[2][]));
+    }
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void operationsMatchBigInteger() {
+    assertMatchesBigInteger(REDUCTIONS);
+  }
+
+  @Test
+  void inverseAllMatchesModInverse() {
+    assertInverseAllMatchesModInverse(REDUCTIONS);
+  }
+
+  @Test
+  void preferredArithmeticDependsOnParity() {
+    assertTrue(ModularArithmetic.of(BigInteger.valueOf(97L)) instanceof MontgomeryModularArithmetic);
+    assertTrue(ModularArithmetic.of(BigInteger.valueOf(96L)) instanceof DivisionModularArithmetic);
+  }
+
+  @Test
+  void rejectsInvalidModuli() {
+    assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.of(BigInteger.ZERO));
+    assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.of(BigInteger.valueOf(-7L)));
+    assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.of(null));
+    assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.of(BigInteger.TEN, ModularReduction.MONTGOMERY));
+    assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.of(BigInteger.TEN).pow(new int[1], BigInteger.valueOf(-1L)));
+  }
+
+}
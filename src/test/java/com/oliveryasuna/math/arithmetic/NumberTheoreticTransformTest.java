@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NumberTheoreticTransformTest {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void primesAreDistinctAndDecreasing() {
+    long previous = 1L << 62;
+
+    // Beyond the three found at class initialization.
+    for(int i = 0; i < 40; i++) {
+      final NumberTheoreticTransform transform = NumberTheoreticTransform.prime(i);
+      final long p = transform.getP();
+
+      assertTrue(p < previous && p > (1L << 61), "p_" + i + " = " + p);
+      assertTrue(BigInteger.valueOf(p).isProbablePrime(64));
+      assertEquals(1L, p & 0xFFFFFFFFL);
+      assertEquals(32, transform.getTwoAdicity());
+      assertSame(transform, NumberTheoreticTransform.prime(i));
+
+      previous = p;
+    }
+
+    assertThrows(IllegalArgumentException.class, () -> NumberTheoreticTransform.prime(-1));
+  }
+
+  @Test
+  void convolutionsMatchBigInteger() {
+    final Random random = new Random(212L);
+
+    for(final int index : new int[] {0, 2, 20}) {
+      final NumberTheoreticTransform transform = NumberTheoreticTransform.prime(index);
+      final long p = transform.getP();
+      final BigInteger bigP = BigInteger.valueOf(p);
+
+      for(final int size : new int[] {1, 2, 4, 64, 1024}) {
+        final long[] x = new long[size];
+        final long[] y = new long[size];
+
+        for(int i = 0; i < size; i++) {
+          x[i] = Math.floorMod(random.nextLong(), p);
+          y[i] = Math.floorMod(random.nextLong(), p);
+        }
+
+        final BigInteger[] expected = new BigInteger[size];
+
+        for(int i = 0; i < size; i++) {
+          BigInteger sum = BigInteger.ZERO;
+
+          for(int j = 0; j < size; j++) {
+            sum = sum.add(BigInteger.valueOf(x[j]).multiply(BigInteger.valueOf(y[Math.floorMod(i - j, size)])));
+          }
+
+          expected[i] = sum.mod(bigP);
+        }
+
+        transform.forward(x, size);
+        transform.forward(y, size);
+        transform.multiplyPointwise(x, y, size);
+        transform.inverse(x, size);
+
+        for(int i = 0; i < size; i++) {
+          assertEquals(expected[i].longValueExact(), x[i], "p_" + index + ", size " + size + ", index " + i);
+        }
+      }
+    }
+  }
+
+  @Test
+  void inverseUndoesForward() {
+    final Random random = new Random(213L);
+    final NumberTheoreticTransform transform = NumberTheoreticTransform.prime(1);
+    final long[] values = new long[4096];
+
+    for(int i = 0; i < values.length; i++) {
+      values[i] = Math.floorMod(random.nextLong(), transform.getP());
+    }
+
+    final long[] copy = values.clone();
+
+    transform.forward(copy, copy.length);
+    transform.inverse(copy, copy.length);
+
+    assertArrayEquals(values, copy);
+  }
+
+  @Test
+  void multiplicationMatchesBigInteger() {
+    final Random random = new Random(214L);
+    final NumberTheoreticTransform transform = NumberTheoreticTransform.prime(0);
+    final long p = transform.getP();
+    final BigInteger bigP = BigInteger.valueOf(p);
+
+    for(int i = 0; i < 200; i++) {
+      final long a = (i == 0 ? p - 1 : Math.floorMod(random.nextLong(), p));
+      final long b = (i == 0 ? p - 1 : 1 + Math.floorMod(random.nextLong(), p - 1));
+
+      assertEquals(BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)).mod(bigP).longValueExact(), transform.multiply(a, b));
+      assertEquals(BigInteger.valueOf(b).modInverse(bigP).longValueExact(), transform.inverse(b));
+    }
+  }
+
+  @Test
+  void rejectsInvalidLengths() {
+    final NumberTheoreticTransform transform = NumberTheoreticTransform.prime(0);
+
+    assertThrows(IllegalArgumentException.class, () -> transform.forward(new long[8], 0));
+    assertThrows(IllegalArgumentException.class, () -> transform.forward(new long[8], 6));
+    assertThrows(IllegalArgumentException.class, () -> transform.inverse(new long[4], 8));
+  }
+
+}
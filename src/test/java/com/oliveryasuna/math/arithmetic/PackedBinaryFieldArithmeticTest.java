@@ -0,0 +1,174 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedBinaryFieldArithmeticTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The smallest degrees, degrees around word boundaries, moduli whose second term is close enough to \(x^n\) to refold, and the NIST binary fields.
+   */
+  private static final int[][] MODULI = {
+      {2, 1, 0}, {3, 1, 0}, {8, 4, 3, 1, 0}, {63, 1, 0}, {64, 4, 3, 1, 0}, {65, 18, 0}, {127, 1, 0}, {127, 126, 0}, {128, 7, 2, 1, 0},
+      {163, 7, 6, 3, 0}, {233, 74, 0}, {283, 12, 7, 5, 0}, {409, 87, 0}, {571, 10, 5, 2, 0}
+  };
+
+  private static final int SAMPLES = 40;
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static BigInteger modulus(final int[] exponents) {
+    BigInteger modulus = BigInteger.ZERO;
+
+    for(final int exponent : exponents) {
+      modulus = modulus.setBit(exponent);
+    }
+
+    return modulus;
+  }
+
+  /**
+   * Zero, one, the element with every bit set, then random elements.
+   */
+  private static BigInteger element(final Random random, final int index, final int degree) {
+    switch(index) {
+      case 0:
+        return BigInteger.ZERO;
+      case 1:
+        return BigInteger.ONE;
+      case 2:
+        return BigInteger.ONE.shiftLeft(degree).subtract(BigInteger.ONE);
+      default:
+        return new BigInteger(degree, random);
+    }
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void productsMatchTheCarryLessReference() {
+    final Random random = new Random(233L);
+
+    for(final int[] exponents : MODULI) {
+      final PackedBinaryFieldArithmetic arithmetic = new PackedBinaryFieldArithmetic(exponents);
+      final BigInteger f = modulus(exponents);
+
+      for(int i = 0; i < SAMPLES; i++) {
+        final BigInteger a = element(random, i, arithmetic.getDegree());
+        final BigInteger b = element(random, (i + 2) % SAMPLES, arithmetic.getDegree());
+        final long[] x = arithmetic.toWords(a);
+        final long[] y = arithmetic.toWords(b);
+        final BigInteger product = BinaryFieldArithmeticTest.referenceProduct(a, b, f);
+        final String message = a.toString(16) + " * " + b.toString(16) + " mod " + f.toString(16);
+
+        assertEquals(a, arithmetic.toBigInteger(x), message);
+        assertTrue(arithmetic.isElement(x), message);
+        assertEquals(product, arithmetic.toBigInteger(arithmetic.multiply(x, y)), message);
+        assertEquals(a.xor(b), arithmetic.toBigInteger(arithmetic.add(x, y)), message);
+        assertEquals(BinaryFieldArithmeticTest.referenceProduct(a, a, f), arithmetic.toBigInteger(arithmetic.square(x)), message);
+        assertEquals(BinaryFieldArithmeticTest.referencePower(a, BigInteger.ONE.shiftLeft(5), f), arithmetic.toBigInteger(arithmetic.square(x, 5)),
+            message);
+        assertArrayEquals(x, arithmetic.square(x, 0), message);
+
+        if(b.signum() != 0) {
+          final long[] inverse = arithmetic.inverse(y);
+
+          assertEquals(BigInteger.ONE, BinaryFieldArithmeticTest.referenceProduct(b, arithmetic.toBigInteger(inverse), f), message);
+          assertEquals(a, arithmetic.toBigInteger(arithmetic.divide(arithmetic.multiply(x, y), y)), message);
+        }
+      }
+    }
+  }
+
+  @Test
+  void powersMatchTheCarryLessReference() {
+    final Random random = new Random(234L);
+
+    for(final int[] exponents : MODULI) {
+      final PackedBinaryFieldArithmetic arithmetic = new PackedBinaryFieldArithmetic(exponents);
+      final BigInteger f = modulus(exponents);
+      final BigInteger order = BigInteger.ONE.shiftLeft(arithmetic.getDegree()).subtract(BigInteger.ONE);
+
+      for(int i = 0; i < SAMPLES / 4; i++) {
+        final BigInteger base = element(random, i, arithmetic.getDegree());
+        final BigInteger exponent = (i < 4 ? BigInteger.valueOf(i - 1) : new BigInteger(arithmetic.getDegree() + 8, random).subtract(
+            BigInteger.ONE.shiftLeft(arithmetic.getDegree() + 7)));
+        final long[] x = arithmetic.toWords(base);
+        final String message = base.toString(16) + "^" + exponent + " mod " + f.toString(16);
+
+        if(base.signum() == 0) {
+          if(exponent.signum() < 0) {
+            assertThrows(ArithmeticException.class, () -> arithmetic.pow(x, exponent), message);
+          } else {
+            assertEquals(exponent.signum() == 0 ? BigInteger.ONE : BigInteger.ZERO, arithmetic.toBigInteger(arithmetic.pow(x, exponent)), message);
+          }
+        } else {
+          // The order of every unit divides 2^n - 1.
+          assertEquals(BinaryFieldArithmeticTest.referencePower(base, exponent.mod(order), f), arithmetic.toBigInteger(arithmetic.pow(x, exponent)),
+              message);
+        }
+      }
+    }
+  }
+
+  @Test
+  void wordsRoundTrip() {
+    final PackedBinaryFieldArithmetic arithmetic = new PackedBinaryFieldArithmetic(65, 18, 0);
+    final BigInteger top = BigInteger.ONE.shiftLeft(64);
+
+    assertEquals(2, arithmetic.getWordCount());
+    assertArrayEquals(new long[] {0L, 1L}, arithmetic.toWords(top));
+    assertArrayEquals(new long[] {-1L, 0L}, arithmetic.toWords(top.subtract(BigInteger.ONE)));
+    assertEquals(top.subtract(BigInteger.ONE), arithmetic.toBigInteger(new long[] {-1L, 0L}));
+    assertTrue(arithmetic.isElement(top.shiftLeft(1).subtract(BigInteger.ONE)));
+    assertFalse(arithmetic.isElement(top.shiftLeft(1)));
+    assertFalse(arithmetic.isElement(BigInteger.ONE.negate()));
+    assertFalse(arithmetic.isElement(new long[] {0L, 2L}));
+    assertFalse(arithmetic.isElement(new long[] {0L}));
+    assertTrue(arithmetic.isZero(arithmetic.zero()));
+    assertFalse(arithmetic.isZero(arithmetic.one()));
+    assertArrayEquals(new int[] {65, 18, 0}, arithmetic.getExponents());
+  }
+
+  @Test
+  void rejectsInvalidModuli() {
+    // x^2 + 1 = (x + 1)^2, x^4 + x^2 + 1 = (x^2 + x + 1)^2, and x^64 + x^4 + x^3 + 1 has the root 1.
+    assertThrows(IllegalArgumentException.class, () -> new PackedBinaryFieldArithmetic(2, 0));
+    assertThrows(IllegalArgumentException.class, () -> new PackedBinaryFieldArithmetic(4, 2, 0));
+    assertThrows(IllegalArgumentException.class, () -> new PackedBinaryFieldArithmetic(64, 4, 3, 0));
+    assertThrows(IllegalArgumentException.class, () -> new PackedBinaryFieldArithmetic(1, 0));
+    assertThrows(IllegalArgumentException.class, () -> new PackedBinaryFieldArithmetic(3, 1));
+    assertThrows(IllegalArgumentException.class, () -> new PackedBinaryFieldArithmetic(3, 1, 1, 0));
+    assertThrows(IllegalArgumentException.class, () -> new PackedBinaryFieldArithmetic(3));
+    assertThrows(IllegalArgumentException.class, () -> new PackedBinaryFieldArithmetic((int[])null));
+    assertThrows(ArithmeticException.class, () -> new PackedBinaryFieldArithmetic(3, 1, 0).inverse(new long[1]));
+  }
+
+}
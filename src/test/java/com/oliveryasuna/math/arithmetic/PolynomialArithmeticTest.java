@@ -0,0 +1,236 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialArithmeticTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * Pairs of factor lengths around the thresholds of the methods, balanced and unbalanced.
+   */
+  private static final int[][] LENGTHS = {
+      {0, 0}, {0, 5}, {1, 1}, {1, 2}, {2, 2}, {3, 1},
+      {32, 32}, {33, 33}, {33, 200}, {127, 127}, {128, 128}, {129, 300}, {255, 255}, {256, 256}, {300, 400}, {1, 300}
+  };
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Moduli below, at and above \(2^{63}\), Mersenne primes, and random moduli of several sizes, both odd and even.
+   */
+  private static List<BigInteger> moduli() {
+    final Random random = new Random(206L);
+    final List<BigInteger> moduli = new ArrayList<>();
+
+    for(final long n : new long[] {1L, 2L, 3L, 998_244_353L, Long.MAX_VALUE}) {
+      moduli.add(BigInteger.valueOf(n));
+    }
+
+    moduli.add(BigInteger.ONE.shiftLeft(63));
+    moduli.add(BigInteger.ONE.shiftLeft(64).add(BigInteger.valueOf(13L)));
+    moduli.add(BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE));
+
+    for(final int bits : new int[] {200, 1000}) {
+      moduli.add(new BigInteger(bits, random).setBit(bits - 1).setBit(0));
+      moduli.add(new BigInteger(bits, random).setBit(bits - 1).clearBit(0));
+    }
+
+    return moduli;
+  }
+
+  static BigInteger[] randomPolynomial(final Random random, final int length, final BigInteger n) {
+    final BigInteger[] coefficients = new BigInteger[length];
+
+    for(int i = 0; i < length; i++) {
+      coefficients[i] = new BigInteger(n.bitLength() + 8, random).mod(n);
+    }
+
+    return PolynomialArithmetic.trim(coefficients);
+  }
+
+  /**
+   * The product by the schoolbook method over the integers, reduced at the end.
+   */
+  static BigInteger[] referenceProduct(final BigInteger[] a, final BigInteger[] b, final BigInteger n) {
+    if(a.length == 0 || b.length == 0) return new BigInteger[0];
+
+    final BigInteger[] product = new BigInteger[a.length + b.length - 1];
+
+    Arrays.fill(product, BigInteger.ZERO);
+
+    for(int i = 0; i < a.length; i++) {
+      for(int j = 0; j < b.length; j++) {
+        product[i + j] = product[i + j].add(a[i].multiply(b[j]));
+      }
+    }
+
+    for(int i = 0; i < product.length; i++) {
+      product[i] = product[i].mod(n);
+    }
+
+    return PolynomialArithmetic.trim(product);
+  }
+
+  private static void assertProducts(final PolynomialArithmetic arithmetic, final BigInteger[] a, final BigInteger[] b) {
+    final BigInteger[] expected = referenceProduct(a, b, arithmetic.getN());
+    final String message = "mod " + arithmetic.getN() + ", lengths " + a.length + " and " + b.length;
+
+    assertArrayEquals(expected, arithmetic.multiply(a, b), message);
+    assertArrayEquals(expected, arithmetic.multiply(b, a), message);
+    assertArrayEquals(expected, arithmetic.multiply(a, b, ForkJoinPool.commonPool()), message);
+
+    for(final PolynomialMultiplication method : PolynomialMultiplication.values()) {
+      assertArrayEquals(expected, arithmetic.multiply(a, b, method), message + ", " + method);
+    }
+
+    assertTrue(arithmetic.isPolynomial(arithmetic.multiply(a, b)), message);
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void productsMatchTheSchoolbookReference() {
+    final Random random = new Random(207L);
+
+    for(final BigInteger n : moduli()) {
+      final PolynomialArithmetic arithmetic = new PolynomialArithmetic(n);
+
+      for(final int[] lengths : LENGTHS) {
+        assertProducts(arithmetic, randomPolynomial(random, lengths[0], n), randomPolynomial(random, lengths[1], n));
+      }
+    }
+  }
+
+  @Test
+  void squaresMatchTheSchoolbookReference() {
+    final Random random = new Random(208L);
+
+    for(final BigInteger n : moduli()) {
+      final PolynomialArithmetic arithmetic = new PolynomialArithmetic(n);
+      final BigInteger[] a = randomPolynomial(random, 150, n);
+
+      assertProducts(arithmetic, a, a);
+    }
+  }
+
+  @Test
+  void largestCoefficientsNeedEveryPrime() {
+    // Every coefficient n - 1 makes the convolution reach its bound min(l, m) (n - 1)^2.
+    for(final BigInteger n : moduli()) {
+      final PolynomialArithmetic arithmetic = new PolynomialArithmetic(n);
+      final BigInteger[] a = new BigInteger[300];
+      final BigInteger[] b = new BigInteger[257];
+
+      Arrays.fill(a, n.subtract(BigInteger.ONE));
+      Arrays.fill(b, n.subtract(BigInteger.ONE));
+
+      assertProducts(arithmetic, PolynomialArithmetic.trim(a), PolynomialArithmetic.trim(b));
+    }
+  }
+
+  @Test
+  void zeroDivisorsShortenTheProduct() {
+    // 2 x * 2 x = 4 x^2 = 0 mod 4.
+    final PolynomialArithmetic arithmetic = new PolynomialArithmetic(BigInteger.valueOf(4L));
+    final BigInteger[] twoX = {BigInteger.ZERO, BigInteger.TWO};
+
+    assertArrayEquals(new BigInteger[0], arithmetic.multiply(twoX, twoX));
+  }
+
+  @Test
+  void additiveOperationsMatchBigInteger() {
+    final Random random = new Random(209L);
+
+    for(final BigInteger n : moduli()) {
+      final PolynomialArithmetic arithmetic = new PolynomialArithmetic(n);
+
+      for(final int[] lengths : LENGTHS) {
+        final BigInteger[] a = randomPolynomial(random, lengths[0], n);
+        final BigInteger[] b = randomPolynomial(random, lengths[1], n);
+        final BigInteger scalar = new BigInteger(n.bitLength() + 8, random).mod(n);
+        final BigInteger[] sum = new BigInteger[Math.max(a.length, b.length)];
+        final BigInteger[] difference = new BigInteger[sum.length];
+        final BigInteger[] negation = new BigInteger[a.length];
+        final BigInteger[] scaled = new BigInteger[a.length];
+
+        for(int i = 0; i < sum.length; i++) {
+          final BigInteger x = (i < a.length ? a[i] : BigInteger.ZERO);
+          final BigInteger y = (i < b.length ? b[i] : BigInteger.ZERO);
+
+          sum[i] = x.add(y).mod(n);
+          difference[i] = x.subtract(y).mod(n);
+        }
+
+        for(int i = 0; i < a.length; i++) {
+          negation[i] = a[i].negate().mod(n);
+          scaled[i] = a[i].multiply(scalar).mod(n);
+        }
+
+        assertArrayEquals(PolynomialArithmetic.trim(sum), arithmetic.add(a, b));
+        assertArrayEquals(PolynomialArithmetic.trim(difference), arithmetic.subtract(a, b));
+        assertArrayEquals(negation, arithmetic.negate(a));
+        assertArrayEquals(PolynomialArithmetic.trim(scaled), arithmetic.scale(a, scalar));
+        assertArrayEquals(new BigInteger[0], arithmetic.subtract(a, a));
+        assertArrayEquals(new BigInteger[0], arithmetic.add(a, arithmetic.negate(a)));
+      }
+    }
+  }
+
+  @Test
+  void identitiesAndPredicates() {
+    final PolynomialArithmetic trivial = new PolynomialArithmetic(BigInteger.ONE);
+    final PolynomialArithmetic arithmetic = new PolynomialArithmetic(BigInteger.ONE.shiftLeft(64));
+
+    assertArrayEquals(new BigInteger[0], trivial.one());
+    assertArrayEquals(new BigInteger[] {BigInteger.ONE}, arithmetic.one());
+    assertArrayEquals(new BigInteger[0], arithmetic.zero());
+
+    assertTrue(arithmetic.isPolynomial(new BigInteger[0]));
+    assertTrue(arithmetic.isPolynomial(new BigInteger[] {BigInteger.ZERO, BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE)}));
+    assertFalse(arithmetic.isPolynomial(new BigInteger[] {BigInteger.ONE, BigInteger.ZERO}));
+    assertFalse(arithmetic.isPolynomial(new BigInteger[] {BigInteger.ONE.shiftLeft(64)}));
+    assertFalse(arithmetic.isPolynomial(new BigInteger[] {BigInteger.valueOf(-1L)}));
+
+    assertEquals(-1, PolynomialArithmetic.degree(new BigInteger[0]));
+    assertEquals(3, PolynomialArithmetic.trim(new BigInteger[] {BigInteger.ONE, BigInteger.ZERO, BigInteger.TEN, BigInteger.ZERO}).length);
+  }
+
+  @Test
+  void rejectsNonPositiveModuli() {
+    assertThrows(IllegalArgumentException.class, () -> new PolynomialArithmetic(BigInteger.ZERO));
+    assertThrows(IllegalArgumentException.class, () -> new PolynomialArithmetic(BigInteger.valueOf(-5L)));
+    assertThrows(IllegalArgumentException.class, () -> new PolynomialArithmetic(null));
+  }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimalityTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * Carmichael numbers and strong pseudoprimes to one or more of the small bases.
+   */
+  private static final long[] PSEUDOPRIMES = {
+      561L, 1105L, 1729L, 2047L, 1_373_653L, 25_326_001L, 3_215_031_751L, 2_152_302_898_747L, 3_474_749_660_383L, 341_550_071_728_321L,
+      3_825_123_056_546_413_051L
+  };
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void smallNumbersMatchTrialDivision() {
+    for(long n = -10L; n < 20_000L; n++) {
+      boolean prime = (n >= 2);
+
+      for(long d = 2L; d * d <= n && prime; d++) {
+        prime = (n % d != 0);
+      }
+
+      assertEquals(prime, Primality.isPrime(n), "n = " + n);
+      assertEquals(prime, Primality.isPrime(BigInteger.valueOf(n)), "n = " + n);
+    }
+  }
+
+  @Test
+  void longsMatchBigInteger() {
+    final Random random = new Random(221L);
+
+    for(int i = 0; i < 20_000; i++) {
+      // Odd numbers of every size, so that primes are not too rare.
+      final long n = ((random.nextLong() >>> (1 + random.nextInt(Long.SIZE - 1))) | 1L);
+
+      assertEquals(BigInteger.valueOf(n).isProbablePrime(100), Primality.isPrime(n), "n = " + n);
+    }
+  }
+
+  @Test
+  void pseudoprimesAreComposite() {
+    for(final long n : PSEUDOPRIMES) {
+      assertFalse(Primality.isPrime(n), "n = " + n);
+      assertFalse(Primality.isPrime(BigInteger.valueOf(n)), "n = " + n);
+    }
+
+    // A product of two primes near 2^32, with no small factor.
+    assertFalse(Primality.isPrime(4_294_967_291L * 4_294_967_279L));
+  }
+
+  @Test
+  void largeNumbers() {
+    final BigInteger mersenne127 = BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE);
+
+    assertTrue(Primality.isPrime((1L << 61) - 1));
+    assertTrue(Primality.isPrime(9_223_372_036_854_775_783L));
+    assertFalse(Primality.isPrime(Long.MAX_VALUE));
+    assertTrue(Primality.isPrime(mersenne127));
+    assertTrue(Primality.isPrime(BigInteger.ONE.shiftLeft(64).add(BigInteger.valueOf(13L))));
+    assertFalse(Primality.isPrime(BigInteger.ONE.shiftLeft(64)));
+    assertFalse(Primality.isPrime(mersenne127.multiply(mersenne127)));
+    assertFalse(Primality.isPrime(mersenne127.multiply(BigInteger.valueOf(251L))));
+    assertFalse(Primality.isPrime(BigInteger.ONE.shiftLeft(64).negate()));
+    assertThrows(IllegalArgumentException.class, () -> Primality.isPrime(null));
+  }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.arithmetic;
+
+import com.oliveryasuna.math.algebra.ring.concrete.integers.IntegersModuloNRing;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.IntegersModuloNRingElement;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingMatrixArithmeticTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int[] SIZES = {0, 1, 2, 3, 7, 17, 65, 70};
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static Object[] randomMatrix(final Random random, final IntegersModuloNRing ring, final int size) {
+    final Object[] matrix = new Object[size * size];
+
+    for(int i = 0; i < matrix.length; i++) {
+      matrix[i] = ring.getElement(new BigInteger(ring.getN().bitLength() + 8, random).mod(ring.getN()));
+    }
+
+    return matrix;
+  }
+
+  private static BigInteger[] values(final Object[] matrix) {
+    final BigInteger[] values = new BigInteger[matrix.length];
+
+    for(int i = 0; i < matrix.length; i++) {
+      values[i] = ((IntegersModuloNRingElement)matrix[i]).getValue();
+    }
+
+    return values;
+  }
+
+  private static RingMatrixArithmetic<IntegersModuloNRingElement> arithmetic(final IntegersModuloNRing ring, final int threshold) {
+    return new RingMatrixArithmetic<>(ring.operation1(), ring.operation2(), threshold);
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void productsMatchTheDefinition() {
+    final Random random = new Random(218L);
+
+    for(final BigInteger n : new BigInteger[] {BigInteger.ONE, BigInteger.TWO, BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE)}) {
+      final IntegersModuloNRing ring = new IntegersModuloNRing(n);
+
+      for(final int size : SIZES) {
+        final Object[] a = randomMatrix(random, ring, size);
+        final Object[] b = randomMatrix(random, ring, size);
+        final BigInteger[] expected = LongMatrixArithmeticTest.referenceProduct(values(a), values(b), size, n);
+
+        for(final int threshold : new int[] {2, 5, MatrixArithmetic.DEFAULT_STRASSEN_THRESHOLD}) {
+          if(threshold == 2 && size > LongMatrixArithmeticTest.FULL_RECURSION_LIMIT) continue;
+
+          final RingMatrixArithmetic<IntegersModuloNRingElement> arithmetic = arithmetic(ring, threshold);
+          final String message = "mod " + n + ", threshold " + threshold + ", size " + size;
+
+          assertArrayEquals(expected, values(arithmetic.multiply(a, b, size)), message);
+          assertArrayEquals(expected, values(arithmetic.multiply(a, b, size, ForkJoinPool.commonPool())), message);
+        }
+      }
+    }
+  }
+
+  @Test
+  void entryWiseOperationsMatchBigInteger() {
+    final Random random = new Random(219L);
+    final BigInteger n = BigInteger.ONE.shiftLeft(64).add(BigInteger.valueOf(13L));
+    final IntegersModuloNRing ring = new IntegersModuloNRing(n);
+    final RingMatrixArithmetic<IntegersModuloNRingElement> arithmetic = arithmetic(ring, 2);
+    final int size = 4;
+    final Object[] a = randomMatrix(random, ring, size);
+    final Object[] b = randomMatrix(random, ring, size);
+    final BigInteger[] sum = values(arithmetic.add(a, b, size));
+    final BigInteger[] difference = values(arithmetic.subtract(a, b, size));
+    final BigInteger[] negation = values(arithmetic.negate(a, size));
+
+    for(int i = 0; i < a.length; i++) {
+      final BigInteger x = values(a)[i];
+      final BigInteger y = values(b)[i];
+
+      assertEquals(x.add(y).mod(n), sum[i]);
+      assertEquals(x.subtract(y).mod(n), difference[i]);
+      assertEquals(x.negate().mod(n), negation[i]);
+    }
+
+    assertArrayEquals(values(a), values(arithmetic.multiply(a, arithmetic.identity(size), size)));
+    assertArrayEquals(values(arithmetic.zero(size)), values(arithmetic.multiply(arithmetic.zero(size), b, size)));
+  }
+
+}
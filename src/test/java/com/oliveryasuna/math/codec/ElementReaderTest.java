@@ -0,0 +1,331 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.codec;
+
+import com.oliveryasuna.math.algebra.group.concrete.integers.IntegersModuloNAdditiveGroup;
+import com.oliveryasuna.math.algebra.group.concrete.integers.IntegersModuloNAdditiveGroupElement;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.IntegersRing;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.IntegersRingElement;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRing;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRingElement;
+import com.oliveryasuna.math.algebra.ring.concrete.integers.LongIntegersModuloNRingVector;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ElementReaderTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final IntegersRingCodec RING_CODEC = new IntegersRingCodec();
+
+  private static final IntegersRing RING = new IntegersRing(BigInteger.ONE);
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static byte[] written(final IntegersRingElement... elements) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    try(final ElementWriter<IntegersRing, IntegersRingElement> writer = new ElementWriter<>(Channels.newChannel(bytes), RING_CODEC, RING, 1)) {
+      writer.writeAll(elements);
+    }
+
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Reads one byte at a time, so that every element and length straddles reads.
+   */
+  private static ReadableByteChannel trickle(final byte[] bytes) {
+    final ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(bytes));
+
+    return new ReadableByteChannel() {
+      @Override
+      public int read(final ByteBuffer destination) throws IOException {
+        if(!destination.hasRemaining()) return 0;
+
+        final ByteBuffer one = ByteBuffer.allocate(1);
+        final int count = channel.read(one);
+
+        if(count > 0) destination.put(one.flip());
+
+        return count;
+      }
+
+      @Override
+      public boolean isOpen() {
+        return channel.isOpen();
+      }
+
+      @Override
+      public void close() throws IOException {
+        channel.close();
+      }
+    };
+  }
+
+  /**
+   * A header for the ring codec whose name length is given as raw bytes.
+   */
+  private static byte[] headerWithNameLength(final int... lengthBytes) {
+    final ByteBuffer header = ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN).putInt(ElementStreams.MAGIC).put(ElementStreams.FORMAT_VERSION);
+
+    for(final int b : lengthBytes) header.put((byte)b);
+
+    return Arrays.copyOf(header.array(), header.position());
+  }
+
+  private static ElementReader<IntegersRing, IntegersRingElement> reader(final byte[] bytes) throws IOException {
+    return new ElementReader<>(Channels.newChannel(new ByteArrayInputStream(bytes)), RING_CODEC);
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void variableWidthElementsRoundTrip() throws IOException {
+    final Random random = new Random(203L);
+    final IntegersRingElement[] elements = new IntegersRingElement[2_000];
+
+    for(int i = 0; i < elements.length; i++) {
+      elements[i] = RING.getElement(new BigInteger(random.nextInt(400), random).subtract(BigInteger.ONE.shiftLeft(200)));
+    }
+
+    final byte[] bytes = written(elements);
+
+    for(final ReadableByteChannel channel : new ReadableByteChannel[] {Channels.newChannel(new ByteArrayInputStream(bytes)), trickle(bytes)}) {
+      try(final ElementReader<IntegersRing, IntegersRingElement> reader = new ElementReader<>(channel, RING_CODEC)) {
+        final IntegersRingElement[] read = new IntegersRingElement[elements.length + 1];
+
+        assertEquals(RING.generator().getValue(), reader.getStructure().generator().getValue());
+        assertEquals(elements.length, reader.readAll(read));
+        assertEquals(elements.length, reader.getElementCount());
+        assertFalse(reader.hasNext());
+        assertThrows(NoSuchElementException.class, reader::read);
+
+        for(int i = 0; i < elements.length; i++) {
+          assertEquals(elements[i].getValue(), read[i].getValue());
+        }
+      }
+    }
+  }
+
+  @Test
+  void emptyStreams() throws IOException {
+    try(final ElementReader<IntegersRing, IntegersRingElement> reader = reader(written())) {
+      assertFalse(reader.hasNext());
+      assertEquals(0, reader.readAll(new IntegersRingElement[4]));
+    }
+  }
+
+  @Test
+  void fixedWidthElementsRoundTrip() throws IOException {
+    final Random random = new Random(204L);
+    final BigInteger n = BigInteger.ONE.shiftLeft(130).subtract(BigInteger.valueOf(5L));
+    final IntegersModuloNAdditiveGroup group = new IntegersModuloNAdditiveGroup(n);
+    final IntegersModuloNAdditiveGroupCodec codec = new IntegersModuloNAdditiveGroupCodec();
+    final IntegersModuloNAdditiveGroupElement[] elements = new IntegersModuloNAdditiveGroupElement[500];
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    for(int i = 0; i < elements.length; i++) {
+      elements[i] = group.getElement(i == 0 ? n.subtract(BigInteger.ONE) : new BigInteger(130, random).mod(n));
+    }
+
+    try(final ElementWriter<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> writer = new ElementWriter<>(
+        Channels.newChannel(bytes), codec, group)) {
+      writer.writeAll(elements);
+    }
+
+    try(final ElementReader<IntegersModuloNAdditiveGroup, IntegersModuloNAdditiveGroupElement> reader = new ElementReader<>(
+        trickle(bytes.toByteArray()), codec, group)) {
+      for(final IntegersModuloNAdditiveGroupElement element : elements) {
+        assertEquals(element, reader.read());
+      }
+
+      assertFalse(reader.hasNext());
+    }
+  }
+
+  @Test
+  void vectorsAreReadIntoTheirStorage() throws IOException {
+    final LongIntegersModuloNRing ring = new LongIntegersModuloNRing((1L << 61) - 1);
+    final LongIntegersModuloNRingCodec codec = new LongIntegersModuloNRingCodec();
+    final LongIntegersModuloNRingVector<LongIntegersModuloNRing, LongIntegersModuloNRingElement> source = new LongIntegersModuloNRingVector<>(ring,
+        300);
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final Random random = new Random(205L);
+
+    for(int i = 0; i < source.size(); i++) source.setValue(i, Math.floorMod(random.nextLong(), ring.getN()));
+
+    try(final ElementWriter<LongIntegersModuloNRing, LongIntegersModuloNRingElement> writer = new ElementWriter<>(Channels.newChannel(bytes), codec,
+        ring)) {
+      writer.write(source, 0, source.size());
+    }
+
+    final LongIntegersModuloNRingVector<LongIntegersModuloNRing, LongIntegersModuloNRingElement> target = new LongIntegersModuloNRingVector<>(ring,
+        400);
+
+    try(final ElementReader<LongIntegersModuloNRing, LongIntegersModuloNRingElement> reader = new ElementReader<>(trickle(bytes.toByteArray()), codec,
+        ring)) {
+      assertEquals(source.size(), reader.readInto(target, 50, 350));
+      assertEquals(source.size(), reader.getElementCount());
+    }
+
+    for(int i = 0; i < source.size(); i++) assertEquals(source.getValue(i), target.getValue(50 + i));
+
+    // A truncated stream ends within an element.
+    final byte[] truncated = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 3);
+
+    try(final ElementReader<LongIntegersModuloNRing, LongIntegersModuloNRingElement> reader = new ElementReader<>(
+        Channels.newChannel(new ByteArrayInputStream(truncated)), codec, ring)) {
+      assertThrows(EOFException.class, () -> reader.readInto(target, 0, 300));
+    }
+  }
+
+  @Test
+  void rejectsNegativeAndOverflowedLengths() {
+    // 2^63, which reads as a negative long.
+    assertThrows(StreamCorruptedException.class, () -> reader(headerWithNameLength(0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x01)));
+    // 2^64 - 1.
+    assertThrows(StreamCorruptedException.class, () -> reader(headerWithNameLength(0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0x01)));
+    // More than 64 bits.
+    assertThrows(StreamCorruptedException.class, () -> reader(headerWithNameLength(0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0x7F)));
+    // Longer than any name.
+    assertThrows(StreamCorruptedException.class, () -> reader(headerWithNameLength(0x81, 0x10)));
+    assertThrows(EOFException.class, () -> reader(headerWithNameLength(0x80)));
+    assertThrows(EOFException.class, () -> reader(headerWithNameLength(0x05)));
+  }
+
+  @Test
+  void rejectsOversizedElements() throws IOException {
+    final byte[] header = written();
+    final ReadableByteChannel channel = new ReadableByteChannel() {
+      private int headerRead;
+
+      // The header, then varint continuation bytes without end.
+      @Override
+      public int read(final ByteBuffer destination) {
+        final int count = destination.remaining();
+
+        while(destination.hasRemaining()) {
+          destination.put(headerRead < header.length ? header[headerRead++] : (byte)0x80);
+        }
+
+        return count;
+      }
+
+      @Override
+      public boolean isOpen() {
+        return true;
+      }
+
+      @Override
+      public void close() {
+        // Nothing to close.
+      }
+    };
+
+    try(final ElementReader<IntegersRing, IntegersRingElement> reader = new ElementReader<>(channel, RING_CODEC)) {
+      assertThrows(StreamCorruptedException.class, reader::read);
+    }
+  }
+
+  @Test
+  void rejectsInvalidHeaders() throws IOException {
+    final byte[] valid = written(RING.getElement(BigInteger.TEN));
+    final byte[] badMagic = valid.clone();
+    final byte[] badVersion = valid.clone();
+
+    badMagic[0] ^= 1;
+    badVersion[Integer.BYTES] = 2;
+
+    assertThrows(StreamCorruptedException.class, () -> reader(badMagic));
+    assertThrows(StreamCorruptedException.class, () -> reader(badVersion));
+    assertThrows(EOFException.class, () -> reader(new byte[2]));
+    assertThrows(StreamCorruptedException.class, () -> new ElementReader<>(Channels.newChannel(new ByteArrayInputStream(valid)), RING_CODEC,
+        new IntegersRing(BigInteger.TWO)));
+
+    final byte[] otherName = valid.clone();
+    final int nameStart = Integer.BYTES + 2;
+
+    assertEquals(RING_CODEC.getName(), new String(valid, nameStart, RING_CODEC.getName().length(), StandardCharsets.UTF_8));
+    otherName[nameStart] = 'X';
+    assertThrows(StreamCorruptedException.class, () -> reader(otherName));
+
+    // Truncated within the element.
+    try(final ElementReader<IntegersRing, IntegersRingElement> reader = reader(Arrays.copyOf(written(RING.getElement(BigInteger.ONE.shiftLeft(100))),
+        valid.length))) {
+      assertThrows(EOFException.class, reader::read);
+    }
+  }
+
+  @Test
+  void rejectsNonBlockingChannels() throws IOException {
+    final Pipe pipe = Pipe.open();
+
+    try {
+      pipe.source().configureBlocking(false);
+      pipe.sink().configureBlocking(false);
+
+      assertThrows(IllegalArgumentException.class, () -> new ElementReader<>(pipe.source(), RING_CODEC));
+      assertThrows(IllegalArgumentException.class, () -> new ElementWriter<>(pipe.sink(), RING_CODEC, RING));
+    } finally {
+      pipe.source().close();
+      pipe.sink().close();
+    }
+
+    // A channel that reads nothing fails rather than being retried.
+    final ReadableByteChannel empty = new ReadableByteChannel() {
+      @Override
+      public int read(final ByteBuffer destination) {
+        return 0;
+      }
+
+      @Override
+      public boolean isOpen() {
+        return true;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+
+    assertThrows(IOException.class, () -> new ElementReader<>(empty, RING_CODEC));
+  }
+
+}
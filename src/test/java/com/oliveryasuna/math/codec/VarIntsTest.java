@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VarIntsTest {
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static ByteBuffer bytes(final int... bytes) {
+    final ByteBuffer buffer = ByteBuffer.allocate(bytes.length);
+
+    for(final int b : bytes) buffer.put((byte)b);
+
+    return buffer.flip();
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void longsRoundTrip() {
+    final Random random = new Random(201L);
+    final ByteBuffer buffer = ByteBuffer.allocate(16);
+
+    for(int i = 0; i < 10_000; i++) {
+      final long value = (i < 6 ? new long[] {0L, -1L, 1L, Long.MIN_VALUE, Long.MAX_VALUE, 63L}[i] : random.nextLong() >> random.nextInt(64));
+
+      VarInts.writeSigned(buffer.clear(), value);
+      assertEquals(value, VarInts.readSigned(buffer.flip()));
+      assertFalse(buffer.hasRemaining());
+
+      VarInts.writeUnsigned(buffer.clear(), value);
+      assertEquals(value, VarInts.readUnsigned(buffer.flip()));
+    }
+  }
+
+  @Test
+  void bigIntegersRoundTrip() {
+    final Random random = new Random(202L);
+
+    for(int i = 0; i < 2_000; i++) {
+      final BigInteger magnitude = new BigInteger(random.nextInt(300), random);
+      final BigInteger value = (random.nextBoolean() ? magnitude : magnitude.negate());
+      final ByteBuffer buffer = ByteBuffer.allocate(VarInts.maximumBytes(value));
+
+      VarInts.writeSigned(buffer, value);
+      assertEquals(value, VarInts.readSignedBigInteger(buffer.flip()), value.toString());
+      assertFalse(buffer.hasRemaining());
+    }
+  }
+
+  @Test
+  void smallMagnitudesTakeOneByte() {
+    final ByteBuffer buffer = ByteBuffer.allocate(16);
+
+    VarInts.writeSigned(buffer, -64L);
+    assertEquals(1, buffer.position());
+
+    VarInts.writeSigned(buffer.clear(), BigInteger.valueOf(63L));
+    assertEquals(1, buffer.position());
+  }
+
+  @Test
+  void rejectsOverflowAndTruncation() {
+    // 2^63, which fits in ten bytes but not in a long as signed.
+    assertEquals(Long.MIN_VALUE, VarInts.readUnsigned(bytes(0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x01)));
+    assertThrows(IllegalArgumentException.class, () -> VarInts.readUnsigned(bytes(0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x02)));
+    assertThrows(IllegalArgumentException.class, () -> VarInts.readUnsigned(bytes(0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0x01)));
+    assertThrows(BufferUnderflowException.class, () -> VarInts.readUnsigned(bytes(0x80, 0x80)));
+    assertThrows(BufferUnderflowException.class, () -> VarInts.readSignedBigInteger(bytes(0x80, 0x80)));
+    assertThrows(BufferUnderflowException.class, () -> VarInts.readUnsigned(bytes()));
+  }
+
+}
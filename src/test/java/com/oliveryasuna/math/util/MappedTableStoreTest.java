@@ -0,0 +1,189 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedTableStoreTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final String KIND = "test";
+
+  private static final MappedTableStore.Key KEY = MappedTableStore.Key.of("modulus", BigInteger.valueOf(97L), 3);
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static Consumer<ByteBuffer> counting(final AtomicInteger builds, final long first) {
+    return buffer -> {
+      builds.incrementAndGet();
+      buffer.putLong(first).putLong(~first);
+    };
+  }
+
+  private static void delete(final Path directory) throws IOException {
+    try(final Stream<Path> files = Files.walk(directory)) {
+      for(final Path file : (Iterable<Path>)files.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void tablesAreBuiltOnceAndMappedAfterward() throws IOException {
+    final Path directory = Files.createTempDirectory("tables");
+
+    try {
+      final AtomicInteger builds = new AtomicInteger();
+
+      assertTrue(new MappedTableStore(directory).find(KIND, 1, KEY).isEmpty());
+
+      final ByteBuffer built = new MappedTableStore(directory).computeIfAbsent(KIND, 1, KEY, 16L, counting(builds, 42L));
+      final ByteBuffer mapped = new MappedTableStore(directory).computeIfAbsent(KIND, 1, KEY, 16L, counting(builds, 43L));
+
+      assertEquals(1, builds.get());
+      assertEquals(ByteOrder.LITTLE_ENDIAN, mapped.order());
+      assertTrue(mapped.isReadOnly());
+      assertEquals(16, mapped.remaining());
+      assertEquals(42L, mapped.getLong(0));
+      assertEquals(~42L, mapped.getLong(8));
+      assertEquals(built, mapped);
+      assertEquals(directory, new MappedTableStore(directory).path(KIND, KEY).getParent());
+      assertTrue(Files.exists(new MappedTableStore(directory).path(KIND, KEY)));
+    } finally {
+      delete(directory);
+    }
+  }
+
+  @Test
+  void mismatchedHeadersAreTreatedAsAbsent() throws IOException {
+    final Path directory = Files.createTempDirectory("tables");
+
+    try {
+      final MappedTableStore store = new MappedTableStore(directory);
+      final AtomicInteger builds = new AtomicInteger();
+
+      store.computeIfAbsent(KIND, 1, KEY, 16L, counting(builds, 42L));
+
+      assertTrue(store.find(KIND, 2, KEY).isEmpty());
+      assertTrue(store.find("other", 1, KEY).isEmpty());
+      assertTrue(store.find(KIND, 1, KEY.append(1)).isEmpty());
+
+      // A newer version replaces the table.
+      assertEquals(43L, store.computeIfAbsent(KIND, 2, KEY, 16L, counting(builds, 43L)).getLong(0));
+      assertEquals(2, builds.get());
+      assertTrue(store.find(KIND, 1, KEY).isEmpty());
+    } finally {
+      delete(directory);
+    }
+  }
+
+  @Test
+  void truncatedTablesAreRebuilt() throws IOException {
+    final Path directory = Files.createTempDirectory("tables");
+
+    try {
+      final MappedTableStore store = new MappedTableStore(directory);
+      final AtomicInteger builds = new AtomicInteger();
+
+      store.computeIfAbsent(KIND, 1, KEY, 16L, counting(builds, 42L));
+
+      final Path path = store.path(KIND, KEY);
+      final byte[] bytes = Files.readAllBytes(path);
+
+      Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+      assertTrue(store.find(KIND, 1, KEY).isEmpty());
+
+      Files.write(path, Arrays.copyOf(bytes, 8));
+      assertTrue(store.find(KIND, 1, KEY).isEmpty());
+      assertEquals(44L, store.computeIfAbsent(KIND, 1, KEY, 16L, counting(builds, 44L)).getLong(0));
+      assertEquals(2, builds.get());
+    } finally {
+      delete(directory);
+    }
+  }
+
+  @Test
+  void emptyPayloads() throws IOException {
+    final Path directory = Files.createTempDirectory("tables");
+
+    try {
+      final MappedTableStore store = new MappedTableStore(directory);
+
+      assertEquals(0, store.computeIfAbsent(KIND, 1, KEY, 0L, buffer -> {}).remaining());
+      assertEquals(0, store.find(KIND, 1, KEY).orElseThrow().remaining());
+    } finally {
+      delete(directory);
+    }
+  }
+
+  @Test
+  void keysAreCanonical() {
+    assertEquals(MappedTableStore.Key.of("a", 1), MappedTableStore.Key.of("a", 1L));
+    assertEquals(MappedTableStore.Key.of("a", 1).hashCode(), MappedTableStore.Key.of("a", 1L).hashCode());
+    assertEquals(MappedTableStore.Key.of("a").append(BigInteger.TEN), MappedTableStore.Key.of("a").append(BigInteger.TEN));
+    assertNotEquals(MappedTableStore.Key.of("a", 1), MappedTableStore.Key.of("a", BigInteger.ONE));
+    assertNotEquals(MappedTableStore.Key.of("ab"), MappedTableStore.Key.of("a", "b"));
+    assertEquals(MappedTableStore.Key.of("a", "b"), MappedTableStore.Key.of("a").append("b"));
+    assertEquals(MappedTableStore.Key.of("a", 1, BigInteger.TEN, new byte[] {2}), MappedTableStore.Key.of("a").append(1).append(BigInteger.TEN,
+        new byte[] {2}));
+    assertEquals(MappedTableStore.Key.of("a"), MappedTableStore.Key.of("a").append());
+    assertNotEquals(MappedTableStore.Key.of("a", "b"), MappedTableStore.Key.of("b").append("a"));
+    assertNotEquals(MappedTableStore.Key.of(new byte[] {1}), MappedTableStore.Key.of(new byte[] {1, 0}));
+    assertNotEquals(MappedTableStore.Key.of(1), MappedTableStore.Key.of(2));
+  }
+
+  @Test
+  void rejectsInvalidArguments() throws IOException {
+    final Path directory = Files.createTempDirectory("tables");
+
+    try {
+      final MappedTableStore store = new MappedTableStore(directory);
+
+      assertThrows(IllegalArgumentException.class, () -> MappedTableStore.Key.of(1.5));
+      assertThrows(IllegalArgumentException.class, () -> store.path("a/b", KEY));
+      assertThrows(IllegalArgumentException.class, () -> store.path("", KEY));
+      assertThrows(IllegalArgumentException.class, () -> store.computeIfAbsent(KIND, 1, KEY, -1L, buffer -> {}));
+      assertThrows(IllegalArgumentException.class, () -> store.computeIfAbsent(KIND, 1, KEY, Integer.MAX_VALUE, buffer -> {}));
+      assertThrows(IllegalArgumentException.class, () -> new MappedTableStore(null));
+    } finally {
+      delete(directory);
+    }
+  }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapLongIntMultimapTest {
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  private static List<Integer> values(final OffHeapLongIntMultimap multimap, final long key) {
+    final List<Integer> values = new ArrayList<>();
+
+    multimap.forEach(key, value -> {
+      values.add(value);
+
+      return false;
+    });
+
+    values.sort(null);
+
+    return values;
+  }
+
+  private static Map<Long, List<Integer>> fill(final OffHeapLongIntMultimap multimap, final int entries, final Random random) {
+    final Map<Long, List<Integer>> expected = new HashMap<>();
+
+    for(int i = 0; i < entries; i++) {
+      // Few distinct keys, so that most keys have several values.
+      final long key = random.nextInt(entries / 4 + 1) * 0x9E3779B97F4A7C15L;
+
+      multimap.put(key, i);
+      expected.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+    }
+
+    return expected;
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void holdsEveryValueOfEveryKey() {
+    final Random random = new Random(131L);
+    final OffHeapLongIntMultimap multimap = new OffHeapLongIntMultimap(1000L);
+    final Map<Long, List<Integer>> expected = fill(multimap, 1000, random);
+
+    assertEquals(1000L, multimap.getSize());
+    assertEquals(2048L, multimap.getCapacity());
+    assertEquals(2048L * OffHeapLongIntMultimap.SLOT_BYTES, multimap.getSizeInBytes());
+
+    for(final Map.Entry<Long, List<Integer>> entry : expected.entrySet()) {
+      assertEquals(entry.getValue(), values(multimap, entry.getKey()));
+    }
+
+    assertEquals(List.of(), values(multimap, 12345L));
+  }
+
+  @Test
+  void forEachStopsAtTheAcceptedValue() {
+    final OffHeapLongIntMultimap multimap = new OffHeapLongIntMultimap(4L);
+
+    multimap.put(7L, 1);
+    multimap.put(7L, 2);
+    multimap.put(7L, 3);
+
+    assertTrue(multimap.forEach(7L, value -> value == 2));
+    assertFalse(multimap.forEach(7L, value -> value == 4));
+    assertFalse(multimap.forEach(8L, value -> true));
+  }
+
+  @Test
+  void zeroIsAValidKey() {
+    final OffHeapLongIntMultimap multimap = new OffHeapLongIntMultimap(1L);
+
+    multimap.put(0L, 42);
+
+    assertTrue(multimap.forEach(0L, value -> value == 42));
+  }
+
+  @Test
+  void buffersRoundTrip() {
+    final Random random = new Random(132L);
+    final ByteBuffer buffer = ByteBuffer.allocate((int)OffHeapLongIntMultimap.serializedSizeFor(300L));
+    final Map<Long, List<Integer>> expected = fill(OffHeapLongIntMultimap.create(300L, buffer), 300, random);
+    final OffHeapLongIntMultimap wrapped = OffHeapLongIntMultimap.wrap(buffer.asReadOnlyBuffer());
+
+    assertEquals(300L, wrapped.getSize());
+
+    for(final Map.Entry<Long, List<Integer>> entry : expected.entrySet()) {
+      assertEquals(entry.getValue(), values(wrapped, entry.getKey()));
+    }
+  }
+
+  @Test
+  void rejectsOverflowAndForeignBuffers() {
+    final OffHeapLongIntMultimap multimap = new OffHeapLongIntMultimap(0L);
+
+    for(int i = 0; i < multimap.getCapacity() - 1; i++) {
+      multimap.put(i, i);
+    }
+
+    assertThrows(IllegalStateException.class, () -> multimap.put(-1L, -1));
+    assertThrows(IllegalArgumentException.class, () -> OffHeapLongIntMultimap.wrap(ByteBuffer.allocate(64)));
+    assertThrows(IllegalArgumentException.class, () -> OffHeapLongIntMultimap.create(100L, ByteBuffer.allocate(64)));
+    assertThrows(IllegalArgumentException.class, () -> OffHeapLongIntMultimap.capacityFor(-1L));
+  }
+
+}
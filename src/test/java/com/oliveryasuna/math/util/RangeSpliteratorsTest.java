@@ -0,0 +1,170 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.math.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RangeSpliteratorsTest {
+
+  // Static utility methods
+  //--------------------------------------------------
+
+  /**
+   * Splits recursively down to single elements, then concatenates the pieces in encounter order.
+   */
+  private static <E> void collectSplit(final Spliterator<E> spliterator, final List<E> out) {
+    final Spliterator<E> prefix = spliterator.trySplit();
+
+    if(prefix == null) {
+      spliterator.forEachRemaining(out::add);
+
+      return;
+    }
+
+    collectSplit(prefix, out);
+    collectSplit(spliterator, out);
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  void longRangeEnumeratesInOrder() {
+    for(final long[] range : new long[][] {{0L, 0L}, {0L, 1L}, {0L, 2L}, {5L, 37L}, {-10L, 10L}}) {
+      final List<Long> expected = LongStream.range(range[0], range[1]).boxed().collect(Collectors.toList());
+      final Spliterator<Long> spliterator = RangeSpliterators.of(range[0], range[1], Long::valueOf);
+      final List<Long> split = new ArrayList<>();
+
+      assertEquals(range[1] - range[0], spliterator.estimateSize());
+      assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+
+      collectSplit(spliterator, split);
+
+      assertEquals(expected, split);
+      assertEquals(expected, StreamSupport.stream(RangeSpliterators.of(range[0], range[1], Long::valueOf), false).collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  void parallelStreamsSeeEveryIndexOnce() {
+    final long n = 100_000L;
+
+    assertEquals(n * (n - 1) / 2, StreamSupport.stream(RangeSpliterators.of(0L, n, Long::valueOf), true).mapToLong(Long::longValue).sum());
+    assertEquals(BigInteger.valueOf(n * (n - 1) / 2),
+        StreamSupport.stream(RangeSpliterators.of(BigInteger.ZERO, BigInteger.valueOf(n), index -> index), true).reduce(BigInteger.ZERO, BigInteger::add));
+  }
+
+  @Test
+  void splitsAreBalanced() {
+    final Spliterator<Long> spliterator = RangeSpliterators.of(0L, 1001L, Long::valueOf);
+    final Spliterator<Long> prefix = spliterator.trySplit();
+
+    assertNotNull(prefix);
+    assertEquals(500L, prefix.estimateSize());
+    assertEquals(501L, spliterator.estimateSize());
+    assertNull(RangeSpliterators.of(3L, 4L, Long::valueOf).trySplit());
+  }
+
+  @Test
+  void bigIntegerRangeBeyondLongEnumeratesInOrder() {
+    final BigInteger from = BigInteger.ONE.shiftLeft(100);
+    final List<BigInteger> expected = new ArrayList<>();
+    final List<BigInteger> split = new ArrayList<>();
+
+    for(int i = 0; i < 33; i++) {
+      expected.add(from.add(BigInteger.valueOf(i)));
+    }
+
+    collectSplit(RangeSpliterators.of(from, from.add(BigInteger.valueOf(33L)), index -> index), split);
+
+    assertEquals(expected, split);
+  }
+
+  @Test
+  void hugeBigIntegerRangesAreNotSized() {
+    final Spliterator<BigInteger> spliterator = RangeSpliterators.of(BigInteger.ZERO, BigInteger.ONE.shiftLeft(80), index -> index);
+    final List<BigInteger> first = new ArrayList<>();
+
+    assertEquals(Long.MAX_VALUE, spliterator.estimateSize());
+    assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+
+    for(int i = 0; i < 3; i++) {
+      assertTrue(spliterator.tryAdvance(first::add));
+    }
+
+    assertEquals(List.of(BigInteger.ZERO, BigInteger.ONE, BigInteger.TWO), first);
+  }
+
+  @Test
+  void longRangesWiderThanLongAreNotSized() {
+    final Spliterator<Long> spliterator = RangeSpliterators.of(Long.MIN_VALUE, Long.MAX_VALUE, Long::valueOf);
+    final List<Long> first = new ArrayList<>();
+
+    assertEquals(Long.MAX_VALUE, spliterator.estimateSize());
+    assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+    assertFalse(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+
+    final Spliterator<Long> prefix = spliterator.trySplit();
+
+    assertNotNull(prefix);
+    assertTrue(prefix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+    assertEquals(Long.MAX_VALUE, prefix.estimateSize());
+    // [-1,Long.MAX_VALUE) still holds 2^63 indices.
+    assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+    assertEquals(Long.MAX_VALUE, spliterator.estimateSize());
+
+    for(int i = 0; i < 2; i++) {
+      assertTrue(prefix.tryAdvance(first::add));
+    }
+
+    assertEquals(List.of(Long.MIN_VALUE, Long.MIN_VALUE + 1), first);
+  }
+
+  @Test
+  void bigIntegerRangeWithinLongIsCountedWithALong() {
+    final Spliterator<BigInteger> spliterator = RangeSpliterators.of(BigInteger.valueOf(Long.MAX_VALUE - 2), BigInteger.valueOf(Long.MAX_VALUE),
+        index -> index);
+    final List<BigInteger> all = new ArrayList<>();
+
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+
+    spliterator.forEachRemaining(all::add);
+
+    assertEquals(List.of(BigInteger.valueOf(Long.MAX_VALUE - 2), BigInteger.valueOf(Long.MAX_VALUE - 1)), all);
+  }
+
+  @Test
+  void rejectsInvalidRanges() {
+    assertThrows(IllegalArgumentException.class, () -> RangeSpliterators.of(2L, 1L, Long::valueOf));
+    assertThrows(IllegalArgumentException.class, () -> RangeSpliterators.of(BigInteger.TWO, BigInteger.ONE, index -> index));
+    assertThrows(IllegalArgumentException.class, () -> RangeSpliterators.of(0L, 1L, null));
+    assertThrows(IllegalArgumentException.class, () -> RangeSpliterators.of(null, BigInteger.ONE, index -> index));
+  }
+
+}